@@ -23,6 +23,7 @@
 
 import org.hibernate.validator.ap.internal.ClassVisitor;
 import org.hibernate.validator.ap.internal.ConstraintAnnotationVisitor;
+import org.hibernate.validator.ap.internal.MetaDataIndexWriter;
 import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
 import org.hibernate.validator.ap.internal.util.Configuration;
 import org.hibernate.validator.ap.internal.util.MessagerAdapter;
@@ -45,6 +46,12 @@
  * set to {@code false} in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is {@code true}.</li>
+ * <li>{@code generateMetaDataIndex}: whether an index of the elements which might
+ * be constrained shall be generated for each compiled top-level type under
+ * {@code META-INF/hibernate-validator/metadata-index/}. This index allows
+ * Hibernate Validator to avoid inspecting the annotations of the other elements
+ * at runtime. Must be given as String parsable by {@link Boolean#parseBoolean}.
+ * Default is {@code false}.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -54,7 +61,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.GENERATE_METADATA_INDEX_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -126,6 +134,15 @@ public boolean process(
 			element.accept( classVisitor, null );
 		}
 
+		if ( configuration.isMetaDataIndexGenerated() ) {
+			MetaDataIndexWriter metaDataIndexWriter = new MetaDataIndexWriter( processingEnv );
+			for ( Element element : roundEnvironment.getRootElements() ) {
+				if ( element.getKind().isClass() || element.getKind().isInterface() ) {
+					metaDataIndexWriter.writeIndex( (TypeElement) element );
+				}
+			}
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
@@ -0,0 +1,367 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.internal;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper.AnnotationType;
+import org.hibernate.validator.ap.internal.util.StringHelper;
+import org.hibernate.validator.ap.internal.util.TypeNames.BeanValidationTypes;
+
+/**
+ * Writes the metadata index of a top-level type and of its static nested types.
+ * <p>
+ * The index lists the members which might host constraints or cascading information so that Hibernate Validator
+ * does not need to inspect the annotations of the other members at runtime. Being conservative, a member is listed if
+ * it, or one of its parameters, hosts a constraint, {@code @Valid} or a group conversion, or if its type or the type of
+ * one of its parameters is an array or a parameterized type, as container element constraints are not reliably exposed
+ * by all the compilers.
+ * <p>
+ * Each entry comes with a fingerprint of the declared members of the type and of the runtime annotations of the type, of
+ * its members and of their parameters, allowing Hibernate Validator to ignore an entry not matching the compiled class,
+ * for instance if a constraint has been added without the index being generated again. The format of the index is documented in
+ * {@code org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataIndex}, which reads it.
+ */
+public class MetaDataIndexWriter {
+
+	private static final String INDEX_LOCATION = "META-INF/hibernate-validator/metadata-index/";
+
+	private static final String INDEX_SUFFIX = ".idx";
+
+	private static final String HEADER = "HV-METADATA-INDEX 2";
+
+	private static final String CONSTRUCTOR_NAME = "<init>";
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Elements elementUtils;
+
+	private final Types typeUtils;
+
+	private final Filer filer;
+
+	private final Messager messager;
+
+	private final ConstraintHelper constraintHelper;
+
+	public MetaDataIndexWriter(ProcessingEnvironment processingEnvironment) {
+		this.elementUtils = processingEnvironment.getElementUtils();
+		this.typeUtils = processingEnvironment.getTypeUtils();
+		this.filer = processingEnvironment.getFiler();
+		this.messager = processingEnvironment.getMessager();
+		this.constraintHelper = new ConstraintHelper(
+				typeUtils,
+				new AnnotationApiHelper( elementUtils, typeUtils )
+		);
+	}
+
+	/**
+	 * Writes the index of the given top-level type. Nothing is written if neither the type nor its nested types can be
+	 * indexed.
+	 *
+	 * @param topLevelType the top-level type to index
+	 */
+	public void writeIndex(TypeElement topLevelType) {
+		List<String> lines = new ArrayList<>();
+		addEntries( lines, topLevelType );
+
+		if ( lines.isEmpty() ) {
+			return;
+		}
+
+		String indexName = INDEX_LOCATION + elementUtils.getBinaryName( topLevelType ).toString().replace( '.', '/' ) + INDEX_SUFFIX;
+		try {
+			FileObject index = filer.createResource( StandardLocation.CLASS_OUTPUT, "", indexName, topLevelType );
+			try ( Writer writer = new OutputStreamWriter( index.openOutputStream(), StandardCharsets.UTF_8 ) ) {
+				writer.write( HEADER );
+				writer.write( '\n' );
+				for ( String line : lines ) {
+					writer.write( line );
+					writer.write( '\n' );
+				}
+			}
+		}
+		catch (IOException e) {
+			messager.printMessage(
+					Kind.WARNING,
+					StringHelper.format( "Unable to write the metadata index %1$s: %2$s", indexName, e.getMessage() ),
+					topLevelType
+			);
+		}
+	}
+
+	private void addEntries(List<String> lines, TypeElement type) {
+		if ( isIndexable( type ) ) {
+			addEntry( lines, type );
+		}
+
+		for ( Element enclosedElement : type.getEnclosedElements() ) {
+			if ( enclosedElement instanceof TypeElement ) {
+				addEntries( lines, (TypeElement) enclosedElement );
+			}
+		}
+	}
+
+	/**
+	 * Only the classes and interfaces whose declared members are the same at compile time and at runtime are indexed:
+	 * the non-static inner classes and the enums get additional constructor parameters at runtime.
+	 */
+	private boolean isIndexable(TypeElement type) {
+		if ( type.getKind() == ElementKind.INTERFACE ) {
+			return true;
+		}
+		if ( type.getKind() != ElementKind.CLASS ) {
+			return false;
+		}
+		return type.getNestingKind() == NestingKind.TOP_LEVEL
+				|| ( type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains( Modifier.STATIC ) );
+	}
+
+	private void addEntry(List<String> lines, TypeElement type) {
+		List<String> members = new ArrayList<>();
+		List<String> constrainedMembers = new ArrayList<>();
+
+		String typeAnnotationNames = getAnnotationNames( type );
+		if ( typeAnnotationNames == null ) {
+			// an annotation of the type is unresolved, the type is not indexed
+			return;
+		}
+		members.add( "T" + typeAnnotationNames );
+
+		for ( Element member : type.getEnclosedElements() ) {
+			if ( member.getModifiers().contains( Modifier.STATIC ) ) {
+				continue;
+			}
+
+			String memberLine;
+			String fingerprintLine;
+			boolean constrained;
+			if ( member.getKind() == ElementKind.FIELD ) {
+				VariableElement field = (VariableElement) member;
+				memberLine = "F " + field.getSimpleName();
+				fingerprintLine = getFingerprintLine( memberLine, field, Collections.<VariableElement>emptyList() );
+				constrained = hasAnnotationOfInterest( field ) || mayHostContainerElementConstraints( field.asType() );
+			}
+			else if ( member.getKind() == ElementKind.METHOD || member.getKind() == ElementKind.CONSTRUCTOR ) {
+				ExecutableElement executable = (ExecutableElement) member;
+				String signature = getSignature( executable );
+				if ( signature == null ) {
+					// the signature references an unresolved type, the type is not indexed
+					return;
+				}
+				memberLine = "E " + signature;
+				fingerprintLine = getFingerprintLine( memberLine, executable, executable.getParameters() );
+				constrained = isPotentiallyConstrained( executable );
+			}
+			else {
+				continue;
+			}
+
+			if ( fingerprintLine == null ) {
+				// an annotation of the member is unresolved, the type is not indexed
+				return;
+			}
+
+			members.add( fingerprintLine );
+			if ( constrained ) {
+				constrainedMembers.add( memberLine );
+			}
+		}
+
+		lines.add( "T " + elementUtils.getBinaryName( type ) + " " + getFingerprint( members ) + " " + ( hasAnnotationOfInterest( type ) ? "1" : "0" ) );
+		lines.addAll( constrainedMembers );
+	}
+
+	/**
+	 * @return the line of the given member used to compute the fingerprint, as done at runtime from the reflected
+	 * members, or {@code null} if one of the annotations is unresolved
+	 */
+	private String getFingerprintLine(String memberLine, Element member, List<? extends VariableElement> parameters) {
+		String annotationNames = getAnnotationNames( member );
+		if ( annotationNames == null ) {
+			return null;
+		}
+
+		StringBuilder fingerprintLine = new StringBuilder( memberLine ).append( annotationNames );
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			String parameterAnnotationNames = getAnnotationNames( parameters.get( i ) );
+			if ( parameterAnnotationNames == null ) {
+				return null;
+			}
+			if ( !parameterAnnotationNames.isEmpty() ) {
+				fingerprintLine.append( " #" ).append( i ).append( parameterAnnotationNames );
+			}
+		}
+		return fingerprintLine.toString();
+	}
+
+	/**
+	 * @return the sorted binary names of the annotations of the given element retained at runtime, each prefixed by
+	 * {@code " @"}, or {@code null} if one of the annotations is unresolved
+	 */
+	private String getAnnotationNames(Element element) {
+		List<String> annotationNames = new ArrayList<>();
+		for ( AnnotationMirror annotationMirror : element.getAnnotationMirrors() ) {
+			DeclaredType annotationType = annotationMirror.getAnnotationType();
+			if ( annotationType.getKind() == TypeKind.ERROR ) {
+				return null;
+			}
+
+			TypeElement annotationElement = (TypeElement) annotationType.asElement();
+			Retention retention = annotationElement.getAnnotation( Retention.class );
+			if ( retention != null && retention.value() == RetentionPolicy.RUNTIME ) {
+				annotationNames.add( elementUtils.getBinaryName( annotationElement ).toString() );
+			}
+		}
+		Collections.sort( annotationNames );
+
+		StringBuilder sb = new StringBuilder();
+		for ( String annotationName : annotationNames ) {
+			sb.append( " @" ).append( annotationName );
+		}
+		return sb.toString();
+	}
+
+	private boolean isPotentiallyConstrained(ExecutableElement executable) {
+		if ( hasAnnotationOfInterest( executable ) || mayHostContainerElementConstraints( executable.getReturnType() ) ) {
+			return true;
+		}
+
+		for ( VariableElement parameter : executable.getParameters() ) {
+			if ( hasAnnotationOfInterest( parameter ) || mayHostContainerElementConstraints( parameter.asType() ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean hasAnnotationOfInterest(Element element) {
+		for ( AnnotationMirror annotationMirror : element.getAnnotationMirrors() ) {
+			DeclaredType annotationType = annotationMirror.getAnnotationType();
+
+			// we can't tell anything about an unresolved annotation
+			if ( annotationType.getKind() == TypeKind.ERROR ) {
+				return true;
+			}
+
+			String annotationName = ( (TypeElement) annotationType.asElement() ).getQualifiedName().toString();
+			if ( BeanValidationTypes.CONVERT_GROUP.equals( annotationName ) || BeanValidationTypes.CONVERT_GROUP_LIST.equals( annotationName ) ) {
+				return true;
+			}
+
+			if ( constraintHelper.getAnnotationType( annotationMirror ) != AnnotationType.NO_CONSTRAINT_ANNOTATION ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean mayHostContainerElementConstraints(TypeMirror type) {
+		switch ( type.getKind() ) {
+			case ARRAY:
+			case ERROR:
+				return true;
+			case DECLARED:
+				return !( (DeclaredType) type ).getTypeArguments().isEmpty();
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * @return the signature of the given executable, using the runtime names of the erased parameter types, or
+	 * {@code null} if one of the parameter types is unresolved
+	 */
+	private String getSignature(ExecutableElement executable) {
+		StringBuilder signature = new StringBuilder();
+		signature.append( executable.getKind() == ElementKind.CONSTRUCTOR ? CONSTRUCTOR_NAME : executable.getSimpleName().toString() );
+		signature.append( '(' );
+		boolean first = true;
+		for ( VariableElement parameter : executable.getParameters() ) {
+			String typeName = getRuntimeTypeName( typeUtils.erasure( parameter.asType() ) );
+			if ( typeName == null ) {
+				return null;
+			}
+			if ( !first ) {
+				signature.append( ',' );
+			}
+			signature.append( typeName );
+			first = false;
+		}
+		signature.append( ')' );
+		return signature.toString();
+	}
+
+	/**
+	 * @return the name of the given erased type as returned by {@code Class#getTypeName()}
+	 */
+	private String getRuntimeTypeName(TypeMirror erasedType) {
+		switch ( erasedType.getKind() ) {
+			case ARRAY:
+				String componentTypeName = getRuntimeTypeName( ( (ArrayType) erasedType ).getComponentType() );
+				return componentTypeName != null ? componentTypeName + "[]" : null;
+			case DECLARED:
+				return elementUtils.getBinaryName( (TypeElement) ( (DeclaredType) erasedType ).asElement() ).toString();
+			default:
+				// the type annotations would be part of the string representation of the type mirror
+				return erasedType.getKind().isPrimitive() ? erasedType.getKind().name().toLowerCase( Locale.ROOT ) : null;
+		}
+	}
+
+	/**
+	 * Computes the 64-bit FNV-1a hash of the sorted member lines and their annotations, as done at runtime from the
+	 * reflected members.
+	 */
+	private static String getFingerprint(List<String> members) {
+		Collections.sort( members );
+
+		long hash = FNV_OFFSET_BASIS;
+		for ( String member : members ) {
+			for ( int i = 0; i < member.length(); i++ ) {
+				hash = ( hash ^ member.charAt( i ) ) * FNV_PRIME;
+			}
+			hash = ( hash ^ '\n' ) * FNV_PRIME;
+		}
+		return Long.toHexString( hash );
+	}
+}
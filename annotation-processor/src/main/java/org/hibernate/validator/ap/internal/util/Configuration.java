@@ -36,6 +36,11 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating the metadata index read by Hibernate Validator at runtime.
+	 */
+	public static final String GENERATE_METADATA_INDEX_PROCESSOR_OPTION = "generateMetaDataIndex";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -47,11 +52,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean metaDataIndexGenerated;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.metaDataIndexGenerated = Boolean.parseBoolean( options.get( GENERATE_METADATA_INDEX_PROCESSOR_OPTION ) );
 	}
 
 	/**
@@ -82,6 +90,15 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether the metadata index of the processed types shall be generated or not.
+	 *
+	 * @return {@code true} if the metadata index shall be generated, {@code false} otherwise
+	 */
+	public boolean isMetaDataIndexGenerated() {
+		return metaDataIndexGenerated;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
@@ -25,6 +25,8 @@ public static class BeanValidationTypes {
 		public static final String GROUP_SEQUENCE = JAVAX_VALIDATION + ".GroupSequence";
 		public static final String PAYLOAD = JAVAX_VALIDATION + ".Payload";
 		public static final String VALID = JAVAX_VALIDATION + ".Valid";
+		public static final String CONVERT_GROUP = JAVAX_VALIDATION + ".groups.ConvertGroup";
+		public static final String CONVERT_GROUP_LIST = CONVERT_GROUP + ".List";
 
 		public static final String JAVAX_VALIDATION_CONSTRAINTS = "javax.validation.constraints";
 
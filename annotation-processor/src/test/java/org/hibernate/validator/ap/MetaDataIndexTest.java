@@ -0,0 +1,200 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.ap.internal.util.Configuration;
+import org.hibernate.validator.ap.testmodel.metadataindex.ModelWithMetaDataIndex;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the generation of the metadata index by {@link ConstraintValidationProcessor} and for its consumption by
+ * Hibernate Validator.
+ */
+public class MetaDataIndexTest extends ConstraintValidationProcessorTestBase {
+
+	private static final String MODEL_CLASS_NAME = ModelWithMetaDataIndex.class.getName();
+
+	private static final File INDEX_FILE = new File(
+			CompilerTestHelper.getProcessorOutputDir(),
+			"META-INF/hibernate-validator/metadata-index/" + MODEL_CLASS_NAME.replace( '.', '/' ) + ".idx"
+	);
+
+	@Test
+	public void metaDataIndexNotGeneratedByDefault() throws IOException {
+		Files.deleteIfExists( INDEX_FILE.toPath() );
+
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				compilerHelper.getSourceFile( ModelWithMetaDataIndex.class )
+		);
+
+		assertTrue( compilationResult );
+		assertFalse( INDEX_FILE.exists() );
+	}
+
+	@Test
+	public void metaDataIndexListsPotentiallyConstrainedMembers() throws IOException {
+		compileWithMetaDataIndex();
+
+		List<String> lines = Files.readAllLines( INDEX_FILE.toPath(), StandardCharsets.UTF_8 );
+		List<String> linesWithoutFingerprints = new ArrayList<>();
+		for ( String line : lines ) {
+			linesWithoutFingerprints.add( line.replaceFirst( "^(T \\S+) [0-9a-f]+ ", "$1 <fingerprint> " ) );
+		}
+
+		assertEquals(
+				linesWithoutFingerprints,
+				Arrays.asList(
+						"HV-METADATA-INDEX 2",
+						"T " + MODEL_CLASS_NAME + " <fingerprint> 0",
+						"F name",
+						"F tags",
+						"F address",
+						"E <init>(int,java.lang.String[])",
+						"E getName()",
+						"T " + MODEL_CLASS_NAME + "$Address <fingerprint> 0",
+						"F street"
+				)
+		);
+	}
+
+	@Test
+	public void metaDataIndexUsedAtRuntime() throws Exception {
+		compileWithMetaDataIndex();
+
+		assertEquals( validateModel(), Collections.singletonList( "name" ) );
+
+		// the index is trusted: an element which is not listed is not inspected
+		List<String> lines = Files.readAllLines( INDEX_FILE.toPath(), StandardCharsets.UTF_8 );
+		List<String> linesWithoutName = new ArrayList<>( lines );
+		linesWithoutName.remove( "F name" );
+		Files.write( INDEX_FILE.toPath(), linesWithoutName, StandardCharsets.UTF_8 );
+
+		assertEquals( validateModel(), Collections.<String>emptyList() );
+
+		// an entry which doesn't match the declared members of the class is ignored
+		List<String> outOfDateLines = new ArrayList<>();
+		for ( String line : linesWithoutName ) {
+			outOfDateLines.add( line.replaceFirst( "^(T " + MODEL_CLASS_NAME.replace( ".", "\\." ) + ") [0-9a-f]+ ", "$1 0 " ) );
+		}
+		Files.write( INDEX_FILE.toPath(), outOfDateLines, StandardCharsets.UTF_8 );
+
+		assertEquals( validateModel(), Collections.singletonList( "name" ) );
+	}
+
+	@Test
+	public void metaDataIndexIgnoredWhenConstraintAddedWithoutRegeneratingIndex() throws Exception {
+		compileWithMetaDataIndex();
+		List<String> lines = Files.readAllLines( INDEX_FILE.toPath(), StandardCharsets.UTF_8 );
+
+		// add a constraint to a member which is not listed in the index and compile again without generating the index
+		String source = new String( Files.readAllBytes( compilerHelper.getSourceFile( ModelWithMetaDataIndex.class ).toPath() ), StandardCharsets.UTF_8 );
+		String modifiedSource = source.replace( "\tprivate String description;", "\t@NotNull\n\tprivate String description;" );
+		assertFalse( modifiedSource.equals( source ) );
+
+		File modifiedSourceFile = new File(
+				CompilerTestHelper.getTargetDir(),
+				"metadata-index-sources/" + MODEL_CLASS_NAME.replace( '.', '/' ) + ".java"
+		);
+		Files.createDirectories( modifiedSourceFile.getParentFile().toPath() );
+		Files.write( modifiedSourceFile.toPath(), modifiedSource.getBytes( StandardCharsets.UTF_8 ) );
+
+		assertTrue( compilerHelper.compile( new ConstraintValidationProcessor(), diagnostics, modifiedSourceFile ) );
+		assertEquals( Files.readAllLines( INDEX_FILE.toPath(), StandardCharsets.UTF_8 ), lines );
+
+		List<String> paths = validateModel();
+		Collections.sort( paths );
+		assertEquals( paths, Arrays.asList( "description", "name" ) );
+	}
+
+	private void compileWithMetaDataIndex() {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Collections.singletonMap( Configuration.GENERATE_METADATA_INDEX_PROCESSOR_OPTION, "true" ),
+				compilerHelper.getSourceFile( ModelWithMetaDataIndex.class )
+		);
+
+		assertTrue( compilationResult );
+		assertTrue( INDEX_FILE.exists() );
+	}
+
+	/**
+	 * Validates an instance of the model class compiled by the processor with a new validator factory.
+	 *
+	 * @return the paths of the violations
+	 */
+	private List<String> validateModel() throws Exception {
+		try ( ProcessorOutputClassLoader classLoader = new ProcessorOutputClassLoader() ) {
+			Object model = classLoader.loadClass( MODEL_CLASS_NAME ).getConstructor().newInstance();
+
+			Validator validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.messageInterpolator( new ParameterMessageInterpolator() )
+					.buildValidatorFactory()
+					.getValidator();
+			Set<ConstraintViolation<Object>> violations = validator.validate( model );
+
+			List<String> paths = new ArrayList<>();
+			for ( ConstraintViolation<Object> violation : violations ) {
+				paths.add( violation.getPropertyPath().toString() );
+			}
+			return paths;
+		}
+	}
+
+	/**
+	 * Loads the classes of the model from the output directory of the compilation, the other classes being loaded by
+	 * the parent class loader.
+	 */
+	private static class ProcessorOutputClassLoader extends URLClassLoader {
+
+		private ProcessorOutputClassLoader() throws MalformedURLException {
+			super( new URL[] { CompilerTestHelper.getProcessorOutputDir().toURI().toURL() }, MetaDataIndexTest.class.getClassLoader() );
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( !name.startsWith( MODEL_CLASS_NAME ) ) {
+				return super.loadClass( name, resolve );
+			}
+
+			synchronized ( getClassLoadingLock( name ) ) {
+				Class<?> clazz = findLoadedClass( name );
+				if ( clazz == null ) {
+					clazz = findClass( name );
+				}
+				return clazz;
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.metadataindex;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class ModelWithMetaDataIndex {
+
+	public static final String CONSTANT = "constant";
+
+	@NotNull
+	private String name;
+
+	@Deprecated
+	private String description;
+
+	private List<String> tags;
+
+	@Valid
+	private Address address;
+
+	public ModelWithMetaDataIndex() {
+	}
+
+	public ModelWithMetaDataIndex(@Min(1) int quantity, String[] codes) {
+	}
+
+	@Size(min = 2)
+	public String getName() {
+		return name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public void setAddress(Address address) {
+		this.address = address;
+	}
+
+	public static String getConstant() {
+		return CONSTANT;
+	}
+
+	public static class Address {
+
+		@NotBlank
+		private String street;
+
+		private String city;
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	public class Inner {
+
+		@NotNull
+		private String value;
+	}
+
+	public enum Kind {
+		SIMPLE
+	}
+}
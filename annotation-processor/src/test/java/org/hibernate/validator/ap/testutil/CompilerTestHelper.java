@@ -17,6 +17,7 @@
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.Processor;
@@ -152,6 +153,29 @@ public boolean compile(Processor annotationProcessor,
 		return compile( annotationProcessor, diagnostics, null, null, null, dependencies, sourceFiles );
 	}
 
+	/**
+	 * Compiles the given source files with all the libraries on the class path, passing the given options to the
+	 * annotation processor.
+	 *
+	 * @param annotationProcessor An annotation processor to be attached to the task.
+	 * @param diagnostics An diagnostics listener to be attached to the task.
+	 * @param processorOptions The options passed to the annotation processor.
+	 * @param sourceFiles The source files to be compiled.
+	 *
+	 * @return True, if the source files could be compiled successfully, false otherwise.
+	 */
+	public boolean compile(Processor annotationProcessor,
+						   DiagnosticCollector<JavaFileObject> diagnostics,
+						   Map<String, String> processorOptions,
+						   File... sourceFiles) {
+		List<String> options = new ArrayList<String>();
+		for ( Map.Entry<String, String> processorOption : processorOptions.entrySet() ) {
+			options.add( StringHelper.format( "-A%s=%s", processorOption.getKey(), processorOption.getValue() ) );
+		}
+
+		return compile( annotationProcessor, diagnostics, options, EnumSet.allOf( Library.class ), sourceFiles );
+	}
+
 
 	/**
 	 * Creates and executes a {@link CompilationTask} using the given input.
@@ -176,8 +200,6 @@ public boolean compile(Processor annotationProcessor,
 						   Boolean allowMethodConstraints,
 						   EnumSet<Library> dependencies,
 						   File... sourceFiles) {
-		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
-		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
 		List<String> options = new ArrayList<String>();
 
 		if ( diagnosticKind != null ) {
@@ -198,6 +220,17 @@ public boolean compile(Processor annotationProcessor,
 			);
 		}
 
+		return compile( annotationProcessor, diagnostics, options, dependencies, sourceFiles );
+	}
+
+	private boolean compile(Processor annotationProcessor,
+							DiagnosticCollector<JavaFileObject> diagnostics,
+							List<String> options,
+							EnumSet<Library> dependencies,
+							File... sourceFiles) {
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
+		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
+
 		try {
 			fileManager.setLocation( StandardLocation.CLASS_PATH, getDependenciesAsFiles( dependencies ) );
 			fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Arrays.asList( PROCESSOR_OUT_DIR ) );
@@ -250,6 +283,15 @@ private Set<File> getDependenciesAsFiles(EnumSet<Library> dependencies) {
 		return files;
 	}
 
+	/**
+	 * Returns the directory the classes and resources generated by the compilation tasks are written to.
+	 *
+	 * @return the output directory of the compilation tasks
+	 */
+	public static File getProcessorOutputDir() {
+		return PROCESSOR_OUT_DIR;
+	}
+
 	/**
 	 * Returns the target directory of the build.
 	 *
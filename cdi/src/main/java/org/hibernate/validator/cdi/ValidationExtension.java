@@ -45,12 +45,17 @@
 import javax.validation.executable.ExecutableType;
 import javax.validation.executable.ValidateOnExecution;
 import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstructorDescriptor;
+import javax.validation.metadata.MethodDescriptor;
 import javax.validation.metadata.PropertyDescriptor;
 
 import org.hibernate.validator.cdi.internal.InheritedMethodsHelper;
 import org.hibernate.validator.cdi.internal.ValidationProviderHelper;
 import org.hibernate.validator.cdi.internal.ValidatorBean;
 import org.hibernate.validator.cdi.internal.ValidatorFactoryBean;
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlan;
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlans;
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlansBean;
 import org.hibernate.validator.cdi.internal.interceptor.ValidationEnabledAnnotatedType;
 import org.hibernate.validator.cdi.internal.interceptor.ValidationInterceptor;
 import org.hibernate.validator.cdi.internal.util.GetterPropertySelectionStrategyHelper;
@@ -72,6 +77,10 @@
  * </ul>
  * Neither of these beans will be registered in case there is already another bean with the same type and qualifier(s),
  * e.g. registered by another portable extension or the application itself.
+ * <p>
+ * It also binds the method validation interceptor to the constrained executables and records for each of them whether
+ * its parameters and/or its return value need to be validated so that the interceptor does not perform validations
+ * which cannot report any constraint violation.
  *
  * @author Gunnar Morling
  * @author Hardy Ferentschik
@@ -104,6 +113,11 @@ public class ValidationExtension implements Extension {
 	private final Set<ExecutableType> globalExecutableTypes;
 	private final boolean isExecutableValidationEnabled;
 
+	/**
+	 * The validation plans of the executables the interceptor is bound to
+	 */
+	private final ExecutableValidationPlans executableValidationPlans = new ExecutableValidationPlans();
+
 	private Bean<?> defaultValidatorFactoryBean;
 	private Bean<?> hibernateValidatorFactoryBean;
 
@@ -143,7 +157,8 @@ public void beforeBeanDiscovery(@Observes BeforeBeanDiscovery beforeBeanDiscover
 	}
 
 	/**
-	 * Registers beans for {@code ValidatorFactory} and {@code Validator} if not yet present.
+	 * Registers beans for {@code ValidatorFactory} and {@code Validator} if not yet present and the bean exposing the
+	 * executable validation plans to the method validation interceptor.
 	 *
 	 * @param afterBeanDiscoveryEvent event fired after the bean discovery phase.
 	 * @param beanManager the bean manager.
@@ -185,6 +200,8 @@ public void afterBeanDiscovery(@Observes AfterBeanDiscovery afterBeanDiscoveryEv
 			hibernateValidatorBean = new ValidatorBean( beanManager, hibernateValidatorFactoryBean, hvProviderHelper );
 			afterBeanDiscoveryEvent.addBean( hibernateValidatorBean );
 		}
+
+		afterBeanDiscoveryEvent.addBean( new ExecutableValidationPlansBean( executableValidationPlans ) );
 	}
 
 	/**
@@ -279,16 +296,19 @@ private <T> void determineConstrainedMethods(AnnotatedType<T> type, BeanDescript
 				continue;
 			}
 
-			boolean needsValidation;
 			if ( correspondingProperty.isPresent() ) {
-				needsValidation = isGetterConstrained( beanDescriptor, method, correspondingProperty.get() );
+				// getters don't have parameters
+				if ( isGetterConstrained( beanDescriptor, method, correspondingProperty.get() ) ) {
+					callables.add( annotatedMethod );
+					executableValidationPlans.add( method, ExecutableValidationPlan.RETURN_VALUE_ONLY );
+				}
 			}
 			else {
-				needsValidation = isNonGetterConstrained( beanDescriptor, method );
-			}
-
-			if ( needsValidation ) {
-				callables.add( annotatedMethod );
+				MethodDescriptor methodDescriptor = beanDescriptor.getConstraintsForMethod( method.getName(), method.getParameterTypes() );
+				if ( methodDescriptor != null ) {
+					callables.add( annotatedMethod );
+					executableValidationPlans.add( method, ExecutableValidationPlan.of( methodDescriptor ) );
+				}
 			}
 		}
 	}
@@ -305,16 +325,14 @@ private <T> void determineConstrainedConstructors(AnnotatedType<T> type, BeanDes
 				continue;
 			}
 
-			if ( beanDescriptor.getConstraintsForConstructor( constructor.getParameterTypes() ) != null ) {
+			ConstructorDescriptor constructorDescriptor = beanDescriptor.getConstraintsForConstructor( constructor.getParameterTypes() );
+			if ( constructorDescriptor != null ) {
 				callables.add( annotatedConstructor );
+				executableValidationPlans.add( constructor, ExecutableValidationPlan.of( constructorDescriptor ) );
 			}
 		}
 	}
 
-	private boolean isNonGetterConstrained(BeanDescriptor beanDescriptor, Method method) {
-		return beanDescriptor.getConstraintsForMethod( method.getName(), method.getParameterTypes() ) != null;
-	}
-
 	private boolean isGetterConstrained(BeanDescriptor beanDescriptor, Method method, String property) {
 		PropertyDescriptor propertyDescriptor = beanDescriptor.getConstraintsForProperty( property );
 		return propertyDescriptor != null && propertyDescriptor.findConstraints()
@@ -0,0 +1,86 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import javax.validation.metadata.ExecutableDescriptor;
+import javax.validation.metadata.ParameterDescriptor;
+import javax.validation.metadata.ReturnValueDescriptor;
+
+/**
+ * Describes which of the parameter and return value validations of an intercepted executable might report
+ * constraint violations and thus have to be performed by the {@link ValidationInterceptor}.
+ */
+public enum ExecutableValidationPlan {
+
+	PARAMETERS_AND_RETURN_VALUE( true, true ),
+	PARAMETERS_ONLY( true, false ),
+	RETURN_VALUE_ONLY( false, true );
+
+	private final boolean parameterValidationRequired;
+
+	private final boolean returnValueValidationRequired;
+
+	ExecutableValidationPlan(boolean parameterValidationRequired, boolean returnValueValidationRequired) {
+		this.parameterValidationRequired = parameterValidationRequired;
+		this.returnValueValidationRequired = returnValueValidationRequired;
+	}
+
+	public boolean isParameterValidationRequired() {
+		return parameterValidationRequired;
+	}
+
+	public boolean isReturnValueValidationRequired() {
+		return returnValueValidationRequired;
+	}
+
+	/**
+	 * Returns a plan performing the validations required by either this plan or the given one.
+	 */
+	public ExecutableValidationPlan merge(ExecutableValidationPlan other) {
+		return of( parameterValidationRequired || other.parameterValidationRequired,
+				returnValueValidationRequired || other.returnValueValidationRequired );
+	}
+
+	/**
+	 * Determines the plan of a constrained executable from its descriptor.
+	 * <p>
+	 * Container element constraints are not taken into account by {@link ExecutableDescriptor#hasConstrainedParameters()}
+	 * and {@link ExecutableDescriptor#hasConstrainedReturnValue()} so we check them explicitly.
+	 */
+	public static ExecutableValidationPlan of(ExecutableDescriptor executableDescriptor) {
+		boolean parameterValidationRequired = executableDescriptor.getCrossParameterDescriptor().hasConstraints();
+		for ( ParameterDescriptor parameterDescriptor : executableDescriptor.getParameterDescriptors() ) {
+			if ( parameterDescriptor.hasConstraints() || parameterDescriptor.isCascaded()
+					|| !parameterDescriptor.getConstrainedContainerElementTypes().isEmpty() ) {
+				parameterValidationRequired = true;
+				break;
+			}
+		}
+
+		ReturnValueDescriptor returnValueDescriptor = executableDescriptor.getReturnValueDescriptor();
+		boolean returnValueValidationRequired = returnValueDescriptor != null && ( returnValueDescriptor.hasConstraints()
+				|| returnValueDescriptor.isCascaded()
+				|| !returnValueDescriptor.getConstrainedContainerElementTypes().isEmpty() );
+
+		// the executable is constrained, be safe if we were not able to tell why
+		if ( !parameterValidationRequired && !returnValueValidationRequired ) {
+			return PARAMETERS_AND_RETURN_VALUE;
+		}
+
+		return of( parameterValidationRequired, returnValueValidationRequired );
+	}
+
+	private static ExecutableValidationPlan of(boolean parameterValidationRequired, boolean returnValueValidationRequired) {
+		if ( !parameterValidationRequired ) {
+			return RETURN_VALUE_ONLY;
+		}
+		if ( !returnValueValidationRequired ) {
+			return PARAMETERS_ONLY;
+		}
+		return PARAMETERS_AND_RETURN_VALUE;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import java.lang.reflect.Executable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link ExecutableValidationPlan}s of the executables the {@link ValidationInterceptor} is bound to, determined
+ * once at bean discovery.
+ * <p>
+ * This class is exposed as an application scoped bean and thus needs to be proxyable.
+ */
+public class ExecutableValidationPlans {
+
+	private final ConcurrentMap<Executable, ExecutableValidationPlan> plans = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers the plan of the given executable. If the executable has already been registered, e.g. because it is
+	 * inherited by several beans, the resulting plan performs the validations required by both plans.
+	 */
+	public void add(Executable executable, ExecutableValidationPlan plan) {
+		plans.merge( executable, plan, ExecutableValidationPlan::merge );
+	}
+
+	/**
+	 * Returns the plan of the given executable, falling back to the validation of both the parameters and the return
+	 * value for the executables which have not been registered.
+	 */
+	public ExecutableValidationPlan getPlan(Executable executable) {
+		ExecutableValidationPlan plan = plans.get( executable );
+		return plan != null ? plan : ExecutableValidationPlan.PARAMETERS_AND_RETURN_VALUE;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{plans=" + plans.size() + '}';
+	}
+}
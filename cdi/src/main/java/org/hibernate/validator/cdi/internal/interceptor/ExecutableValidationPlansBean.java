@@ -0,0 +1,112 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.PassivationCapable;
+import javax.enterprise.util.AnnotationLiteral;
+
+import org.hibernate.validator.internal.util.CollectionHelper;
+
+/**
+ * A {@link Bean} exposing the {@link ExecutableValidationPlans} collected by the CDI extension to the
+ * {@link ValidationInterceptor}.
+ */
+public class ExecutableValidationPlansBean implements Bean<ExecutableValidationPlans>, PassivationCapable {
+
+	private final ExecutableValidationPlans executableValidationPlans;
+
+	private final Set<Type> types;
+
+	private final Set<Annotation> qualifiers;
+
+	@SuppressWarnings("serial")
+	public ExecutableValidationPlansBean(ExecutableValidationPlans executableValidationPlans) {
+		this.executableValidationPlans = executableValidationPlans;
+		this.types = Collections.unmodifiableSet( CollectionHelper.<Type>asSet( ExecutableValidationPlans.class, Object.class ) );
+		this.qualifiers = Collections.unmodifiableSet( CollectionHelper.<Annotation>asSet(
+				new AnnotationLiteral<Default>() {
+				},
+				new AnnotationLiteral<Any>() {
+				}
+		) );
+	}
+
+	@Override
+	public Class<?> getBeanClass() {
+		return ExecutableValidationPlans.class;
+	}
+
+	@Override
+	public Set<InjectionPoint> getInjectionPoints() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public String getName() {
+		return null;
+	}
+
+	@Override
+	public Set<Annotation> getQualifiers() {
+		return qualifiers;
+	}
+
+	@Override
+	public Class<? extends Annotation> getScope() {
+		return ApplicationScoped.class;
+	}
+
+	@Override
+	public Set<Class<? extends Annotation>> getStereotypes() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public Set<Type> getTypes() {
+		return types;
+	}
+
+	@Override
+	public boolean isAlternative() {
+		return false;
+	}
+
+	@Override
+	public boolean isNullable() {
+		return false;
+	}
+
+	@Override
+	public ExecutableValidationPlans create(CreationalContext<ExecutableValidationPlans> ctx) {
+		return executableValidationPlans;
+	}
+
+	@Override
+	public void destroy(ExecutableValidationPlans instance, CreationalContext<ExecutableValidationPlans> ctx) {
+	}
+
+	@Override
+	public String getId() {
+		return ExecutableValidationPlansBean.class.getName();
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutableValidationPlansBean [id=" + getId() + "]";
+	}
+}
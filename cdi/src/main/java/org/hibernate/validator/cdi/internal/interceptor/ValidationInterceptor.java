@@ -50,6 +50,13 @@ public class ValidationInterceptor implements Serializable {
 	@Inject
 	private Validator validator;
 
+	/**
+	 * The validation plans of the intercepted executables, telling whether their parameters and/or their return value
+	 * have to be validated. As for the validator, a serializable proxy is injected here.
+	 */
+	@Inject
+	private ExecutableValidationPlans executableValidationPlans;
+
 	/**
 	 * Validates the Bean Validation constraints specified at the parameters and/or return value of the intercepted method.
 	 *
@@ -62,33 +69,39 @@ public class ValidationInterceptor implements Serializable {
 	 */
 	@AroundInvoke
 	public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
+		ExecutableValidationPlan plan = executableValidationPlans.getPlan( ctx.getMethod() );
 		ExecutableValidator executableValidator = validator.forExecutables();
-		Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				ctx.getParameters()
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+
+		if ( plan.isParameterValidationRequired() ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
+					ctx.getTarget(),
+					ctx.getMethod(),
+					ctx.getParameters()
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		Object result = ctx.proceed();
 
-		violations = executableValidator.validateReturnValue(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				result
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+		if ( plan.isReturnValueValidationRequired() ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateReturnValue(
+					ctx.getTarget(),
+					ctx.getMethod(),
+					result
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		return result;
@@ -104,32 +117,39 @@ public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
 	 */
 	@AroundConstruct
 	public void validateConstructorInvocation(InvocationContext ctx) throws Exception {
+		ExecutableValidationPlan plan = executableValidationPlans.getPlan( ctx.getConstructor() );
 		ExecutableValidator executableValidator = validator.forExecutables();
-		Set<? extends ConstraintViolation<?>> violations = executableValidator.validateConstructorParameters(
-				ctx.getConstructor(),
-				ctx.getParameters()
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
-					violations
+
+		if ( plan.isParameterValidationRequired() ) {
+			Set<? extends ConstraintViolation<?>> violations = executableValidator.validateConstructorParameters(
+					ctx.getConstructor(),
+					ctx.getParameters()
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		ctx.proceed();
-		Object createdObject = ctx.getTarget();
 
-		violations = validator.forExecutables().validateConstructorReturnValue(
-				ctx.getConstructor(),
-				createdObject
-		);
+		if ( plan.isReturnValueValidationRequired() ) {
+			Object createdObject = ctx.getTarget();
 
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
-					violations
+			Set<? extends ConstraintViolation<?>> violations = executableValidator.validateConstructorReturnValue(
+					ctx.getConstructor(),
+					createdObject
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 	}
 
@@ -36,6 +36,7 @@
 import org.hibernate.validator.cdi.internal.ValidationProviderHelper;
 import org.hibernate.validator.cdi.internal.ValidatorBean;
 import org.hibernate.validator.cdi.internal.ValidatorFactoryBean;
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlansBean;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -118,6 +119,9 @@ public void testRegisterBeanWithDefaultQualifier() {
 		afterBeanDiscoveryMock.addBean( isA( ValidatorBean.class ) );
 		expectLastCall();
 
+		afterBeanDiscoveryMock.addBean( isA( ExecutableValidationPlansBean.class ) );
+		expectLastCall();
+
 		// get the mocks ready
 		replay( processBeanMock, afterBeanDiscoveryMock, beanManagerMock );
 
@@ -160,6 +164,9 @@ public Object answer() throws Throwable {
 				}
 		);
 
+		afterBeanDiscoveryMock.addBean( isA( ExecutableValidationPlansBean.class ) );
+		expectLastCall();
+
 		// get the mocks ready
 		replay( afterBeanDiscoveryMock, beanManagerMock );
 
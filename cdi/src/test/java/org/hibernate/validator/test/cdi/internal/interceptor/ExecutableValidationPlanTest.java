@@ -0,0 +1,111 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.cdi.internal.interceptor;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.metadata.BeanDescriptor;
+
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlan;
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlans;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ExecutableValidationPlanTest {
+
+	private BeanDescriptor beanDescriptor;
+
+	@BeforeMethod
+	public void setUpBeanDescriptor() {
+		beanDescriptor = Validation.buildDefaultValidatorFactory().getValidator().getConstraintsForClass( OrderService.class );
+	}
+
+	@Test
+	public void testParametersAndReturnValue() {
+		assertEquals( getMethodPlan( "placeOrder", String.class, int.class ), ExecutableValidationPlan.PARAMETERS_AND_RETURN_VALUE );
+	}
+
+	@Test
+	public void testParametersOnly() {
+		assertEquals( getMethodPlan( "cancelOrder", String.class ), ExecutableValidationPlan.PARAMETERS_ONLY );
+		assertEquals( getMethodPlan( "addLines", List.class ), ExecutableValidationPlan.PARAMETERS_ONLY );
+		assertEquals( getMethodPlan( "addLine", Line.class ), ExecutableValidationPlan.PARAMETERS_ONLY );
+	}
+
+	@Test
+	public void testReturnValueOnly() {
+		assertEquals( getMethodPlan( "findOrder", long.class ), ExecutableValidationPlan.RETURN_VALUE_ONLY );
+		assertEquals( getMethodPlan( "getLines" ), ExecutableValidationPlan.RETURN_VALUE_ONLY );
+	}
+
+	@Test
+	public void testConstructor() {
+		assertEquals( ExecutableValidationPlan.of( beanDescriptor.getConstraintsForConstructor( String.class ) ),
+				ExecutableValidationPlan.PARAMETERS_ONLY );
+	}
+
+	@Test
+	public void testPlansAreMerged() throws NoSuchMethodException {
+		ExecutableValidationPlans plans = new ExecutableValidationPlans();
+
+		assertEquals( plans.getPlan( OrderService.class.getMethod( "findOrder", long.class ) ),
+				ExecutableValidationPlan.PARAMETERS_AND_RETURN_VALUE );
+
+		plans.add( OrderService.class.getMethod( "findOrder", long.class ), ExecutableValidationPlan.RETURN_VALUE_ONLY );
+		assertEquals( plans.getPlan( OrderService.class.getMethod( "findOrder", long.class ) ), ExecutableValidationPlan.RETURN_VALUE_ONLY );
+
+		plans.add( OrderService.class.getMethod( "findOrder", long.class ), ExecutableValidationPlan.PARAMETERS_ONLY );
+		assertEquals( plans.getPlan( OrderService.class.getMethod( "findOrder", long.class ) ),
+				ExecutableValidationPlan.PARAMETERS_AND_RETURN_VALUE );
+	}
+
+	private ExecutableValidationPlan getMethodPlan(String name, Class<?>... parameterTypes) {
+		return ExecutableValidationPlan.of( beanDescriptor.getConstraintsForMethod( name, parameterTypes ) );
+	}
+
+	@SuppressWarnings("unused")
+	private static class OrderService {
+
+		private OrderService(@NotNull String customer) {
+		}
+
+		@NotNull
+		public String placeOrder(@NotNull String customer, @Min(1) int quantity) {
+			return null;
+		}
+
+		public void cancelOrder(@NotNull String orderId) {
+		}
+
+		public void addLines(List<@NotNull Line> lines) {
+		}
+
+		public void addLine(@Valid Line line) {
+		}
+
+		@NotNull
+		public String findOrder(long orderId) {
+			return null;
+		}
+
+		public List<@Valid Line> getLines() {
+			return null;
+		}
+	}
+
+	private static class Line {
+
+		@NotNull
+		private String product;
+	}
+}
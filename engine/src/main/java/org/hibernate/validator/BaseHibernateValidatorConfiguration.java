@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
 import javax.validation.TraversableResolver;
 import javax.validation.constraints.Future;
 import javax.validation.constraints.FutureOrPresent;
@@ -119,6 +120,36 @@
 	@Incubating
 	String GETTER_PROPERTY_SELECTION_STRATEGY_CLASSNAME = "hibernate.validator.getter_property_selection_strategy";
 
+	/**
+	 * Property corresponding to the {@link #enableValidationPlans(boolean)} method.
+	 * Accepts {@code true} or {@code false}.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String ENABLE_VALIDATION_PLANS = "hibernate.validator.enable_validation_plans";
+
+	/**
+	 * Property corresponding to the {@link #parallelCascadedValidationThreshold(int)} method.
+	 * Accepts an integer.
+	 * Defaults to {@code 0}, i.e. the cascaded validation is never parallelized.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String PARALLEL_CASCADED_VALIDATION_THRESHOLD = "hibernate.validator.parallel_cascaded_validation_threshold";
+
+	/**
+	 * Property corresponding to the {@link #enableLazyMessageInterpolation(boolean)} method.
+	 * Accepts {@code true} or {@code false}.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String ENABLE_LAZY_MESSAGE_INTERPOLATION = "hibernate.validator.enable_lazy_message_interpolation";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -336,4 +367,69 @@
 	 */
 	@Incubating
 	S getterPropertySelectionStrategy(GetterPropertySelectionStrategy getterPropertySelectionStrategy);
+
+	/**
+	 * Define whether the bean constraints are evaluated through validation plans. The default value is {@code false}.
+	 * <p>
+	 * A validation plan is built the first time a given bean type is validated for a given group: it contains the
+	 * constraints to evaluate in their evaluation order and reads the property values through accessors bound to the
+	 * getters when possible. The regular evaluation is used as a fallback when a plan cannot be applied, e.g. when the
+	 * default group sequence is redefined.
+	 *
+	 * @param enabled flag determining whether validation plans are used
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S enableValidationPlans(boolean enabled);
+
+	/**
+	 * Define the number of elements from which the elements of a container marked for cascading are validated in
+	 * parallel. The default value is {@code 0}, meaning the elements are always validated sequentially.
+	 * <p>
+	 * Only the containers whose elements are indexed or keyed (e.g. lists, arrays and maps) are validated in parallel,
+	 * using the common {@link java.util.concurrent.ForkJoinPool}. The reported constraint violations are the same as
+	 * with a sequential validation. The elements are always validated sequentially in fail fast mode.
+	 * <p>
+	 * The constraint validators, value extractors and the {@code TraversableResolver} have to be thread-safe, as
+	 * required by the specification, as they are invoked concurrently.
+	 *
+	 * @param threshold the minimal number of elements of a container for its elements to be validated in parallel, a
+	 * value lower than or equal to {@code 0} disables the parallel validation
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S parallelCascadedValidationThreshold(int threshold);
+
+	/**
+	 * Define whether the messages of the constraint violations are interpolated lazily. The default value is
+	 * {@code false}.
+	 * <p>
+	 * When enabled, the message interpolator is only invoked the first time {@link ConstraintViolation#getMessage()}
+	 * is called on a constraint violation, the interpolated message being then kept by the constraint violation.
+	 * This avoids the cost of the interpolation when only the message templates of the constraint violations, or
+	 * their absence, are of interest.
+	 * <p>
+	 * The interpolation happens in the thread calling {@code getMessage()}, with the state of the validated value at
+	 * that time. It should not be enabled with a message interpolator depending on the state of the validating
+	 * thread, e.g. a locale bound to the current request.
+	 * <p>
+	 * The errors of the interpolation, e.g. an EL expression failing to evaluate, are then reported by
+	 * {@code ConstraintViolation#getMessage()}, or when the constraint violation is compared or serialized, instead of
+	 * during the validation. The hash code of the constraint violations does not take their message into account
+	 * anymore.
+	 *
+	 * @param enabled flag determining whether the messages are interpolated lazily
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S enableLazyMessageInterpolation(boolean enabled);
 }
@@ -0,0 +1,104 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+/**
+ * Validates a batch of objects, resolving the validation order of the groups and the metadata of the validated types
+ * once for the whole batch instead of once per object.
+ * <p>
+ * Each object is validated as if {@link Validator#validate(Object, Class[])} had been called on it, it is the root bean
+ * of its own constraint violations.
+ * <p>
+ * An instance may be retrieved by unwrapping a {@link Validator} provided by Hibernate Validator:
+ * {@code validator.unwrap( BatchValidator.class )}.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface BatchValidator {
+
+	/**
+	 * Validates all the given objects.
+	 *
+	 * @param objects the objects to validate, must not contain {@code null} elements
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link javax.validation.groups.Default})
+	 * @param <T> the type of the validated objects
+	 *
+	 * @return the constraint violations of each object, in the iteration order of the objects; the set of
+	 * constraint violations of a valid object is empty
+	 *
+	 * @throws IllegalArgumentException if {@code objects} is {@code null}, contains a {@code null} element or if
+	 * {@code null} is passed to the varargs groups
+	 * @throws javax.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> List<Set<ConstraintViolation<T>>> validateAll(Collection<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Validates all the given objects, passing the constraint violations of each invalid object to the given consumer
+	 * as soon as the object has been validated so that the constraint violations of the whole batch are never held
+	 * in memory.
+	 * <p>
+	 * The consumer is called in the calling thread, in the iteration order of the objects. It is not called for the
+	 * valid objects.
+	 *
+	 * @param objects the objects to validate, must not contain {@code null} elements
+	 * @param consumer the consumer of the constraint violations of each invalid object
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link javax.validation.groups.Default})
+	 * @param <T> the type of the validated objects
+	 *
+	 * @throws IllegalArgumentException if {@code objects} or {@code consumer} is {@code null}, if {@code objects}
+	 * contains a {@code null} element or if {@code null} is passed to the varargs groups
+	 * @throws javax.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> void validateAll(Iterable<? extends T> objects, ConstraintViolationsConsumer<T> consumer, Class<?>... groups);
+
+	/**
+	 * Validates all the given objects in parallel, using the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>
+	 * The constraint validators, value extractors and the {@code TraversableResolver} have to be thread-safe, as
+	 * required by the specification, as they are invoked concurrently. If the validation of several objects fails
+	 * with an exception, the exception of the first of these objects is thrown.
+	 *
+	 * @param objects the objects to validate, must not contain {@code null} elements
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link javax.validation.groups.Default})
+	 * @param <T> the type of the validated objects
+	 *
+	 * @return the constraint violations of each object, in the iteration order of the objects; the set of
+	 * constraint violations of a valid object is empty
+	 *
+	 * @throws IllegalArgumentException if {@code objects} is {@code null}, contains a {@code null} element or if
+	 * {@code null} is passed to the varargs groups
+	 * @throws javax.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> List<Set<ConstraintViolation<T>>> validateAllInParallel(Collection<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Receives the constraint violations of the invalid objects of a batch.
+	 *
+	 * @param <T> the type of the validated objects
+	 */
+	@FunctionalInterface
+	interface ConstraintViolationsConsumer<T> {
+
+		/**
+		 * @param index the position of the object in the batch
+		 * @param object the invalid object
+		 * @param constraintViolations the constraint violations of the object, never empty
+		 */
+		void accept(int index, T object, Set<ConstraintViolation<T>> constraintViolations);
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator;
 
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
+
 /**
  * Uniquely identifies Hibernate Validator in the Bean Validation bootstrap
  * strategy. Also contains Hibernate Validator specific configurations.
@@ -14,4 +16,79 @@
  */
 public interface HibernateValidatorConfiguration extends BaseHibernateValidatorConfiguration<HibernateValidatorConfiguration> {
 
+	/**
+	 * Property corresponding to the {@link #beanMetaDataCacheStrategy(BeanMetaDataCacheStrategy)} method.
+	 * Accepts the name of a {@link BeanMetaDataCacheStrategy}, case insensitive.
+	 * Defaults to {@code soft}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE_STRATEGY = "hibernate.validator.bean_metadata_cache_strategy";
+
+	/**
+	 * Property corresponding to the {@link #beanMetaDataCacheMaxSize(int)} method.
+	 * Accepts a positive integer.
+	 * Defaults to {@code 1000}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE_MAX_SIZE = "hibernate.validator.bean_metadata_cache_max_size";
+
+	/**
+	 * Property corresponding to the {@link #constraintValidatorCacheMaxContexts(int)} method.
+	 * Accepts a positive integer.
+	 * Defaults to {@code 16}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String CONSTRAINT_VALIDATOR_CACHE_MAX_CONTEXTS = "hibernate.validator.constraint_validator_cache_max_contexts";
+
+	/**
+	 * Defines how the bean metadata built on demand are cached. By default, they are softly referenced and evicted by
+	 * the garbage collector under memory pressure, which makes the next validations of the evicted classes slower.
+	 * <p>
+	 * The statistics of the cache are exposed by {@link HibernateValidatorFactory#getBeanMetaDataCacheStatistics()}.
+	 *
+	 * @param strategy the cache strategy
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration beanMetaDataCacheStrategy(BeanMetaDataCacheStrategy strategy);
+
+	/**
+	 * Defines the maximum number of bean metadata kept by the {@link BeanMetaDataCacheStrategy#BOUNDED} cache. The
+	 * default value is {@code 1000}.
+	 * <p>
+	 * The metadata of a class includes the constraints of its superclasses and interfaces, which are not cached
+	 * separately unless they are validated themselves.
+	 *
+	 * @param maxSize the maximum number of cached bean metadata, must be positive
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration beanMetaDataCacheMaxSize(int maxSize);
+
+	/**
+	 * Defines the maximum number of combinations of {@link javax.validation.ConstraintValidatorFactory} and
+	 * constraint validator initialization settings, other than the ones of the validator factory, whose constraint
+	 * validator instances are cached. The default value is {@code 16}.
+	 * <p>
+	 * Such combinations are defined by the validators created with
+	 * {@link javax.validation.ValidatorFactory#usingContext()}, e.g. with a constraint validator factory per tenant.
+	 * When there are more of them, the instances of the least recently used combination are released.
+	 *
+	 * @param maxContexts the maximum number of cached combinations, must be positive
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration constraintValidatorCacheMaxContexts(int maxContexts);
 }
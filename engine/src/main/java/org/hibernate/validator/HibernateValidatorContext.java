@@ -17,6 +17,8 @@
 import javax.validation.ValidatorContext;
 import javax.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.spi.violation.ViolationSink;
+
 /**
  * Represents a Hibernate Validator specific context that is used to create
  * {@link javax.validation.Validator} instances. Adds additional configuration options to those
@@ -166,4 +168,64 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 */
 	@Incubating
 	HibernateValidatorContext constraintValidatorPayload(Object constraintValidatorPayload);
+
+	/**
+	 * Define whether the bean constraints are evaluated through validation plans. The default value is {@code false}.
+	 *
+	 * @param enabled flag determining whether validation plans are used
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#enableValidationPlans(boolean)
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorContext enableValidationPlans(boolean enabled);
+
+	/**
+	 * Define the number of elements from which the elements of a container marked for cascading are validated in
+	 * parallel. The default value is {@code 0}, meaning the elements are always validated sequentially.
+	 *
+	 * @param threshold the minimal number of elements of a container for its elements to be validated in parallel, a
+	 * value lower than or equal to {@code 0} disables the parallel validation
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#parallelCascadedValidationThreshold(int)
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorContext parallelCascadedValidationThreshold(int threshold);
+
+	/**
+	 * Define whether the messages of the constraint violations are interpolated lazily. The default value is
+	 * {@code false}.
+	 *
+	 * @param enabled flag determining whether the messages are interpolated lazily
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#enableLazyMessageInterpolation(boolean)
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorContext enableLazyMessageInterpolation(boolean enabled);
+
+	/**
+	 * Define a sink receiving the constraint violations as they are produced. The validation methods of the
+	 * {@link javax.validation.Validator} then return an empty set.
+	 * <p>
+	 * The sink may stop the validation after any violation, for instance once a given number of violations has been
+	 * reported. The elements of a container are always validated sequentially when a sink is defined.
+	 *
+	 * @param violationSink the sink receiving the constraint violations, {@code null} to collect them in the
+	 * returned set
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see ViolationSink
+	 * @since 6.1.0
+	 */
+	@Incubating
+	HibernateValidatorContext violationSink(ViolationSink violationSink);
 }
@@ -13,6 +13,7 @@
 
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -58,6 +59,17 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	@Incubating
 	GetterPropertySelectionStrategy getGetterPropertySelectionStrategy();
 
+	/**
+	 * Returns the statistics of the cache of the bean metadata, as configured by
+	 * {@link HibernateValidatorConfiguration#beanMetaDataCacheStrategy(org.hibernate.validator.metadata.BeanMetaDataCacheStrategy)}.
+	 *
+	 * @return a snapshot of the statistics of the bean metadata cache
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics();
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
@@ -8,6 +8,7 @@
 
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 
@@ -22,6 +23,16 @@
 @Incubating
 public interface PredefinedScopeHibernateValidatorConfiguration extends BaseHibernateValidatorConfiguration<PredefinedScopeHibernateValidatorConfiguration> {
 
+	/**
+	 * Property corresponding to the {@link #parallelBeanMetaDataInitialization(boolean)} method.
+	 * Accepts {@code true} or {@code false}.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String PARALLEL_BEAN_METADATA_INITIALIZATION = "hibernate.validator.parallel_bean_metadata_initialization";
+
 	@Incubating
 	PredefinedScopeHibernateValidatorConfiguration initializeBeanMetaData(Set<Class<?>> beanClassesToInitialize);
 
@@ -30,4 +41,35 @@ public interface PredefinedScopeHibernateValidatorConfiguration extends BaseHibe
 
 	@Incubating
 	PredefinedScopeHibernateValidatorConfiguration beanMetaDataClassNormalizer(BeanMetaDataClassNormalizer beanMetaDataClassNormalizer);
+
+	/**
+	 * Defines whether the metadata of the bean classes to initialize are built in parallel, using the common
+	 * {@link java.util.concurrent.ForkJoinPool}, when the validator factory is built.
+	 * <p>
+	 * The {@link org.hibernate.validator.metadata.BeanMetaDataClassNormalizer} and the custom constraint related
+	 * components involved in the building of the metadata must be thread-safe.
+	 *
+	 * @param enabled whether the metadata are built in parallel
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled);
+
+	/**
+	 * Defines the executor used to build the metadata of the bean classes to initialize in parallel. Defining an
+	 * executor enables the parallel initialization.
+	 * <p>
+	 * The executor is only used while the validator factory is built, it is not shut down by Hibernate Validator.
+	 *
+	 * @param executor the executor building the metadata, {@code null} to use the common
+	 * {@link java.util.concurrent.ForkJoinPool} if the parallel initialization is enabled
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see #parallelBeanMetaDataInitialization(boolean)
+	 * @since 6.1.0
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration beanMetaDataInitializationExecutor(Executor executor);
 }
@@ -13,6 +13,7 @@
 
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -52,6 +53,16 @@ public interface PredefinedScopeHibernateValidatorFactory extends ValidatorFacto
 	@Incubating
 	GetterPropertySelectionStrategy getGetterPropertySelectionStrategy();
 
+	/**
+	 * Returns the statistics of the initialization of the bean metadata, which happened when the factory was built.
+	 *
+	 * @return the statistics of the initialization of the bean metadata
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	BeanMetaDataInitializationStatistics getBeanMetaDataInitializationStatistics();
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
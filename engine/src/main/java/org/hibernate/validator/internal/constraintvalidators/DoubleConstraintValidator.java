@@ -0,0 +1,20 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators;
+
+/**
+ * Implemented by the constraint validators able to validate a {@code double} value without boxing it.
+ * <p>
+ * {@link #isValid(double)} must return the same result as
+ * {@link javax.validation.ConstraintValidator#isValid(Object, javax.validation.ConstraintValidatorContext)} called
+ * with the boxed value. It must not depend on the constraint validator context: if it returns {@code false}, the value
+ * is boxed and validated again by the regular method to report the violation.
+ */
+public interface DoubleConstraintValidator {
+
+	boolean isValid(double value);
+}
@@ -12,6 +12,8 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMin;
 
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper.DecimalBound;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -25,13 +27,13 @@ public class DecimalMinValidatorForCharSequence implements ConstraintValidator<D
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private BigDecimal minValue;
+	private DecimalBound minValue;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMin minValue) {
 		try {
-			this.minValue = new BigDecimal( minValue.value() );
+			this.minValue = new DecimalBound( new BigDecimal( minValue.value() ) );
 		}
 		catch (NumberFormatException nfe) {
 			throw LOG.getInvalidBigDecimalFormatException( minValue.value(), nfe );
@@ -45,12 +47,10 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( minValue );
-			return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
-		}
-		catch (NumberFormatException nfe) {
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, minValue );
+		if ( comparisonResult == DecimalCharSequenceHelper.NOT_A_NUMBER ) {
 			return false;
 		}
+		return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
 	}
 }
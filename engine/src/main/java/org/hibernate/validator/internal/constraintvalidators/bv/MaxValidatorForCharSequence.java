@@ -11,6 +11,9 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Max;
 
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper.DecimalBound;
+
 /**
  * Check that the character sequence (e.g. string) validated represents a number, and has a value
  * less than or equal to the maximum value specified.
@@ -20,11 +23,11 @@
  */
 public class MaxValidatorForCharSequence implements ConstraintValidator<Max, CharSequence> {
 
-	private BigDecimal maxValue;
+	private DecimalBound maxValue;
 
 	@Override
 	public void initialize(Max maxValue) {
-		this.maxValue = BigDecimal.valueOf( maxValue.value() );
+		this.maxValue = new DecimalBound( BigDecimal.valueOf( maxValue.value() ) );
 	}
 
 	@Override
@@ -33,11 +36,10 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			return new BigDecimal( value.toString() ).compareTo( maxValue ) != 1;
-		}
-		catch (NumberFormatException nfe) {
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, maxValue );
+		if ( comparisonResult == DecimalCharSequenceHelper.NOT_A_NUMBER ) {
 			return false;
 		}
+		return comparisonResult != 1;
 	}
 }
@@ -11,6 +11,9 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Min;
 
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper.DecimalBound;
+
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value
  * more than or equal to the minimum value specified.
@@ -20,11 +23,11 @@
  */
 public class MinValidatorForCharSequence implements ConstraintValidator<Min, CharSequence> {
 
-	private BigDecimal minValue;
+	private DecimalBound minValue;
 
 	@Override
 	public void initialize(Min minValue) {
-		this.minValue = BigDecimal.valueOf( minValue.value() );
+		this.minValue = new DecimalBound( BigDecimal.valueOf( minValue.value() ) );
 	}
 
 	@Override
@@ -33,11 +36,10 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			return new BigDecimal( value.toString() ).compareTo( minValue ) != -1;
-		}
-		catch (NumberFormatException nfe) {
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, minValue );
+		if ( comparisonResult == DecimalCharSequenceHelper.NOT_A_NUMBER ) {
 			return false;
 		}
+		return comparisonResult != -1;
 	}
 }
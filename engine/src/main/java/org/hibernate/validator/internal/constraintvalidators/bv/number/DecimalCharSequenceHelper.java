@@ -0,0 +1,286 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv.number;
+
+import java.math.BigDecimal;
+
+/**
+ * Works on the decimal representation of a number held by a {@link CharSequence} without creating a
+ * {@link BigDecimal} from it.
+ * <p>
+ * The accepted representations are exactly the ones accepted by {@link BigDecimal#BigDecimal(String)}: an optional
+ * sign, a significand made of decimal digits (as defined by {@link Character#digit(char, int)}) with an optional
+ * decimal point and an optional exponent whose value fits in an {@code int}, the resulting scale having to fit in an
+ * {@code int} too. The results are the ones the {@code BigDecimal} created from the {@code CharSequence} would
+ * provide.
+ */
+public final class DecimalCharSequenceHelper {
+
+	/**
+	 * Returned by {@link #compare(CharSequence, DecimalBound)} when the character sequence does not represent a number.
+	 */
+	public static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+	/**
+	 * Returned by {@link #scan(CharSequence)} when the character sequence does not represent a number.
+	 */
+	private static final long INVALID = Long.MIN_VALUE;
+
+	/**
+	 * The exponent value above which the exponent is known to be invalid.
+	 */
+	private static final long MAX_EXPONENT_MAGNITUDE = -(long) Integer.MIN_VALUE;
+
+	private DecimalCharSequenceHelper() {
+	}
+
+	/**
+	 * Compares the number represented by the character sequence to the given bound.
+	 *
+	 * @return -1, 0 or 1 as the number is less than, equal to or greater than the bound, {@link #NOT_A_NUMBER} if
+	 * the character sequence does not represent a number
+	 */
+	public static int compare(CharSequence value, DecimalBound bound) {
+		long scanned = scan( value );
+		if ( scanned == INVALID ) {
+			return NOT_A_NUMBER;
+		}
+
+		int significantDigits = significantDigits( scanned );
+		int signum = significantDigits == 0 ? 0 : ( value.charAt( 0 ) == '-' ? -1 : 1 );
+		if ( signum != bound.signum ) {
+			return signum < bound.signum ? -1 : 1;
+		}
+		if ( signum == 0 ) {
+			return 0;
+		}
+
+		long adjustedExponent = (long) significantDigits - scale( scanned );
+		if ( adjustedExponent != bound.adjustedExponent ) {
+			return adjustedExponent < bound.adjustedExponent ? -signum : signum;
+		}
+
+		return signum * compareSignificantDigits( value, bound.significantDigits );
+	}
+
+	/**
+	 * Checks that the number represented by the character sequence does not have more integer or fraction digits
+	 * than allowed, with the same semantics as the precision and the scale of the corresponding {@code BigDecimal}.
+	 *
+	 * @return {@code false} if the number has too many digits or if the character sequence does not represent a
+	 * number
+	 */
+	public static boolean hasAtMostDigits(CharSequence value, int maxIntegerLength, int maxFractionLength) {
+		long scanned = scan( value );
+		if ( scanned == INVALID ) {
+			return false;
+		}
+
+		// the precision of a zero BigDecimal is 1
+		int precision = Math.max( significantDigits( scanned ), 1 );
+		int scale = scale( scanned );
+
+		int integerPartLength = precision - scale;
+		int fractionPartLength = scale < 0 ? 0 : scale;
+
+		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
+	}
+
+	/**
+	 * Checks the format of the character sequence and extracts the precision and the scale of the number.
+	 *
+	 * @return the number of digits of the significand from the first non zero digit (0 if the number is zero) in the
+	 * upper 32 bits and the scale in the lower 32 bits, {@link #INVALID} if the character sequence does not represent
+	 * a number
+	 */
+	private static long scan(CharSequence value) {
+		int length = value.length();
+		if ( length == 0 ) {
+			return INVALID;
+		}
+
+		int i = 0;
+		char c = value.charAt( 0 );
+		if ( c == '-' || c == '+' ) {
+			i++;
+		}
+
+		int digits = 0;
+		int fractionDigits = 0;
+		int significantDigits = 0;
+		boolean decimalPoint = false;
+		for ( ; i < length; i++ ) {
+			c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( decimalPoint ) {
+					return INVALID;
+				}
+				decimalPoint = true;
+				continue;
+			}
+			if ( c == 'e' || c == 'E' ) {
+				break;
+			}
+
+			int digit = digit( c );
+			if ( digit < 0 ) {
+				return INVALID;
+			}
+			digits++;
+			if ( decimalPoint ) {
+				fractionDigits++;
+			}
+			if ( significantDigits > 0 || digit != 0 ) {
+				significantDigits++;
+			}
+		}
+		if ( digits == 0 ) {
+			return INVALID;
+		}
+
+		long exponent = 0;
+		if ( i < length ) {
+			exponent = parseExponent( value, i + 1, length );
+			if ( exponent == INVALID ) {
+				return INVALID;
+			}
+		}
+
+		long scale = fractionDigits - exponent;
+		if ( scale > Integer.MAX_VALUE || scale < Integer.MIN_VALUE ) {
+			return INVALID;
+		}
+
+		return ( (long) significantDigits << 32 ) | ( scale & 0xFFFFFFFFL );
+	}
+
+	private static long parseExponent(CharSequence value, int start, int end) {
+		if ( start == end ) {
+			return INVALID;
+		}
+
+		int i = start;
+		char c = value.charAt( i );
+		boolean negative = c == '-';
+		if ( negative || c == '+' ) {
+			i++;
+			if ( i == end ) {
+				return INVALID;
+			}
+		}
+
+		long exponent = 0;
+		for ( ; i < end; i++ ) {
+			int digit = digit( value.charAt( i ) );
+			if ( digit < 0 ) {
+				return INVALID;
+			}
+			// past this value, we only need to check the remaining characters are digits
+			if ( exponent <= MAX_EXPONENT_MAGNITUDE ) {
+				exponent = exponent * 10 + digit;
+			}
+		}
+
+		if ( negative ) {
+			return exponent > MAX_EXPONENT_MAGNITUDE ? INVALID : -exponent;
+		}
+		return exponent > Integer.MAX_VALUE ? INVALID : exponent;
+	}
+
+	/**
+	 * Compares the significand of the character sequence, starting from its first non zero digit, to the given
+	 * significant digits, the shorter sequence being padded with zeros.
+	 */
+	private static int compareSignificantDigits(CharSequence value, byte[] boundSignificantDigits) {
+		int length = value.length();
+		int i = 0;
+		// skip the sign and the leading zeros
+		for ( ; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c != '-' && c != '+' && c != '.' && digit( c ) != 0 ) {
+				break;
+			}
+		}
+
+		int k = 0;
+		for ( ; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				continue;
+			}
+			if ( c == 'e' || c == 'E' ) {
+				break;
+			}
+
+			int digit = digit( c );
+			int boundDigit = k < boundSignificantDigits.length ? boundSignificantDigits[k] : 0;
+			if ( digit != boundDigit ) {
+				return digit < boundDigit ? -1 : 1;
+			}
+			k++;
+		}
+
+		// the significant digits of the bound do not have trailing zeros
+		return k < boundSignificantDigits.length ? -1 : 0;
+	}
+
+	private static int significantDigits(long scanned) {
+		return (int) ( scanned >>> 32 );
+	}
+
+	private static int scale(long scanned) {
+		return (int) scanned;
+	}
+
+	private static int digit(char c) {
+		if ( c >= '0' && c <= '9' ) {
+			return c - '0';
+		}
+		return Character.digit( c, 10 );
+	}
+
+	/**
+	 * A bound the character sequences are compared to, precomputed from a {@link BigDecimal}.
+	 */
+	public static final class DecimalBound {
+
+		private final int signum;
+
+		/**
+		 * The exponent of the bound once written as {@code 0.d1d2...dn x 10^adjustedExponent} with {@code d1} non zero.
+		 */
+		private final long adjustedExponent;
+
+		/**
+		 * The digits {@code d1d2...dn} of the bound, without the trailing zeros.
+		 */
+		private final byte[] significantDigits;
+
+		public DecimalBound(BigDecimal bound) {
+			this.signum = bound.signum();
+			if ( signum == 0 ) {
+				this.adjustedExponent = 0;
+				this.significantDigits = new byte[0];
+			}
+			else {
+				BigDecimal stripped = bound.stripTrailingZeros();
+				String unscaledValue = stripped.unscaledValue().abs().toString();
+
+				this.adjustedExponent = (long) stripped.precision() - stripped.scale();
+				this.significantDigits = new byte[unscaledValue.length()];
+				for ( int i = 0; i < unscaledValue.length(); i++ ) {
+					significantDigits[i] = (byte) ( unscaledValue.charAt( i ) - '0' );
+				}
+			}
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "{signum=" + signum + ", adjustedExponent=" + adjustedExponent + '}';
+		}
+	}
+}
@@ -34,6 +34,20 @@ else if ( number == Double.POSITIVE_INFINITY ) {
 		return result;
 	}
 
+	public static OptionalInt infinityCheck(double number, OptionalInt treatNanAs) {
+		OptionalInt result = FINITE_VALUE;
+		if ( number == Double.NEGATIVE_INFINITY ) {
+			result = LESS_THAN;
+		}
+		else if ( Double.isNaN( number ) ) {
+			result = treatNanAs;
+		}
+		else if ( number == Double.POSITIVE_INFINITY ) {
+			result = GREATER_THAN;
+		}
+		return result;
+	}
+
 	public static OptionalInt infinityCheck(Float number, OptionalInt treatNanAs) {
 		OptionalInt result = FINITE_VALUE;
 		if ( number == Float.NEGATIVE_INFINITY ) {
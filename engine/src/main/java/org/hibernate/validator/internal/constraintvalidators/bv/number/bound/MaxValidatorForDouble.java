@@ -6,6 +6,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.internal.constraintvalidators.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -14,10 +15,15 @@
  *
  * @author Marko Bekhta
  */
-public class MaxValidatorForDouble extends AbstractMaxValidator<Double> {
+public class MaxValidatorForDouble extends AbstractMaxValidator<Double> implements DoubleConstraintValidator {
 
 	@Override
 	protected int compare(Double number) {
 		return NumberComparatorHelper.compare( number, maxValue, InfinityNumberComparatorHelper.GREATER_THAN );
 	}
+
+	@Override
+	public boolean isValid(double value) {
+		return NumberComparatorHelper.compare( value, maxValue, InfinityNumberComparatorHelper.GREATER_THAN ) <= 0;
+	}
 }
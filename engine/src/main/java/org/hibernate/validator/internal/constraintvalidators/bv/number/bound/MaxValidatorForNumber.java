@@ -6,16 +6,23 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.internal.constraintvalidators.IntConstraintValidator;
+
 /**
  * Check that the number being validated is less than or equal to the maximum
  * value specified.
  *
  * @author Marko Bekhta
  */
-public class MaxValidatorForNumber extends AbstractMaxValidator<Number> {
+public class MaxValidatorForNumber extends AbstractMaxValidator<Number> implements IntConstraintValidator {
 
 	@Override
 	protected int compare(Number number) {
 		return NumberComparatorHelper.compare( number, maxValue );
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberComparatorHelper.compare( value, maxValue ) <= 0;
+	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.internal.constraintvalidators.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -14,10 +15,15 @@
  *
  * @author Marko Bekhta
  */
-public class MinValidatorForDouble extends AbstractMinValidator<Double> {
+public class MinValidatorForDouble extends AbstractMinValidator<Double> implements DoubleConstraintValidator {
 
 	@Override
 	protected int compare(Double number) {
 		return NumberComparatorHelper.compare( number, minValue, InfinityNumberComparatorHelper.LESS_THAN );
 	}
+
+	@Override
+	public boolean isValid(double value) {
+		return NumberComparatorHelper.compare( value, minValue, InfinityNumberComparatorHelper.LESS_THAN ) >= 0;
+	}
 }
@@ -6,16 +6,23 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.internal.constraintvalidators.LongConstraintValidator;
+
 /**
  * Check that the number being validated is greater than or equal to the minimum
  * value specified.
  *
  * @author Marko Bekhta
  */
-public class MinValidatorForLong extends AbstractMinValidator<Long> {
+public class MinValidatorForLong extends AbstractMinValidator<Long> implements LongConstraintValidator {
 
 	@Override
 	protected int compare(Long number) {
 		return NumberComparatorHelper.compare( number, minValue );
 	}
+
+	@Override
+	public boolean isValid(long value) {
+		return NumberComparatorHelper.compare( value, minValue ) >= 0;
+	}
 }
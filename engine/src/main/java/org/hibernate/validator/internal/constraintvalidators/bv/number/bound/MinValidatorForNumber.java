@@ -6,16 +6,23 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.internal.constraintvalidators.IntConstraintValidator;
+
 /**
  * Check that the number being validated is greater than or equal to the minimum
  * value specified.
  *
  * @author Marko Bekhta
  */
-public class MinValidatorForNumber extends AbstractMinValidator<Number> {
+public class MinValidatorForNumber extends AbstractMinValidator<Number> implements IntConstraintValidator {
 
 	@Override
 	protected int compare(Number number) {
 		return NumberComparatorHelper.compare( number, minValue );
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberComparatorHelper.compare( value, minValue ) >= 0;
+	}
 }
@@ -32,6 +32,10 @@ public static int compare(Long number, long value) {
 		return number.compareTo( value );
 	}
 
+	public static int compare(long number, long value) {
+		return Long.compare( number, value );
+	}
+
 	public static int compare(Number number, long value) {
 		return Long.compare( number.longValue(), value );
 	}
@@ -44,6 +48,14 @@ public static int compare(Double number, long value, OptionalInt treatNanAs) {
 		return Long.compare( number.longValue(), value );
 	}
 
+	public static int compare(double number, long value, OptionalInt treatNanAs) {
+		OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck( number, treatNanAs );
+		if ( infinity.isPresent() ) {
+			return infinity.getAsInt();
+		}
+		return Long.compare( (long) number, value );
+	}
+
 	public static int compare(Float number, long value, OptionalInt treatNanAs) {
 		OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck( number, treatNanAs );
 		if ( infinity.isPresent() ) {
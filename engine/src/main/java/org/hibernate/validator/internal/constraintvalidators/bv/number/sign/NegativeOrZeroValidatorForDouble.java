@@ -10,6 +10,7 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.NegativeOrZero;
 
+import org.hibernate.validator.internal.constraintvalidators.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -20,7 +21,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class NegativeOrZeroValidatorForDouble implements ConstraintValidator<NegativeOrZero, Double> {
+public class NegativeOrZeroValidatorForDouble implements ConstraintValidator<NegativeOrZero, Double>, DoubleConstraintValidator {
 
 	@Override
 	public boolean isValid(Double value, ConstraintValidatorContext context) {
@@ -31,4 +32,9 @@ public boolean isValid(Double value, ConstraintValidatorContext context) {
 
 		return NumberSignHelper.signum( value, InfinityNumberComparatorHelper.GREATER_THAN ) <= 0;
 	}
+
+	@Override
+	public boolean isValid(double value) {
+		return NumberSignHelper.signum( value, InfinityNumberComparatorHelper.GREATER_THAN ) <= 0;
+	}
 }
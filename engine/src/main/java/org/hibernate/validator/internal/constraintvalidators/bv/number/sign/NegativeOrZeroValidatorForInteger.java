@@ -10,6 +10,8 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.NegativeOrZero;
 
+import org.hibernate.validator.internal.constraintvalidators.IntConstraintValidator;
+
 /**
  * Check that the number being validated is negative.
  *
@@ -18,7 +20,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class NegativeOrZeroValidatorForInteger implements ConstraintValidator<NegativeOrZero, Integer> {
+public class NegativeOrZeroValidatorForInteger implements ConstraintValidator<NegativeOrZero, Integer>, IntConstraintValidator {
 
 	@Override
 	public boolean isValid(Integer value, ConstraintValidatorContext context) {
@@ -29,4 +31,9 @@ public boolean isValid(Integer value, ConstraintValidatorContext context) {
 
 		return NumberSignHelper.signum( value ) <= 0;
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberSignHelper.signum( value ) <= 0;
+	}
 }
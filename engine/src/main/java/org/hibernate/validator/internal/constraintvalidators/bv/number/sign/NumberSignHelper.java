@@ -32,6 +32,14 @@ static int signum(Integer number) {
 		return Integer.signum( number );
 	}
 
+	static int signum(long number) {
+		return Long.signum( number );
+	}
+
+	static int signum(int number) {
+		return Integer.signum( number );
+	}
+
 	static int signum(Short number) {
 		return number.compareTo( SHORT_ZERO );
 	}
@@ -60,6 +68,14 @@ static int signum(Float number, OptionalInt treatNanAs) {
 		return number.compareTo( 0F );
 	}
 
+	static int signum(double number, OptionalInt treatNanAs) {
+		OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck( number, treatNanAs );
+		if ( infinity.isPresent() ) {
+			return infinity.getAsInt();
+		}
+		return Double.compare( number, 0D );
+	}
+
 	static int signum(Double number, OptionalInt treatNanAs) {
 		OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck( number, treatNanAs );
 		if ( infinity.isPresent() ) {
@@ -10,6 +10,7 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.PositiveOrZero;
 
+import org.hibernate.validator.internal.constraintvalidators.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -20,7 +21,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveOrZeroValidatorForDouble implements ConstraintValidator<PositiveOrZero, Double> {
+public class PositiveOrZeroValidatorForDouble implements ConstraintValidator<PositiveOrZero, Double>, DoubleConstraintValidator {
 
 	@Override
 	public boolean isValid(Double value, ConstraintValidatorContext context) {
@@ -31,4 +32,9 @@ public boolean isValid(Double value, ConstraintValidatorContext context) {
 
 		return NumberSignHelper.signum( value, InfinityNumberComparatorHelper.LESS_THAN ) >= 0;
 	}
+
+	@Override
+	public boolean isValid(double value) {
+		return NumberSignHelper.signum( value, InfinityNumberComparatorHelper.LESS_THAN ) >= 0;
+	}
 }
@@ -10,6 +10,8 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.PositiveOrZero;
 
+import org.hibernate.validator.internal.constraintvalidators.IntConstraintValidator;
+
 /**
  * Check that the number being validated positive.
  *
@@ -18,7 +20,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveOrZeroValidatorForInteger implements ConstraintValidator<PositiveOrZero, Integer> {
+public class PositiveOrZeroValidatorForInteger implements ConstraintValidator<PositiveOrZero, Integer>, IntConstraintValidator {
 
 	@Override
 	public boolean isValid(Integer value, ConstraintValidatorContext context) {
@@ -29,4 +31,9 @@ public boolean isValid(Integer value, ConstraintValidatorContext context) {
 
 		return NumberSignHelper.signum( value ) >= 0;
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberSignHelper.signum( value ) >= 0;
+	}
 }
@@ -10,6 +10,8 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.PositiveOrZero;
 
+import org.hibernate.validator.internal.constraintvalidators.LongConstraintValidator;
+
 /**
  * Check that the number being validated positive.
  *
@@ -18,7 +20,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveOrZeroValidatorForLong implements ConstraintValidator<PositiveOrZero, Long> {
+public class PositiveOrZeroValidatorForLong implements ConstraintValidator<PositiveOrZero, Long>, LongConstraintValidator {
 
 	@Override
 	public boolean isValid(Long value, ConstraintValidatorContext context) {
@@ -29,4 +31,9 @@ public boolean isValid(Long value, ConstraintValidatorContext context) {
 
 		return NumberSignHelper.signum( value ) >= 0;
 	}
+
+	@Override
+	public boolean isValid(long value) {
+		return NumberSignHelper.signum( value ) >= 0;
+	}
 }
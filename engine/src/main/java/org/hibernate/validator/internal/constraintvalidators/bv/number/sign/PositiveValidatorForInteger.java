@@ -10,6 +10,8 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Positive;
 
+import org.hibernate.validator.internal.constraintvalidators.IntConstraintValidator;
+
 /**
  * Check that the number being validated positive.
  *
@@ -18,7 +20,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveValidatorForInteger implements ConstraintValidator<Positive, Integer> {
+public class PositiveValidatorForInteger implements ConstraintValidator<Positive, Integer>, IntConstraintValidator {
 
 	@Override
 	public boolean isValid(Integer value, ConstraintValidatorContext context) {
@@ -29,4 +31,9 @@ public boolean isValid(Integer value, ConstraintValidatorContext context) {
 
 		return NumberSignHelper.signum( value ) > 0;
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberSignHelper.signum( value ) > 0;
+	}
 }
@@ -110,6 +110,9 @@
 	private Duration temporalValidationTolerance;
 	private Object constraintValidatorPayload;
 	private GetterPropertySelectionStrategy getterPropertySelectionStrategy;
+	private boolean validationPlansEnabled;
+	private int parallelCascadedValidationThreshold;
+	private boolean lazyMessageInterpolationEnabled;
 
 	// locales to initialize eagerly
 	private Set<Locale> localesToInitialize = Collections.emptySet();
@@ -180,6 +183,36 @@ public final boolean isTraversableResolverResultCacheEnabled() {
 		return traversableResolverResultCacheEnabled;
 	}
 
+	@Override
+	public final T enableValidationPlans(boolean enabled) {
+		this.validationPlansEnabled = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isValidationPlansEnabled() {
+		return validationPlansEnabled;
+	}
+
+	@Override
+	public final T parallelCascadedValidationThreshold(int threshold) {
+		this.parallelCascadedValidationThreshold = threshold;
+		return thisAsT();
+	}
+
+	public final int getParallelCascadedValidationThreshold() {
+		return parallelCascadedValidationThreshold;
+	}
+
+	@Override
+	public final T enableLazyMessageInterpolation(boolean enabled) {
+		this.lazyMessageInterpolationEnabled = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isLazyMessageInterpolationEnabled() {
+		return lazyMessageInterpolationEnabled;
+	}
+
 	@Override
 	public final T constraintValidatorFactory(ConstraintValidatorFactory constraintValidatorFactory) {
 		if ( LOG.isDebugEnabled() ) {
@@ -6,11 +6,16 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
 import javax.validation.spi.BootstrapState;
 import javax.validation.spi.ConfigurationState;
 import javax.validation.spi.ValidationProvider;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
 
 /**
  * Hibernate specific {@code Configuration} implementation.
@@ -23,6 +28,14 @@
  */
 public class ConfigurationImpl extends AbstractConfigurationImpl<HibernateValidatorConfiguration> implements HibernateValidatorConfiguration, ConfigurationState {
 
+	static final int DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE = 1000;
+
+	private BeanMetaDataCacheStrategy beanMetaDataCacheStrategy = BeanMetaDataCacheStrategy.SOFT;
+
+	private int beanMetaDataCacheMaxSize = DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE;
+
+	private int constraintValidatorCacheMaxContexts = ConstraintValidatorManagerImpl.DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS;
+
 	public ConfigurationImpl(BootstrapState state) {
 		super( state );
 	}
@@ -30,4 +43,35 @@ public ConfigurationImpl(BootstrapState state) {
 	public ConfigurationImpl(ValidationProvider<?> provider) {
 		super( provider );
 	}
+
+	@Override
+	public HibernateValidatorConfiguration beanMetaDataCacheStrategy(BeanMetaDataCacheStrategy strategy) {
+		Contracts.assertNotNull( strategy, MESSAGES.parameterMustNotBeNull( "strategy" ) );
+		this.beanMetaDataCacheStrategy = strategy;
+		return this;
+	}
+
+	public BeanMetaDataCacheStrategy getBeanMetaDataCacheStrategy() {
+		return beanMetaDataCacheStrategy;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration beanMetaDataCacheMaxSize(int maxSize) {
+		this.beanMetaDataCacheMaxSize = maxSize;
+		return this;
+	}
+
+	public int getBeanMetaDataCacheMaxSize() {
+		return beanMetaDataCacheMaxSize;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration constraintValidatorCacheMaxContexts(int maxContexts) {
+		this.constraintValidatorCacheMaxContexts = maxContexts;
+		return this;
+	}
+
+	public int getConstraintValidatorCacheMaxContexts() {
+		return constraintValidatorCacheMaxContexts;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
@@ -20,6 +22,19 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
+ * A constraint violation.
+ * <p>
+ * When the lazy message interpolation is enabled, the message is interpolated the first time it is needed, which has
+ * a few consequences compared to the eager interpolation:
+ * <ul>
+ * <li>the hash code does not take the interpolated message into account, two violations only differing by their
+ * messages thus have the same hash code;</li>
+ * <li>{@link #equals(Object)} interpolates the messages of both violations if all their other properties are equal;</li>
+ * <li>the errors of the message interpolation, e.g. an EL expression failing to evaluate, are reported by
+ * {@link #getMessage()}, {@link #equals(Object)}, {@link #toString()} or the serialization of the violation instead of
+ * during the validation, the exceptions thrown by the message interpolator being propagated by these methods.</li>
+ * </ul>
+ *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
  */
@@ -28,7 +43,8 @@
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 	private static final long serialVersionUID = -4970067626703103139L;
 
-	private final String interpolatedMessage;
+	private String interpolatedMessage;
+	private final transient LazyInterpolatedMessage lazyInterpolatedMessage;
 	private final T rootBean;
 	private final Object value;
 	private final Path propertyPath;
@@ -47,6 +63,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			LazyInterpolatedMessage lazyInterpolatedMessage,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -59,6 +76,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				lazyInterpolatedMessage,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -75,6 +93,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			LazyInterpolatedMessage lazyInterpolatedMessage,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -88,6 +107,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				lazyInterpolatedMessage,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -104,6 +124,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			LazyInterpolatedMessage lazyInterpolatedMessage,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -117,6 +138,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				lazyInterpolatedMessage,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -133,6 +155,7 @@ private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			LazyInterpolatedMessage lazyInterpolatedMessage,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -146,6 +169,7 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.messageParameters = messageParameters;
 		this.expressionVariables = expressionVariables;
 		this.interpolatedMessage = interpolatedMessage;
+		this.lazyInterpolatedMessage = lazyInterpolatedMessage;
 		this.rootBean = rootBean;
 		this.value = value;
 		this.propertyPath = propertyPath;
@@ -161,6 +185,9 @@ private ConstraintViolationImpl(String messageTemplate,
 
 	@Override
 	public final String getMessage() {
+		if ( lazyInterpolatedMessage != null ) {
+			return lazyInterpolatedMessage.get();
+		}
 		return interpolatedMessage;
 	}
 
@@ -251,6 +278,9 @@ public <C> C getDynamicPayload(Class<C> type) {
 	 * {@code messageParameters}, {@code expressionVariables} and {@code dynamicPayload} are not taken into account for
 	 * equality. These variables solely enrich the actual Constraint Violation with additional information e.g how we
 	 * actually got to this CV.
+	 * <p>
+	 * The interpolated messages are compared last so that a lazily interpolated message is only interpolated when all
+	 * the other properties are equal.
 	 *
 	 * @return true if the two ConstraintViolation's are considered equals; false otherwise
 	 */
@@ -265,9 +295,6 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
-			return false;
-		}
 		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
 			return false;
 		}
@@ -286,6 +313,11 @@ public boolean equals(Object o) {
 		if ( constraintDescriptor != null ? !constraintDescriptor.equals( that.constraintDescriptor ) : that.constraintDescriptor != null ) {
 			return false;
 		}
+		String message = getMessage();
+		String thatMessage = that.getMessage();
+		if ( message != null ? !message.equals( thatMessage ) : thatMessage != null ) {
+			return false;
+		}
 		return true;
 	}
 
@@ -298,7 +330,7 @@ public int hashCode() {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ConstraintViolationImpl" );
-		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( "{interpolatedMessage='" ).append( getMessage() ).append( '\'' );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
 		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
@@ -307,11 +339,13 @@ public String toString() {
 	}
 
 	/**
+	 * The interpolated message is not taken into account so that a lazily interpolated message does not have to be
+	 * interpolated to compute the hash code.
+	 *
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
-		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
-		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
+		int result = propertyPath != null ? propertyPath.hashCode() : 0;
 		result = 31 * result + System.identityHashCode( rootBean );
 		result = 31 * result + System.identityHashCode( leafBeanInstance );
 		result = 31 * result + System.identityHashCode( value );
@@ -319,4 +353,15 @@ private int createHashCode() {
 		result = 31 * result + ( messageTemplate != null ? messageTemplate.hashCode() : 0 );
 		return result;
 	}
+
+	/**
+	 * Interpolates a lazily interpolated message before the serialization, the message interpolator not being
+	 * serialized.
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		if ( lazyInterpolatedMessage != null ) {
+			interpolatedMessage = lazyInterpolatedMessage.get();
+		}
+		out.defaultWriteObject();
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidationException;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The message of a constraint violation, interpolated the first time it is requested.
+ * <p>
+ * The interpolation happens at most once, even if the message is requested concurrently. It uses the default locale in
+ * effect when the constraint violation was created, not the one in effect when the message is first requested.
+ */
+public final class LazyInterpolatedMessage {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final MessageInterpolator messageInterpolator;
+
+	private final String messageTemplate;
+
+	private final MessageInterpolator.Context context;
+
+	private final Locale locale;
+
+	private volatile String interpolatedMessage;
+
+	public LazyInterpolatedMessage(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolator.Context context,
+			Locale locale) {
+		this.messageInterpolator = messageInterpolator;
+		this.messageTemplate = messageTemplate;
+		this.context = context;
+		this.locale = locale;
+	}
+
+	public String get() {
+		String message = interpolatedMessage;
+		if ( message == null ) {
+			synchronized ( this ) {
+				message = interpolatedMessage;
+				if ( message == null ) {
+					message = interpolate( messageInterpolator, messageTemplate, context, locale );
+					interpolatedMessage = message;
+				}
+			}
+		}
+		return message;
+	}
+
+	/**
+	 * Interpolates the given message template, wrapping the unexpected exceptions into a {@link ValidationException}.
+	 */
+	public static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolator.Context context) {
+		return interpolate( messageInterpolator, messageTemplate, context, null );
+	}
+
+	/**
+	 * Interpolates the given message template for the given locale, wrapping the unexpected exceptions into a
+	 * {@link ValidationException}.
+	 * <p>
+	 * A {@code null} locale means the message interpolator uses its own default locale.
+	 */
+	public static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolator.Context context,
+			Locale locale) {
+		try {
+			if ( locale == null ) {
+				return messageInterpolator.interpolate(
+						messageTemplate,
+						context
+				);
+			}
+			return messageInterpolator.interpolate(
+					messageTemplate,
+					context,
+					locale
+			);
+		}
+		catch (ValidationException ve) {
+			throw ve;
+		}
+		catch (Exception e) {
+			throw LOG.getExceptionOccurredDuringMessageInterpolationException( e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append( "LazyInterpolatedMessage" );
+		sb.append( "{messageTemplate='" ).append( messageTemplate ).append( '\'' );
+		sb.append( ", interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
@@ -8,6 +8,7 @@
 
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.validation.spi.BootstrapState;
 import javax.validation.spi.ConfigurationState;
@@ -27,6 +28,10 @@ public class PredefinedScopeConfigurationImpl extends AbstractConfigurationImpl<
 
 	private BeanMetaDataClassNormalizer beanMetaDataClassNormalizer;
 
+	private boolean parallelBeanMetaDataInitialization;
+
+	private Executor beanMetaDataInitializationExecutor;
+
 	public PredefinedScopeConfigurationImpl(BootstrapState state) {
 		super( state );
 	}
@@ -60,4 +65,24 @@ public PredefinedScopeHibernateValidatorConfiguration beanMetaDataClassNormalize
 	public BeanMetaDataClassNormalizer getBeanMetaDataClassNormalizer() {
 		return beanMetaDataClassNormalizer;
 	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled) {
+		this.parallelBeanMetaDataInitialization = enabled;
+		return thisAsT();
+	}
+
+	public boolean isParallelBeanMetaDataInitialization() {
+		return parallelBeanMetaDataInitialization;
+	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration beanMetaDataInitializationExecutor(Executor executor) {
+		this.beanMetaDataInitializationExecutor = executor;
+		return thisAsT();
+	}
+
+	public Executor getBeanMetaDataInitializationExecutor() {
+		return beanMetaDataInitializationExecutor;
+	}
 }
@@ -17,6 +17,7 @@
 import javax.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.HibernateValidatorContext;
+import org.hibernate.validator.spi.violation.ViolationSink;
 
 /**
  * @author Guillaume Smet
@@ -89,6 +90,30 @@ public HibernateValidatorContext enableTraversableResolverResultCache(boolean en
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext enableValidationPlans(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setValidationPlansEnabled( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationThreshold(int threshold) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationThreshold( threshold );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext enableLazyMessageInterpolation(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setLazyMessageInterpolationEnabled( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext violationSink(ViolationSink violationSink) {
+		validatorFactoryScopedContextBuilder.setViolationSink( violationSink );
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext temporalValidationTolerance(Duration temporalValidationTolerance) {
 		throw new IllegalStateException( "Defining a Validator-specific temporal validation tolerance is not supported by the predefined scope ValidatorFactory." );
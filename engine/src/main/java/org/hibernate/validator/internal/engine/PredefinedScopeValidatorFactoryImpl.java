@@ -16,9 +16,13 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyMessageInterpolationEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationThreshold;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationPlansEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataInitializationExecutor;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
 import java.lang.invoke.MethodHandles;
@@ -38,13 +42,14 @@
 import javax.validation.spi.ConfigurationState;
 
 import org.hibernate.validator.HibernateValidatorContext;
-import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.PredefinedScopeConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanGenerator;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer;
 import org.hibernate.validator.internal.metadata.PredefinedScopeBeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
@@ -57,6 +62,7 @@
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -92,6 +98,10 @@ public class PredefinedScopeValidatorFactoryImpl implements PredefinedScopeHiber
 
 	private final ValidationOrderGenerator validationOrderGenerator;
 
+	private final ValidationPlanGenerator validationPlanGenerator;
+
+	private final CascadedTypeGraphAnalyzer cascadedTypeGraphAnalyzer;
+
 	public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState) {
 		Contracts.assertTrue( configurationState instanceof PredefinedScopeConfigurationImpl, "Only PredefinedScopeConfigurationImpl is supported." );
 
@@ -119,6 +129,9 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
+				determineValidationPlansEnabled( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationThreshold( hibernateSpecificConfig, properties ),
+				determineLazyMessageInterpolationEnabled( hibernateSpecificConfig, properties ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig )
 		);
 
@@ -128,6 +141,8 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 		);
 
 		this.validationOrderGenerator = new ValidationOrderGenerator();
+		this.validationPlanGenerator = new ValidationPlanGenerator();
+		this.cascadedTypeGraphAnalyzer = new CascadedTypeGraphAnalyzer();
 
 		this.getterPropertySelectionStrategy = ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader );
 
@@ -172,7 +187,8 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				buildMetaDataProviders( constraintCreationContext, xmlMetaDataProvider, constraintMappings ),
 				methodValidationConfiguration,
 				determineBeanMetaDataClassNormalizer( hibernateSpecificConfig ),
-				hibernateSpecificConfig.getBeanClassesToInitialize()
+				hibernateSpecificConfig.getBeanClassesToInitialize(),
+				determineBeanMetaDataInitializationExecutor( hibernateSpecificConfig, properties )
 		);
 
 		if ( LOG.isDebugEnabled() ) {
@@ -229,6 +245,11 @@ public GetterPropertySelectionStrategy getGetterPropertySelectionStrategy() {
 		return getterPropertySelectionStrategy;
 	}
 
+	@Override
+	public BeanMetaDataInitializationStatistics getBeanMetaDataInitializationStatistics() {
+		return beanMetaDataManager.getInitializationStatistics();
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -240,7 +261,7 @@ public boolean isTraversableResolverResultCacheEnabled() {
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types
-		if ( type.isAssignableFrom( HibernateValidatorFactory.class ) ) {
+		if ( type.isAssignableFrom( PredefinedScopeHibernateValidatorFactory.class ) ) {
 			return type.cast( this );
 		}
 		throw LOG.getTypeNotSupportedForUnwrappingException( type );
@@ -255,6 +276,8 @@ public HibernateValidatorContext usingContext() {
 	public void close() {
 		constraintValidatorManager.clear();
 		beanMetaDataManager.clear();
+		validationPlanGenerator.clear();
+		cascadedTypeGraphAnalyzer.clear();
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
 		valueExtractorManager.clear();
 	}
@@ -270,6 +293,8 @@ Validator createValidator(ValidatorFactoryScopedContext validatorFactoryScopedCo
 				valueExtractorManager,
 				constraintValidatorManager,
 				validationOrderGenerator,
+				validationPlanGenerator,
+				cascadedTypeGraphAnalyzer,
 				validatorFactoryScopedContext
 		);
 	}
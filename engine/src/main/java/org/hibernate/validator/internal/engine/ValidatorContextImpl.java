@@ -24,6 +24,7 @@
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.violation.ViolationSink;
 
 /**
  * @author Emmanuel Bernard
@@ -130,6 +131,30 @@ public HibernateValidatorContext enableTraversableResolverResultCache(boolean en
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext enableValidationPlans(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setValidationPlansEnabled( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationThreshold(int threshold) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationThreshold( threshold );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext enableLazyMessageInterpolation(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setLazyMessageInterpolationEnabled( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext violationSink(ViolationSink violationSink) {
+		validatorFactoryScopedContextBuilder.setViolationSink( violationSink );
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext temporalValidationTolerance(Duration temporalValidationTolerance) {
 		validatorFactoryScopedContextBuilder.setTemporalValidationTolerance( temporalValidationTolerance );
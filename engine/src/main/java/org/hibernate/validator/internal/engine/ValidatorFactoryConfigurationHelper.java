@@ -14,17 +14,23 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.validation.spi.ConfigurationState;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
 import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -37,6 +43,7 @@
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
 import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
 import org.hibernate.validator.internal.util.privilegedactions.NewInstance;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -172,6 +179,84 @@ static boolean determineTraversableResolverResultCacheEnabled(AbstractConfigurat
 		);
 	}
 
+	static boolean determineValidationPlansEnabled(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.ENABLE_VALIDATION_PLANS,
+				configuration != null ? configuration.isValidationPlansEnabled() : false
+		);
+	}
+
+	static boolean determineLazyMessageInterpolationEnabled(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.ENABLE_LAZY_MESSAGE_INTERPOLATION,
+				configuration != null ? configuration.isLazyMessageInterpolationEnabled() : false
+		);
+	}
+
+	static int determineParallelCascadedValidationThreshold(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		int threshold = configuration != null ? configuration.getParallelCascadedValidationThreshold() : 0;
+		String thresholdProperty = properties.get( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD );
+		if ( thresholdProperty != null ) {
+			try {
+				threshold = Integer.parseInt( thresholdProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseParallelCascadedValidationThresholdException( thresholdProperty, e );
+			}
+		}
+		return threshold;
+	}
+
+	static BeanMetaDataCacheStrategy determineBeanMetaDataCacheStrategy(ConfigurationImpl configuration, Map<String, String> properties) {
+		String strategyProperty = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_STRATEGY );
+		if ( strategyProperty != null ) {
+			try {
+				return BeanMetaDataCacheStrategy.valueOf( strategyProperty.trim().toUpperCase( Locale.ROOT ) );
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.getUnableToParseBeanMetaDataCacheStrategyException( strategyProperty, Arrays.toString( BeanMetaDataCacheStrategy.values() ) );
+			}
+		}
+
+		return configuration != null ? configuration.getBeanMetaDataCacheStrategy() : BeanMetaDataCacheStrategy.SOFT;
+	}
+
+	static int determineBeanMetaDataCacheMaxSize(ConfigurationImpl configuration, Map<String, String> properties) {
+		int maxSize = configuration != null ? configuration.getBeanMetaDataCacheMaxSize() : ConfigurationImpl.DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE;
+		String maxSizeProperty = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE );
+		if ( maxSizeProperty != null ) {
+			try {
+				maxSize = Integer.parseInt( maxSizeProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( maxSizeProperty, e );
+			}
+		}
+		if ( maxSize <= 0 ) {
+			throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( String.valueOf( maxSize ), null );
+		}
+		return maxSize;
+	}
+
+	static int determineConstraintValidatorCacheMaxContexts(ConfigurationImpl configuration, Map<String, String> properties) {
+		int maxContexts = configuration != null ? configuration.getConstraintValidatorCacheMaxContexts() : ConstraintValidatorManagerImpl.DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS;
+		String maxContextsProperty = properties.get( HibernateValidatorConfiguration.CONSTRAINT_VALIDATOR_CACHE_MAX_CONTEXTS );
+		if ( maxContextsProperty != null ) {
+			try {
+				maxContexts = Integer.parseInt( maxContextsProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getInvalidConstraintValidatorCacheMaxContextsException( maxContextsProperty, e );
+			}
+		}
+		if ( maxContexts <= 0 ) {
+			throw LOG.getInvalidConstraintValidatorCacheMaxContextsException( String.valueOf( maxContexts ), null );
+		}
+		return maxContexts;
+	}
+
 	static boolean determineFailFast(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
 		// check whether fail fast is programmatically enabled
 		boolean tmpFailFast = configuration != null ? configuration.getFailFast() : false;
@@ -289,6 +374,24 @@ static BeanMetaDataClassNormalizer determineBeanMetaDataClassNormalizer(Predefin
 		return new DefaultBeanMetaDataClassNormalizer();
 	}
 
+	/**
+	 * @return the executor building the bean metadata in parallel or {@code null} if the bean metadata are built
+	 * sequentially
+	 */
+	static Executor determineBeanMetaDataInitializationExecutor(PredefinedScopeConfigurationImpl hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig.getBeanMetaDataInitializationExecutor() != null ) {
+			return hibernateSpecificConfig.getBeanMetaDataInitializationExecutor();
+		}
+
+		boolean parallel = hibernateSpecificConfig.isParallelBeanMetaDataInitialization();
+		String parallelProperty = properties.get( PredefinedScopeHibernateValidatorConfiguration.PARALLEL_BEAN_METADATA_INITIALIZATION );
+		if ( parallelProperty != null ) {
+			parallel = Boolean.valueOf( parallelProperty );
+		}
+
+		return parallel ? ForkJoinPool.commonPool() : null;
+	}
+
 	static void registerCustomConstraintValidators(Set<DefaultConstraintMapping> constraintMappings,
 			ConstraintHelper constraintHelper) {
 		Set<Class<?>> definedConstraints = newHashSet();
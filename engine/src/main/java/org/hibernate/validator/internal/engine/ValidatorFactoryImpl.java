@@ -9,13 +9,19 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowMultipleCascadedValidationOnReturnValues;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCacheMaxSize;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCacheStrategy;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorCacheMaxContexts;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyMessageInterpolationEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationThreshold;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationPlansEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
@@ -44,9 +50,12 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanGenerator;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCacheStatisticsImpl;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
@@ -59,6 +68,8 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.internal.util.stereotypes.ThreadSafe;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -118,12 +129,20 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 	 * provider. See also HV-659.
 	 */
 	@ThreadSafe
-	private final ConcurrentMap<BeanMetaDataManagerKey, BeanMetaDataManager> beanMetaDataManagers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<BeanMetaDataManagerKey, BeanMetaDataManagerImpl> beanMetaDataManagers = new ConcurrentHashMap<>();
+
+	private final BeanMetaDataCacheStrategy beanMetaDataCacheStrategy;
+
+	private final int beanMetaDataCacheMaxSize;
 
 	private final JavaBeanHelper javaBeanHelper;
 
 	private final ValidationOrderGenerator validationOrderGenerator;
 
+	private final ValidationPlanGenerator validationPlanGenerator;
+
+	private final CascadedTypeGraphAnalyzer cascadedTypeGraphAnalyzer;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		ClassLoader externalClassLoader = determineExternalClassLoader( configurationState );
 
@@ -143,6 +162,9 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 						determineAllowParallelMethodsDefineParameterConstraints( hibernateSpecificConfig, properties )
 				).build();
 
+		this.beanMetaDataCacheStrategy = determineBeanMetaDataCacheStrategy( hibernateSpecificConfig, properties );
+		this.beanMetaDataCacheMaxSize = determineBeanMetaDataCacheMaxSize( hibernateSpecificConfig, properties );
+
 		this.validatorFactoryScopedContext = new ValidatorFactoryScopedContext(
 				configurationState.getMessageInterpolator(),
 				configurationState.getTraversableResolver(),
@@ -152,15 +174,21 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
+				determineValidationPlansEnabled( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationThreshold( hibernateSpecificConfig, properties ),
+				determineLazyMessageInterpolationEnabled( hibernateSpecificConfig, properties ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig )
 		);
 
 		ConstraintValidatorManager constraintValidatorManager = new ConstraintValidatorManagerImpl(
 				configurationState.getConstraintValidatorFactory(),
-				this.validatorFactoryScopedContext.getConstraintValidatorInitializationContext()
+				this.validatorFactoryScopedContext.getConstraintValidatorInitializationContext(),
+				determineConstraintValidatorCacheMaxContexts( hibernateSpecificConfig, properties )
 		);
 
 		this.validationOrderGenerator = new ValidationOrderGenerator();
+		this.validationPlanGenerator = new ValidationPlanGenerator();
+		this.cascadedTypeGraphAnalyzer = new CascadedTypeGraphAnalyzer();
 
 		ValueExtractorManager valueExtractorManager = new ValueExtractorManager( configurationState.getValueExtractors() );
 		ConstraintHelper constraintHelper = new ConstraintHelper();
@@ -249,6 +277,15 @@ public GetterPropertySelectionStrategy getGetterPropertySelectionStrategy() {
 		return javaBeanHelper.getGetterPropertySelectionStrategy();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics() {
+		return BeanMetaDataCacheStatisticsImpl.aggregate(
+				beanMetaDataCacheStrategy,
+				beanMetaDataCacheStrategy == BeanMetaDataCacheStrategy.BOUNDED ? beanMetaDataCacheMaxSize : -1,
+				beanMetaDataManagers.values()
+		);
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -286,6 +323,8 @@ public void close() {
 		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers.values() ) {
 			beanMetaDataManager.clear();
 		}
+		validationPlanGenerator.clear();
+		cascadedTypeGraphAnalyzer.clear();
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
 		constraintCreationContext.getValueExtractorManager().clear();
 	}
@@ -307,7 +346,9 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 						javaBeanHelper,
 						validationOrderGenerator,
 						buildMetaDataProviders(),
-						methodValidationConfiguration
+						methodValidationConfiguration,
+						beanMetaDataCacheStrategy,
+						beanMetaDataCacheMaxSize
 				)
 		);
 
@@ -317,6 +358,8 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 				constraintCreationContext.getValueExtractorManager(),
 				constraintCreationContext.getConstraintValidatorManager(),
 				validationOrderGenerator,
+				validationPlanGenerator,
+				cascadedTypeGraphAnalyzer,
 				validatorFactoryScopedContext
 		);
 	}
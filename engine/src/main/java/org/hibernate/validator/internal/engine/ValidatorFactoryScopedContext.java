@@ -18,6 +18,7 @@
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
+import org.hibernate.validator.spi.violation.ViolationSink;
 
 public class ValidatorFactoryScopedContext {
 	/**
@@ -62,6 +63,27 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean traversableResolverResultCacheEnabled;
 
+	/**
+	 * Hibernate Validator specific flag to evaluate the bean constraints through validation plans.
+	 */
+	private final boolean validationPlansEnabled;
+
+	/**
+	 * Hibernate Validator specific threshold from which the elements of a container are validated in parallel.
+	 */
+	private final int parallelCascadedValidationThreshold;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the messages of the constraint violations lazily.
+	 */
+	private final boolean lazyMessageInterpolationEnabled;
+
+	/**
+	 * Hibernate Validator specific sink receiving the constraint violations instead of the returned set. Can only be
+	 * defined at the {@code Validator} level.
+	 */
+	private final ViolationSink violationSink;
+
 	/**
 	 * The constraint validator payload.
 	 */
@@ -80,9 +102,13 @@ public class ValidatorFactoryScopedContext {
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean traversableResolverResultCacheEnabled,
+			boolean validationPlansEnabled,
+			int parallelCascadedValidationThreshold,
+			boolean lazyMessageInterpolationEnabled,
 			Object constraintValidatorPayload) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
-				traversableResolverResultCacheEnabled, constraintValidatorPayload,
+				traversableResolverResultCacheEnabled, validationPlansEnabled, parallelCascadedValidationThreshold, lazyMessageInterpolationEnabled, null,
+				constraintValidatorPayload,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
 						temporalValidationTolerance ) );
 	}
@@ -95,6 +121,10 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean traversableResolverResultCacheEnabled,
+			boolean validationPlansEnabled,
+			int parallelCascadedValidationThreshold,
+			boolean lazyMessageInterpolationEnabled,
+			ViolationSink violationSink,
 			Object constraintValidatorPayload,
 			HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext) {
 		this.messageInterpolator = messageInterpolator;
@@ -105,6 +135,10 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
 		this.failFast = failFast;
 		this.traversableResolverResultCacheEnabled = traversableResolverResultCacheEnabled;
+		this.validationPlansEnabled = validationPlansEnabled;
+		this.parallelCascadedValidationThreshold = parallelCascadedValidationThreshold;
+		this.lazyMessageInterpolationEnabled = lazyMessageInterpolationEnabled;
+		this.violationSink = violationSink;
 		this.constraintValidatorPayload = constraintValidatorPayload;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
@@ -141,6 +175,22 @@ public boolean isTraversableResolverResultCacheEnabled() {
 		return this.traversableResolverResultCacheEnabled;
 	}
 
+	public boolean isValidationPlansEnabled() {
+		return this.validationPlansEnabled;
+	}
+
+	public int getParallelCascadedValidationThreshold() {
+		return this.parallelCascadedValidationThreshold;
+	}
+
+	public boolean isLazyMessageInterpolationEnabled() {
+		return this.lazyMessageInterpolationEnabled;
+	}
+
+	public ViolationSink getViolationSink() {
+		return this.violationSink;
+	}
+
 	public Object getConstraintValidatorPayload() {
 		return this.constraintValidatorPayload;
 	}
@@ -160,6 +210,10 @@ static class Builder {
 		private Duration temporalValidationTolerance;
 		private boolean failFast;
 		private boolean traversableResolverResultCacheEnabled;
+		private boolean validationPlansEnabled;
+		private int parallelCascadedValidationThreshold;
+		private boolean lazyMessageInterpolationEnabled;
+		private ViolationSink violationSink;
 		private Object constraintValidatorPayload;
 		private HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
@@ -175,6 +229,10 @@ static class Builder {
 			this.temporalValidationTolerance = defaultContext.temporalValidationTolerance;
 			this.failFast = defaultContext.failFast;
 			this.traversableResolverResultCacheEnabled = defaultContext.traversableResolverResultCacheEnabled;
+			this.validationPlansEnabled = defaultContext.validationPlansEnabled;
+			this.parallelCascadedValidationThreshold = defaultContext.parallelCascadedValidationThreshold;
+			this.lazyMessageInterpolationEnabled = defaultContext.lazyMessageInterpolationEnabled;
+			this.violationSink = defaultContext.violationSink;
 			this.constraintValidatorPayload = defaultContext.constraintValidatorPayload;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
@@ -245,6 +303,26 @@ public ValidatorFactoryScopedContext.Builder setTraversableResolverResultCacheEn
 			return this;
 		}
 
+		public ValidatorFactoryScopedContext.Builder setValidationPlansEnabled(boolean validationPlansEnabled) {
+			this.validationPlansEnabled = validationPlansEnabled;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setParallelCascadedValidationThreshold(int parallelCascadedValidationThreshold) {
+			this.parallelCascadedValidationThreshold = parallelCascadedValidationThreshold;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setLazyMessageInterpolationEnabled(boolean lazyMessageInterpolationEnabled) {
+			this.lazyMessageInterpolationEnabled = lazyMessageInterpolationEnabled;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setViolationSink(ViolationSink violationSink) {
+			this.violationSink = violationSink;
+			return this;
+		}
+
 		public ValidatorFactoryScopedContext.Builder setConstraintValidatorPayload(Object constraintValidatorPayload) {
 			this.constraintValidatorPayload = constraintValidatorPayload;
 			return this;
@@ -260,6 +338,10 @@ public ValidatorFactoryScopedContext build() {
 					scriptEvaluatorFactory,
 					failFast,
 					traversableResolverResultCacheEnabled,
+					validationPlansEnabled,
+					parallelCascadedValidationThreshold,
+					lazyMessageInterpolationEnabled,
+					violationSink,
 					constraintValidatorPayload,
 					HibernateConstraintValidatorInitializationContextImpl.of(
 							constraintValidatorInitializationContext,
@@ -12,15 +12,23 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
@@ -33,6 +41,7 @@
 import javax.validation.metadata.BeanDescriptor;
 import javax.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.BatchValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
@@ -47,6 +56,8 @@
 import org.hibernate.validator.internal.engine.validationcontext.ExecutableValidationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContextBuilder;
 import org.hibernate.validator.internal.engine.validationcontext.ValidatorScopedContext;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlan;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanGenerator;
 import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContexts;
@@ -54,8 +65,10 @@
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorHelper;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ConstraintDispatchTable;
 import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ParameterMetaData;
@@ -71,6 +84,8 @@
 import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
 
 /**
  * The main Bean Validation class. This is the core processing class of Hibernate Validator.
@@ -81,7 +96,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements Validator, ExecutableValidator, BatchValidator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -95,6 +110,11 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final transient ValidationOrderGenerator validationOrderGenerator;
 
+	/**
+	 * Used to get the precomputed validation plans of the beans, if enabled.
+	 */
+	private final transient ValidationPlanGenerator validationPlanGenerator;
+
 	/**
 	 * Reference to shared {@code ConstraintValidatorFactory}.
 	 */
@@ -112,6 +132,11 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final BeanMetaDataManager beanMetaDataManager;
 
+	/**
+	 * Used to avoid tracking the already validated beans when the cascaded graph is proven to be acyclic.
+	 */
+	private final CascadedTypeGraphAnalyzer cascadedTypeGraphAnalyzer;
+
 	/**
 	 * Manages the life cycle of constraint validator instances
 	 */
@@ -135,12 +160,16 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			ValueExtractorManager valueExtractorManager,
 			ConstraintValidatorManager constraintValidatorManager,
 			ValidationOrderGenerator validationOrderGenerator,
+			ValidationPlanGenerator validationPlanGenerator,
+			CascadedTypeGraphAnalyzer cascadedTypeGraphAnalyzer,
 			ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.beanMetaDataManager = beanMetaDataManager;
 		this.valueExtractorManager = valueExtractorManager;
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.validationOrderGenerator = validationOrderGenerator;
+		this.validationPlanGenerator = validationPlanGenerator;
+		this.cascadedTypeGraphAnalyzer = cascadedTypeGraphAnalyzer;
 		this.validatorScopedContext = new ValidatorScopedContext( validatorFactoryScopedContext );
 		this.traversableResolver = validatorFactoryScopedContext.getTraversableResolver();
 		this.constraintValidatorInitializationContext = validatorFactoryScopedContext.getConstraintValidatorInitializationContext();
@@ -151,13 +180,13 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
 		sanityCheckGroups( groups );
 
-		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( object );
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( object, validationOrder );
 
 		if ( !validationContext.getRootBeanMetaData().hasConstraints() ) {
 			return Collections.emptySet();
 		}
 
-		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForBean(
 				validatorScopedContext.getParameterNameProvider(),
 				object,
@@ -168,6 +197,73 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 		return validateInContext( validationContext, valueContext, validationOrder );
 	}
 
+	@Override
+	public final <T> List<Set<ConstraintViolation<T>>> validateAll(Collection<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		sanityCheckGroups( groups );
+
+		BatchValidation batchValidation = new BatchValidation( determineGroupValidationOrder( groups ) );
+		List<Set<ConstraintViolation<T>>> constraintViolations = new ArrayList<>( objects.size() );
+		for ( T object : objects ) {
+			constraintViolations.add( batchValidation.validate( object ) );
+		}
+
+		return constraintViolations;
+	}
+
+	@Override
+	public final <T> void validateAll(Iterable<? extends T> objects, ConstraintViolationsConsumer<T> consumer, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		Contracts.assertNotNull( consumer, MESSAGES.parameterMustNotBeNull( "consumer" ) );
+		sanityCheckGroups( groups );
+
+		BatchValidation batchValidation = new BatchValidation( determineGroupValidationOrder( groups ) );
+		int index = 0;
+		for ( T object : objects ) {
+			Set<ConstraintViolation<T>> constraintViolations = batchValidation.validate( object );
+			if ( !constraintViolations.isEmpty() ) {
+				consumer.accept( index, object, constraintViolations );
+			}
+			index++;
+		}
+	}
+
+	@Override
+	public final <T> List<Set<ConstraintViolation<T>>> validateAllInParallel(Collection<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		sanityCheckGroups( groups );
+
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+		List<? extends T> objectList = objects instanceof List && objects instanceof RandomAccess
+				? (List<? extends T>) objects
+				: new ArrayList<>( objects );
+		@SuppressWarnings("unchecked")
+		Set<ConstraintViolation<T>>[] constraintViolations = new Set[objectList.size()];
+
+		int chunkSize = getParallelChunkSize( objectList.size() );
+		ClassLoader contextClassLoader = run( GetClassLoader.fromContext() );
+
+		List<ParallelValidationTask> tasks = new ArrayList<>( objectList.size() / chunkSize + 1 );
+		for ( int start = 0; start < objectList.size(); start += chunkSize ) {
+			int chunkStart = start;
+			int chunkEnd = Math.min( start + chunkSize, objectList.size() );
+			tasks.add( new ParallelValidationTask( contextClassLoader ) {
+
+				@Override
+				protected void validate() {
+					BatchValidation batchValidation = new BatchValidation( validationOrder );
+					for ( int i = chunkStart; i < chunkEnd; i++ ) {
+						constraintViolations[i] = batchValidation.validate( objectList.get( i ) );
+					}
+				}
+			} );
+		}
+
+		invokeAll( tasks );
+
+		return Arrays.asList( constraintViolations );
+	}
+
 	@Override
 	public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
@@ -298,7 +394,7 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( Validator.class ) || type == BatchValidator.class ) {
 			return type.cast( this );
 		}
 
@@ -313,15 +409,20 @@ public ExecutableValidator forExecutables() {
 	private ValidationContextBuilder getValidationContextBuilder() {
 		return new ValidationContextBuilder(
 				beanMetaDataManager,
+				cascadedTypeGraphAnalyzer,
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
-				TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() ),
+				getSingleValidationTraversableResolver(),
 				constraintValidatorInitializationContext
 
 		);
 	}
 
+	private TraversableResolver getSingleValidationTraversableResolver() {
+		return TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() );
+	}
+
 	private void sanityCheckPropertyPath(String propertyName) {
 		if ( propertyName == null || propertyName.length() == 0 ) {
 			throw LOG.getInvalidPropertyPathException();
@@ -385,7 +486,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
 			valueContext.setCurrentGroup( group.getDefiningClass() );
-			validateCascadedConstraints( validationContext, valueContext );
+			validateCascadedConstraints( validationContext, valueContext, beanMetaData.getDispatchTable( group.getDefiningClass() ).getCascadables() );
 			if ( shouldFailFast( validationContext ) ) {
 				return validationContext.getFailingConstraints();
 			}
@@ -396,7 +497,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
@@ -406,12 +507,12 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 						return validationContext.getFailingConstraints();
 					}
 
-					validateCascadedConstraints( validationContext, valueContext );
+					validateCascadedConstraints( validationContext, valueContext, beanMetaData.getDispatchTable( group.getDefiningClass() ).getCascadables() );
 					if ( shouldFailFast( validationContext ) ) {
 						return validationContext.getFailingConstraints();
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -420,6 +521,15 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 	}
 
 	private void validateConstraintsForCurrentGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext) {
+		if ( validatorScopedContext.isValidationPlansEnabled() ) {
+			ValidationPlan validationPlan = validationPlanGenerator.getValidationPlan( beanMetaDataManager, valueContext.getCurrentBeanMetaData(),
+					valueContext.getCurrentGroup(), valueContext.validatingDefault() );
+			if ( validationPlan.isSupported() ) {
+				validationPlan.validateConstraints( validationContext, valueContext );
+				return;
+			}
+		}
+
 		// we are not validating the default group there is nothing special to consider. If we are validating the default
 		// group sequence we have to consider that a class in the hierarchy could redefine the default group sequence.
 		if ( !valueContext.validatingDefault() ) {
@@ -442,7 +552,6 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 			// if the current class redefined the default group sequence, this sequence has to be applied to all the class hierarchy.
 			if ( defaultGroupSequenceIsRedefined ) {
 				Iterator<Sequence> defaultGroupSequence = hostingBeanMetaData.getDefaultValidationSequence( valueContext.getCurrentBean() );
-				Set<MetaConstraint<?>> metaConstraints = hostingBeanMetaData.getMetaConstraints();
 
 				while ( defaultGroupSequence.hasNext() ) {
 					for ( GroupWithInheritance groupOfGroups : defaultGroupSequence.next() ) {
@@ -450,7 +559,8 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 
 						for ( Group defaultSequenceMember : groupOfGroups ) {
 							validationSuccessful = validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
-									metaConstraints, defaultSequenceMember );
+									hostingBeanMetaData.getMetaConstraints(), hostingBeanMetaData.getDispatchTable( defaultSequenceMember.getDefiningClass() ),
+									defaultSequenceMember );
 						}
 						if ( !validationSuccessful ) {
 							break;
@@ -460,9 +570,8 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 			}
 			// fast path in case the default group sequence hasn't been redefined
 			else {
-				Set<MetaConstraint<?>> metaConstraints = hostingBeanMetaData.getDirectMetaConstraints();
-				validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, metaConstraints,
-						Group.DEFAULT_GROUP );
+				validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
+						hostingBeanMetaData.getDirectMetaConstraints(), hostingBeanMetaData.getDirectDefaultGroupDispatchTable(), Group.DEFAULT_GROUP );
 			}
 
 			validationContext.markCurrentBeanAsProcessed( valueContext );
@@ -474,6 +583,48 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 		}
 	}
 
+	private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanValidationContext<?> validationContext, ValueContext<U, Object> valueContext, final Map<Class<?>, Class<?>> validatedInterfaces,
+			Class<? super U> clazz, Set<MetaConstraint<?>> metaConstraints, ConstraintDispatchTable dispatchTable, Group defaultSequenceMember) {
+		// once the validation is stopped, the first constraint of the remaining classes of the hierarchy is still
+		// evaluated if it belongs to the group: this is kept on the unfiltered constraints
+		if ( shouldFailFast( validationContext ) ) {
+			return validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, metaConstraints,
+					defaultSequenceMember );
+		}
+
+		valueContext.setCurrentGroup( defaultSequenceMember.getDefiningClass() );
+
+		// HV-466, an interface implemented more than one time in the hierarchy has to be validated only one
+		// time. An interface can define more than one constraint, we have to check the class we are validating.
+		Set<Class<?>> skippedInterfaces = null;
+		for ( Class<?> constrainedInterface : dispatchTable.getConstrainedInterfaces() ) {
+			Class<?> validatedForClass = validatedInterfaces.putIfAbsent( constrainedInterface, clazz );
+			if ( validatedForClass != null && !validatedForClass.equals( clazz ) ) {
+				if ( skippedInterfaces == null ) {
+					skippedInterfaces = new HashSet<>();
+				}
+				skippedInterfaces.add( constrainedInterface );
+			}
+		}
+
+		boolean processedConstraintTrackingRequired = dispatchTable.isProcessedConstraintTrackingRequired();
+		boolean validationSuccessful = true;
+
+		for ( MetaConstraint<?> metaConstraint : dispatchTable.getMetaConstraints() ) {
+			if ( skippedInterfaces != null && skippedInterfaces.contains( metaConstraint.getLocation().getDeclaringClass() ) ) {
+				continue;
+			}
+
+			boolean tmp = validateDispatchedMetaConstraint( validationContext, valueContext, metaConstraint, processedConstraintTrackingRequired );
+			if ( shouldFailFast( validationContext ) ) {
+				return false;
+			}
+
+			validationSuccessful = validationSuccessful && tmp;
+		}
+		return validationSuccessful;
+	}
+
 	private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanValidationContext<?> validationContext, ValueContext<U, Object> valueContext, final Map<Class<?>, Class<?>> validatedInterfaces,
 			Class<? super U> clazz, Set<MetaConstraint<?>> metaConstraints, Group defaultSequenceMember) {
 		boolean validationSuccessful = true;
@@ -503,7 +654,15 @@ private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanVali
 	}
 
 	private void validateConstraintsForNonDefaultGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext) {
-		validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), valueContext.getCurrentBeanMetaData().getMetaConstraints() );
+		ConstraintDispatchTable dispatchTable = valueContext.getCurrentBeanMetaData().getDispatchTable( valueContext.getCurrentGroup() );
+		boolean processedConstraintTrackingRequired = dispatchTable.isProcessedConstraintTrackingRequired();
+
+		for ( MetaConstraint<?> metaConstraint : dispatchTable.getMetaConstraints() ) {
+			validateDispatchedMetaConstraint( validationContext, valueContext, metaConstraint, processedConstraintTrackingRequired );
+			if ( shouldFailFast( validationContext ) ) {
+				break;
+			}
+		}
 		validationContext.markCurrentBeanAsProcessed( valueContext );
 	}
 
@@ -526,10 +685,11 @@ private boolean validateMetaConstraint(BaseBeanValidationContext<?> validationCo
 		if ( isValidationRequired( validationContext, valueContext, metaConstraint ) ) {
 
 			if ( parent != null ) {
-				valueContext.setCurrentValidatedValue( valueContext.getValue( parent, metaConstraint.getLocation() ) );
+				success = metaConstraint.validateConstraint( validationContext, valueContext, parent );
+			}
+			else {
+				success = metaConstraint.validateConstraint( validationContext, valueContext );
 			}
-
-			success = metaConstraint.validateConstraint( validationContext, valueContext );
 
 			validationContext.markConstraintProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint );
 		}
@@ -540,6 +700,38 @@ private boolean validateMetaConstraint(BaseBeanValidationContext<?> validationCo
 		return success;
 	}
 
+	/**
+	 * Validates a constraint taken from a {@link ConstraintDispatchTable}, thus known to belong to the current group.
+	 */
+	private boolean validateDispatchedMetaConstraint(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext,
+			MetaConstraint<?> metaConstraint, boolean processedConstraintTrackingRequired) {
+		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
+		valueContext.appendNode( metaConstraint.getLocation() );
+		boolean success = true;
+
+		if ( validationContext.appliesTo( metaConstraint )
+				&& ( !processedConstraintTrackingRequired
+						|| !validationContext.hasMetaConstraintBeenProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint ) )
+				&& isReachable( validationContext, valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint.getConstraintLocationKind() ) ) {
+			Object parent = valueContext.getCurrentBean();
+			if ( parent != null ) {
+				success = metaConstraint.validateConstraint( validationContext, valueContext, parent );
+			}
+			else {
+				success = metaConstraint.validateConstraint( validationContext, valueContext );
+			}
+
+			if ( processedConstraintTrackingRequired ) {
+				validationContext.markConstraintProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint );
+			}
+		}
+
+		// reset the value context to the state before this call
+		valueContext.resetValueState( originalValueState );
+
+		return success;
+	}
+
 	/**
 	 * Validates all cascaded constraints for the given bean using the current group set in the execution context.
 	 * This method must always be called after validateConstraints for the same context.
@@ -552,35 +744,58 @@ private void validateCascadedConstraints(BaseBeanValidationContext<?> validation
 		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
 
 		for ( Cascadable cascadable : validatable.getCascadables() ) {
-			valueContext.appendNode( cascadable );
+			validateCascadable( validationContext, valueContext, cascadable );
 
-			if ( isCascadeRequired( validationContext, valueContext.getCurrentBean(), valueContext.getPropertyPath(),
-					cascadable.getConstraintLocationKind() ) ) {
-				Object value = getCascadableValue( validationContext, valueContext.getCurrentBean(), cascadable );
-				CascadingMetaData cascadingMetaData = cascadable.getCascadingMetaData();
+			// reset the value context
+			valueContext.resetValueState( originalValueState );
+		}
+	}
 
-				if ( value != null ) {
-					CascadingMetaData effectiveCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, value.getClass() );
+	/**
+	 * Validates the given cascadables of the current bean, as precomputed in its {@link ConstraintDispatchTable}s,
+	 * using the current group set in the execution context.
+	 */
+	private void validateCascadedConstraints(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Cascadable[] cascadables) {
+		if ( cascadables.length == 0 ) {
+			return;
+		}
 
-					// validate cascading on the annotated object
-					if ( effectiveCascadingMetaData.isCascading() ) {
-						validateCascadedAnnotatedObjectForCurrentGroup( value, validationContext, valueContext, effectiveCascadingMetaData );
-					}
+		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
 
-					if ( effectiveCascadingMetaData.isContainer() ) {
-						ContainerCascadingMetaData containerCascadingMetaData = effectiveCascadingMetaData.as( ContainerCascadingMetaData.class );
+		for ( Cascadable cascadable : cascadables ) {
+			validateCascadable( validationContext, valueContext, cascadable );
 
-						if ( containerCascadingMetaData.hasContainerElementsMarkedForCascading() ) {
-							// validate cascading on the container elements
-							validateCascadedContainerElementsForCurrentGroup( value, validationContext, valueContext,
-									containerCascadingMetaData.getContainerElementTypesCascadingMetaData() );
-						}
+			// reset the value context
+			valueContext.resetValueState( originalValueState );
+		}
+	}
+
+	private void validateCascadable(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Cascadable cascadable) {
+		valueContext.appendNode( cascadable );
+
+		if ( isCascadeRequired( validationContext, valueContext.getCurrentBean(), valueContext.getPropertyPath(),
+				cascadable.getConstraintLocationKind() ) ) {
+			Object value = getCascadableValue( validationContext, valueContext.getCurrentBean(), cascadable );
+			CascadingMetaData cascadingMetaData = cascadable.getCascadingMetaData();
+
+			if ( value != null ) {
+				CascadingMetaData effectiveCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, value.getClass() );
+
+				// validate cascading on the annotated object
+				if ( effectiveCascadingMetaData.isCascading() ) {
+					validateCascadedAnnotatedObjectForCurrentGroup( value, validationContext, valueContext, effectiveCascadingMetaData );
+				}
+
+				if ( effectiveCascadingMetaData.isContainer() ) {
+					ContainerCascadingMetaData containerCascadingMetaData = effectiveCascadingMetaData.as( ContainerCascadingMetaData.class );
+
+					if ( containerCascadingMetaData.hasContainerElementsMarkedForCascading() ) {
+						// validate cascading on the container elements
+						validateCascadedContainerElementsForCurrentGroup( value, validationContext, valueContext,
+								containerCascadingMetaData.getContainerElementTypesCascadingMetaData() );
 					}
 				}
 			}
-
-			// reset the value context
-			valueContext.resetValueState( originalValueState );
 		}
 	}
 
@@ -599,9 +814,11 @@ private void validateCascadedAnnotatedObjectForCurrentGroup(Object value, BaseBe
 		// already and need only to pass the current element
 		ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
 
-		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
+		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( validationContext, valueContext, value );
 
 		validateInContext( validationContext, cascadedValueContext, validationOrder );
+
+		validationContext.releaseCascadedValueContext( cascadedValueContext );
 	}
 
 	private void validateCascadedContainerElementsForCurrentGroup(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
@@ -622,11 +839,310 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
 			}
 
+			if ( isParallelCascadingRequired( validationContext, value ) ) {
+				ContainerElementsCollector collector = new ContainerElementsCollector();
+				ValueExtractorHelper.extractValues( extractor, value, collector );
+				validateCascadedContainerElements( validationContext, valueContext, cascadingMetaData, collector.containerElements );
+			}
+			else {
+				CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+				ValueExtractorHelper.extractValues( extractor, value, receiver );
+			}
+		}
+	}
+
+	private boolean isParallelCascadingRequired(BaseBeanValidationContext<?> validationContext, Object container) {
+		int threshold = validatorScopedContext.getParallelCascadedValidationThreshold();
+		if ( threshold <= 0 || validationContext.isFailFastModeEnabled() || validatorScopedContext.getViolationSink() != null ) {
+			return false;
+		}
+
+		int size;
+		if ( container instanceof Collection ) {
+			size = ( (Collection<?>) container ).size();
+		}
+		else if ( container instanceof Map ) {
+			size = ( (Map<?, ?>) container ).size();
+		}
+		else if ( container instanceof Object[] ) {
+			size = ( (Object[]) container ).length;
+		}
+		else {
+			return false;
+		}
+
+		return size >= threshold;
+	}
+
+	/**
+	 * Validates the collected container elements in parallel if they can be identified by their index or key.
+	 * Otherwise, their property paths are not distinct and they are validated sequentially.
+	 */
+	private <T> void validateCascadedContainerElements(BaseBeanValidationContext<T> validationContext, ValueContext<?, ?> valueContext,
+			ContainerCascadingMetaData cascadingMetaData, List<ContainerElement> containerElements) {
+		boolean parallelizable = containerElements.size() >= validatorScopedContext.getParallelCascadedValidationThreshold();
+		for ( ContainerElement containerElement : containerElements ) {
+			if ( containerElement.kind != ContainerElementKind.INDEXED && containerElement.kind != ContainerElementKind.KEYED ) {
+				parallelizable = false;
+				break;
+			}
+		}
+
+		if ( !parallelizable ) {
 			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
-			ValueExtractorHelper.extractValues( extractor, value, receiver );
+			for ( ContainerElement containerElement : containerElements ) {
+				containerElement.replay( receiver );
+			}
+			return;
+		}
+
+		int chunkSize = getParallelChunkSize( containerElements.size() );
+		ClassLoader contextClassLoader = run( GetClassLoader.fromContext() );
+
+		List<CascadedContainerElementsTask<T>> tasks = new ArrayList<>( containerElements.size() / chunkSize + 1 );
+		for ( int start = 0; start < containerElements.size(); start += chunkSize ) {
+			tasks.add( new CascadedContainerElementsTask<>(
+					validationContext.fork( getSingleValidationTraversableResolver() ),
+					ValueContexts.copyOf( valueContext ),
+					cascadingMetaData,
+					containerElements.subList( start, Math.min( start + chunkSize, containerElements.size() ) ),
+					contextClassLoader
+			) );
+		}
+
+		invokeAll( tasks );
+
+		// the violations are merged in the order of the container elements
+		for ( CascadedContainerElementsTask<T> task : tasks ) {
+			validationContext.join( task.validationContext );
+		}
+
+		// leave the property path in the same state as after a sequential validation
+		containerElements.get( containerElements.size() - 1 ).mark( valueContext );
+	}
+
+	private enum ContainerElementKind {
+		VALUE,
+		ITERABLE,
+		INDEXED,
+		KEYED
+	}
+
+	private static class ContainerElement {
+
+		private final ContainerElementKind kind;
+		private final String nodeName;
+		private final int index;
+		private final Object key;
+		private final Object value;
+
+		private ContainerElement(ContainerElementKind kind, String nodeName, int index, Object key, Object value) {
+			this.kind = kind;
+			this.nodeName = nodeName;
+			this.index = index;
+			this.key = key;
+			this.value = value;
+		}
+
+		private void replay(ValueExtractor.ValueReceiver receiver) {
+			switch ( kind ) {
+				case VALUE:
+					receiver.value( nodeName, value );
+					break;
+				case ITERABLE:
+					receiver.iterableValue( nodeName, value );
+					break;
+				case INDEXED:
+					receiver.indexedValue( nodeName, index, value );
+					break;
+				default:
+					receiver.keyedValue( nodeName, key, value );
+			}
+		}
+
+		private void mark(ValueContext<?, ?> valueContext) {
+			switch ( kind ) {
+				case VALUE:
+					break;
+				case ITERABLE:
+					valueContext.markCurrentPropertyAsIterable();
+					break;
+				case INDEXED:
+					valueContext.markCurrentPropertyAsIterableAndSetIndex( index );
+					break;
+				default:
+					valueContext.markCurrentPropertyAsIterableAndSetKey( key );
+			}
 		}
 	}
 
+	/**
+	 * Collects the container elements so that they can be validated in parallel.
+	 */
+	private static class ContainerElementsCollector implements ValueExtractor.ValueReceiver {
+
+		private final List<ContainerElement> containerElements = new ArrayList<>();
+
+		@Override
+		public void value(String nodeName, Object value) {
+			containerElements.add( new ContainerElement( ContainerElementKind.VALUE, nodeName, 0, null, value ) );
+		}
+
+		@Override
+		public void iterableValue(String nodeName, Object value) {
+			containerElements.add( new ContainerElement( ContainerElementKind.ITERABLE, nodeName, 0, null, value ) );
+		}
+
+		@Override
+		public void indexedValue(String nodeName, int index, Object value) {
+			containerElements.add( new ContainerElement( ContainerElementKind.INDEXED, nodeName, index, null, value ) );
+		}
+
+		@Override
+		public void keyedValue(String nodeName, Object key, Object value) {
+			containerElements.add( new ContainerElement( ContainerElementKind.KEYED, nodeName, 0, key, value ) );
+		}
+	}
+
+	/**
+	 * Validates a chunk of container elements with its own validation and value contexts.
+	 */
+	private class CascadedContainerElementsTask<T> extends ParallelValidationTask {
+
+		private final BaseBeanValidationContext<T> validationContext;
+		private final ValueContext<?, ?> valueContext;
+		private final ContainerCascadingMetaData cascadingMetaData;
+		private final List<ContainerElement> containerElements;
+
+		private CascadedContainerElementsTask(BaseBeanValidationContext<T> validationContext, ValueContext<?, ?> valueContext,
+				ContainerCascadingMetaData cascadingMetaData, List<ContainerElement> containerElements, ClassLoader contextClassLoader) {
+			super( contextClassLoader );
+			this.validationContext = validationContext;
+			this.valueContext = valueContext;
+			this.cascadingMetaData = cascadingMetaData;
+			this.containerElements = containerElements;
+		}
+
+		@Override
+		protected void validate() {
+			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+			for ( ContainerElement containerElement : containerElements ) {
+				containerElement.replay( receiver );
+			}
+		}
+	}
+
+	/**
+	 * Validates the root beans of a batch, resolving the metadata only when the type of the root bean changes and
+	 * reusing the root value context.
+	 * <p>
+	 * An instance must only be used by one thread.
+	 */
+	private class BatchValidation {
+
+		private final ValidationOrder validationOrder;
+
+		private Class<?> beanClass;
+
+		private BeanMetaData<?> beanMetaData;
+
+		private BeanValueContext<?, Object> valueContext;
+
+		private BatchValidation(ValidationOrder validationOrder) {
+			this.validationOrder = validationOrder;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> Set<ConstraintViolation<T>> validate(T object) {
+			Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+
+			if ( object.getClass() != beanClass ) {
+				beanClass = object.getClass();
+				beanMetaData = beanMetaDataManager.getBeanMetaData( beanClass );
+			}
+
+			if ( !beanMetaData.hasConstraints() ) {
+				return Collections.emptySet();
+			}
+
+			BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( object, (BeanMetaData<T>) beanMetaData, validationOrder );
+
+			if ( valueContext == null ) {
+				valueContext = ValueContexts.getLocalExecutionContextForBean( validatorScopedContext.getParameterNameProvider(), object, beanMetaData,
+						PathImpl.createRootPath() );
+			}
+			else {
+				ValueContexts.resetLocalExecutionContextForBean( valueContext, object, beanMetaData, PathImpl.createRootPath() );
+			}
+
+			return validateInContext( validationContext, valueContext, validationOrder );
+		}
+	}
+
+	/**
+	 * A part of a validation executed in the common {@link ForkJoinPool}, with the context class loader of the calling
+	 * thread. The failures are kept so that they can be rethrown as is in the calling thread.
+	 */
+	private abstract static class ParallelValidationTask extends RecursiveAction {
+
+		private final ClassLoader contextClassLoader;
+
+		private Throwable failure;
+
+		private ParallelValidationTask(ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		protected abstract void validate();
+
+		@Override
+		protected final void compute() {
+			ClassLoader originalContextClassLoader = run( GetClassLoader.fromContext() );
+			boolean switchContextClassLoader = contextClassLoader != null && originalContextClassLoader != null
+					&& contextClassLoader != originalContextClassLoader;
+
+			try {
+				if ( switchContextClassLoader ) {
+					run( SetContextClassLoader.action( contextClassLoader ) );
+				}
+
+				validate();
+			}
+			catch (RuntimeException | Error e) {
+				failure = e;
+			}
+			finally {
+				if ( switchContextClassLoader ) {
+					run( SetContextClassLoader.action( originalContextClassLoader ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Executes the given tasks in parallel and rethrows the failure of the first failed task, if any.
+	 */
+	private static void invokeAll(List<? extends ParallelValidationTask> tasks) {
+		ForkJoinTask.invokeAll( tasks );
+
+		for ( ParallelValidationTask task : tasks ) {
+			if ( task.failure instanceof RuntimeException ) {
+				throw (RuntimeException) task.failure;
+			}
+			if ( task.failure instanceof Error ) {
+				throw (Error) task.failure;
+			}
+		}
+	}
+
+	/**
+	 * Splits the elements in a few chunks per thread of the common pool so that the work is balanced between the
+	 * threads without creating a task per element.
+	 */
+	private static int getParallelChunkSize(int numberOfElements) {
+		return Math.max( 1, numberOfElements / ( ForkJoinPool.getCommonPoolParallelism() * 4 ) );
+	}
+
 	private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
 
 		private final BaseBeanValidationContext<?> validationContext;
@@ -677,7 +1193,7 @@ private void doValidate(Object value, String nodeName) {
 			// already and need only to pass the current element
 			ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
 
-			BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
+			BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( validationContext, valueContext, value );
 
 			if ( cascadingMetaData.getDeclaredContainerClass() != null ) {
 				cascadedValueContext.setTypeParameter( cascadingMetaData.getDeclaredContainerClass(), cascadingMetaData.getDeclaredTypeParameterIndex() );
@@ -690,7 +1206,7 @@ private void doValidate(Object value, String nodeName) {
 
 			// Cascade validation to container elements if we are dealing with a container element
 			if ( cascadingMetaData.hasContainerElementsMarkedForCascading() ) {
-				ValueContext<?, Object> cascadedTypeArgumentValueContext = buildNewLocalExecutionContext( valueContext, value );
+				BeanValueContext<?, Object> cascadedTypeArgumentValueContext = buildNewLocalExecutionContext( validationContext, valueContext, value );
 				if ( cascadingMetaData.getTypeParameter() != null ) {
 					cascadedValueContext.setTypeParameter( cascadingMetaData.getDeclaredContainerClass(), cascadingMetaData.getDeclaredTypeParameterIndex() );
 				}
@@ -700,7 +1216,11 @@ private void doValidate(Object value, String nodeName) {
 				}
 
 				validateCascadedContainerElementsInContext( value, validationContext, cascadedTypeArgumentValueContext, cascadingMetaData, validationOrder );
+
+				validationContext.releaseCascadedValueContext( cascadedTypeArgumentValueContext );
 			}
+
+			validationContext.releaseCascadedValueContext( cascadedValueContext );
 		}
 	}
 
@@ -721,7 +1241,7 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
@@ -732,19 +1252,22 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 						return;
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
 		}
 	}
 
-	private BeanValueContext<?, Object> buildNewLocalExecutionContext(ValueContext<?, ?> valueContext, Object value) {
+	/**
+	 * The returned value context has to be released once the validation of the cascaded value is done.
+	 */
+	private BeanValueContext<?, Object> buildNewLocalExecutionContext(BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
+			Object value) {
 		BeanValueContext<?, Object> newValueContext;
 		Contracts.assertNotNull( value, "value cannot be null" );
 		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( value.getClass() );
-		newValueContext = ValueContexts.getLocalExecutionContextForBean(
-				validatorScopedContext.getParameterNameProvider(),
+		newValueContext = validationContext.acquireCascadedValueContext(
 				value,
 				beanMetaData,
 				valueContext.getPropertyPath()
@@ -780,7 +1303,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidatio
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfConstraintViolationsBefore = validationContext.getFailingConstraints().size();
+				int numberOfConstraintViolationsBefore = validationContext.getNumberOfFailingConstraints();
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
 					validateConstraintsForCurrentGroup( validationContext, valueContext );
@@ -788,7 +1311,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidatio
 						return validationContext.getFailingConstraints();
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfConstraintViolationsBefore ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfConstraintViolationsBefore ) {
 					break;
 				}
 			}
@@ -861,7 +1384,7 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					validateParametersForGroup( validationContext, executableMetaData, parameterValues, group );
@@ -877,7 +1400,7 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 					}
 				}
 
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -898,7 +1421,7 @@ private <T> void validateParametersForGroup(ExecutableValidationContext<T> valid
 
 			while ( defaultGroupSequence.hasNext() ) {
 				Sequence sequence = defaultGroupSequence.next();
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( GroupWithInheritance expandedGroup : sequence ) {
 					for ( Group defaultGroupSequenceElement : expandedGroup ) {
@@ -910,7 +1433,7 @@ private <T> void validateParametersForGroup(ExecutableValidationContext<T> valid
 					}
 
 					//stop processing after first group with errors occurred
-					if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+					if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 						return;
 					}
 				}
@@ -1037,7 +1560,7 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfFailingConstraintsBeforeGroup = validationContext.getFailingConstraints().size();
+				int numberOfFailingConstraintsBeforeGroup = validationContext.getNumberOfFailingConstraints();
 				for ( Group group : groupOfGroups ) {
 					validateReturnValueForGroup( validationContext, executableMetaData, bean, value, group );
 					if ( shouldFailFast( validationContext ) ) {
@@ -1054,7 +1577,7 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 					}
 				}
 
-				if ( validationContext.getFailingConstraints().size() > numberOfFailingConstraintsBeforeGroup ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfFailingConstraintsBeforeGroup ) {
 					break;
 				}
 			}
@@ -1077,7 +1600,7 @@ private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> valida
 
 			while ( defaultGroupSequence.hasNext() ) {
 				Sequence sequence = defaultGroupSequence.next();
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( GroupWithInheritance expandedGroup : sequence ) {
 					for ( Group defaultGroupSequenceElement : expandedGroup ) {
@@ -1089,7 +1612,7 @@ private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> valida
 					}
 
 					//stop processing after first group with errors occurred
-					if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+					if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 						return;
 					}
 				}
@@ -1344,7 +1867,7 @@ private boolean isReturnValueValidation(PathImpl path) {
 	}
 
 	private boolean shouldFailFast(BaseBeanValidationContext<?> validationContext) {
-		return validationContext.isFailFastModeEnabled() && !validationContext.getFailingConstraints().isEmpty();
+		return validationContext.isValidationStopped();
 	}
 
 	private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, Path.Node propertyNode) {
@@ -1358,4 +1881,14 @@ private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, P
 	private Object getCascadableValue(BaseBeanValidationContext<?> validationContext, Object object, Cascadable cascadable) {
 		return cascadable.getValue( object );
 	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
 }
@@ -135,8 +135,8 @@ private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationCon
 			return false;
 		}
 
-		// explicit fail fast mode
-		if ( validationContext.isFailFastModeEnabled() ) {
+		// explicit fail fast mode or validation stopped
+		if ( validationContext.isFailFastModeEnabled() || validationContext.isValidationStopped() ) {
 			return false;
 		}
 
@@ -214,7 +214,8 @@ private CompositionResult validateComposingConstraints(ValidationContext<?> vali
 			else {
 				compositionResult.setAllTrue( false );
 				if ( descriptor.getCompositionType() == AND
-						&& ( validationContext.isFailFastModeEnabled() || descriptor.isReportAsSingleViolation() ) ) {
+						&& ( validationContext.isFailFastModeEnabled() || validationContext.isValidationStopped()
+								|| descriptor.isReportAsSingleViolation() ) ) {
 					break;
 				}
 			}
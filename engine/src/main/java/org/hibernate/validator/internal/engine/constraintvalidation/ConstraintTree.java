@@ -88,6 +88,30 @@ public final boolean validateConstraints(ValidationContext<?> validationContext,
 
 	protected abstract void validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts);
 
+	/**
+	 * Validates a primitive value without boxing it, if the constraint validator supports it.
+	 *
+	 * @return {@code true} if the value is known to be valid, {@code false} if it has to be validated again through
+	 * {@link #validateConstraints(ValidationContext, ValueContext)} after having been boxed
+	 */
+	public boolean isValid(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, int value) {
+		return false;
+	}
+
+	/**
+	 * @see #isValid(ValidationContext, ValueContext, int)
+	 */
+	public boolean isValid(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, long value) {
+		return false;
+	}
+
+	/**
+	 * @see #isValid(ValidationContext, ValueContext, int)
+	 */
+	public boolean isValid(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, double value) {
+		return false;
+	}
+
 	public final ConstraintDescriptorImpl<A> getDescriptor() {
 		return descriptor;
 	}
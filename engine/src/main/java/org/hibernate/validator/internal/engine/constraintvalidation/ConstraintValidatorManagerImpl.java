@@ -9,9 +9,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.ConstraintValidator;
@@ -21,6 +19,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -49,37 +48,52 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	};
 
 	/**
-	 * The most recently used non default constraint validator factory.
+	 * The default maximum number of non default constraint validator factory and initialization context combinations
+	 * whose constraint validator instances are cached.
 	 */
-	private volatile ConstraintValidatorFactory mostRecentlyUsedNonDefaultConstraintValidatorFactory;
+	public static final int DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS = 16;
 
 	/**
-	 * The most recently used non default constraint validator initialization context.
+	 * Cache of initialized {@code ConstraintValidator} instances created by the default constraint validator factory
+	 * with the default initialization context, keyed against validated type and annotation ({@code CacheKey}).
 	 */
-	private volatile HibernateConstraintValidatorInitializationContext mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext;
+	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
 
 	/**
-	 * Used for synchronizing access to {@link #mostRecentlyUsedNonDefaultConstraintValidatorFactory} (which can be
-	 * null itself).
+	 * Caches of initialized {@code ConstraintValidator} instances for the non default constraint validator factories
+	 * and initialization contexts, e.g. the ones of the validators created with
+	 * {@link javax.validation.ValidatorFactory#usingContext()}. There is one cache per factory and initialization
+	 * context, the least recently used ones being evicted, and their instances released, when there are too many of
+	 * them.
 	 */
-	private final Object mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex = new Object();
+	private final BoundedConcurrentCache<ContextKey, ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>>> nonDefaultConstraintValidatorCaches;
 
 	/**
-	 * Cache of initialized {@code ConstraintValidator} instances keyed against validated type, annotation,
-	 * constraint validator factory and constraint validator initialization context ({@code CacheKey}).
+	 * Creates a new {@code ConstraintValidatorManager}.
+	 *
+	 * @param defaultConstraintValidatorFactory the default validator factory
+	 * @param defaultConstraintValidatorInitializationContext the default initialization context
 	 */
-	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
+	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext) {
+		this( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext, DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS );
+	}
 
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
 	 *
 	 * @param defaultConstraintValidatorFactory the default validator factory
 	 * @param defaultConstraintValidatorInitializationContext the default initialization context
+	 * @param maxCachedNonDefaultContexts the maximum number of non default constraint validator factory and
+	 * initialization context combinations whose constraint validator instances are cached
 	 */
 	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
-			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext) {
+			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext,
+			int maxCachedNonDefaultContexts) {
 		super( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext );
 		this.constraintValidatorCache = new ConcurrentHashMap<>();
+		this.nonDefaultConstraintValidatorCaches = new BoundedConcurrentCache<>( maxCachedNonDefaultContexts, false,
+				( contextKey, cache ) -> releaseInstances( contextKey.constraintValidatorFactory, cache ) );
 	}
 
 	@Override
@@ -108,14 +122,15 @@ public boolean isPredefinedScope() {
 		Contracts.assertNotNull( constraintValidatorFactory );
 		Contracts.assertNotNull( initializationContext );
 
-		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType, constraintValidatorFactory, initializationContext );
+		ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> cache = getConstraintValidatorCache( constraintValidatorFactory, initializationContext );
+		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType );
 
 		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorCache.get( key );
+		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) cache.get( key );
 
 		if ( constraintValidator == null ) {
 			constraintValidator = createAndInitializeValidator( validatedValueType, descriptor, constraintValidatorFactory, initializationContext );
-			constraintValidator = cacheValidator( key, constraintValidator );
+			constraintValidator = cacheValidator( cache, key, constraintValidator );
 		}
 		else {
 			LOG.tracef( "Constraint validator %s found in cache.", constraintValidator );
@@ -124,81 +139,104 @@ public boolean isPredefinedScope() {
 		return DUMMY_CONSTRAINT_VALIDATOR == constraintValidator ? null : constraintValidator;
 	}
 
-	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(CacheKey key,
-			ConstraintValidator<A, ?> constraintValidator) {
-		// we only cache constraint validator instances for the default and most recently used factory
-		if ( ( key.getConstraintValidatorFactory() != getDefaultConstraintValidatorFactory()
-				&& key.getConstraintValidatorFactory() != mostRecentlyUsedNonDefaultConstraintValidatorFactory ) ||
-				( key.getConstraintValidatorInitializationContext() != getDefaultConstraintValidatorInitializationContext()
-						&& key.getConstraintValidatorInitializationContext() != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) ) {
-
-			synchronized ( mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex ) {
-				if ( key.constraintValidatorFactory != mostRecentlyUsedNonDefaultConstraintValidatorFactory ||
-						key.constraintValidatorInitializationContext != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) {
-					clearEntries( mostRecentlyUsedNonDefaultConstraintValidatorFactory, mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext );
-					mostRecentlyUsedNonDefaultConstraintValidatorFactory = key.getConstraintValidatorFactory();
-					mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext = key.getConstraintValidatorInitializationContext();
-				}
-			}
+	private ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> getConstraintValidatorCache(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		if ( constraintValidatorFactory == getDefaultConstraintValidatorFactory()
+				&& initializationContext == getDefaultConstraintValidatorInitializationContext() ) {
+			return constraintValidatorCache;
 		}
 
+		return nonDefaultConstraintValidatorCaches.computeIfAbsent( new ContextKey( constraintValidatorFactory, initializationContext ),
+				contextKey -> new ConcurrentHashMap<>() );
+	}
+
+	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> cache, CacheKey key,
+			ConstraintValidator<A, ?> constraintValidator) {
 		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) constraintValidatorCache.putIfAbsent( key,
+		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) cache.putIfAbsent( key,
 				constraintValidator != null ? constraintValidator : DUMMY_CONSTRAINT_VALIDATOR );
 
 		return cached != null ? cached : constraintValidator;
 	}
 
-	private void clearEntries(ConstraintValidatorFactory constraintValidatorFactory, HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
-		Iterator<Entry<CacheKey, ConstraintValidator<?, ?>>> cacheEntries = constraintValidatorCache.entrySet().iterator();
-
-		while ( cacheEntries.hasNext() ) {
-			Entry<CacheKey, ConstraintValidator<?, ?>> cacheEntry = cacheEntries.next();
-			if ( cacheEntry.getKey().getConstraintValidatorFactory() == constraintValidatorFactory &&
-					cacheEntry.getKey().getConstraintValidatorInitializationContext() == constraintValidatorInitializationContext ) {
-				constraintValidatorFactory.releaseInstance( cacheEntry.getValue() );
-				cacheEntries.remove();
+	private static void releaseInstances(ConstraintValidatorFactory constraintValidatorFactory, Map<CacheKey, ConstraintValidator<?, ?>> cache) {
+		for ( ConstraintValidator<?, ?> constraintValidator : cache.values() ) {
+			if ( constraintValidator != DUMMY_CONSTRAINT_VALIDATOR ) {
+				constraintValidatorFactory.releaseInstance( constraintValidator );
 			}
 		}
 	}
 
 	@Override
 	public void clear() {
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			entry.getKey().getConstraintValidatorFactory().releaseInstance( entry.getValue() );
-		}
+		releaseInstances( getDefaultConstraintValidatorFactory(), constraintValidatorCache );
 		constraintValidatorCache.clear();
+
+		nonDefaultConstraintValidatorCaches.forEach( ( contextKey, cache ) -> releaseInstances( contextKey.constraintValidatorFactory, cache ) );
+		nonDefaultConstraintValidatorCaches.clear();
 	}
 
 	public int numberOfCachedConstraintValidatorInstances() {
-		return constraintValidatorCache.size();
+		int[] count = { constraintValidatorCache.size() };
+		nonDefaultConstraintValidatorCaches.forEach( ( contextKey, cache ) -> count[0] += cache.size() );
+		return count[0];
+	}
+
+	/**
+	 * The number of non default constraint validator factory and initialization context combinations whose
+	 * constraint validator instances are cached.
+	 */
+	public int numberOfCachedNonDefaultContexts() {
+		return nonDefaultConstraintValidatorCaches.size();
+	}
+
+	private static final class ContextKey {
+
+		private final ConstraintValidatorFactory constraintValidatorFactory;
+		private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
+		private final int hashCode;
+
+		private ContextKey(ConstraintValidatorFactory constraintValidatorFactory,
+				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+			this.constraintValidatorFactory = constraintValidatorFactory;
+			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
+			this.hashCode = 31 * constraintValidatorFactory.hashCode() + constraintValidatorInitializationContext.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			// no need to check for the type here considering it's only used in a typed map
+			if ( o == null ) {
+				return false;
+			}
+
+			ContextKey other = (ContextKey) o;
+
+			return constraintValidatorFactory.equals( other.constraintValidatorFactory )
+					&& constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
 	}
 
 	private static final class CacheKey {
 		// These members are not final for optimization purposes
 		private ConstraintAnnotationDescriptor<?> annotationDescriptor;
 		private Type validatedType;
-		private ConstraintValidatorFactory constraintValidatorFactory;
-		private HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 		private int hashCode;
 
-		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType, ConstraintValidatorFactory constraintValidatorFactory,
-				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType) {
 			this.annotationDescriptor = annotationDescriptor;
 			this.validatedType = validatorType;
-			this.constraintValidatorFactory = constraintValidatorFactory;
-			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 			this.hashCode = createHashCode();
 		}
 
-		public ConstraintValidatorFactory getConstraintValidatorFactory() {
-			return constraintValidatorFactory;
-		}
-
-		public HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext() {
-			return constraintValidatorInitializationContext;
-		}
-
 		@Override
 		public boolean equals(Object o) {
 			if ( this == o ) {
@@ -217,12 +255,6 @@ public boolean equals(Object o) {
 			if ( !validatedType.equals( other.validatedType ) ) {
 				return false;
 			}
-			if ( !constraintValidatorFactory.equals( other.constraintValidatorFactory ) ) {
-				return false;
-			}
-			if ( !constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext ) ) {
-				return false;
-			}
 
 			return true;
 		}
@@ -235,8 +267,6 @@ public int hashCode() {
 		private int createHashCode() {
 			int result = annotationDescriptor.hashCode();
 			result = 31 * result + validatedType.hashCode();
-			result = 31 * result + constraintValidatorFactory.hashCode();
-			result = 31 * result + constraintValidatorInitializationContext.hashCode();
 			return result;
 		}
 	}
@@ -13,6 +13,9 @@
 
 import javax.validation.ConstraintValidator;
 
+import org.hibernate.validator.internal.constraintvalidators.DoubleConstraintValidator;
+import org.hibernate.validator.internal.constraintvalidators.IntConstraintValidator;
+import org.hibernate.validator.internal.constraintvalidators.LongConstraintValidator;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -63,4 +66,35 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 			violatedConstraintValidatorContexts.add( constraintValidatorContext );
 		}
 	}
+
+	@Override
+	public boolean isValid(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, int value) {
+		// when tracing, we go through the regular path so that the validated value is logged
+		if ( LOG.isTraceEnabled() ) {
+			return false;
+		}
+
+		ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
+		return validator instanceof IntConstraintValidator && ( (IntConstraintValidator) validator ).isValid( value );
+	}
+
+	@Override
+	public boolean isValid(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, long value) {
+		if ( LOG.isTraceEnabled() ) {
+			return false;
+		}
+
+		ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
+		return validator instanceof LongConstraintValidator && ( (LongConstraintValidator) validator ).isValid( value );
+	}
+
+	@Override
+	public boolean isValid(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, double value) {
+		if ( LOG.isTraceEnabled() ) {
+			return false;
+		}
+
+		ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
+		return validator instanceof DoubleConstraintValidator && ( (DoubleConstraintValidator) validator ).isValid( value );
+	}
 }
@@ -0,0 +1,343 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.BEGIN_TERM;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.EL_DESIGNATOR;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.END_TERM;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.ESCAPE_CHARACTER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.MessageInterpolator.Context;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+
+/**
+ * A message whose bundle parameters have been resolved, compiled into immutable sequences of segments so that it can
+ * be interpolated in a single pass.
+ * <p>
+ * The interpolation of a message replaces the message parameters, then the EL expressions of the resulting message
+ * and finally unescapes the escaped literals. As the values of the message parameters are part of the message the EL
+ * expressions are looked for in, the segments depend on the values of the message parameters. They are compiled for
+ * the two kinds of values we encounter in practice: the values without any meta character and the message
+ * parameters which resolve to themselves (this is typically the case of the EL expressions, seen as message
+ * parameters preceded by a {@code $} when the message parameters are replaced). The other values are rare (they are
+ * mostly found in the messages of the {@code Pattern} constraints) and we fall back to the step by step interpolation
+ * for them.
+ */
+public final class CompiledMessage {
+
+	/**
+	 * Stands for the values of the message parameters when looking for the EL expressions at compile time.
+	 */
+	private static final char PARAMETER_VALUE_PLACEHOLDER = '\uFFFF';
+
+	private static final String[] EMPTY_PARAMETERS = new String[0];
+
+	/**
+	 * The segments of a combination of parameter values for which the message can only be interpolated step by step.
+	 */
+	private static final Segment[] NOT_COMPILABLE = new Segment[0];
+
+	/**
+	 * The message with its bundle parameters resolved.
+	 */
+	private final String message;
+
+	/**
+	 * The interpolated message if the message does not contain any message parameter nor EL expression, {@code null}
+	 * otherwise.
+	 */
+	private final String literal;
+
+	/**
+	 * The tokens of the message, the message parameters being the parameter tokens.
+	 */
+	private final List<Token> parameterTokens;
+
+	/**
+	 * The message parameters, in the order they appear in the message.
+	 */
+	private final String[] parameters;
+
+	/**
+	 * The segments of the message once the message parameters have been replaced by their values: literals, values of
+	 * the message parameters and EL expressions.
+	 * <p>
+	 * They are keyed by the set of the message parameters resolving to themselves, as a bit mask, and compiled the
+	 * first time a combination is encountered. {@code null} if the message can only be interpolated step by step.
+	 */
+	private final ConcurrentMap<Long, Segment[]> segmentsByUnresolvedParameters;
+
+	/**
+	 * Whether the literals of the message contain escaped literals.
+	 */
+	private final boolean escapedLiterals;
+
+	private CompiledMessage(String message, String literal, List<Token> parameterTokens, String[] parameters) {
+		this.message = message;
+		this.literal = literal;
+		this.parameterTokens = parameterTokens;
+		this.parameters = parameters;
+		this.segmentsByUnresolvedParameters = literal == null && parameters.length <= Long.SIZE
+				&& message.indexOf( PARAMETER_VALUE_PLACEHOLDER ) < 0 ? new ConcurrentHashMap<>() : null;
+		this.escapedLiterals = message.indexOf( ESCAPE_CHARACTER ) >= 0;
+	}
+
+	/**
+	 * Compiles a message whose bundle parameters have been resolved.
+	 *
+	 * @throws MessageDescriptorFormatException if the message parameters are not correctly delimited
+	 */
+	public static CompiledMessage compile(String message) throws MessageDescriptorFormatException {
+		// if there is no message parameter, the message is a literal and there is no need to parse it
+		if ( message.indexOf( BEGIN_TERM ) < 0 ) {
+			return new CompiledMessage( message, InterpolationHelper.replaceEscapedLiterals( message ), Collections.emptyList(),
+					EMPTY_PARAMETERS );
+		}
+
+		List<Token> parameterTokens = new TokenCollector( message, InterpolationTermType.PARAMETER ).getTokenList();
+
+		List<String> parameters = new ArrayList<>();
+		for ( Token token : parameterTokens ) {
+			if ( token.isParameter() ) {
+				parameters.add( token.getTokenValue() );
+			}
+		}
+
+		return new CompiledMessage( message, null, parameterTokens, parameters.toArray( new String[parameters.size()] ) );
+	}
+
+	/**
+	 * Interpolates the message.
+	 *
+	 * @param context the context of the interpolation
+	 * @param termResolver resolves the message parameters and the EL expressions
+	 *
+	 * @throws MessageDescriptorFormatException if the EL expressions of the message are not correctly delimited
+	 */
+	public String interpolate(Context context, TermResolver termResolver) throws MessageDescriptorFormatException {
+		if ( literal != null ) {
+			return literal;
+		}
+
+		String[] parameterValues = parameters.length == 0 ? EMPTY_PARAMETERS : new String[parameters.length];
+		boolean inlineParameterValues = segmentsByUnresolvedParameters != null;
+		long unresolvedParameters = 0L;
+		for ( int i = 0; i < parameters.length; i++ ) {
+			String parameterValue = termResolver.interpolate( context, parameters[i] );
+			parameterValues[i] = parameterValue;
+			if ( parameters[i].equals( parameterValue ) ) {
+				unresolvedParameters |= 1L << i;
+			}
+			else {
+				inlineParameterValues = inlineParameterValues && isLiteral( parameterValue );
+			}
+		}
+
+		Segment[] segments = inlineParameterValues ? getSegments( unresolvedParameters ) : NOT_COMPILABLE;
+		if ( segments == NOT_COMPILABLE ) {
+			return interpolateStepByStep( context, termResolver, parameterValues );
+		}
+
+		StringBuilder interpolatedMessage = new StringBuilder( message.length() + 16 );
+		boolean unescape = escapedLiterals;
+		for ( Segment segment : segments ) {
+			switch ( segment.kind ) {
+				case LITERAL:
+					interpolatedMessage.append( segment.value );
+					break;
+				case PARAMETER_VALUE:
+					interpolatedMessage.append( parameterValues[segment.parameterIndex] );
+					break;
+				default:
+					String resolvedExpression = termResolver.interpolate( context, segment.value );
+					unescape = unescape || ( resolvedExpression != null && resolvedExpression.indexOf( ESCAPE_CHARACTER ) >= 0 );
+					interpolatedMessage.append( resolvedExpression );
+			}
+		}
+
+		return unescape ? InterpolationHelper.replaceEscapedLiterals( interpolatedMessage.toString() ) : interpolatedMessage.toString();
+	}
+
+	private Segment[] getSegments(long unresolvedParameters) {
+		Long key = unresolvedParameters;
+		Segment[] segments = segmentsByUnresolvedParameters.get( key );
+		if ( segments == null ) {
+			segments = compileSegments( unresolvedParameters );
+			Segment[] previousSegments = segmentsByUnresolvedParameters.putIfAbsent( key, segments );
+			if ( previousSegments != null ) {
+				segments = previousSegments;
+			}
+		}
+		return segments;
+	}
+
+	/**
+	 * Compiles the segments of the message when the given message parameters resolve to themselves and the other ones
+	 * resolve to values without any meta character.
+	 * <p>
+	 * The EL expressions are looked for in the message, in which the message parameters resolving to themselves are
+	 * kept as is and the other ones are replaced by a placeholder. As the placeholder is not a meta character, the
+	 * EL expressions found are the ones we would find once the message parameters replaced by their values.
+	 */
+	private Segment[] compileSegments(long unresolvedParameters) {
+		StringBuilder messageWithPlaceholders = new StringBuilder( message.length() );
+		List<Integer> inlinedParameters = new ArrayList<>();
+		int parameterIndex = 0;
+		for ( Token token : parameterTokens ) {
+			if ( !token.isParameter() ) {
+				messageWithPlaceholders.append( token.getTokenValue() );
+			}
+			else if ( ( unresolvedParameters & ( 1L << parameterIndex ) ) != 0 ) {
+				messageWithPlaceholders.append( token.getTokenValue() );
+				parameterIndex++;
+			}
+			else {
+				messageWithPlaceholders.append( PARAMETER_VALUE_PLACEHOLDER );
+				inlinedParameters.add( parameterIndex++ );
+			}
+		}
+
+		List<Token> elTokens;
+		try {
+			elTokens = new TokenCollector( messageWithPlaceholders.toString(), InterpolationTermType.EL ).getTokenList();
+		}
+		catch (MessageDescriptorFormatException e) {
+			// the error might depend on the values of the message parameters, we let the step by step interpolation
+			// report it
+			return NOT_COMPILABLE;
+		}
+
+		List<Segment> segments = new ArrayList<>();
+		int inlinedParameterIndex = 0;
+		for ( Token token : elTokens ) {
+			String value = token.getTokenValue();
+			if ( token.isParameter() ) {
+				if ( value.indexOf( PARAMETER_VALUE_PLACEHOLDER ) >= 0 ) {
+					return NOT_COMPILABLE;
+				}
+				segments.add( Segment.el( value ) );
+				continue;
+			}
+
+			int start = 0;
+			for ( int placeholder = value.indexOf( PARAMETER_VALUE_PLACEHOLDER ); placeholder >= 0;
+					placeholder = value.indexOf( PARAMETER_VALUE_PLACEHOLDER, start ) ) {
+				if ( placeholder > start ) {
+					segments.add( Segment.literal( value.substring( start, placeholder ) ) );
+				}
+				if ( inlinedParameterIndex == inlinedParameters.size() ) {
+					return NOT_COMPILABLE;
+				}
+				segments.add( Segment.parameterValue( inlinedParameters.get( inlinedParameterIndex++ ) ) );
+				start = placeholder + 1;
+			}
+			if ( start < value.length() ) {
+				segments.add( Segment.literal( value.substring( start ) ) );
+			}
+		}
+
+		if ( inlinedParameterIndex != inlinedParameters.size() ) {
+			return NOT_COMPILABLE;
+		}
+
+		return segments.toArray( new Segment[segments.size()] );
+	}
+
+	/**
+	 * Replaces the message parameters with their values, then looks for the EL expressions in the resulting message.
+	 */
+	private String interpolateStepByStep(Context context, TermResolver termResolver, String[] parameterValues)
+			throws MessageDescriptorFormatException {
+		String resolvedMessage = message;
+		if ( parameters.length > 0 ) {
+			TokenIterator tokenIterator = new TokenIterator( parameterTokens );
+			int parameterIndex = 0;
+			while ( tokenIterator.hasMoreInterpolationTerms() ) {
+				tokenIterator.nextInterpolationTerm();
+				tokenIterator.replaceCurrentInterpolationTerm( parameterValues[parameterIndex++] );
+			}
+			resolvedMessage = tokenIterator.getInterpolatedMessage();
+		}
+
+		TokenIterator tokenIterator = new TokenIterator( new TokenCollector( resolvedMessage, InterpolationTermType.EL ).getTokenList() );
+		while ( tokenIterator.hasMoreInterpolationTerms() ) {
+			String term = tokenIterator.nextInterpolationTerm();
+			tokenIterator.replaceCurrentInterpolationTerm( termResolver.interpolate( context, term ) );
+		}
+
+		return InterpolationHelper.replaceEscapedLiterals( tokenIterator.getInterpolatedMessage() );
+	}
+
+	/**
+	 * Whether the value of a message parameter can be inlined as is: it has to be a non empty string without any meta
+	 * character.
+	 */
+	private static boolean isLiteral(String value) {
+		if ( value == null || value.isEmpty() ) {
+			return false;
+		}
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c == BEGIN_TERM || c == END_TERM || c == EL_DESIGNATOR || c == ESCAPE_CHARACTER ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{message='" + message + "'}";
+	}
+
+	private enum SegmentKind {
+		LITERAL,
+		PARAMETER_VALUE,
+		EL
+	}
+
+	private static final class Segment {
+
+		private final SegmentKind kind;
+
+		/**
+		 * The literal or the EL expression.
+		 */
+		private final String value;
+
+		private final int parameterIndex;
+
+		private Segment(SegmentKind kind, String value, int parameterIndex) {
+			this.kind = kind;
+			this.value = value;
+			this.parameterIndex = parameterIndex;
+		}
+
+		private static Segment literal(String literal) {
+			return new Segment( SegmentKind.LITERAL, literal, -1 );
+		}
+
+		private static Segment parameterValue(int parameterIndex) {
+			return new Segment( SegmentKind.PARAMETER_VALUE, null, parameterIndex );
+		}
+
+		private static Segment el(String expression) {
+			return new Segment( SegmentKind.EL, expression, -1 );
+		}
+	}
+}
@@ -8,7 +8,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
-import java.util.Map;
 
 import javax.el.ELException;
 import javax.el.ExpressionFactory;
@@ -16,11 +15,10 @@
 import javax.el.ValueExpression;
 import javax.validation.MessageInterpolator;
 
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.SimpleELContext;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
-import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
 
 /**
  * Resolver for the el expressions.
@@ -32,11 +30,6 @@ public class ElTermResolver implements TermResolver {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	/**
-	 * Name under which the currently validate value is bound to the EL context.
-	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
-
 	/**
 	 * The locale for which to interpolate the expression.
 	 */
@@ -47,6 +40,12 @@ public class ElTermResolver implements TermResolver {
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * Cache of the parsed expressions, keyed by expression text. May be {@code null} if the expressions should not be
+	 * cached.
+	 */
+	private final BoundedConcurrentCache<String, ValueExpression> valueExpressions;
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
@@ -54,16 +53,28 @@ public class ElTermResolver implements TermResolver {
 	 * @param expressionFactory the expression factory.
      */
 	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory) {
+		this( locale, expressionFactory, null );
+	}
+
+	/**
+	 * Construct the resolver, caching the parsed expressions in the given cache.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory.
+	 * @param valueExpressions the cache of the expressions parsed with the given expression factory, may be
+	 * {@code null}.
+	 */
+	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory, BoundedConcurrentCache<String, ValueExpression> valueExpressions) {
 		this.locale = locale;
 		this.expressionFactory = expressionFactory;
+		this.valueExpressions = valueExpressions;
 	}
 
 	@Override
 	public String interpolate(MessageInterpolator.Context context, String expression) {
 		String resolvedExpression = expression;
-		SimpleELContext elContext = new SimpleELContext( expressionFactory );
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, elContext );
+			ValueExpression valueExpression = getValueExpression( expression );
+			SimpleELContext elContext = new SimpleELContext( expressionFactory, context, new FormatterWrapper( locale ) );
 			resolvedExpression = (String) valueExpression.getValue( elContext );
 		}
 		catch (PropertyNotFoundException pnfe) {
@@ -79,35 +90,18 @@ public String interpolate(MessageInterpolator.Context context, String expression
 		return resolvedExpression;
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, SimpleELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
-				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
-
-		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
-		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
+	private ValueExpression getValueExpression(String expression) {
+		if ( valueExpressions == null ) {
+			return parse( expression );
 		}
-
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
+		return valueExpressions.computeIfAbsent( expression, this::parse );
 	}
 
-	private void addVariablesToElContext(SimpleELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
-		}
+	/**
+	 * Parses the expression with a context without variables: the variables are resolved from the context of the
+	 * evaluation, thus the parsed expression does not depend on the interpolated message.
+	 */
+	private ValueExpression parse(String expression) {
+		return expressionFactory.createValueExpression( new SimpleELContext( expressionFactory ), expression, String.class );
 	}
 }
@@ -16,13 +16,21 @@
  * @author Hardy Ferentschik
  */
 public class FormatterWrapper {
-	private final Formatter formatter;
+	private final Locale locale;
+
+	/**
+	 * Created on the first call to {@link #format(String, Object...)} as most expressions do not use the formatter.
+	 */
+	private Formatter formatter;
 
 	public FormatterWrapper(Locale locale) {
-		this.formatter = new Formatter( locale );
+		this.locale = locale;
 	}
 
 	public String format(String format, Object... args) {
+		if ( formatter == null ) {
+			formatter = new Formatter( locale );
+		}
 		return formatter.format( format, args ).toString();
 	}
 
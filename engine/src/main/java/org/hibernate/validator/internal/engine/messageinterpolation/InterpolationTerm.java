@@ -9,8 +9,11 @@
 import java.util.Locale;
 
 import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
 import javax.validation.MessageInterpolator;
 
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+
 /**
  * Helper class dealing with the interpolation of a single message parameter or expression extracted from a message
  * descriptor.
@@ -45,10 +48,23 @@ public class InterpolationTerm {
 	 * @param expressionFactory the expression factory to use if the expression uses EL.
      */
 	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory) {
+		this( expression, locale, expressionFactory, null );
+	}
+
+	/**
+	 * Create an interpolation term for an expression, caching the parsed EL expressions in the given cache.
+	 * @param expression the expression.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory to use if the expression uses EL.
+	 * @param valueExpressions the cache of the EL expressions parsed with the given expression factory, may be
+	 * {@code null}.
+	 */
+	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory,
+			BoundedConcurrentCache<String, ValueExpression> valueExpressions) {
 		this.expression = expression;
 		if ( isElExpression( expression ) ) {
 			this.type = InterpolationTermType.EL;
-			this.resolver = new ElTermResolver( locale, expressionFactory );
+			this.resolver = new ElTermResolver( locale, expressionFactory, valueExpressions );
 		}
 		else {
 			this.type = InterpolationTermType.PARAMETER;
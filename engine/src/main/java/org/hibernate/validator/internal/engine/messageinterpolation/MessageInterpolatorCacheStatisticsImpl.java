@@ -0,0 +1,82 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.hibernate.validator.messageinterpolation.MessageInterpolatorCacheStatistics;
+
+public class MessageInterpolatorCacheStatisticsImpl implements MessageInterpolatorCacheStatistics {
+
+	private static final MessageInterpolatorCacheStatistics DISABLED = new MessageInterpolatorCacheStatisticsImpl( 0, 0, 0, 0, 0 );
+
+	private final int size;
+
+	private final int maxSize;
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long evictionCount;
+
+	private MessageInterpolatorCacheStatisticsImpl(int size, int maxSize, long hitCount, long missCount, long evictionCount) {
+		this.size = size;
+		this.maxSize = maxSize;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * @return a snapshot of the statistics of the given cache, {@code null} meaning caching is disabled
+	 */
+	public static MessageInterpolatorCacheStatistics of(BoundedConcurrentCache<?, ?> cache) {
+		if ( cache == null ) {
+			return DISABLED;
+		}
+		return new MessageInterpolatorCacheStatisticsImpl( cache.size(), cache.getMaxSize(), cache.getHitCount(), cache.getMissCount(),
+				cache.getEvictionCount() );
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+		sb.append( '{' );
+		sb.append( "size=" ).append( size );
+		sb.append( ", maxSize=" ).append( maxSize );
+		sb.append( ", hits=" ).append( hitCount );
+		sb.append( ", misses=" ).append( missCount );
+		sb.append( ", evictions=" ).append( evictionCount );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
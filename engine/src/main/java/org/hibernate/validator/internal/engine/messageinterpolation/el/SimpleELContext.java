@@ -6,23 +6,48 @@
  */
 package org.hibernate.validator.internal.engine.messageinterpolation.el;
 
+import java.beans.FeatureDescriptor;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
 import javax.el.ArrayELResolver;
 import javax.el.BeanELResolver;
 import javax.el.CompositeELResolver;
+import javax.el.ELContext;
 import javax.el.ELResolver;
 import javax.el.ExpressionFactory;
 import javax.el.ListELResolver;
 import javax.el.MapELResolver;
+import javax.el.PropertyNotWritableException;
 import javax.el.ResourceBundleELResolver;
 import javax.el.StandardELContext;
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
 
 /**
+ * The EL context used to parse and evaluate the EL expressions of the messages.
+ * <p>
+ * The variables of a message (the validated value, the formatter, the attributes of the constraint and the
+ * expression variables) are not bound to the variable mapper but resolved by a shared resolver reading them from the
+ * context used for the evaluation. Thus, a value expression parsed with a context without variables does not capture
+ * any variable and may be cached and evaluated concurrently with different contexts.
+ *
  * @author Hardy Ferentschik
  * @author Guillaume Smet
  */
 public class SimpleELContext extends StandardELContext {
+
+	/**
+	 * Name under which the currently validated value is bound to the EL context.
+	 */
+	public static final String VALIDATED_VALUE = "validatedValue";
+
 	private static final ELResolver DEFAULT_RESOLVER = new CompositeELResolver() {
 		{
+			add( new VariableResolver() );
 			add( new RootResolver() );
 			add( new ArrayELResolver( true ) );
 			add( new ListELResolver( true ) );
@@ -32,14 +57,54 @@ public class SimpleELContext extends StandardELContext {
 		}
 	};
 
+	private final Object validatedValue;
+
+	private final FormatterWrapper formatter;
+
+	private final Map<String, Object> constraintAttributes;
+
+	private final Map<String, Object> expressionVariables;
+
+	/**
+	 * Creates a context without any variable, to parse the expressions.
+	 */
 	public SimpleELContext(ExpressionFactory expressionFactory) {
+		this( expressionFactory, null, null, Collections.emptyMap(), Collections.emptyMap() );
+	}
+
+	/**
+	 * Creates a context exposing the variables of the given message interpolator context, to evaluate the
+	 * expressions.
+	 */
+	public SimpleELContext(ExpressionFactory expressionFactory, MessageInterpolator.Context messageInterpolatorContext, FormatterWrapper formatter) {
+		this(
+				expressionFactory,
+				messageInterpolatorContext.getValidatedValue(),
+				formatter,
+				messageInterpolatorContext.getConstraintDescriptor().getAttributes(),
+				messageInterpolatorContext instanceof HibernateMessageInterpolatorContext
+						? ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables()
+						: Collections.emptyMap()
+		);
+	}
+
+	private SimpleELContext(ExpressionFactory expressionFactory, Object validatedValue, FormatterWrapper formatter,
+			Map<String, Object> constraintAttributes, Map<String, Object> expressionVariables) {
 		super( expressionFactory );
 
+		this.validatedValue = validatedValue;
+		this.formatter = formatter;
+		this.constraintAttributes = constraintAttributes;
+		this.expressionVariables = expressionVariables;
+
 		// In javax.el.ELContext, the ExpressionFactory is extracted from the context map. If it is not found, it
 		// defaults to ELUtil.getExpressionFactory() which, if we provided the ExpressionFactory to the
 		// ResourceBundleMessageInterpolator, might not be the same. Thus, we inject the ExpressionFactory in the
 		// context.
 		putContext( ExpressionFactory.class, expressionFactory );
+		// EL implementations may wrap the context passed to the expressions so the resolvers retrieve the variables
+		// from the context map
+		putContext( SimpleELContext.class, this );
 	}
 
 	@Override
@@ -52,4 +117,95 @@ public ELResolver getELResolver() {
 		return DEFAULT_RESOLVER;
 	}
 
+	/**
+	 * The variables are looked up in the reverse order of their historical binding to the variable mapper, so that a
+	 * variable still hides the ones with the same name bound before it.
+	 */
+	private boolean hasVariable(String name) {
+		return expressionVariables.containsKey( name )
+				|| constraintAttributes.containsKey( name )
+				// the context used to parse the expressions has no formatter and no variable
+				|| ( formatter != null && ( RootResolver.FORMATTER.equals( name ) || VALIDATED_VALUE.equals( name ) ) );
+	}
+
+	private Object getVariable(String name) {
+		if ( expressionVariables.containsKey( name ) ) {
+			return expressionVariables.get( name );
+		}
+		if ( constraintAttributes.containsKey( name ) ) {
+			return constraintAttributes.get( name );
+		}
+		if ( RootResolver.FORMATTER.equals( name ) ) {
+			return formatter;
+		}
+		return validatedValue;
+	}
+
+	/**
+	 * Resolves the top-level identifiers bound to the {@link SimpleELContext} of the evaluation.
+	 */
+	private static class VariableResolver extends ELResolver {
+
+		@Override
+		public Object getValue(ELContext context, Object base, Object property) {
+			SimpleELContext variables = getVariables( context, base, property );
+			if ( variables == null ) {
+				return null;
+			}
+
+			context.setPropertyResolved( true );
+			return variables.getVariable( (String) property );
+		}
+
+		@Override
+		public Class<?> getType(ELContext context, Object base, Object property) {
+			SimpleELContext variables = getVariables( context, base, property );
+			if ( variables == null ) {
+				return null;
+			}
+
+			context.setPropertyResolved( true );
+			Object value = variables.getVariable( (String) property );
+			return value != null ? value.getClass() : Object.class;
+		}
+
+		@Override
+		public void setValue(ELContext context, Object base, Object property, Object value) {
+			if ( getVariables( context, base, property ) != null ) {
+				throw new PropertyNotWritableException();
+			}
+		}
+
+		@Override
+		public boolean isReadOnly(ELContext context, Object base, Object property) {
+			if ( getVariables( context, base, property ) == null ) {
+				return false;
+			}
+
+			context.setPropertyResolved( true );
+			return true;
+		}
+
+		@Override
+		public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+			return null;
+		}
+
+		@Override
+		public Class<?> getCommonPropertyType(ELContext context, Object base) {
+			return base == null ? String.class : null;
+		}
+
+		private static SimpleELContext getVariables(ELContext context, Object base, Object property) {
+			if ( base != null || !( property instanceof String ) ) {
+				return null;
+			}
+
+			SimpleELContext variables = (SimpleELContext) context.getContext( SimpleELContext.class );
+			if ( variables == null || !variables.hasVariable( (String) property ) ) {
+				return null;
+			}
+			return variables;
+		}
+	}
 }
@@ -33,4 +33,49 @@ public static String escapeMessageParameter(String messageParameter) {
 		return ESCAPE_MESSAGE_PARAMETER_PATTERN.matcher( messageParameter ).replaceAll( Matcher.quoteReplacement( String.valueOf( ESCAPE_CHARACTER ) ) + "$1" );
 	}
 
+	/**
+	 * Unescapes the escaped literals of an interpolated message.
+	 * <p>
+	 * The escaped curly braces, backslashes and EL designators are replaced one after the other, in this order, so an
+	 * escaped backslash followed by a curly brace is not unescaped the same way as an escaped backslash followed by an
+	 * EL designator.
+	 */
+	public static String replaceEscapedLiterals(String message) {
+		if ( message.indexOf( ESCAPE_CHARACTER ) < 0 ) {
+			return message;
+		}
+		String unescapedMessage = replaceEscapedCharacter( message, BEGIN_TERM );
+		unescapedMessage = replaceEscapedCharacter( unescapedMessage, END_TERM );
+		unescapedMessage = replaceEscapedCharacter( unescapedMessage, ESCAPE_CHARACTER );
+		return replaceEscapedCharacter( unescapedMessage, EL_DESIGNATOR );
+	}
+
+	private static String replaceEscapedCharacter(String message, char character) {
+		int index = indexOfEscapedCharacter( message, character, 0 );
+		if ( index < 0 ) {
+			return message;
+		}
+
+		StringBuilder unescapedMessage = new StringBuilder( message.length() );
+		int start = 0;
+		do {
+			unescapedMessage.append( message, start, index ).append( character );
+			start = index + 2;
+			index = indexOfEscapedCharacter( message, character, start );
+		}
+		while ( index >= 0 );
+
+		return unescapedMessage.append( message, start, message.length() ).toString();
+	}
+
+	private static int indexOfEscapedCharacter(String message, char character, int fromIndex) {
+		int index = message.indexOf( ESCAPE_CHARACTER, fromIndex );
+		while ( index >= 0 && index < message.length() - 1 ) {
+			if ( message.charAt( index + 1 ) == character ) {
+				return index;
+			}
+			index = message.indexOf( ESCAPE_CHARACTER, index + 1 );
+		}
+		return -1;
+	}
 }
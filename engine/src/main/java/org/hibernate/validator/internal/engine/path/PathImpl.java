@@ -8,9 +8,11 @@
 
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -27,13 +29,18 @@
 
 /**
  * Default implementation of {@code javax.validation.Path}.
+ * <p>
+ * As each {@link NodeImpl} references its parent, a path is represented by its leaf node only. Copying a path or
+ * appending a node to it is cheap, which is important as paths are copied each time we go deeper in the validated
+ * object graph. The list of nodes is only built when it is actually required, e.g. when iterating over the nodes of
+ * the path of a constraint violation.
  *
  * @author Hardy Ferentschik
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  */
 public final class PathImpl implements Path, Serializable {
-	private static final long serialVersionUID = 7564511574909882392L;
+	private static final long serialVersionUID = 85495889504641133L;
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private static final String PROPERTY_PATH_SEPARATOR = ".";
@@ -53,10 +60,17 @@ public final class PathImpl implements Path, Serializable {
 	private static final int INDEX_GROUP = 3;
 	private static final int REMAINING_STRING_GROUP = 5;
 
-	private List<Node> nodeList;
-	private boolean nodeListRequiresCopy;
+	/**
+	 * The leaf node of the path, {@code null} for an empty path.
+	 */
 	private NodeImpl currentLeafNode;
-	private int hashCode;
+
+	/**
+	 * The nodes of the path, built from the leaf node when required. Reset each time the path is modified.
+	 */
+	private transient List<Node> nodeList;
+
+	private transient int hashCode;
 
 	/**
 	 * Returns a {@code Path} instance representing the path described by the
@@ -106,131 +120,62 @@ public static PathImpl createCopy(PathImpl path) {
 	}
 
 	public boolean isRootPath() {
-		return nodeList.size() == 1 && nodeList.get( 0 ).getName() == null;
+		return currentLeafNode != null && currentLeafNode.getParent() == null && currentLeafNode.getName() == null;
 	}
 
 	public PathImpl getPathWithoutLeafNode() {
-		return new PathImpl( nodeList.subList( 0, nodeList.size() - 1 ) );
+		return new PathImpl( currentLeafNode.getParent() );
 	}
 
 	public NodeImpl addPropertyNode(String nodeName) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createPropertyNode( nodeName, parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createPropertyNode( nodeName, currentLeafNode ) );
 	}
 
 	public NodeImpl addContainerElementNode(String nodeName) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createContainerElementNode( nodeName, parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createContainerElementNode( nodeName, currentLeafNode ) );
 	}
 
 	public NodeImpl addParameterNode(String nodeName, int index) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createParameterNode( nodeName, parent, index );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createParameterNode( nodeName, currentLeafNode, index ) );
 	}
 
 	public NodeImpl addCrossParameterNode() {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createCrossParameterNode( parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createCrossParameterNode( currentLeafNode ) );
 	}
 
 	public NodeImpl addBeanNode() {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createBeanNode( parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createBeanNode( currentLeafNode ) );
 	}
 
 	public NodeImpl addReturnValueNode() {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createReturnValue( parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createReturnValue( currentLeafNode ) );
 	}
 
 	private NodeImpl addConstructorNode(String name, Class<?>[] parameterTypes) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createConstructorNode( name, parent, parameterTypes );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createConstructorNode( name, currentLeafNode, parameterTypes ) );
 	}
 
 	private NodeImpl addMethodNode(String name, Class<?>[] parameterTypes) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createMethodNode( name, parent, parameterTypes );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createMethodNode( name, currentLeafNode, parameterTypes ) );
 	}
 
 	public NodeImpl makeLeafNodeIterable() {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.makeIterable( currentLeafNode );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.makeIterable( currentLeafNode ) );
 	}
 
 	public NodeImpl makeLeafNodeIterableAndSetIndex(Integer index) {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.makeIterableAndSetIndex( currentLeafNode, index );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.makeIterableAndSetIndex( currentLeafNode, index ) );
 	}
 
 	public NodeImpl makeLeafNodeIterableAndSetMapKey(Object key) {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.makeIterableAndSetMapKey( currentLeafNode, key );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.makeIterableAndSetMapKey( currentLeafNode, key ) );
 	}
 
 	public NodeImpl setLeafNodeValueIfRequired(Object value) {
 		// The value is only exposed for property and container element nodes
 		if ( currentLeafNode.getKind() == ElementKind.PROPERTY || currentLeafNode.getKind() == ElementKind.CONTAINER_ELEMENT ) {
-			requiresWriteableNodeList();
-
 			currentLeafNode = NodeImpl.setPropertyValue( currentLeafNode, value );
-
-			nodeList.set( nodeList.size() - 1, currentLeafNode );
+			nodeList = null;
 
 			// the property value is not part of the NodeImpl hashCode so we don't need to reset the PathImpl hashCode
 		}
@@ -238,22 +183,12 @@ public NodeImpl setLeafNodeValueIfRequired(Object value) {
 	}
 
 	public NodeImpl setLeafNodeTypeParameter(Class<?> containerClass, Integer typeArgumentIndex) {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.setTypeParameter( currentLeafNode, containerClass, typeArgumentIndex );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.setTypeParameter( currentLeafNode, containerClass, typeArgumentIndex ) );
 	}
 
 	public void removeLeafNode() {
-		if ( !nodeList.isEmpty() ) {
-			requiresWriteableNodeList();
-
-			nodeList.remove( nodeList.size() - 1 );
-			currentLeafNode = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-			resetHashCode();
+		if ( currentLeafNode != null ) {
+			setLeafNode( currentLeafNode.getParent() );
 		}
 	}
 
@@ -263,20 +198,24 @@ public NodeImpl getLeafNode() {
 
 	@Override
 	public Iterator<Path.Node> iterator() {
-		if ( nodeList.size() == 0 ) {
+		List<Node> nodes = getNodeList();
+
+		if ( nodes.size() == 0 ) {
 			return Collections.<Path.Node>emptyList().iterator();
 		}
-		if ( nodeList.size() == 1 ) {
-			return nodeList.iterator();
+		if ( nodes.size() == 1 ) {
+			return nodes.iterator();
 		}
-		return nodeList.subList( 1, nodeList.size() ).iterator();
+		return nodes.subList( 1, nodes.size() ).iterator();
 	}
 
 	public String asString() {
+		List<Node> nodes = getNodeList();
+
 		StringBuilder builder = new StringBuilder();
 		boolean first = true;
-		for ( int i = 1; i < nodeList.size(); i++ ) {
-			NodeImpl nodeImpl = (NodeImpl) nodeList.get( i );
+		for ( int i = 1; i < nodes.size(); i++ ) {
+			NodeImpl nodeImpl = (NodeImpl) nodes.get( i );
 			String name = nodeImpl.asString();
 			if ( name.isEmpty() ) {
 				// skip the node if it does not contribute to the string representation of the path, eg class level constraints
@@ -294,16 +233,33 @@ public String asString() {
 		return builder.toString();
 	}
 
-	private void requiresWriteableNodeList() {
-		if ( !nodeListRequiresCopy ) {
-			return;
+	private NodeImpl setLeafNode(NodeImpl leafNode) {
+		currentLeafNode = leafNode;
+		nodeList = null;
+		resetHashCode();
+		return leafNode;
+	}
+
+	private List<Node> getNodeList() {
+		if ( nodeList == null ) {
+			nodeList = buildNodeList( currentLeafNode );
 		}
+		return nodeList;
+	}
 
-		// Usually, the write operation is about adding one more node, so let's make the list one element larger.
-		List<Node> newNodeList = new ArrayList<>( nodeList.size() + 1 );
-		newNodeList.addAll( nodeList );
-		nodeList = newNodeList;
-		nodeListRequiresCopy = false;
+	private static List<Node> buildNodeList(NodeImpl leafNode) {
+		int size = 0;
+		for ( NodeImpl node = leafNode; node != null; node = node.getParent() ) {
+			size++;
+		}
+
+		Node[] nodes = new Node[size];
+		int i = size;
+		for ( NodeImpl node = leafNode; node != null; node = node.getParent() ) {
+			nodes[--i] = node;
+		}
+
+		return Collections.unmodifiableList( Arrays.asList( nodes ) );
 	}
 
 	@Override
@@ -323,15 +279,18 @@ public boolean equals(Object obj) {
 			return false;
 		}
 		PathImpl other = (PathImpl) obj;
-		if ( nodeList == null ) {
-			if ( other.nodeList != null ) {
+
+		// the nodes are compared from the leaf, which is where paths usually differ
+		NodeImpl node = currentLeafNode;
+		NodeImpl otherNode = other.currentLeafNode;
+		while ( node != null && otherNode != null ) {
+			if ( node != otherNode && !node.equals( otherNode ) ) {
 				return false;
 			}
+			node = node.getParent();
+			otherNode = otherNode.getParent();
 		}
-		else if ( !nodeList.equals( other.nodeList ) ) {
-			return false;
-		}
-		return true;
+		return node == null && otherNode == null;
 	}
 
 	@Override
@@ -344,11 +303,23 @@ public int hashCode() {
 		return hashCode;
 	}
 
+	/**
+	 * Builds the same hash code as the one of the list of the nodes without building the list: the contribution of
+	 * each node is computed starting from the leaf node.
+	 */
 	private int buildHashCode() {
 		final int prime = 31;
+		int nodeListHashCode = 0;
+		int multiplier = 1;
+		for ( NodeImpl node = currentLeafNode; node != null; node = node.getParent() ) {
+			nodeListHashCode += multiplier * node.hashCode();
+			multiplier *= prime;
+		}
+		// the initial value of 1 used by List.hashCode()
+		nodeListHashCode += multiplier;
+
 		int result = 1;
-		result = prime * result
-				+ ( ( nodeList == null ) ? 0 : nodeList.hashCode() );
+		result = prime * result + nodeListHashCode;
 		return result;
 	}
 
@@ -358,23 +329,23 @@ private int buildHashCode() {
 	 * @param path the path to make a copy of.
 	 */
 	private PathImpl(PathImpl path) {
-		nodeList = path.nodeList;
 		currentLeafNode = path.currentLeafNode;
+		nodeList = path.nodeList;
 		hashCode = path.hashCode;
-		nodeListRequiresCopy = true;
 	}
 
 	private PathImpl() {
-		nodeList = new ArrayList<>( 1 );
 		hashCode = -1;
-		nodeListRequiresCopy = false;
 	}
 
-	private PathImpl(List<Node> nodeList) {
-		this.nodeList = nodeList;
-		currentLeafNode = (NodeImpl) nodeList.get( nodeList.size() - 1 );
+	private PathImpl(NodeImpl leafNode) {
+		currentLeafNode = leafNode;
+		hashCode = -1;
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
 		hashCode = -1;
-		nodeListRequiresCopy = true;
 	}
 
 	private void resetHashCode() {
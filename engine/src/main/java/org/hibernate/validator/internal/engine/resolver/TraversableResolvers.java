@@ -131,7 +131,7 @@ public static TraversableResolver getDefault() {
 	public static TraversableResolver wrapWithCachingForSingleValidation(TraversableResolver traversableResolver,
 			boolean traversableResolverResultCacheEnabled) {
 
-		if ( TraverseAllTraversableResolver.class.equals( traversableResolver.getClass() ) || !traversableResolverResultCacheEnabled ) {
+		if ( isTraverseAllTraversableResolver( traversableResolver ) || !traversableResolverResultCacheEnabled ) {
 			return traversableResolver;
 		}
 		else if ( JPA_AWARE_TRAVERSABLE_RESOLVER_CLASS_NAME.equals( traversableResolver.getClass().getName() ) ) {
@@ -142,6 +142,14 @@ else if ( JPA_AWARE_TRAVERSABLE_RESOLVER_CLASS_NAME.equals( traversableResolver.
 		}
 	}
 
+	/**
+	 * Indicates whether the given {@link TraversableResolver} is the default one considering all the properties as
+	 * reachable and cascadable, in which case calling it can be avoided altogether.
+	 */
+	public static boolean isTraverseAllTraversableResolver(TraversableResolver traversableResolver) {
+		return TraverseAllTraversableResolver.class.equals( traversableResolver.getClass() );
+	}
+
 	private static TraversableResolver getTraverseAllTraversableResolver() {
 		return new TraverseAllTraversableResolver();
 	}
@@ -8,10 +8,10 @@
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
 
-import java.lang.invoke.MethodHandles;
-import java.util.HashSet;
-import java.util.IdentityHashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,28 +19,40 @@
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
 import javax.validation.TraversableResolver;
-import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.LazyInterpolatedMessage;
 import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.engine.groups.ValidationOrder;
 import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContexts;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer.AcyclicCascadedGraph;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.violation.ReportedViolation;
+import org.hibernate.validator.spi.violation.ViolationSink;
 
 /**
  * Context object keeping track of all required data for a validation call.
  * <p>
  * We use this object to collect all failing constraints, but also to have access to resources like
  * constraint validator factory, message interpolator, traversable resolver, etc.
+ * <p>
+ * The collections keeping track of the processed beans and constraints and of the failing constraints are only
+ * created when first written to so that the validation of a valid bean without cascading does not allocate them.
+ * <p>
+ * A context may be forked to validate part of the object graph in another thread. The forked context reads the state
+ * of its parent, which must not be modified until the forked context is joined back into it, and records its own state
+ * and failing constraints separately.
  *
  * @author Hardy Ferentschik
  * @author Emmanuel Bernard
@@ -50,8 +62,6 @@
  */
 abstract class AbstractValidationContext<T> implements BaseBeanValidationContext<T> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
 	/**
 	 * Caches and manages life cycle of constraint validator instances.
 	 */
@@ -73,24 +83,48 @@
 	private final BeanMetaData<T> rootBeanMetaData;
 
 	/**
-	 * The set of already processed meta constraints per bean - path ({@link BeanPathMetaConstraintProcessedUnit}).
+	 * The already processed beans, per group and per path, and the already processed meta constraints, per bean and
+	 * path. Lazily created.
+	 */
+	private ProcessedUnitTracker processedUnits;
+
+	/**
+	 * Contains all failing constraints so far. Lazily created.
+	 */
+	private Set<ConstraintViolation<T>> failingConstraintViolations;
+
+	/**
+	 * The sink receiving the constraint violations instead of {@link #failingConstraintViolations}, if any.
+	 */
+	private final ViolationSink violationSink;
+
+	/**
+	 * The number of constraint violations passed to the {@link #violationSink}.
+	 */
+	private int numberOfReportedViolations;
+
+	/**
+	 * Whether the {@link #violationSink} asked to stop the validation.
 	 */
-	private final Set<BeanPathMetaConstraintProcessedUnit> processedPathUnits;
+	private boolean validationStopped;
 
 	/**
-	 * The set of already processed groups per bean ({@link BeanGroupProcessedUnit}).
+	 * The value contexts used for the cascaded beans, indexed by their nesting depth. As the cascaded beans are
+	 * validated depth first, a value context can be reset and reused as soon as the validation of its bean is done.
+	 * Lazily created.
 	 */
-	private final Set<BeanGroupProcessedUnit> processedGroupUnits;
+	private BeanValueContext<?, Object>[] cascadedValueContexts;
 
 	/**
-	 * Maps an object to a list of paths in which it has been validated. The objects are the bean instances.
+	 * The number of cascaded value contexts currently in use.
 	 */
-	private final Map<Object, Set<PathImpl>> processedPathsPerBean;
+	private int cascadedValueContextsInUse;
 
 	/**
-	 * Contains all failing constraints so far.
+	 * The property paths the cascaded value contexts have been acquired for. The value contexts append the nodes of
+	 * the cascaded properties to their path so the path of their bean has to be kept separately.
 	 */
-	private final Set<ConstraintViolation<T>> failingConstraintViolations;
+	private PathImpl[] cascadedValueContextPaths;
 
 	/**
 	 * The constraint factory which should be used in this context.
@@ -117,6 +151,24 @@
 	 */
 	private final boolean disableAlreadyValidatedBeanTracking;
 
+	/**
+	 * The graph cascaded from the root bean if it has been proven to be acyclic, in which case the already validated
+	 * beans are not tracked as long as the cascaded beans are covered by the proof; {@code null} if the already
+	 * validated beans are tracked.
+	 */
+	private AcyclicCascadedGraph acyclicCascadedGraph;
+
+	/**
+	 * The validation order of the root bean, used to start tracking the already validated beans when a cascaded bean
+	 * is not covered by {@link #acyclicCascadedGraph}.
+	 */
+	private ValidationOrder rootValidationOrder;
+
+	/**
+	 * The context this context has been forked from, {@code null} if this context is not a forked one.
+	 */
+	private final AbstractValidationContext<T> parent;
+
 	protected AbstractValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
@@ -138,12 +190,28 @@ protected AbstractValidationContext(
 		this.rootBeanClass = rootBeanClass;
 		this.rootBeanMetaData = rootBeanMetaData;
 
-		this.processedGroupUnits = new HashSet<>();
-		this.processedPathUnits = new HashSet<>();
-		this.processedPathsPerBean = new IdentityHashMap<>();
-		this.failingConstraintViolations = newHashSet();
-
 		this.disableAlreadyValidatedBeanTracking = disableAlreadyValidatedBeanTracking;
+		this.parent = null;
+		this.violationSink = validatorScopedContext.getViolationSink();
+	}
+
+	private AbstractValidationContext(AbstractValidationContext<T> parent, TraversableResolver traversableResolver) {
+		this.constraintValidatorManager = parent.constraintValidatorManager;
+		this.validatorScopedContext = parent.validatorScopedContext;
+		this.constraintValidatorFactory = parent.constraintValidatorFactory;
+		this.traversableResolver = traversableResolver;
+		this.constraintValidatorInitializationContext = parent.constraintValidatorInitializationContext;
+
+		this.rootBean = parent.rootBean;
+		this.rootBeanClass = parent.rootBeanClass;
+		this.rootBeanMetaData = parent.rootBeanMetaData;
+
+		this.disableAlreadyValidatedBeanTracking = parent.disableAlreadyValidatedBeanTracking;
+		this.parent = parent;
+		if ( parent.violationSink != null ) {
+			throw new IllegalStateException( "A validation context reporting its violations to a sink cannot be forked." );
+		}
+		this.violationSink = null;
 	}
 
 	@Override
@@ -186,58 +254,125 @@ public ConstraintValidatorFactory getConstraintValidatorFactory() {
 		return constraintValidatorFactory;
 	}
 
+	/**
+	 * Stops tracking the already validated beans as long as the cascaded beans are covered by the given graph, proven
+	 * to be acyclic by type.
+	 * <p>
+	 * The tracking is only useful to detect the cycles and the beans validated several times for the same group and
+	 * path. The latter requires group conversions or group sequences, which the proof and the given validation order
+	 * must rule out.
+	 *
+	 * @param acyclicCascadedGraph the graph cascaded from the root bean
+	 * @param rootValidationOrder the validation order of the root bean, which must not contain any sequence
+	 */
+	void relyOnAcyclicCascadedGraph(AcyclicCascadedGraph acyclicCascadedGraph, ValidationOrder rootValidationOrder) {
+		this.acyclicCascadedGraph = acyclicCascadedGraph;
+		this.rootValidationOrder = rootValidationOrder;
+	}
+
 	@Override
 	public boolean isBeanAlreadyValidated(Object value, Class<?> group, PathImpl path) {
 		if ( disableAlreadyValidatedBeanTracking ) {
 			return false;
 		}
-
-		boolean alreadyValidated;
-		alreadyValidated = isAlreadyValidatedForCurrentGroup( value, group );
-
-		if ( alreadyValidated ) {
-			alreadyValidated = isAlreadyValidatedForPath( value, path );
+		if ( acyclicCascadedGraph != null ) {
+			if ( acyclicCascadedGraph.covers( value.getClass() ) ) {
+				return false;
+			}
+			startTrackingAlreadyValidatedBeans();
 		}
 
-		return alreadyValidated;
+		return isAlreadyValidatedForCurrentGroup( value, group ) && isAlreadyValidatedForPath( value, path );
 	}
 
 	@Override
 	public void markCurrentBeanAsProcessed(ValueContext<?, ?> valueContext) {
-		if ( disableAlreadyValidatedBeanTracking ) {
+		if ( disableAlreadyValidatedBeanTracking || acyclicCascadedGraph != null ) {
 			return;
 		}
 
-		markCurrentBeanAsProcessedForCurrentGroup( valueContext.getCurrentBean(), valueContext.getCurrentGroup() );
-		markCurrentBeanAsProcessedForCurrentPath( valueContext.getCurrentBean(), valueContext.getPropertyPath() );
+		getProcessedUnits().markProcessed( valueContext.getCurrentBean(), valueContext.getCurrentGroup(), valueContext.getPropertyPath() );
 	}
 
 	@Override
 	public Set<ConstraintViolation<T>> getFailingConstraints() {
+		if ( failingConstraintViolations == null ) {
+			return Collections.emptySet();
+		}
 		return failingConstraintViolations;
 	}
 
+	@Override
+	public int getNumberOfFailingConstraints() {
+		if ( violationSink != null ) {
+			return numberOfReportedViolations;
+		}
+		return failingConstraintViolations == null ? 0 : failingConstraintViolations.size();
+	}
+
+	@Override
+	public boolean isValidationStopped() {
+		return validationStopped || ( isFailFastModeEnabled() && getNumberOfFailingConstraints() > 0 );
+	}
+
 	@Override
 	public void addConstraintFailure(
 			ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext,
 			ConstraintDescriptor<?> descriptor
 	) {
+		if ( violationSink != null ) {
+			// the remaining violations of the constraint are not reported once the sink has requested the validation to stop
+			if ( validationStopped ) {
+				return;
+			}
+			ReportedViolationImpl reportedViolation = new ReportedViolationImpl( numberOfReportedViolations, valueContext,
+					constraintViolationCreationContext, descriptor );
+			numberOfReportedViolations++;
+			if ( !violationSink.accept( reportedViolation ) ) {
+				validationStopped = true;
+			}
+			return;
+		}
+
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
-				messageTemplate,
-				valueContext.getCurrentValidatedValue(),
-				descriptor,
-				constraintViolationCreationContext.getMessageParameters(),
-				constraintViolationCreationContext.getExpressionVariables()
-		);
+		String interpolatedMessage = null;
+		LazyInterpolatedMessage lazyInterpolatedMessage = null;
+		if ( validatorScopedContext.isLazyMessageInterpolationEnabled() ) {
+			lazyInterpolatedMessage = new LazyInterpolatedMessage(
+					validatorScopedContext.getMessageInterpolator(),
+					messageTemplate,
+					createMessageInterpolatorContext(
+							valueContext.getCurrentValidatedValue(),
+							descriptor,
+							constraintViolationCreationContext.getMessageParameters(),
+							constraintViolationCreationContext.getExpressionVariables()
+					),
+					// capture the locale now so that changing the default locale before the message is requested
+					// doesn't change it
+					Locale.getDefault()
+			);
+		}
+		else {
+			interpolatedMessage = interpolate(
+					messageTemplate,
+					valueContext.getCurrentValidatedValue(),
+					descriptor,
+					constraintViolationCreationContext.getMessageParameters(),
+					constraintViolationCreationContext.getExpressionVariables()
+			);
+		}
 		// at this point we make a copy of the path to avoid side effects
 		Path path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
 
-		this.failingConstraintViolations.add(
+		if ( failingConstraintViolations == null ) {
+			failingConstraintViolations = newHashSet();
+		}
+		failingConstraintViolations.add(
 				createConstraintViolation(
 						messageTemplate,
 						interpolatedMessage,
+						lazyInterpolatedMessage,
 						path,
 						descriptor,
 						valueContext,
@@ -249,6 +384,7 @@ public void addConstraintFailure(
 	protected abstract ConstraintViolation<T> createConstraintViolation(
 			String messageTemplate,
 			String interpolatedMessage,
+			LazyInterpolatedMessage lazyInterpolatedMessage,
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext,
@@ -261,8 +397,13 @@ public boolean hasMetaConstraintBeenProcessed(Object bean, Path path, MetaConstr
 		if ( metaConstraint.isDefinedForOneGroupOnly() ) {
 			return false;
 		}
+		for ( AbstractValidationContext<T> context = this; context != null; context = context.parent ) {
+			if ( context.processedUnits != null && context.processedUnits.isConstraintProcessed( bean, path, metaConstraint ) ) {
+				return true;
+			}
+		}
 
-		return processedPathUnits.contains( new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint ) );
+		return false;
 	}
 
 	@Override
@@ -272,8 +413,81 @@ public void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> me
 		if ( metaConstraint.isDefinedForOneGroupOnly() ) {
 			return;
 		}
+		getProcessedUnits().markConstraintProcessed( bean, path, metaConstraint );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public BeanValueContext<?, Object> acquireCascadedValueContext(Object bean, BeanMetaData<?> beanMetaData, PathImpl propertyPath) {
+		if ( cascadedValueContexts == null ) {
+			cascadedValueContexts = new BeanValueContext[4];
+			cascadedValueContextPaths = new PathImpl[4];
+		}
+		else if ( cascadedValueContextsInUse == cascadedValueContexts.length ) {
+			cascadedValueContexts = Arrays.copyOf( cascadedValueContexts, cascadedValueContexts.length * 2 );
+			cascadedValueContextPaths = Arrays.copyOf( cascadedValueContextPaths, cascadedValueContextPaths.length * 2 );
+		}
+
+		BeanValueContext<?, Object> valueContext = cascadedValueContexts[cascadedValueContextsInUse];
+		if ( valueContext == null ) {
+			valueContext = ValueContexts.getLocalExecutionContextForBean( validatorScopedContext.getParameterNameProvider(), bean, beanMetaData,
+					propertyPath );
+			cascadedValueContexts[cascadedValueContextsInUse] = valueContext;
+		}
+		else {
+			ValueContexts.resetLocalExecutionContextForBean( valueContext, bean, beanMetaData, propertyPath );
+		}
+		cascadedValueContextPaths[cascadedValueContextsInUse] = propertyPath;
+		cascadedValueContextsInUse++;
+
+		return valueContext;
+	}
+
+	@Override
+	public void releaseCascadedValueContext(BeanValueContext<?, Object> valueContext) {
+		if ( cascadedValueContextsInUse == 0 || cascadedValueContexts[cascadedValueContextsInUse - 1] != valueContext ) {
+			throw new IllegalStateException( "The cascaded value contexts must be released in the reverse order of their acquisition." );
+		}
+		cascadedValueContextsInUse--;
+		cascadedValueContextPaths[cascadedValueContextsInUse] = null;
+	}
 
-		processedPathUnits.add( new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint ) );
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		if ( acyclicCascadedGraph != null ) {
+			throw new IllegalStateException( "A validation context relying on an acyclic cascaded graph cannot be forked." );
+		}
+		return new ForkedValidationContext<>( this, traversableResolver );
+	}
+
+	@Override
+	public void join(BaseBeanValidationContext<T> forkedValidationContext) {
+		AbstractValidationContext<T> forked = (AbstractValidationContext<T>) forkedValidationContext;
+		if ( forked.parent != this ) {
+			throw new IllegalStateException( "A forked validation context must be joined into the context it has been forked from." );
+		}
+
+		// the forked context is not used anymore once joined so its collections can be taken over
+		if ( forked.processedUnits != null ) {
+			if ( processedUnits == null ) {
+				processedUnits = forked.processedUnits;
+			}
+			else {
+				processedUnits.merge( forked.processedUnits );
+			}
+		}
+		failingConstraintViolations = merge( failingConstraintViolations, forked.failingConstraintViolations );
+	}
+
+	private static <E> Set<E> merge(Set<E> set, Set<E> forkedSet) {
+		if ( forkedSet == null ) {
+			return set;
+		}
+		if ( set == null ) {
+			return forkedSet;
+		}
+		set.addAll( forkedSet );
+		return set;
 	}
 
 	@Override
@@ -295,164 +509,231 @@ private String interpolate(
 			ConstraintDescriptor<?> descriptor,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables) {
-		MessageInterpolatorContext context = new MessageInterpolatorContext(
+		return LazyInterpolatedMessage.interpolate(
+				validatorScopedContext.getMessageInterpolator(),
+				messageTemplate,
+				createMessageInterpolatorContext( validatedValue, descriptor, messageParameters, expressionVariables )
+		);
+	}
+
+	private MessageInterpolatorContext createMessageInterpolatorContext(
+			Object validatedValue,
+			ConstraintDescriptor<?> descriptor,
+			Map<String, Object> messageParameters,
+			Map<String, Object> expressionVariables) {
+		return new MessageInterpolatorContext(
 				descriptor,
 				validatedValue,
 				getRootBeanClass(),
 				messageParameters,
 				expressionVariables
 		);
-
-		try {
-			return validatorScopedContext.getMessageInterpolator().interpolate(
-					messageTemplate,
-					context
-			);
-		}
-		catch (ValidationException ve) {
-			throw ve;
-		}
-		catch (Exception e) {
-			throw LOG.getExceptionOccurredDuringMessageInterpolationException( e );
-		}
 	}
 
 	private boolean isAlreadyValidatedForPath(Object value, PathImpl path) {
-		Set<PathImpl> pathSet = processedPathsPerBean.get( value );
-		if ( pathSet == null ) {
-			return false;
+		for ( AbstractValidationContext<T> context = this; context != null; context = context.parent ) {
+			if ( context.processedUnits != null && context.processedUnits.isProcessedForPath( value, path ) ) {
+				return true;
+			}
 		}
+		return false;
+	}
 
-		for ( PathImpl p : pathSet ) {
-			if ( path.isRootPath() || p.isRootPath() || isSubPathOf( path, p ) || isSubPathOf( p, path ) ) {
+	private boolean isAlreadyValidatedForCurrentGroup(Object value, Class<?> group) {
+		for ( AbstractValidationContext<T> context = this; context != null; context = context.parent ) {
+			if ( context.processedUnits != null && context.processedUnits.isProcessedForGroup( value, group ) ) {
 				return true;
 			}
 		}
-
 		return false;
 	}
 
-	private boolean isSubPathOf(Path p1, Path p2) {
-		Iterator<Path.Node> p1Iter = p1.iterator();
-		Iterator<Path.Node> p2Iter = p2.iterator();
-		while ( p1Iter.hasNext() ) {
-			Path.Node p1Node = p1Iter.next();
-			if ( !p2Iter.hasNext() ) {
-				return false;
-			}
-			Path.Node p2Node = p2Iter.next();
-			if ( !p1Node.equals( p2Node ) ) {
-				return false;
+	/**
+	 * Marks the beans the current bean is cascaded from as they would have been if the already validated beans had
+	 * been tracked from the start.
+	 * <p>
+	 * This is enough to detect the cycles and the duplicates from now on: the other beans validated so far are not
+	 * ancestors of the beans still to validate and, the graph validated so far being free of group conversions and
+	 * group sequences, none of them can be validated again for the same group and path.
+	 */
+	private void startTrackingAlreadyValidatedBeans() {
+		ProcessedUnitTracker processedUnits = getProcessedUnits();
+
+		PathImpl rootPath = PathImpl.createRootPath();
+		Iterator<Group> groupIterator = rootValidationOrder.getGroupIterator();
+		while ( groupIterator.hasNext() ) {
+			processedUnits.markProcessed( rootBean, groupIterator.next().getDefiningClass(), rootPath );
+		}
+
+		for ( int i = 0; i < cascadedValueContextsInUse; i++ ) {
+			// the value contexts used to iterate over the container elements are not validated themselves
+			BeanValueContext<?, Object> valueContext = cascadedValueContexts[i];
+			if ( valueContext.getCurrentGroup() != null ) {
+				processedUnits.markProcessed( valueContext.getCurrentBean(), valueContext.getCurrentGroup(), cascadedValueContextPaths[i] );
 			}
 		}
-		return true;
-	}
 
-	private boolean isAlreadyValidatedForCurrentGroup(Object value, Class<?> group) {
-		return processedGroupUnits.contains( new BeanGroupProcessedUnit( value, group ) );
+		acyclicCascadedGraph = null;
+		rootValidationOrder = null;
 	}
 
-	private void markCurrentBeanAsProcessedForCurrentPath(Object bean, PathImpl path) {
-		// HV-1031 The path object is mutated as we traverse the object tree, hence copy it before saving it
-		processedPathsPerBean.computeIfAbsent( bean, b -> new HashSet<>() )
-				.add( PathImpl.createCopy( path ) );
+	private ProcessedUnitTracker getProcessedUnits() {
+		if ( processedUnits == null ) {
+			processedUnits = new ProcessedUnitTracker();
+		}
+		return processedUnits;
 	}
 
-	private void markCurrentBeanAsProcessedForCurrentGroup(Object bean, Class<?> group) {
-		processedGroupUnits.add( new BeanGroupProcessedUnit( bean, group ) );
-	}
+	/**
+	 * The violation passed to the {@link ViolationSink}, building the message, the path and the constraint violation
+	 * on demand.
+	 */
+	private final class ReportedViolationImpl implements ReportedViolation {
+
+		private final int index;
+		private final ValueContext<?, ?> valueContext;
+		private final Object leafBean;
+		private final Object invalidValue;
+		private final ConstraintViolationCreationContext constraintViolationCreationContext;
+		private final ConstraintDescriptor<?> descriptor;
+
+		private String interpolatedMessage;
+		private Path propertyPath;
+		private ConstraintViolation<T> constraintViolation;
+
+		private ReportedViolationImpl(int index, ValueContext<?, ?> valueContext, ConstraintViolationCreationContext constraintViolationCreationContext,
+				ConstraintDescriptor<?> descriptor) {
+			this.index = index;
+			this.valueContext = valueContext;
+			this.leafBean = valueContext.getCurrentBean();
+			this.invalidValue = valueContext.getCurrentValidatedValue();
+			this.constraintViolationCreationContext = constraintViolationCreationContext;
+			this.descriptor = descriptor;
+		}
 
-	private static final class BeanPathMetaConstraintProcessedUnit {
+		@Override
+		public int getIndex() {
+			return index;
+		}
 
-		// these fields are final but we don't mark them as final as an optimization
-		private Object bean;
-		private Path path;
-		private MetaConstraint<?> metaConstraint;
-		private int hashCode;
+		@Override
+		public Object getRootBean() {
+			return AbstractValidationContext.this.getRootBean();
+		}
 
-		BeanPathMetaConstraintProcessedUnit(Object bean, Path path, MetaConstraint<?> metaConstraint) {
-			this.bean = bean;
-			this.path = path;
-			this.metaConstraint = metaConstraint;
-			this.hashCode = createHashCode();
+		@Override
+		public Class<?> getRootBeanClass() {
+			return AbstractValidationContext.this.getRootBeanClass();
 		}
 
 		@Override
-		public boolean equals(Object o) {
-			if ( this == o ) {
-				return true;
-			}
+		public Object getLeafBean() {
+			return leafBean;
+		}
 
-			// No need to check if the class matches because of how this class is used in the set.
-			BeanPathMetaConstraintProcessedUnit that = (BeanPathMetaConstraintProcessedUnit) o;
+		@Override
+		public Object getInvalidValue() {
+			return invalidValue;
+		}
 
-			if ( bean != that.bean ) {  // instance equality
-				return false;
-			}
-			if ( metaConstraint != that.metaConstraint ) {
-				return false;
-			}
-			if ( !path.equals( that.path ) ) {
-				return false;
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return descriptor;
+		}
+
+		@Override
+		public String getMessageTemplate() {
+			return constraintViolationCreationContext.getMessage();
+		}
+
+		@Override
+		public String getMessage() {
+			if ( interpolatedMessage == null ) {
+				interpolatedMessage = interpolate(
+						constraintViolationCreationContext.getMessage(),
+						invalidValue,
+						descriptor,
+						constraintViolationCreationContext.getMessageParameters(),
+						constraintViolationCreationContext.getExpressionVariables()
+				);
 			}
+			return interpolatedMessage;
+		}
 
-			return true;
+		@Override
+		public Path getPropertyPath() {
+			if ( propertyPath == null ) {
+				propertyPath = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
+			}
+			return propertyPath;
 		}
 
 		@Override
-		public int hashCode() {
-			return hashCode;
+		public ConstraintViolation<?> toConstraintViolation() {
+			if ( constraintViolation == null ) {
+				constraintViolation = createConstraintViolation(
+						constraintViolationCreationContext.getMessage(),
+						getMessage(),
+						null,
+						getPropertyPath(),
+						descriptor,
+						valueContext,
+						constraintViolationCreationContext
+				);
+			}
+			return constraintViolation;
 		}
 
-		private int createHashCode() {
-			int result = System.identityHashCode( bean );
-			result = 31 * result + path.hashCode();
-			result = 31 * result + System.identityHashCode( metaConstraint );
-			return result;
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+			sb.append( '{' );
+			sb.append( "index=" ).append( index );
+			sb.append( ", descriptor=" ).append( descriptor );
+			sb.append( '}' );
+			return sb.toString();
 		}
 	}
 
-	private static final class BeanGroupProcessedUnit {
+	/**
+	 * A context forked from another one, delegating the creation of the constraint violations and of the constraint
+	 * validator contexts to it.
+	 */
+	private static final class ForkedValidationContext<T> extends AbstractValidationContext<T> {
 
-		// these fields are final but we don't mark them as final as an optimization
-		private Object bean;
-		private Class<?> group;
-		private int hashCode;
+		private final AbstractValidationContext<T> forkedFrom;
 
-		BeanGroupProcessedUnit(Object bean, Class<?> group) {
-			this.bean = bean;
-			this.group = group;
-			this.hashCode = createHashCode();
+		private ForkedValidationContext(AbstractValidationContext<T> parent, TraversableResolver traversableResolver) {
+			super( parent, traversableResolver );
+			this.forkedFrom = parent;
 		}
 
 		@Override
-		public boolean equals(Object o) {
-			if ( this == o ) {
-				return true;
-			}
-
-			// No need to check if the class matches because of how this class is used in the set.
-			BeanGroupProcessedUnit that = (BeanGroupProcessedUnit) o;
-
-			if ( bean != that.bean ) {  // instance equality
-				return false;
-			}
-			if ( !group.equals( that.group ) ) {
-				return false;
-			}
+		public boolean appliesTo(MetaConstraint<?> metaConstraint) {
+			return forkedFrom.appliesTo( metaConstraint );
+		}
 
-			return true;
+		@Override
+		public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, PathImpl path) {
+			return forkedFrom.createConstraintValidatorContextFor( constraintDescriptor, path );
 		}
 
 		@Override
-		public int hashCode() {
-			return hashCode;
+		protected ConstraintViolation<T> createConstraintViolation(
+				String messageTemplate, String interpolatedMessage, LazyInterpolatedMessage lazyInterpolatedMessage, Path propertyPath,
+				ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
+				ConstraintViolationCreationContext constraintViolationCreationContext) {
+			return forkedFrom.createConstraintViolation( messageTemplate, interpolatedMessage, lazyInterpolatedMessage, propertyPath, constraintDescriptor,
+					valueContext, constraintViolationCreationContext );
 		}
 
-		private int createHashCode() {
-			int result = System.identityHashCode( bean );
-			result = 31 * result + group.hashCode();
-			return result;
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+			sb.append( '{' );
+			sb.append( "forkedFrom=" ).append( forkedFrom );
+			sb.append( '}' );
+			return sb.toString();
 		}
 	}
 }
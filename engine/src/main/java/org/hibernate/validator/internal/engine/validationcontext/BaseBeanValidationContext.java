@@ -12,6 +12,7 @@
 
 import org.hibernate.validator.internal.engine.ValidatorImpl;
 import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
@@ -45,6 +46,36 @@
 
 	void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> metaConstraint);
 
+	/**
+	 * Returns a value context for the validation of a cascaded bean, reusing the one of a previously validated
+	 * cascaded bean at the same depth if any.
+	 * <p>
+	 * The returned value context must be released by calling {@link #releaseCascadedValueContext(BeanValueContext)}
+	 * once the cascaded bean has been validated, the value contexts being released in the reverse order of their
+	 * acquisition.
+	 */
+	BeanValueContext<?, Object> acquireCascadedValueContext(Object bean, BeanMetaData<?> beanMetaData, PathImpl propertyPath);
+
+	void releaseCascadedValueContext(BeanValueContext<?, Object> valueContext);
+
+	/**
+	 * Creates a context which can be used to validate part of the object graph concurrently with other forked
+	 * contexts.
+	 * <p>
+	 * The forked context sees the beans and constraints already processed by this context. This context must not be
+	 * used until all the contexts forked from it have been joined back into it with {@link #join(BaseBeanValidationContext)}.
+	 *
+	 * @param traversableResolver the traversable resolver used by the forked context, it must not share a non
+	 * thread-safe cache with the traversable resolver of this context
+	 */
+	BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver);
+
+	/**
+	 * Merges the processed beans and constraints and the failing constraints of a context forked from this one into
+	 * this context.
+	 */
+	void join(BaseBeanValidationContext<T> forkedValidationContext);
+
 	/**
 	 * @return {@code true} if current validation context can and should process passed meta constraint. Is used in
 	 * {@link ValidatorImpl} to check if validation is required in case of calls to
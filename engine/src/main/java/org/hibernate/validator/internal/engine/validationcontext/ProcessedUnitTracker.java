@@ -0,0 +1,369 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import javax.validation.Path;
+
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.util.IdentityOpenAddressingMap;
+
+/**
+ * Keeps track of the beans and constraints already processed during a validation call.
+ * <p>
+ * The groups and the constraints are given dense ids, local to the tracker, in the order they are first tracked so
+ * that the processed groups of a bean and the processed constraints of a bean at a given path are stored as
+ * bitsets. The state of each bean is kept in an identity map probed linearly: checking whether a unit has been
+ * processed does not allocate any key object and the paths are only compared to the few paths the bean has been
+ * validated at, they are never hashed.
+ * <p>
+ * This class is not thread-safe: a forked validation context uses its own tracker, merged into the tracker of its
+ * parent when joined.
+ */
+final class ProcessedUnitTracker {
+
+	private static final Class<?>[] NO_GROUPS = new Class<?>[0];
+
+	private static final MetaConstraint<?>[] NO_META_CONSTRAINTS = new MetaConstraint<?>[0];
+
+	/**
+	 * The key standing for the {@code null} bean of {@code validateValue()}.
+	 */
+	private static final Object NULL_BEAN = new Object();
+
+	/**
+	 * The tracked groups, indexed by their id. There are usually only a few of them so they are looked up linearly.
+	 */
+	private Class<?>[] groups = NO_GROUPS;
+
+	private int groupCount;
+
+	/**
+	 * The tracked constraints, indexed by their id.
+	 */
+	private MetaConstraint<?>[] metaConstraints = NO_META_CONSTRAINTS;
+
+	private int metaConstraintCount;
+
+	/**
+	 * The ids of the tracked constraints. Lazily created as only the constraints belonging to several groups are
+	 * tracked.
+	 */
+	private IdentityOpenAddressingMap<MetaConstraint<?>, Integer> metaConstraintIds;
+
+	private final IdentityOpenAddressingMap<Object, ProcessedBean> processedBeans = new IdentityOpenAddressingMap<>();
+
+	boolean isProcessedForGroup(Object bean, Class<?> group) {
+		ProcessedBean processedBean = processedBeans.get( maskNull( bean ) );
+		if ( processedBean == null ) {
+			return false;
+		}
+		int groupId = getGroupId( group );
+		return groupId >= 0 && processedBean.groups.get( groupId );
+	}
+
+	/**
+	 * @return {@code true} if the bean has been validated at a path which is the given path, a sub path or a parent
+	 * path of it, or if one of these paths is the root path
+	 */
+	boolean isProcessedForPath(Object bean, PathImpl path) {
+		ProcessedBean processedBean = processedBeans.get( maskNull( bean ) );
+		if ( processedBean == null ) {
+			return false;
+		}
+
+		for ( int i = 0; i < processedBean.pathCount; i++ ) {
+			PathImpl p = processedBean.paths[i];
+			if ( path.isRootPath() || p.isRootPath() || isSubPathOf( path, p ) || isSubPathOf( p, path ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	void markProcessed(Object bean, Class<?> group, PathImpl path) {
+		ProcessedBean processedBean = getOrCreateProcessedBean( bean );
+
+		processedBean.groups.set( getOrCreateGroupId( group ) );
+
+		for ( int i = 0; i < processedBean.pathCount; i++ ) {
+			if ( processedBean.paths[i].equals( path ) ) {
+				return;
+			}
+		}
+		// HV-1031 The path object is mutated as we traverse the object tree, hence copy it before saving it
+		processedBean.addPath( PathImpl.createCopy( path ) );
+	}
+
+	boolean isConstraintProcessed(Object bean, Path path, MetaConstraint<?> metaConstraint) {
+		ProcessedBean processedBean = processedBeans.get( maskNull( bean ) );
+		if ( processedBean == null || processedBean.constraintPathCount == 0 ) {
+			return false;
+		}
+		Integer metaConstraintId = metaConstraintIds.get( metaConstraint );
+		if ( metaConstraintId == null ) {
+			return false;
+		}
+
+		Bits processedConstraints = processedBean.getProcessedConstraints( path );
+		return processedConstraints != null && processedConstraints.get( metaConstraintId );
+	}
+
+	void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> metaConstraint) {
+		ProcessedBean processedBean = getOrCreateProcessedBean( bean );
+		int metaConstraintId = getOrCreateMetaConstraintId( metaConstraint );
+
+		Bits processedConstraints = processedBean.getProcessedConstraints( path );
+		if ( processedConstraints == null ) {
+			processedConstraints = processedBean.addProcessedConstraints( path );
+		}
+		processedConstraints.set( metaConstraintId );
+	}
+
+	/**
+	 * Merges the state of the given tracker, translating its ids, into this one. The given tracker must not be used
+	 * anymore afterwards.
+	 */
+	void merge(ProcessedUnitTracker other) {
+		int[] groupIds = new int[other.groupCount];
+		for ( int i = 0; i < other.groupCount; i++ ) {
+			groupIds[i] = getOrCreateGroupId( other.groups[i] );
+		}
+		int[] metaConstraintIds = new int[other.metaConstraintCount];
+		for ( int i = 0; i < other.metaConstraintCount; i++ ) {
+			metaConstraintIds[i] = getOrCreateMetaConstraintId( other.metaConstraints[i] );
+		}
+
+		other.processedBeans.forEach( (bean, otherProcessedBean) -> {
+			ProcessedBean processedBean = getOrCreateProcessedBean( bean );
+
+			otherProcessedBean.groups.forEachSetBit( groupId -> processedBean.groups.set( groupIds[groupId] ) );
+
+			for ( int i = 0; i < otherProcessedBean.pathCount; i++ ) {
+				PathImpl path = otherProcessedBean.paths[i];
+				boolean known = false;
+				for ( int j = 0; j < processedBean.pathCount; j++ ) {
+					if ( processedBean.paths[j].equals( path ) ) {
+						known = true;
+						break;
+					}
+				}
+				if ( !known ) {
+					processedBean.addPath( path );
+				}
+			}
+
+			for ( int i = 0; i < otherProcessedBean.constraintPathCount; i++ ) {
+				Path path = otherProcessedBean.constraintPaths[i];
+				Bits processedConstraints = processedBean.getProcessedConstraints( path );
+				if ( processedConstraints == null ) {
+					processedConstraints = processedBean.addProcessedConstraints( path );
+				}
+				Bits target = processedConstraints;
+				otherProcessedBean.processedConstraints[i].forEachSetBit( metaConstraintId -> target.set( metaConstraintIds[metaConstraintId] ) );
+			}
+		} );
+	}
+
+	private ProcessedBean getOrCreateProcessedBean(Object bean) {
+		ProcessedBean processedBean = processedBeans.get( maskNull( bean ) );
+		if ( processedBean == null ) {
+			processedBean = new ProcessedBean();
+			processedBeans.put( maskNull( bean ), processedBean );
+		}
+		return processedBean;
+	}
+
+	private static Object maskNull(Object bean) {
+		return bean != null ? bean : NULL_BEAN;
+	}
+
+	private int getGroupId(Class<?> group) {
+		for ( int i = 0; i < groupCount; i++ ) {
+			if ( groups[i] == group ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int getOrCreateGroupId(Class<?> group) {
+		int groupId = getGroupId( group );
+		if ( groupId >= 0 ) {
+			return groupId;
+		}
+
+		if ( groupCount == groups.length ) {
+			groups = Arrays.copyOf( groups, Math.max( 4, groupCount * 2 ) );
+		}
+		groups[groupCount] = group;
+		return groupCount++;
+	}
+
+	private int getOrCreateMetaConstraintId(MetaConstraint<?> metaConstraint) {
+		if ( metaConstraintIds == null ) {
+			metaConstraintIds = new IdentityOpenAddressingMap<>();
+		}
+		else {
+			Integer metaConstraintId = metaConstraintIds.get( metaConstraint );
+			if ( metaConstraintId != null ) {
+				return metaConstraintId;
+			}
+		}
+
+		if ( metaConstraintCount == metaConstraints.length ) {
+			metaConstraints = Arrays.copyOf( metaConstraints, Math.max( 8, metaConstraintCount * 2 ) );
+		}
+		metaConstraints[metaConstraintCount] = metaConstraint;
+		metaConstraintIds.put( metaConstraint, metaConstraintCount );
+		return metaConstraintCount++;
+	}
+
+	/**
+	 * @return {@code true} if {@code p1} is a prefix of {@code p2}
+	 */
+	private static boolean isSubPathOf(PathImpl p1, PathImpl p2) {
+		NodeImpl node1 = p1.getLeafNode();
+		NodeImpl node2 = p2.getLeafNode();
+
+		int depthDifference = depth( node2 ) - depth( node1 );
+		if ( depthDifference < 0 ) {
+			return false;
+		}
+		for ( int i = 0; i < depthDifference; i++ ) {
+			node2 = node2.getParent();
+		}
+
+		while ( node1 != null ) {
+			if ( node1 != node2 && !node1.equals( node2 ) ) {
+				return false;
+			}
+			node1 = node1.getParent();
+			node2 = node2.getParent();
+		}
+		return true;
+	}
+
+	private static int depth(NodeImpl node) {
+		int depth = 0;
+		for ( NodeImpl current = node; current != null; current = current.getParent() ) {
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * The processed state of a bean.
+	 */
+	private static final class ProcessedBean {
+
+		private static final PathImpl[] NO_PATHS = new PathImpl[0];
+
+		private static final Path[] NO_CONSTRAINT_PATHS = new Path[0];
+
+		private static final Bits[] NO_PROCESSED_CONSTRAINTS = new Bits[0];
+
+		private final Bits groups = new Bits();
+
+		/**
+		 * The paths the bean has been validated at.
+		 */
+		private PathImpl[] paths = NO_PATHS;
+
+		private int pathCount;
+
+		/**
+		 * The paths of the tracked constraints of the bean, the processed constraints for each of these paths being
+		 * stored at the same index in {@link #processedConstraints}.
+		 */
+		private Path[] constraintPaths = NO_CONSTRAINT_PATHS;
+
+		private Bits[] processedConstraints = NO_PROCESSED_CONSTRAINTS;
+
+		private int constraintPathCount;
+
+		private void addPath(PathImpl path) {
+			if ( pathCount == paths.length ) {
+				paths = Arrays.copyOf( paths, Math.max( 2, pathCount * 2 ) );
+			}
+			paths[pathCount++] = path;
+		}
+
+		private Bits getProcessedConstraints(Path path) {
+			for ( int i = 0; i < constraintPathCount; i++ ) {
+				if ( constraintPaths[i].equals( path ) ) {
+					return processedConstraints[i];
+				}
+			}
+			return null;
+		}
+
+		private Bits addProcessedConstraints(Path path) {
+			if ( constraintPathCount == constraintPaths.length ) {
+				int length = Math.max( 4, constraintPathCount * 2 );
+				constraintPaths = Arrays.copyOf( constraintPaths, length );
+				processedConstraints = Arrays.copyOf( processedConstraints, length );
+			}
+			Bits bits = new Bits();
+			constraintPaths[constraintPathCount] = path;
+			processedConstraints[constraintPathCount] = bits;
+			constraintPathCount++;
+			return bits;
+		}
+	}
+
+	/**
+	 * A growable bitset, the first 64 bits not requiring any array.
+	 */
+	private static final class Bits {
+
+		private long bits;
+
+		private long[] moreBits;
+
+		private boolean get(int index) {
+			if ( index < Long.SIZE ) {
+				return ( bits & ( 1L << index ) ) != 0;
+			}
+			int word = ( index >>> 6 ) - 1;
+			return moreBits != null && word < moreBits.length && ( moreBits[word] & ( 1L << index ) ) != 0;
+		}
+
+		private void set(int index) {
+			if ( index < Long.SIZE ) {
+				bits |= 1L << index;
+				return;
+			}
+			int word = ( index >>> 6 ) - 1;
+			if ( moreBits == null ) {
+				moreBits = new long[word + 1];
+			}
+			else if ( word >= moreBits.length ) {
+				moreBits = Arrays.copyOf( moreBits, Math.max( word + 1, moreBits.length * 2 ) );
+			}
+			// the shift only considers the 6 lowest bits of the index
+			moreBits[word] |= 1L << index;
+		}
+
+		private void forEachSetBit(IntConsumer action) {
+			for ( long remaining = bits; remaining != 0; remaining &= remaining - 1 ) {
+				action.accept( Long.numberOfTrailingZeros( remaining ) );
+			}
+			if ( moreBits != null ) {
+				for ( int word = 0; word < moreBits.length; word++ ) {
+					for ( long remaining = moreBits[word]; remaining != 0; remaining &= remaining - 1 ) {
+						action.accept( ( ( word + 1 ) << 6 ) + Long.numberOfTrailingZeros( remaining ) );
+					}
+				}
+			}
+		}
+	}
+}
@@ -54,5 +54,17 @@ void addConstraintFailure(
 
 	Set<ConstraintViolation<T>> getFailingConstraints();
 
+	/**
+	 * @return the number of failing constraints so far, including the ones passed to a
+	 * {@link org.hibernate.validator.spi.violation.ViolationSink} and thus not part of {@link #getFailingConstraints()}
+	 */
+	int getNumberOfFailingConstraints();
+
+	/**
+	 * @return {@code true} if the validation should not go further, either because fail fast mode is enabled and a
+	 * constraint failed or because the {@link org.hibernate.validator.spi.violation.ViolationSink} asked to stop
+	 */
+	boolean isValidationStopped();
+
 	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, PathImpl path);
 }
@@ -13,8 +13,11 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.engine.groups.ValidationOrder;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer.AcyclicCascadedGraph;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 
 /**
@@ -26,6 +29,7 @@
 public class ValidationContextBuilder {
 
 	private final BeanMetaDataManager beanMetaDataManager;
+	private final CascadedTypeGraphAnalyzer cascadedTypeGraphAnalyzer;
 	private final ConstraintValidatorManager constraintValidatorManager;
 	private final ConstraintValidatorFactory constraintValidatorFactory;
 	private final TraversableResolver traversableResolver;
@@ -34,12 +38,14 @@ public class ValidationContextBuilder {
 
 	public ValidationContextBuilder(
 			BeanMetaDataManager beanMetaDataManager,
+			CascadedTypeGraphAnalyzer cascadedTypeGraphAnalyzer,
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
 			ValidatorScopedContext validatorScopedContext,
 			TraversableResolver traversableResolver,
 			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
 		this.beanMetaDataManager = beanMetaDataManager;
+		this.cascadedTypeGraphAnalyzer = cascadedTypeGraphAnalyzer;
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.traversableResolver = traversableResolver;
@@ -47,12 +53,21 @@ public ValidationContextBuilder(
 		this.validatorScopedContext = validatorScopedContext;
 	}
 
-	public <T> BaseBeanValidationContext<T> forValidate(T rootBean) {
+	public <T> BaseBeanValidationContext<T> forValidate(T rootBean, ValidationOrder validationOrder) {
+		@SuppressWarnings("unchecked")
+		Class<T> rootBeanClass = (Class<T>) rootBean.getClass();
+		return forValidate( rootBean, beanMetaDataManager.getBeanMetaData( rootBeanClass ), validationOrder );
+	}
+
+	/**
+	 * @param rootBeanMetaData the metadata of the runtime type of the root bean, when it has already been resolved
+	 * @param validationOrder the validation order of the root bean
+	 */
+	public <T> BaseBeanValidationContext<T> forValidate(T rootBean, BeanMetaData<T> rootBeanMetaData, ValidationOrder validationOrder) {
 		@SuppressWarnings("unchecked")
 		Class<T> rootBeanClass = (Class<T>) rootBean.getClass();
-		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
 
-		return new BeanValidationContext<>(
+		BeanValidationContext<T> validationContext = new BeanValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
@@ -62,6 +77,18 @@ public <T> BaseBeanValidationContext<T> forValidate(T rootBean) {
 				rootBeanClass,
 				rootBeanMetaData
 		);
+
+		// the proof only rules out the cycles and the beans validated twice for the same group and path if the graph is
+		// validated sequentially and if the root bean is not validated for group sequences
+		if ( rootBeanMetaData.hasCascadables() && validatorScopedContext.getParallelCascadedValidationThreshold() <= 0
+				&& !validationOrder.getSequenceIterator().hasNext() ) {
+			AcyclicCascadedGraph acyclicCascadedGraph = cascadedTypeGraphAnalyzer.getAcyclicCascadedGraph( beanMetaDataManager, rootBeanMetaData );
+			if ( acyclicCascadedGraph != null ) {
+				validationContext.relyOnAcyclicCascadedGraph( acyclicCascadedGraph, validationOrder );
+			}
+		}
+
+		return validationContext;
 	}
 
 	public <T> BaseBeanValidationContext<T> forValidateProperty(T rootBean, PathImpl propertyPath) {
@@ -15,6 +15,7 @@
 import org.hibernate.validator.internal.engine.ValidatorFactoryScopedContext;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
+import org.hibernate.validator.spi.violation.ViolationSink;
 
 /**
  * Context object storing the {@link Validator} level helper and configuration properties.
@@ -60,6 +61,26 @@ public class ValidatorScopedContext {
 	 */
 	private final boolean traversableResolverResultCacheEnabled;
 
+	/**
+	 * Hibernate Validator specific flag to evaluate the bean constraints through validation plans.
+	 */
+	private final boolean validationPlansEnabled;
+
+	/**
+	 * Hibernate Validator specific threshold from which the elements of a container are validated in parallel.
+	 */
+	private final int parallelCascadedValidationThreshold;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the messages of the constraint violations lazily.
+	 */
+	private final boolean lazyMessageInterpolationEnabled;
+
+	/**
+	 * Hibernate Validator specific sink receiving the constraint violations instead of the returned set.
+	 */
+	private final ViolationSink violationSink;
+
 	/**
 	 * Hibernate Validator specific payload passed to the constraint validators.
 	 */
@@ -73,6 +94,10 @@ public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScop
 		this.scriptEvaluatorFactory = validatorFactoryScopedContext.getScriptEvaluatorFactory();
 		this.failFast = validatorFactoryScopedContext.isFailFast();
 		this.traversableResolverResultCacheEnabled = validatorFactoryScopedContext.isTraversableResolverResultCacheEnabled();
+		this.validationPlansEnabled = validatorFactoryScopedContext.isValidationPlansEnabled();
+		this.parallelCascadedValidationThreshold = validatorFactoryScopedContext.getParallelCascadedValidationThreshold();
+		this.lazyMessageInterpolationEnabled = validatorFactoryScopedContext.isLazyMessageInterpolationEnabled();
+		this.violationSink = validatorFactoryScopedContext.getViolationSink();
 		this.constraintValidatorPayload = validatorFactoryScopedContext.getConstraintValidatorPayload();
 	}
 
@@ -104,6 +129,22 @@ public boolean isTraversableResolverResultCacheEnabled() {
 		return this.traversableResolverResultCacheEnabled;
 	}
 
+	public boolean isValidationPlansEnabled() {
+		return this.validationPlansEnabled;
+	}
+
+	public int getParallelCascadedValidationThreshold() {
+		return this.parallelCascadedValidationThreshold;
+	}
+
+	public boolean isLazyMessageInterpolationEnabled() {
+		return this.lazyMessageInterpolationEnabled;
+	}
+
+	public ViolationSink getViolationSink() {
+		return this.violationSink;
+	}
+
 	public Object getConstraintValidatorPayload() {
 		return this.constraintValidatorPayload;
 	}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.validationplan;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.engine.resolver.TraversableResolvers;
+import org.hibernate.validator.internal.engine.validationcontext.BaseBeanValidationContext;
+import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * The constraints of a bean type to evaluate for a given group, flattened in their evaluation order.
+ * <p>
+ * A plan replaces the work done by the interpreter of {@code ValidatorImpl} for each validated bean: the group
+ * membership checks, the walk of the class hierarchy for the default group and the filtering of the interfaces
+ * implemented several times in the hierarchy (HV-466) are all done once, when the plan is built.
+ * <p>
+ * The values are read through accessors optimized for repeated invocations (see
+ * {@link org.hibernate.validator.internal.properties.Property#createOptimizedAccessor()}) and the
+ * {@code TraversableResolver} is not called at all if it is the default one considering all the properties as
+ * reachable.
+ */
+public final class ValidationPlan {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * Marker for the cases for which a plan cannot be built and the interpreter has to be used.
+	 */
+	static final ValidationPlan UNSUPPORTED = new ValidationPlan( new Step[0] );
+
+	@Immutable
+	private final Step[] steps;
+
+	private ValidationPlan(Step[] steps) {
+		this.steps = steps;
+	}
+
+	static ValidationPlan of(List<Step> steps) {
+		return new ValidationPlan( steps.toArray( new Step[steps.size()] ) );
+	}
+
+	public boolean isSupported() {
+		return this != UNSUPPORTED;
+	}
+
+	/**
+	 * Validates the constraints of the current bean of the given value context.
+	 * <p>
+	 * The value context is left in the same state as before the call.
+	 */
+	public void validateConstraints(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext) {
+		boolean reachabilityCheckRequired = !TraversableResolvers.isTraverseAllTraversableResolver( validationContext.getTraversableResolver() );
+
+		for ( int i = 0; i < steps.length; i++ ) {
+			steps[i].validate( validationContext, valueContext, reachabilityCheckRequired );
+
+			if ( shouldFailFast( validationContext ) ) {
+				// when validating the default group, the interpreter still tries the first constraint of each of the
+				// remaining classes of the hierarchy before giving up, we do the same to report the same violations
+				for ( int j = steps[i].nextSegmentStart; j < steps.length; j = steps[j].nextSegmentStart ) {
+					if ( steps[j].segmentHead ) {
+						steps[j].validate( validationContext, valueContext, reachabilityCheckRequired );
+					}
+				}
+				break;
+			}
+		}
+
+		validationContext.markCurrentBeanAsProcessed( valueContext );
+	}
+
+	private static boolean shouldFailFast(BaseBeanValidationContext<?> validationContext) {
+		return validationContext.isValidationStopped();
+	}
+
+	/**
+	 * The evaluation of a single constraint.
+	 */
+	static final class Step {
+
+		private final MetaConstraint<?> metaConstraint;
+
+		private final PropertyAccessor valueAccessor;
+
+		private final boolean classLevelConstraint;
+
+		/**
+		 * Whether this constraint is the first one considered by the interpreter for its class of the hierarchy.
+		 */
+		private final boolean segmentHead;
+
+		/**
+		 * The index of the first step of the next class of the hierarchy.
+		 */
+		private int nextSegmentStart;
+
+		Step(MetaConstraint<?> metaConstraint, PropertyAccessor valueAccessor, boolean segmentHead) {
+			this.metaConstraint = metaConstraint;
+			this.valueAccessor = valueAccessor;
+			this.classLevelConstraint = metaConstraint.getConstraintLocationKind() == ConstraintLocationKind.TYPE;
+			this.segmentHead = segmentHead;
+		}
+
+		void setNextSegmentStart(int nextSegmentStart) {
+			this.nextSegmentStart = nextSegmentStart;
+		}
+
+		private void validate(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, boolean reachabilityCheckRequired) {
+			ValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
+			valueContext.appendNode( metaConstraint.getLocation() );
+
+			// check if this validation context is qualified to validate the current meta constraint, e.g. in the case
+			// of validateProperty()/validateValue(), the current meta constraint could be for another property
+			if ( validationContext.appliesTo( metaConstraint )
+					&& !validationContext.hasMetaConstraintBeenProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint )
+					&& ( !reachabilityCheckRequired || isReachable( validationContext, valueContext ) ) ) {
+				Object parent = valueContext.getCurrentBean();
+				if ( parent != null ) {
+					metaConstraint.validateConstraint( validationContext, valueContext, parent, valueAccessor );
+				}
+				else {
+					metaConstraint.validateConstraint( validationContext, valueContext );
+				}
+
+				validationContext.markConstraintProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint );
+			}
+
+			// reset the value context to the state before this call
+			valueContext.resetValueState( originalValueState );
+		}
+
+		private boolean isReachable(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext) {
+			// as for the regular evaluation, the resolver is not called for class level constraints
+			if ( classLevelConstraint ) {
+				return true;
+			}
+
+			PathImpl path = valueContext.getPropertyPath();
+			try {
+				return validationContext.getTraversableResolver().isReachable(
+						valueContext.getCurrentBean(),
+						path.getLeafNode(),
+						validationContext.getRootBeanClass(),
+						path.getPathWithoutLeafNode(),
+						metaConstraint.getConstraintLocationKind().getElementType()
+				);
+			}
+			catch (RuntimeException e) {
+				throw LOG.getErrorDuringCallOfTraversableResolverIsReachableException( e );
+			}
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.validationplan;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.lang.invoke.MethodHandles;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.location.AbstractPropertyConstraintLocation;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
+import org.hibernate.validator.internal.metadata.location.TypeArgumentConstraintLocation;
+import org.hibernate.validator.internal.properties.Property;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Builds and caches the {@link ValidationPlan}s of the bean types for the groups they are validated for.
+ * <p>
+ * The plans are built lazily, the first time a bean type is validated for a given group. They are attached to the
+ * {@link BeanMetaData} instance they have been built for and are discarded with it.
+ */
+public class ValidationPlanGenerator {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<BeanMetaData<?>, ConcurrentMap<Class<?>, ValidationPlan>> validationPlans = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	/**
+	 * The accessors are shared by the plans as building them might involve spinning a class.
+	 */
+	private final ConcurrentReferenceHashMap<Property, PropertyAccessor> optimizedAccessors = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	/**
+	 * Returns the validation plan of the given bean for the given group.
+	 *
+	 * @param beanMetaDataManager the manager used to retrieve the metadata of the classes of the hierarchy
+	 * @param beanMetaData the metadata of the validated bean
+	 * @param group the validated group, {@link Default} being handled specifically as the constraints of the whole
+	 * hierarchy have to be considered
+	 *
+	 * @return the validation plan, {@link ValidationPlan#isSupported()} returning {@code false} if the interpreter has
+	 * to be used.
+	 */
+	public ValidationPlan getValidationPlan(BeanMetaDataManager beanMetaDataManager, BeanMetaData<?> beanMetaData, Class<?> group, boolean defaultGroup) {
+		ConcurrentMap<Class<?>, ValidationPlan> validationPlansForBean = validationPlans.get( beanMetaData );
+		if ( validationPlansForBean == null ) {
+			validationPlansForBean = new ConcurrentHashMap<>();
+			ConcurrentMap<Class<?>, ValidationPlan> previous = validationPlans.putIfAbsent( beanMetaData, validationPlansForBean );
+			if ( previous != null ) {
+				validationPlansForBean = previous;
+			}
+		}
+
+		ValidationPlan validationPlan = validationPlansForBean.get( group );
+		if ( validationPlan == null ) {
+			validationPlan = defaultGroup
+					? buildDefaultGroupValidationPlan( beanMetaDataManager, beanMetaData )
+					: buildValidationPlan( beanMetaData, group );
+			ValidationPlan previous = validationPlansForBean.putIfAbsent( group, validationPlan );
+			if ( previous != null ) {
+				validationPlan = previous;
+			}
+		}
+
+		return validationPlan;
+	}
+
+	public void clear() {
+		validationPlans.clear();
+		optimizedAccessors.clear();
+	}
+
+	private ValidationPlan buildValidationPlan(BeanMetaData<?> beanMetaData, Class<?> group) {
+		List<ValidationPlan.Step> steps = newArrayList();
+
+		for ( MetaConstraint<?> metaConstraint : beanMetaData.getMetaConstraints() ) {
+			if ( metaConstraint.getGroupList().contains( group ) ) {
+				steps.add( new ValidationPlan.Step( metaConstraint, getValueAccessor( metaConstraint.getLocation() ), false ) );
+			}
+		}
+		for ( ValidationPlan.Step step : steps ) {
+			step.setNextSegmentStart( steps.size() );
+		}
+
+		LOG.debugf( "Built validation plan of %s steps for bean %s and group %s.", steps.size(), beanMetaData.getBeanClass(), group );
+
+		return ValidationPlan.of( steps );
+	}
+
+	/**
+	 * Flattens the evaluation of the default group for the whole hierarchy: the interpreter evaluates the direct
+	 * constraints of each class of the hierarchy and each of these classes is a segment of the plan.
+	 */
+	private <T> ValidationPlan buildDefaultGroupValidationPlan(BeanMetaDataManager beanMetaDataManager, BeanMetaData<T> beanMetaData) {
+		List<ValidationPlan.Step> steps = newArrayList();
+		Map<Class<?>, Class<?>> validatedInterfaces = new HashMap<>();
+
+		for ( Class<? super T> clazz : beanMetaData.getClassHierarchy() ) {
+			BeanMetaData<? super T> hostingBeanMetaData = beanMetaDataManager.getBeanMetaData( clazz );
+
+			// the redefinition of the default group sequence is handled by the interpreter
+			if ( hostingBeanMetaData.isDefaultGroupSequenceRedefined() ) {
+				LOG.debugf( "Unable to build a validation plan for bean %s as %s redefines the default group sequence.", beanMetaData.getBeanClass(), clazz );
+				return ValidationPlan.UNSUPPORTED;
+			}
+
+			int segmentStart = steps.size();
+			boolean segmentHead = true;
+
+			for ( MetaConstraint<?> metaConstraint : hostingBeanMetaData.getDirectMetaConstraints() ) {
+				// HV-466, an interface implemented more than one time in the hierarchy has to be validated only one
+				// time. An interface can define more than one constraint, we have to check the class we are validating.
+				final Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
+				if ( declaringClass.isInterface() ) {
+					Class<?> validatedForClass = validatedInterfaces.get( declaringClass );
+					if ( validatedForClass != null && !validatedForClass.equals( clazz ) ) {
+						continue;
+					}
+					validatedInterfaces.put( declaringClass, clazz );
+				}
+
+				if ( metaConstraint.getGroupList().contains( Default.class ) ) {
+					steps.add( new ValidationPlan.Step( metaConstraint, getValueAccessor( metaConstraint.getLocation() ), segmentHead ) );
+				}
+				segmentHead = false;
+			}
+
+			for ( int i = segmentStart; i < steps.size(); i++ ) {
+				steps.get( i ).setNextSegmentStart( steps.size() );
+			}
+		}
+
+		LOG.debugf( "Built validation plan of %s steps for bean %s and the default group.", steps.size(), beanMetaData.getBeanClass() );
+
+		return ValidationPlan.of( steps );
+	}
+
+	private PropertyAccessor getValueAccessor(ConstraintLocation location) {
+		ConstraintLocation valueLocation = location instanceof TypeArgumentConstraintLocation
+				? ( (TypeArgumentConstraintLocation) location ).getOuterDelegate()
+				: location;
+
+		if ( valueLocation instanceof AbstractPropertyConstraintLocation ) {
+			Property property = ( (AbstractPropertyConstraintLocation<?>) valueLocation ).getConstrainable();
+			return optimizedAccessors.computeIfAbsent( property, Property::createOptimizedAccessor );
+		}
+
+		return valueLocation::getValue;
+	}
+}
@@ -0,0 +1,11 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+/**
+ * Precomputed validation plans, flattening the evaluation of the constraints of a bean for a given group.
+ */
+package org.hibernate.validator.internal.engine.validationplan;
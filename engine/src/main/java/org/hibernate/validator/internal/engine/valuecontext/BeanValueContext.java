@@ -18,13 +18,18 @@
 	/**
 	 * The metadata of the current bean.
 	 */
-	private final BeanMetaData<T> currentBeanMetaData;
+	private BeanMetaData<T> currentBeanMetaData;
 
 	BeanValueContext(ExecutableParameterNameProvider parameterNameProvider, T currentBean, BeanMetaData<T> currentBeanMetaData, PathImpl propertyPath) {
 		super( parameterNameProvider, currentBean, currentBeanMetaData, propertyPath );
 		this.currentBeanMetaData = currentBeanMetaData;
 	}
 
+	void reset(T currentBean, BeanMetaData<T> currentBeanMetaData, PathImpl propertyPath) {
+		super.reset( currentBean, currentBeanMetaData, propertyPath );
+		this.currentBeanMetaData = currentBeanMetaData;
+	}
+
 	public final BeanMetaData<T> getCurrentBeanMetaData() {
 		return currentBeanMetaData;
 	}
@@ -35,7 +35,7 @@
 	/**
 	 * The current bean which gets validated. This is the bean hosting the constraints which get validated.
 	 */
-	private final T currentBean;
+	private T currentBean;
 
 	/**
 	 * The current property path we are validating.
@@ -52,7 +52,7 @@
 	 */
 	private V currentValue;
 
-	private final Validatable currentValidatable;
+	private Validatable currentValidatable;
 
 	/**
 	 * The {@code ConstraintLocationKind} the constraint was defined on
@@ -66,6 +66,32 @@
 		this.propertyPath = propertyPath;
 	}
 
+	/**
+	 * Copies the given value context, including its property path, so that the copy does not share any mutable
+	 * state with the original value context.
+	 */
+	ValueContext(ValueContext<T, V> valueContext) {
+		this.parameterNameProvider = valueContext.parameterNameProvider;
+		this.currentBean = valueContext.currentBean;
+		this.currentValidatable = valueContext.currentValidatable;
+		this.propertyPath = PathImpl.createCopy( valueContext.propertyPath );
+		this.currentGroup = valueContext.currentGroup;
+		this.currentValue = valueContext.currentValue;
+		this.constraintLocationKind = valueContext.constraintLocationKind;
+	}
+
+	/**
+	 * Resets this value context so that it can be reused for another value.
+	 */
+	void reset(T currentBean, Validatable validatable, PathImpl propertyPath) {
+		this.currentBean = currentBean;
+		this.currentValidatable = validatable;
+		this.propertyPath = propertyPath;
+		this.currentGroup = null;
+		this.currentValue = null;
+		this.constraintLocationKind = null;
+	}
+
 	public final PathImpl getPropertyPath() {
 		return propertyPath;
 	}
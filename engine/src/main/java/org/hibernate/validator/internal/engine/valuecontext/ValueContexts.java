@@ -40,6 +40,28 @@ public static <T, V> BeanValueContext<T, V> getLocalExecutionContextForBean(
 		return new BeanValueContext<>( parameterNameProvider, value, (BeanMetaData<T>) currentBeanMetaData, propertyPath );
 	}
 
+	/**
+	 * Resets a value context created by {@link #getLocalExecutionContextForBean(ExecutableParameterNameProvider, Object, BeanMetaData, PathImpl)}
+	 * so that it can be reused for the validation of another bean.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, V> BeanValueContext<T, V> resetLocalExecutionContextForBean(
+			BeanValueContext<T, V> valueContext,
+			Object value,
+			BeanMetaData<?> currentBeanMetaData,
+			PathImpl propertyPath) {
+		valueContext.reset( (T) value, (BeanMetaData<T>) currentBeanMetaData, propertyPath );
+		return valueContext;
+	}
+
+	/**
+	 * Creates a copy of the given value context with its own copy of the property path so that the copy can be
+	 * used concurrently with the original value context.
+	 */
+	public static <T, V> ValueContext<T, V> copyOf(ValueContext<T, V> valueContext) {
+		return new ValueContext<>( valueContext );
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <T, V> BeanValueContext<T, V> getLocalExecutionContextForValueValidation(
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -0,0 +1,272 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
+
+/**
+ * Caches the bean metadata built on demand, following one of the {@link BeanMetaDataCacheStrategy}s.
+ * <p>
+ * Besides the cache itself, the hits, misses and build times are recorded. The classes whose metadata have been built
+ * are weakly remembered so that the metadata built again after an eviction are told apart from the ones built for the
+ * first time.
+ */
+abstract class BeanMetaDataCache {
+
+	/**
+	 * The default initial capacity for this cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * The default load factor for this cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for this cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<Class<?>, Boolean> builtClasses = newReferenceMap( WEAK, STRONG );
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder rebuilds = new LongAdder();
+
+	private final LongAdder buildNanos = new LongAdder();
+
+	private final LongAdder rebuildNanos = new LongAdder();
+
+	static BeanMetaDataCache create(BeanMetaDataCacheStrategy strategy, int maxSize) {
+		switch ( strategy ) {
+			case STRONG:
+				return new StrongBeanMetaDataCache();
+			case BOUNDED:
+				return new BoundedBeanMetaDataCache( maxSize );
+			default:
+				return new SoftBeanMetaDataCache();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> BeanMetaData<T> computeIfAbsent(Class<T> beanClass, Function<Class<T>, BeanMetaData<T>> beanMetaDataBuilder) {
+		BeanMetaData<?> beanMetaData = get( beanClass );
+		if ( beanMetaData != null ) {
+			hits.increment();
+			return (BeanMetaData<T>) beanMetaData;
+		}
+
+		misses.increment();
+
+		long start = System.nanoTime();
+		beanMetaData = beanMetaDataBuilder.apply( beanClass );
+		long buildTime = System.nanoTime() - start;
+
+		BeanMetaData<?> existingBeanMetaData = putIfAbsent( beanClass, beanMetaData );
+		if ( existingBeanMetaData != null ) {
+			// built concurrently by another thread
+			buildNanos.add( buildTime );
+			return (BeanMetaData<T>) existingBeanMetaData;
+		}
+
+		if ( builtClasses.put( beanClass, Boolean.TRUE ) != null ) {
+			rebuilds.increment();
+			rebuildNanos.add( buildTime );
+		}
+		else {
+			buildNanos.add( buildTime );
+		}
+		return (BeanMetaData<T>) beanMetaData;
+	}
+
+	void clear() {
+		doClear();
+		builtClasses.clear();
+	}
+
+	abstract int size();
+
+	BeanMetaDataCacheStatistics getStatistics() {
+		return new BeanMetaDataCacheStatisticsImpl(
+				getStrategy(),
+				size(),
+				getMaxSize(),
+				hits.sum(),
+				misses.sum(),
+				getEvictionCount(),
+				rebuilds.sum(),
+				Duration.ofNanos( buildNanos.sum() ),
+				Duration.ofNanos( rebuildNanos.sum() )
+		);
+	}
+
+	abstract BeanMetaDataCacheStrategy getStrategy();
+
+	int getMaxSize() {
+		return -1;
+	}
+
+	long getRebuildCount() {
+		return rebuilds.sum();
+	}
+
+	abstract long getEvictionCount();
+
+	abstract BeanMetaData<?> get(Class<?> beanClass);
+
+	/**
+	 * @return the metadata already cached for the given class or {@code null} if the given metadata have been cached
+	 */
+	abstract BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData);
+
+	abstract void doClear();
+
+	private static <V> ConcurrentReferenceHashMap<Class<?>, V> newReferenceMap(ConcurrentReferenceHashMap.ReferenceType keyType,
+			ConcurrentReferenceHashMap.ReferenceType valueType) {
+		return new ConcurrentReferenceHashMap<>(
+				DEFAULT_INITIAL_CAPACITY,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				keyType,
+				valueType,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+	}
+
+	private static class StrongBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final ConcurrentHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache = new ConcurrentHashMap<>();
+
+		@Override
+		BeanMetaDataCacheStrategy getStrategy() {
+			return BeanMetaDataCacheStrategy.STRONG;
+		}
+
+		@Override
+		BeanMetaData<?> get(Class<?> beanClass) {
+			return beanMetaDataCache.get( beanClass );
+		}
+
+		@Override
+		BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			return beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+		}
+
+		@Override
+		int size() {
+			return beanMetaDataCache.size();
+		}
+
+		@Override
+		long getEvictionCount() {
+			return 0;
+		}
+
+		@Override
+		void doClear() {
+			beanMetaDataCache.clear();
+		}
+	}
+
+	private static class BoundedBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final BoundedConcurrentCache<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+
+		private BoundedBeanMetaDataCache(int maxSize) {
+			this.beanMetaDataCache = new BoundedConcurrentCache<>( maxSize, true );
+		}
+
+		@Override
+		BeanMetaDataCacheStrategy getStrategy() {
+			return BeanMetaDataCacheStrategy.BOUNDED;
+		}
+
+		@Override
+		BeanMetaData<?> get(Class<?> beanClass) {
+			return beanMetaDataCache.get( beanClass );
+		}
+
+		@Override
+		BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			return beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+		}
+
+		@Override
+		int size() {
+			return beanMetaDataCache.size();
+		}
+
+		@Override
+		int getMaxSize() {
+			return beanMetaDataCache.getMaxSize();
+		}
+
+		@Override
+		long getEvictionCount() {
+			return beanMetaDataCache.getEvictionCount();
+		}
+
+		@Override
+		void doClear() {
+			beanMetaDataCache.clear();
+		}
+	}
+
+	private static class SoftBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache = newReferenceMap( SOFT, SOFT );
+
+		@Override
+		BeanMetaDataCacheStrategy getStrategy() {
+			return BeanMetaDataCacheStrategy.SOFT;
+		}
+
+		@Override
+		BeanMetaData<?> get(Class<?> beanClass) {
+			return beanMetaDataCache.get( beanClass );
+		}
+
+		@Override
+		BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			return beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+		}
+
+		@Override
+		int size() {
+			return beanMetaDataCache.size();
+		}
+
+		@Override
+		long getEvictionCount() {
+			// the entries reclaimed by the garbage collector are only noticed when they are built again
+			return getRebuildCount();
+		}
+
+		@Override
+		void doClear() {
+			beanMetaDataCache.clear();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.time.Duration;
+
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
+
+public class BeanMetaDataCacheStatisticsImpl implements BeanMetaDataCacheStatistics {
+
+	private final BeanMetaDataCacheStrategy strategy;
+
+	private final int size;
+
+	private final int maxSize;
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long evictionCount;
+
+	private final long rebuildCount;
+
+	private final Duration buildTime;
+
+	private final Duration rebuildTime;
+
+	BeanMetaDataCacheStatisticsImpl(BeanMetaDataCacheStrategy strategy, int size, int maxSize, long hitCount, long missCount, long evictionCount,
+			long rebuildCount, Duration buildTime, Duration rebuildTime) {
+		this.strategy = strategy;
+		this.size = size;
+		this.maxSize = maxSize;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.rebuildCount = rebuildCount;
+		this.buildTime = buildTime;
+		this.rebuildTime = rebuildTime;
+	}
+
+	/**
+	 * The validator factory keeps a metadata cache per combination of parameter name provider, value extractors and
+	 * method validation settings, its statistics are the sum of the statistics of these caches, each one being bounded
+	 * separately.
+	 *
+	 * @return the statistics of the given caches, all using the given strategy
+	 */
+	public static BeanMetaDataCacheStatistics aggregate(BeanMetaDataCacheStrategy strategy, int maxSize, Iterable<BeanMetaDataManagerImpl> beanMetaDataManagers) {
+		int size = 0;
+		long hitCount = 0;
+		long missCount = 0;
+		long evictionCount = 0;
+		long rebuildCount = 0;
+		Duration buildTime = Duration.ZERO;
+		Duration rebuildTime = Duration.ZERO;
+
+		for ( BeanMetaDataManagerImpl beanMetaDataManager : beanMetaDataManagers ) {
+			BeanMetaDataCacheStatistics statistics = beanMetaDataManager.getCacheStatistics();
+			size += statistics.getSize();
+			hitCount += statistics.getHitCount();
+			missCount += statistics.getMissCount();
+			evictionCount += statistics.getEvictionCount();
+			rebuildCount += statistics.getRebuildCount();
+			buildTime = buildTime.plus( statistics.getBuildTime() );
+			rebuildTime = rebuildTime.plus( statistics.getRebuildTime() );
+		}
+
+		return new BeanMetaDataCacheStatisticsImpl( strategy, size, maxSize, hitCount, missCount, evictionCount, rebuildCount, buildTime, rebuildTime );
+	}
+
+	@Override
+	public BeanMetaDataCacheStrategy getStrategy() {
+		return strategy;
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public long getRebuildCount() {
+		return rebuildCount;
+	}
+
+	@Override
+	public Duration getBuildTime() {
+		return buildTime;
+	}
+
+	@Override
+	public Duration getRebuildTime() {
+		return rebuildTime;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+		sb.append( '{' );
+		sb.append( "strategy=" ).append( strategy );
+		sb.append( ", size=" ).append( size );
+		sb.append( ", maxSize=" ).append( maxSize );
+		sb.append( ", hits=" ).append( hitCount );
+		sb.append( ", misses=" ).append( missCount );
+		sb.append( ", evictions=" ).append( evictionCount );
+		sb.append( ", rebuilds=" ).append( rebuildCount );
+		sb.append( ", buildTime=" ).append( buildTime );
+		sb.append( ", rebuildTime=" ).append( rebuildTime );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
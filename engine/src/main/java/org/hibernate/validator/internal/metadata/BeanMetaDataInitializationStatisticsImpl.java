@@ -0,0 +1,54 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
+
+class BeanMetaDataInitializationStatisticsImpl implements BeanMetaDataInitializationStatistics {
+
+	private final Duration initializationTime;
+
+	private final Map<Class<?>, Duration> beanMetaDataBuildTimes;
+
+	private final boolean parallel;
+
+	BeanMetaDataInitializationStatisticsImpl(Duration initializationTime, Map<Class<?>, Duration> beanMetaDataBuildTimes, boolean parallel) {
+		this.initializationTime = initializationTime;
+		this.beanMetaDataBuildTimes = Collections.unmodifiableMap( beanMetaDataBuildTimes );
+		this.parallel = parallel;
+	}
+
+	@Override
+	public Duration getInitializationTime() {
+		return initializationTime;
+	}
+
+	@Override
+	public Map<Class<?>, Duration> getBeanMetaDataBuildTimes() {
+		return beanMetaDataBuildTimes;
+	}
+
+	@Override
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+		sb.append( '{' );
+		sb.append( "initializationTime=" ).append( initializationTime );
+		sb.append( ", beanClasses=" ).append( beanMetaDataBuildTimes.size() );
+		sb.append( ", parallel=" ).append( parallel );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.ValidationException;
+
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.facets.Cascadable;
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.TypeVariables;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * Determines, from the cascading metadata of the bean types, whether the graph of the beans cascaded from a root bean
+ * type is acyclic by type, as is the case of tree-shaped DTOs.
+ * <p>
+ * The analysis collects the classes declared by the cascaded properties and container elements reachable from the
+ * root bean type. The graph is considered acyclic if none of these classes can reach itself, a class being considered
+ * to reach all the collected classes assignable to the declared type of one of its cascaded values. Any group
+ * conversion or any cascaded type which cannot be resolved to a class makes the analysis fail.
+ * <p>
+ * The result only holds for the beans whose runtime class is one of the collected classes or does not cascade anything:
+ * it is up to the validation engine to check the runtime class of the cascaded beans with
+ * {@link AcyclicCascadedGraph#covers(Class)}.
+ * <p>
+ * The results are cached per {@link BeanMetaData} instance and discarded with it.
+ */
+public class CascadedTypeGraphAnalyzer {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	/**
+	 * Marker of the bean types for which the graph cannot be proven to be acyclic.
+	 */
+	private static final AcyclicCascadedGraph NOT_PROVEN_ACYCLIC = new AcyclicCascadedGraph( null, Collections.<Class<?>>emptySet() );
+
+	private final ConcurrentReferenceHashMap<BeanMetaData<?>, AcyclicCascadedGraph> acyclicCascadedGraphs = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	/**
+	 * Returns the graph cascaded from the given bean type, if it is acyclic by type.
+	 *
+	 * @param beanMetaDataManager the manager used to retrieve the metadata of the cascaded types
+	 * @param beanMetaData the metadata of the root bean type
+	 *
+	 * @return the graph, or {@code null} if it cannot be proven to be acyclic
+	 */
+	public AcyclicCascadedGraph getAcyclicCascadedGraph(BeanMetaDataManager beanMetaDataManager, BeanMetaData<?> beanMetaData) {
+		AcyclicCascadedGraph graph = acyclicCascadedGraphs.get( beanMetaData );
+		if ( graph == null ) {
+			graph = analyze( beanMetaDataManager, beanMetaData );
+			AcyclicCascadedGraph previous = acyclicCascadedGraphs.putIfAbsent( beanMetaData, graph );
+			if ( previous != null ) {
+				graph = previous;
+			}
+		}
+
+		return graph == NOT_PROVEN_ACYCLIC ? null : graph;
+	}
+
+	public void clear() {
+		acyclicCascadedGraphs.clear();
+	}
+
+	private AcyclicCascadedGraph analyze(BeanMetaDataManager beanMetaDataManager, BeanMetaData<?> beanMetaData) {
+		// the declared types of the cascaded values of each class of the graph
+		Map<Class<?>, Set<Class<?>>> cascadedTypes = new LinkedHashMap<>();
+		Deque<Class<?>> classesToAnalyze = new ArrayDeque<>();
+		classesToAnalyze.add( beanMetaData.getBeanClass() );
+
+		while ( !classesToAnalyze.isEmpty() ) {
+			Class<?> clazz = classesToAnalyze.poll();
+			if ( cascadedTypes.containsKey( clazz ) ) {
+				continue;
+			}
+
+			BeanMetaData<?> currentBeanMetaData;
+			try {
+				currentBeanMetaData = clazz == beanMetaData.getBeanClass() ? beanMetaData : beanMetaDataManager.getBeanMetaData( clazz );
+			}
+			catch (ValidationException e) {
+				// the predefined scope bean metadata manager does not know about the declared types which are not
+				// validated themselves, typically interfaces
+				LOG.debugf( "Unable to prove the graph of %s acyclic as the metadata of %s is not available.", beanMetaData.getBeanClass(), clazz );
+				return NOT_PROVEN_ACYCLIC;
+			}
+
+			Set<Class<?>> classCascadedTypes = new HashSet<>();
+			for ( Cascadable cascadable : currentBeanMetaData.getCascadables() ) {
+				if ( !collectCascadedTypes( cascadable.getCascadingMetaData(), cascadable.getCascadableType(), classCascadedTypes ) ) {
+					LOG.debugf( "Unable to prove the graph of %s acyclic because of %s.", beanMetaData.getBeanClass(), cascadable );
+					return NOT_PROVEN_ACYCLIC;
+				}
+			}
+
+			cascadedTypes.put( clazz, classCascadedTypes );
+			classesToAnalyze.addAll( classCascadedTypes );
+		}
+
+		if ( hasCycle( cascadedTypes ) ) {
+			LOG.debugf( "The graph of %s is cyclic by type.", beanMetaData.getBeanClass() );
+			return NOT_PROVEN_ACYCLIC;
+		}
+
+		LOG.debugf( "The graph of %s is acyclic by type and made of %s.", beanMetaData.getBeanClass(), cascadedTypes.keySet() );
+
+		return new AcyclicCascadedGraph( beanMetaDataManager, new HashSet<>( cascadedTypes.keySet() ) );
+	}
+
+	/**
+	 * Collects the declared classes of the values cascaded by the given cascading metadata.
+	 *
+	 * @return {@code false} if a group conversion is defined or if one of the cascaded types cannot be resolved
+	 */
+	private static boolean collectCascadedTypes(CascadingMetaData cascadingMetaData, Type type, Set<Class<?>> cascadedTypes) {
+		if ( !cascadingMetaData.getGroupConversionDescriptors().isEmpty() ) {
+			return false;
+		}
+
+		if ( cascadingMetaData.isCascading() ) {
+			Class<?> cascadedClass = toClass( type );
+			if ( cascadedClass == null ) {
+				return false;
+			}
+			cascadedTypes.add( cascadedClass );
+		}
+
+		if ( cascadingMetaData.isContainer() ) {
+			List<ContainerCascadingMetaData> containerElementTypesCascadingMetaData = cascadingMetaData.as( ContainerCascadingMetaData.class )
+					.getContainerElementTypesCascadingMetaData();
+			for ( ContainerCascadingMetaData containerElementCascadingMetaData : containerElementTypesCascadingMetaData ) {
+				if ( !containerElementCascadingMetaData.isMarkedForCascadingOnAnnotatedObjectOrContainerElements() ) {
+					continue;
+				}
+
+				Type containerElementType = resolveContainerElementType( containerElementCascadingMetaData.getEnclosingType(),
+						containerElementCascadingMetaData.getTypeParameter() );
+				if ( containerElementType == null
+						|| !collectCascadedTypes( containerElementCascadingMetaData, containerElementType, cascadedTypes ) ) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private static Type resolveContainerElementType(Type enclosingType, TypeVariable<?> typeParameter) {
+		if ( TypeVariables.isArrayElement( typeParameter ) ) {
+			if ( enclosingType instanceof Class && ( (Class<?>) enclosingType ).isArray() ) {
+				return ( (Class<?>) enclosingType ).getComponentType();
+			}
+			if ( enclosingType instanceof GenericArrayType ) {
+				return ( (GenericArrayType) enclosingType ).getGenericComponentType();
+			}
+			return null;
+		}
+
+		if ( enclosingType instanceof ParameterizedType ) {
+			ParameterizedType parameterizedType = (ParameterizedType) enclosingType;
+			TypeVariable<?>[] typeParameters = ( (Class<?>) parameterizedType.getRawType() ).getTypeParameters();
+			for ( int i = 0; i < typeParameters.length; i++ ) {
+				if ( typeParameters[i].equals( typeParameter ) ) {
+					return parameterizedType.getActualTypeArguments()[i];
+				}
+			}
+		}
+
+		// the type parameter is declared by a super type of the container or the type is raw
+		return null;
+	}
+
+	private static Class<?> toClass(Type type) {
+		if ( type instanceof Class ) {
+			return (Class<?>) type;
+		}
+		if ( type instanceof ParameterizedType ) {
+			return (Class<?>) ( (ParameterizedType) type ).getRawType();
+		}
+		return null;
+	}
+
+	private static boolean hasCycle(Map<Class<?>, Set<Class<?>>> cascadedTypes) {
+		// a cascaded value might be of any of the classes of the graph assignable to its declared type
+		Map<Class<?>, Set<Class<?>>> successors = new HashMap<>();
+		for ( Map.Entry<Class<?>, Set<Class<?>>> entry : cascadedTypes.entrySet() ) {
+			Set<Class<?>> classSuccessors = new HashSet<>();
+			for ( Class<?> cascadedType : entry.getValue() ) {
+				for ( Class<?> candidate : cascadedTypes.keySet() ) {
+					if ( cascadedType.isAssignableFrom( candidate ) ) {
+						classSuccessors.add( candidate );
+					}
+				}
+			}
+			successors.put( entry.getKey(), classSuccessors );
+		}
+
+		Set<Class<?>> visited = new HashSet<>();
+		for ( Class<?> clazz : cascadedTypes.keySet() ) {
+			if ( hasCycle( clazz, successors, visited, new HashSet<>() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasCycle(Class<?> clazz, Map<Class<?>, Set<Class<?>>> successors, Set<Class<?>> visited, Set<Class<?>> currentPath) {
+		if ( currentPath.contains( clazz ) ) {
+			return true;
+		}
+		if ( !visited.add( clazz ) ) {
+			return false;
+		}
+
+		currentPath.add( clazz );
+		for ( Class<?> successor : successors.get( clazz ) ) {
+			if ( hasCycle( successor, successors, visited, currentPath ) ) {
+				return true;
+			}
+		}
+		currentPath.remove( clazz );
+
+		return false;
+	}
+
+	/**
+	 * A graph of cascaded beans proven to be acyclic by type.
+	 */
+	public static final class AcyclicCascadedGraph {
+
+		private final BeanMetaDataManager beanMetaDataManager;
+
+		/**
+		 * The classes of the graph, the root bean class included.
+		 */
+		@Immutable
+		private final Set<Class<?>> classes;
+
+		/**
+		 * Whether the other classes met at runtime do not cascade anything: they are leaves of the graph and cannot
+		 * be part of a cycle.
+		 */
+		private final ConcurrentMap<Class<?>, Boolean> leafClasses = new ConcurrentHashMap<>();
+
+		private AcyclicCascadedGraph(BeanMetaDataManager beanMetaDataManager, Set<Class<?>> classes) {
+			this.beanMetaDataManager = beanMetaDataManager;
+			this.classes = CollectionHelper.toImmutableSet( classes );
+		}
+
+		/**
+		 * @return the classes of the graph, the root bean class included
+		 */
+		public Set<Class<?>> getClasses() {
+			return classes;
+		}
+
+		/**
+		 * @return {@code true} if a cascaded bean of the given runtime class is covered by the proof, i.e. if its class
+		 * is one of the classes of the graph or if it does not cascade anything
+		 */
+		public boolean covers(Class<?> beanClass) {
+			if ( classes.contains( beanClass ) ) {
+				return true;
+			}
+
+			Boolean leafClass = leafClasses.get( beanClass );
+			if ( leafClass == null ) {
+				leafClass = isLeafClass( beanClass );
+				leafClasses.putIfAbsent( beanClass, leafClass );
+			}
+			return leafClass;
+		}
+
+		private boolean isLeafClass(Class<?> beanClass) {
+			try {
+				return !beanMetaDataManager.getBeanMetaData( beanClass ).hasCascadables();
+			}
+			catch (ValidationException e) {
+				return false;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "AcyclicCascadedGraph{classes=" + classes + '}';
+		}
+	}
+}
@@ -9,11 +9,18 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
 import java.lang.invoke.MethodHandles;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
@@ -34,7 +41,10 @@
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
 
 public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
 
@@ -47,6 +57,8 @@ public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
 	 */
 	private final Map<Class<?>, BeanMetaData<?>> beanMetaDataMap;
 
+	private final BeanMetaDataInitializationStatistics initializationStatistics;
+
 	public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCreationContext,
 			ExecutableHelper executableHelper,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -55,7 +67,8 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
 			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
-			Set<Class<?>> beanClassesToInitialize) {
+			Set<Class<?>> beanClassesToInitialize,
+			Executor beanMetaDataInitializationExecutor) {
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
 		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
 				constraintCreationContext,
@@ -71,20 +84,52 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 		metaDataProviders.add( defaultProvider );
 		metaDataProviders.addAll( optionalMetaDataProviders );
 
-		Map<Class<?>, BeanMetaData<?>> tmpBeanMetadataMap = new HashMap<>();
-
+		// the hierarchies of the classes to initialize usually share some superclasses: the metadata of a given class
+		// are built only once
+		Map<Class<?>, Class<?>> classesToInitialize = new LinkedHashMap<>();
 		for ( Class<?> validatedClass : beanClassesToInitialize ) {
 			@SuppressWarnings("unchecked")
 			List<Class<?>> classHierarchy = (List<Class<?>>) (Object) ClassHierarchyHelper.getHierarchy( validatedClass, Filters.excludeInterfaces() );
 
 			// note that the hierarchy also contains the initial class
 			for ( Class<?> hierarchyElement : classHierarchy ) {
-				tmpBeanMetadataMap.put( beanMetaDataClassNormalizer.normalize( hierarchyElement ),
-						createBeanMetaData( constraintCreationContext, executableHelper, parameterNameProvider,
-								javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
-								metaDataProviders, hierarchyElement ) );
+				classesToInitialize.put( beanMetaDataClassNormalizer.normalize( hierarchyElement ), hierarchyElement );
+			}
+		}
+
+		Function<Class<?>, BeanMetaData<?>> beanMetaDataFactory = beanClass -> createBeanMetaData( constraintCreationContext, executableHelper,
+				parameterNameProvider, javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
+				metaDataProviders, beanClass );
+
+		long initializationStart = System.nanoTime();
+
+		List<BeanMetaDataInitializationTask> initializationTasks = new ArrayList<>( classesToInitialize.size() );
+		for ( Map.Entry<Class<?>, Class<?>> classToInitialize : classesToInitialize.entrySet() ) {
+			initializationTasks.add( new BeanMetaDataInitializationTask( classToInitialize.getKey(), classToInitialize.getValue(), beanMetaDataFactory ) );
+		}
+
+		if ( beanMetaDataInitializationExecutor == null ) {
+			for ( BeanMetaDataInitializationTask initializationTask : initializationTasks ) {
+				initializationTask.run();
+				initializationTask.rethrowFailure();
 			}
 		}
+		else {
+			runInParallel( initializationTasks, beanMetaDataInitializationExecutor );
+		}
+
+		Map<Class<?>, BeanMetaData<?>> tmpBeanMetadataMap = new HashMap<>();
+		Map<Class<?>, Duration> beanMetaDataBuildTimes = new LinkedHashMap<>();
+		for ( BeanMetaDataInitializationTask initializationTask : initializationTasks ) {
+			tmpBeanMetadataMap.put( initializationTask.normalizedClass, initializationTask.beanMetaData );
+			beanMetaDataBuildTimes.put( initializationTask.beanClass, Duration.ofNanos( initializationTask.buildTime ) );
+		}
+
+		this.initializationStatistics = new BeanMetaDataInitializationStatisticsImpl(
+				Duration.ofNanos( System.nanoTime() - initializationStart ),
+				beanMetaDataBuildTimes,
+				beanMetaDataInitializationExecutor != null
+		);
 
 		this.beanMetaDataMap = CollectionHelper.toImmutableMap( tmpBeanMetadataMap );
 
@@ -101,6 +146,10 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		return beanMetaData;
 	}
 
+	public BeanMetaDataInitializationStatistics getInitializationStatistics() {
+		return initializationStatistics;
+	}
+
 	@Override
 	public void clear() {
 		beanMetaDataMap.clear();
@@ -170,4 +219,92 @@ private static <T> List<BeanConfiguration<? super T>> getBeanConfigurationForHie
 
 		return configurations;
 	}
+
+	/**
+	 * Builds the metadata in parallel using the given executor and rethrows the failure of the first failed build, if
+	 * any, once all the builds are done.
+	 */
+	private static void runInParallel(List<BeanMetaDataInitializationTask> initializationTasks, Executor executor) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[initializationTasks.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = CompletableFuture.runAsync( initializationTasks.get( i ), executor );
+		}
+		CompletableFuture.allOf( futures ).join();
+
+		for ( BeanMetaDataInitializationTask initializationTask : initializationTasks ) {
+			initializationTask.rethrowFailure();
+		}
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	/**
+	 * The build of the metadata of a class, possibly executed by another thread with the context class loader of the
+	 * thread building the factory. The failure is kept so that it can be rethrown as is in the calling thread.
+	 */
+	private static class BeanMetaDataInitializationTask implements Runnable {
+
+		private final Class<?> normalizedClass;
+
+		private final Class<?> beanClass;
+
+		private final Function<Class<?>, BeanMetaData<?>> beanMetaDataFactory;
+
+		private final ClassLoader contextClassLoader;
+
+		private BeanMetaData<?> beanMetaData;
+
+		private long buildTime;
+
+		private Throwable failure;
+
+		private BeanMetaDataInitializationTask(Class<?> normalizedClass, Class<?> beanClass, Function<Class<?>, BeanMetaData<?>> beanMetaDataFactory) {
+			this.normalizedClass = normalizedClass;
+			this.beanClass = beanClass;
+			this.beanMetaDataFactory = beanMetaDataFactory;
+			this.contextClassLoader = PredefinedScopeBeanMetaDataManager.run( GetClassLoader.fromContext() );
+		}
+
+		@Override
+		public void run() {
+			ClassLoader originalContextClassLoader = PredefinedScopeBeanMetaDataManager.run( GetClassLoader.fromContext() );
+			boolean switchContextClassLoader = contextClassLoader != null && originalContextClassLoader != null
+					&& contextClassLoader != originalContextClassLoader;
+
+			long start = System.nanoTime();
+			try {
+				if ( switchContextClassLoader ) {
+					PredefinedScopeBeanMetaDataManager.run( SetContextClassLoader.action( contextClassLoader ) );
+				}
+
+				beanMetaData = beanMetaDataFactory.apply( beanClass );
+			}
+			catch (RuntimeException | Error e) {
+				failure = e;
+			}
+			finally {
+				buildTime = System.nanoTime() - start;
+				if ( switchContextClassLoader ) {
+					PredefinedScopeBeanMetaDataManager.run( SetContextClassLoader.action( originalContextClassLoader ) );
+				}
+			}
+		}
+
+		private void rethrowFailure() {
+			if ( failure instanceof RuntimeException ) {
+				throw (RuntimeException) failure;
+			}
+			if ( failure instanceof Error ) {
+				throw (Error) failure;
+			}
+		}
+	}
 }
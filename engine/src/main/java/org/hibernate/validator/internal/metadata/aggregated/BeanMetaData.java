@@ -94,6 +94,20 @@
 	 */
 	Set<MetaConstraint<?>> getDirectMetaConstraints();
 
+	/**
+	 * @param group the validated group
+	 *
+	 * @return the constraints of the bean, including the ones from super classes, belonging to the given group and
+	 *         the cascadables to validate for this group
+	 */
+	ConstraintDispatchTable getDispatchTable(Class<?> group);
+
+	/**
+	 * @return the constraints defined on the bean directly (see {@link #getDirectMetaConstraints()}) belonging to
+	 *         the default group and the cascadables to validate for this group
+	 */
+	ConstraintDispatchTable getDirectDefaultGroupDispatchTable();
+
 	/**
 	 * Returns the constraint-related metadata for the given executable of the
 	 * class represented by this bean metadata.
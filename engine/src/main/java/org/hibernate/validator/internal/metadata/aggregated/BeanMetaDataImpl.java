@@ -19,6 +19,8 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import javax.validation.ElementKind;
@@ -89,6 +91,24 @@
 	@Immutable
 	private final Set<MetaConstraint<?>> directMetaConstraints;
 
+	/**
+	 * The constraints and cascadables to consider per group, for all the groups at least one constraint of the bean
+	 * belongs to.
+	 */
+	@Immutable
+	private final Map<Class<?>, ConstraintDispatchTable> dispatchTables;
+
+	/**
+	 * The table of the groups none of the constraints belongs to.
+	 */
+	private final ConstraintDispatchTable cascadablesOnlyDispatchTable;
+
+	/**
+	 * The table of the direct constraints belonging to the default group, used when the bean hierarchy is validated
+	 * class by class.
+	 */
+	private final ConstraintDispatchTable directDefaultGroupDispatchTable;
+
 	/**
 	 * Contains constrained related meta data for all the constrained methods and constructors of the type represented
 	 * by this bean meta data. Keyed by executable, values are an aggregated view on each executable together with all
@@ -109,6 +129,15 @@
 	@Immutable
 	private final Set<String> unconstrainedExecutables;
 
+	/**
+	 * The results of {@link #getMetaDataFor(Executable)}, keyed by the executables they were requested for, so that
+	 * the signatures of the executables are only built once.
+	 * <p>
+	 * The values are an empty {@code Optional} for the unconstrained executables. The executables not defined by the
+	 * bean are not cached as they lead to an exception.
+	 */
+	private final ConcurrentMap<Executable, Optional<ExecutableMetaData>> executableMetaDataCache = new ConcurrentHashMap<>();
+
 	/**
 	 * Property meta data keyed against the property name
 	 */
@@ -231,6 +260,11 @@ else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
 
 		this.directMetaConstraints = getDirectConstraints();
 
+		Cascadable[] cascadables = this.cascadedProperties.toArray( new Cascadable[this.cascadedProperties.size()] );
+		this.dispatchTables = CollectionHelper.toImmutableMap( getDispatchTables( this.allMetaConstraints, cascadables ) );
+		this.cascadablesOnlyDispatchTable = ConstraintDispatchTable.ofCascadablesOnly( cascadables );
+		this.directDefaultGroupDispatchTable = ConstraintDispatchTable.of( Default.class, this.directMetaConstraints, cascadables );
+
 		this.executableMetaDataMap = CollectionHelper.toImmutableMap( bySignature( executableMetaDataSet ) );
 		this.unconstrainedExecutables = CollectionHelper.toImmutableSet( tmpUnconstrainedExecutables );
 
@@ -300,15 +334,37 @@ public Set<MetaConstraint<?>> getDirectMetaConstraints() {
 		return directMetaConstraints;
 	}
 
+	@Override
+	public ConstraintDispatchTable getDispatchTable(Class<?> group) {
+		ConstraintDispatchTable dispatchTable = dispatchTables.get( group );
+		return dispatchTable != null ? dispatchTable : cascadablesOnlyDispatchTable;
+	}
+
+	@Override
+	public ConstraintDispatchTable getDirectDefaultGroupDispatchTable() {
+		return directDefaultGroupDispatchTable;
+	}
+
 	@Override
 	public Optional<ExecutableMetaData> getMetaDataFor(Executable executable) {
+		// the map checks the identity of the keys first, the CDI interceptors always passing the same instances;
+		// when another copy of an executable is passed, comparing it does not allocate anything either
+		Optional<ExecutableMetaData> executableMetaData = executableMetaDataCache.get( executable );
+		if ( executableMetaData == null ) {
+			executableMetaData = resolveMetaDataFor( executable );
+			executableMetaDataCache.putIfAbsent( executable, executableMetaData );
+		}
+		return executableMetaData;
+	}
+
+	private Optional<ExecutableMetaData> resolveMetaDataFor(Executable executable) {
 		String signature = ExecutableHelper.getSignature( executable );
 
 		if ( unconstrainedExecutables.contains( signature ) ) {
 			return Optional.empty();
 		}
 
-		ExecutableMetaData executableMetaData = executableMetaDataMap.get( ExecutableHelper.getSignature( executable ) );
+		ExecutableMetaData executableMetaData = executableMetaDataMap.get( signature );
 
 		if ( executableMetaData == null ) {
 			// there is no executable metadata - specified object and method do not match
@@ -497,6 +553,20 @@ private Set<MetaConstraint<?>> getDirectConstraints() {
 		return CollectionHelper.toImmutableSet( constraints );
 	}
 
+	private static Map<Class<?>, ConstraintDispatchTable> getDispatchTables(Set<MetaConstraint<?>> metaConstraints, Cascadable[] cascadables) {
+		Set<Class<?>> groups = newHashSet();
+		groups.add( Default.class );
+		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			groups.addAll( metaConstraint.getGroupList() );
+		}
+
+		Map<Class<?>, ConstraintDispatchTable> dispatchTables = newHashMap( groups.size() );
+		for ( Class<?> group : groups ) {
+			dispatchTables.put( group, ConstraintDispatchTable.of( group, metaConstraints, cascadables ) );
+		}
+		return dispatchTables;
+	}
+
 	/**
 	 * Builds up the method meta data for this type; each meta-data entry will be stored under the signature of the
 	 * represented method and all the methods it overrides.
@@ -0,0 +1,135 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.aggregated;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.facets.Cascadable;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * The constraints and cascadables of a bean to consider when validating a given group, precomputed when the bean
+ * metadata is built so that the validation engine does not have to filter the constraints by group for each
+ * validated bean.
+ * <p>
+ * The constraints are kept in the iteration order of the set they have been selected from.
+ */
+public final class ConstraintDispatchTable {
+
+	private static final MetaConstraint<?>[] EMPTY_META_CONSTRAINTS = new MetaConstraint<?>[0];
+
+	private static final Class<?>[] EMPTY_CLASSES = new Class<?>[0];
+
+	@Immutable
+	private final MetaConstraint<?>[] metaConstraints;
+
+	@Immutable
+	private final Cascadable[] cascadables;
+
+	/**
+	 * The interfaces declaring at least one of the constraints the table has been built from, whether the constraint
+	 * belongs to the group or not.
+	 */
+	@Immutable
+	private final Class<?>[] constrainedInterfaces;
+
+	/**
+	 * Whether one of the constraints of the table is part of several groups and might thus be evaluated for another
+	 * group of the same validation.
+	 */
+	private final boolean processedConstraintTrackingRequired;
+
+	private ConstraintDispatchTable(MetaConstraint<?>[] metaConstraints, Cascadable[] cascadables, Class<?>[] constrainedInterfaces) {
+		this.metaConstraints = metaConstraints;
+		this.cascadables = cascadables;
+		this.constrainedInterfaces = constrainedInterfaces;
+
+		boolean processedConstraintTrackingRequired = false;
+		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			if ( !metaConstraint.isDefinedForOneGroupOnly() ) {
+				processedConstraintTrackingRequired = true;
+				break;
+			}
+		}
+		this.processedConstraintTrackingRequired = processedConstraintTrackingRequired;
+	}
+
+	/**
+	 * Builds the table of the given group from the given constraints.
+	 */
+	static ConstraintDispatchTable of(Class<?> group, Set<MetaConstraint<?>> metaConstraints, Cascadable[] cascadables) {
+		List<MetaConstraint<?>> groupMetaConstraints = newArrayList();
+		Set<Class<?>> constrainedInterfaces = new LinkedHashSet<>();
+
+		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
+			if ( declaringClass.isInterface() ) {
+				constrainedInterfaces.add( declaringClass );
+			}
+			if ( metaConstraint.getGroupList().contains( group ) ) {
+				groupMetaConstraints.add( metaConstraint );
+			}
+		}
+
+		return new ConstraintDispatchTable(
+				groupMetaConstraints.isEmpty() ? EMPTY_META_CONSTRAINTS : groupMetaConstraints.toArray( new MetaConstraint<?>[groupMetaConstraints.size()] ),
+				cascadables,
+				constrainedInterfaces.isEmpty() ? EMPTY_CLASSES : constrainedInterfaces.toArray( new Class<?>[constrainedInterfaces.size()] )
+		);
+	}
+
+	/**
+	 * Builds the table of a group none of the constraints of the bean belongs to.
+	 */
+	static ConstraintDispatchTable ofCascadablesOnly(Cascadable[] cascadables) {
+		return new ConstraintDispatchTable( EMPTY_META_CONSTRAINTS, cascadables, EMPTY_CLASSES );
+	}
+
+	/**
+	 * @return the constraints belonging to the group. The returned array must not be modified.
+	 */
+	public MetaConstraint<?>[] getMetaConstraints() {
+		return metaConstraints;
+	}
+
+	/**
+	 * @return the cascadables of the bean. The group conversions being applied to the cascaded values, they are the
+	 * same for all the groups. The returned array must not be modified.
+	 */
+	public Cascadable[] getCascadables() {
+		return cascadables;
+	}
+
+	/**
+	 * @return the interfaces declaring constraints, used to validate the constraints of an interface implemented
+	 * several times in the hierarchy only once (HV-466). The returned array must not be modified.
+	 */
+	public Class<?>[] getConstrainedInterfaces() {
+		return constrainedInterfaces;
+	}
+
+	/**
+	 * @return {@code false} if none of the constraints of the table can be evaluated twice for the same bean and
+	 * path, in which case the already processed constraints do not need to be tracked.
+	 */
+	public boolean isProcessedConstraintTrackingRequired() {
+		return processedConstraintTrackingRequired;
+	}
+
+	@Override
+	public String toString() {
+		return "ConstraintDispatchTable"
+				+ "{constraintCount=" + metaConstraints.length
+				+ ", cascadableCount=" + cascadables.length
+				+ ", processedConstraintTrackingRequired=" + processedConstraintTrackingRequired + '}';
+	}
+}
@@ -813,24 +813,25 @@ public boolean isMultiValueConstraint(Class<? extends Annotation> annotationType
 			return false;
 		}
 
-		return multiValueConstraints.computeIfAbsent( annotationType, a -> {
-			boolean isMultiValueConstraint = false;
-			final Method method = run( GetMethod.action( a, "value" ) );
-			if ( method != null ) {
-				Class<?> returnType = method.getReturnType();
-				if ( returnType.isArray() && returnType.getComponentType().isAnnotation() ) {
-					@SuppressWarnings("unchecked")
-					Class<? extends Annotation> componentType = (Class<? extends Annotation>) returnType.getComponentType();
-					if ( isConstraintAnnotation( componentType ) ) {
-						isMultiValueConstraint = Boolean.TRUE;
-					}
-					else {
-						isMultiValueConstraint = Boolean.FALSE;
-					}
-				}
-			}
+		// we don't use computeIfAbsent() to avoid locking on concurrent lookups, e.g. when the metadata are built in
+		// parallel, the value being possibly computed twice
+		Boolean isMultiValueConstraint = multiValueConstraints.get( annotationType );
+		if ( isMultiValueConstraint != null ) {
 			return isMultiValueConstraint;
-		} );
+		}
+
+		isMultiValueConstraint = Boolean.FALSE;
+		final Method method = run( GetMethod.action( annotationType, "value" ) );
+		if ( method != null ) {
+			Class<?> returnType = method.getReturnType();
+			if ( returnType.isArray() && returnType.getComponentType().isAnnotation() ) {
+				@SuppressWarnings("unchecked")
+				Class<? extends Annotation> componentType = (Class<? extends Annotation>) returnType.getComponentType();
+				isMultiValueConstraint = isConstraintAnnotation( componentType );
+			}
+		}
+		multiValueConstraints.putIfAbsent( annotationType, isMultiValueConstraint );
+		return isMultiValueConstraint;
 	}
 
 	/**
@@ -876,19 +877,22 @@ public boolean isConstraintAnnotation(Class<? extends Annotation> annotationType
 			return true;
 		}
 
+		if ( externalConstraints.containsKey( annotationType ) ) {
+			return true;
+		}
+
 		if ( annotationType.getAnnotation( Constraint.class ) == null ) {
 			return false;
 		}
 
-		return externalConstraints.computeIfAbsent( annotationType, a -> {
-			assertMessageParameterExists( a );
-			assertGroupsParameterExists( a );
-			assertPayloadParameterExists( a );
-			assertValidationAppliesToParameterSetUpCorrectly( a );
-			assertNoParameterStartsWithValid( a );
+		assertMessageParameterExists( annotationType );
+		assertGroupsParameterExists( annotationType );
+		assertPayloadParameterExists( annotationType );
+		assertValidationAppliesToParameterSetUpCorrectly( annotationType );
+		assertNoParameterStartsWithValid( annotationType );
 
-			return Boolean.TRUE;
-		} );
+		externalConstraints.putIfAbsent( annotationType, Boolean.TRUE );
+		return true;
 	}
 
 	private void assertNoParameterStartsWithValid(Class<? extends Annotation> annotationType) {
@@ -1065,12 +1069,21 @@ private <A extends Annotation> void put(Class<A> annotationType, List<Constraint
 			constraintValidatorDescriptors.put( annotationType, validatorDescriptors );
 		}
 
+		/**
+		 * Unlike {@link ConcurrentMap#computeIfAbsent(Object, Function)}, never locks when the value is present. The
+		 * value might be computed several times if it is requested concurrently, a single value being kept.
+		 */
 		private <A extends Annotation> List<ConstraintValidatorDescriptor<A>> computeIfAbsent(Class<A> annotationType,
 				Function<? super Class<A>, List<ConstraintValidatorDescriptor<A>>> mappingFunction) {
-			return (List<ConstraintValidatorDescriptor<A>>) constraintValidatorDescriptors.computeIfAbsent(
-					annotationType,
-					(Function<? super Class<? extends Annotation>, ? extends List<? extends ConstraintValidatorDescriptor<?>>>) mappingFunction
-			);
+			List<ConstraintValidatorDescriptor<A>> descriptors = (List<ConstraintValidatorDescriptor<A>>) constraintValidatorDescriptors.get( annotationType );
+			if ( descriptors != null ) {
+				return descriptors;
+			}
+
+			descriptors = mappingFunction.apply( annotationType );
+			List<ConstraintValidatorDescriptor<A>> previousDescriptors = (List<ConstraintValidatorDescriptor<A>>) constraintValidatorDescriptors.putIfAbsent(
+					annotationType, descriptors );
+			return previousDescriptors != null ? previousDescriptors : descriptors;
 		}
 	}
 }
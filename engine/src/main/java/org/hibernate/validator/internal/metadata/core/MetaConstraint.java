@@ -23,8 +23,13 @@
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorHelper;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.AbstractPropertyConstraintLocation;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.properties.DoublePropertyAccessor;
+import org.hibernate.validator.internal.properties.IntPropertyAccessor;
+import org.hibernate.validator.internal.properties.LongPropertyAccessor;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
 import org.hibernate.validator.internal.util.StringHelper;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 
@@ -63,6 +68,12 @@
 	 */
 	private final boolean isDefinedForOneGroupOnly;
 
+	/**
+	 * Whether the constraint is defined on a property of type {@code int}, {@code long} or {@code double} and might be
+	 * validated without boxing the value.
+	 */
+	private final boolean primitiveValueCandidate;
+
 	/**
 	 * @param constraintDescriptor The constraint descriptor for this constraint
 	 * @param location meta data about constraint placement
@@ -77,6 +88,13 @@
 		this.valueExtractionPath = getValueExtractionPath( valueExtractionPath );
 		this.hashCode = buildHashCode( constraintDescriptor, location );
 		this.isDefinedForOneGroupOnly = constraintDescriptor.getGroups().size() <= 1;
+		this.primitiveValueCandidate = this.valueExtractionPath == null && location instanceof AbstractPropertyConstraintLocation
+				&& isPrimitiveValueAccessor( ( (AbstractPropertyConstraintLocation<?>) location ).getPropertyAccessor() );
+	}
+
+	private static boolean isPrimitiveValueAccessor(PropertyAccessor propertyAccessor) {
+		return propertyAccessor instanceof IntPropertyAccessor || propertyAccessor instanceof LongPropertyAccessor
+				|| propertyAccessor instanceof DoublePropertyAccessor;
 	}
 
 	private static ValueExtractionPathNode getValueExtractionPath(List<ContainerClassTypeParameterAndExtractor> valueExtractionPath) {
@@ -125,6 +143,65 @@ public boolean validateConstraint(ValidationContext<?> validationContext, ValueC
 		return success;
 	}
 
+	/**
+	 * Reads the value to validate from the given bean using the accessor of the constraint location and validates it.
+	 */
+	public boolean validateConstraint(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent) {
+		if ( primitiveValueCandidate ) {
+			return validatePrimitiveValue( validationContext, valueContext, parent,
+					( (AbstractPropertyConstraintLocation<?>) location ).getPropertyAccessor() );
+		}
+
+		valueContext.setCurrentValidatedValue( valueContext.getValue( parent, location ) );
+		return validateConstraint( validationContext, valueContext );
+	}
+
+	/**
+	 * Reads the value to validate from the given bean using the given accessor and validates it.
+	 */
+	public boolean validateConstraint(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent,
+			PropertyAccessor valueAccessor) {
+		if ( primitiveValueCandidate && isPrimitiveValueAccessor( valueAccessor ) ) {
+			return validatePrimitiveValue( validationContext, valueContext, parent, valueAccessor );
+		}
+
+		valueContext.setCurrentValidatedValue( valueAccessor.getValueFrom( parent ) );
+		return validateConstraint( validationContext, valueContext );
+	}
+
+	/**
+	 * Validates the primitive value of the property without boxing it. The value is only boxed if the constraint
+	 * validator does not support primitive values or if a violation needs to be reported.
+	 */
+	private boolean validatePrimitiveValue(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent,
+			PropertyAccessor valueAccessor) {
+		Object value;
+		if ( valueAccessor instanceof IntPropertyAccessor ) {
+			int intValue = ( (IntPropertyAccessor) valueAccessor ).getIntValueFrom( parent );
+			if ( constraintTree.isValid( validationContext, valueContext, intValue ) ) {
+				return true;
+			}
+			value = intValue;
+		}
+		else if ( valueAccessor instanceof LongPropertyAccessor ) {
+			long longValue = ( (LongPropertyAccessor) valueAccessor ).getLongValueFrom( parent );
+			if ( constraintTree.isValid( validationContext, valueContext, longValue ) ) {
+				return true;
+			}
+			value = longValue;
+		}
+		else {
+			double doubleValue = ( (DoublePropertyAccessor) valueAccessor ).getDoubleValueFrom( parent );
+			if ( constraintTree.isValid( validationContext, valueContext, doubleValue ) ) {
+				return true;
+			}
+			value = doubleValue;
+		}
+
+		valueContext.setCurrentValidatedValue( value );
+		return doValidateConstraint( validationContext, valueContext );
+	}
+
 	private boolean doValidateConstraint(ValidationContext<?> executionContext, ValueContext<?, ?> valueContext) {
 		valueContext.setConstraintLocationKind( getConstraintLocationKind() );
 		boolean validationResult = constraintTree.validateConstraints( executionContext, valueContext );
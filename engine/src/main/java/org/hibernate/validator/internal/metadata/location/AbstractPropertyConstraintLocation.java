@@ -57,6 +57,10 @@ public void appendTo(ExecutableParameterNameProvider parameterNameProvider, Path
 		path.addPropertyNode( property.getPropertyName() );
 	}
 
+	public PropertyAccessor getPropertyAccessor() {
+		return propertyAccessor;
+	}
+
 	@Override
 	public Object getValue(Object parent) {
 		return propertyAccessor.getValueFrom( parent );
@@ -0,0 +1,344 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.provider;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.GetResource;
+
+/**
+ * Gives access to the metadata indexes generated at build time by the Hibernate Validator annotation processor.
+ * <p>
+ * The annotation processor generates an index per top-level type, listing for this type and its static nested types
+ * the members which might host constraints or cascading information. The annotations of the other members don't need
+ * to be inspected.
+ * <p>
+ * An index entry is used only if it describes the declared members of the class and their annotations: if the class has
+ * been modified after the generation of the index, the entry is ignored and the metadata are retrieved by reflection.
+ * <p>
+ * The format of an index is the following:
+ * <pre>
+ * HV-METADATA-INDEX 2
+ * T org.example.Order 1f2e3d4c5b6a7988 1
+ * F reference
+ * E getLines()
+ * E &lt;init&gt;(java.lang.String,int)
+ * T org.example.Order$Line 0a1b2c3d4e5f6a7b 0
+ * </pre>
+ * Each {@code T} line starts the entry of a type and contains its binary name, the fingerprint of its declared
+ * members and of the annotations of the type and of its members, and whether the type itself hosts annotations of
+ * interest. It is followed by the potentially constrained
+ * fields ({@code F}) and executables ({@code E}) of the type.
+ */
+final class AnnotationMetaDataIndex {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	static final String INDEX_LOCATION = "META-INF/hibernate-validator/metadata-index/";
+
+	static final String INDEX_SUFFIX = ".idx";
+
+	static final String HEADER = "HV-METADATA-INDEX";
+
+	static final int VERSION = 2;
+
+	private static final String CONSTRUCTOR_NAME = "<init>";
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * The indexed types per top-level class. An empty map is used for the top-level classes without index.
+	 */
+	private final ConcurrentMap<Class<?>, Map<String, IndexedType>> indexedTypesByTopLevelClass = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the index entry of the given class.
+	 *
+	 * @return the index entry of the given class or {@code null} if the class is not indexed or if the entry does not
+	 * match the declared members of the class
+	 */
+	IndexedType getIndexedType(Class<?> beanClass, Field[] declaredFields, Executable[] declaredMethods, Executable[] declaredConstructors) {
+		if ( beanClass.isArray() || beanClass.isPrimitive() ) {
+			return null;
+		}
+
+		Class<?> topLevelClass = getTopLevelClass( beanClass );
+		// we don't use computeIfAbsent() to avoid locking when the metadata are built in parallel, an index being
+		// possibly read twice
+		Map<String, IndexedType> indexedTypes = indexedTypesByTopLevelClass.get( topLevelClass );
+		if ( indexedTypes == null ) {
+			indexedTypes = readIndex( topLevelClass );
+			Map<String, IndexedType> previousIndexedTypes = indexedTypesByTopLevelClass.putIfAbsent( topLevelClass, indexedTypes );
+			if ( previousIndexedTypes != null ) {
+				indexedTypes = previousIndexedTypes;
+			}
+		}
+
+		IndexedType indexedType = indexedTypes.get( beanClass.getName() );
+		if ( indexedType == null ) {
+			return null;
+		}
+
+		if ( !indexedType.fingerprint.equals( getFingerprint( beanClass, declaredFields, declaredMethods, declaredConstructors ) ) ) {
+			LOG.logOutOfDateMetaDataIndexEntry( beanClass );
+			return null;
+		}
+
+		return indexedType;
+	}
+
+	/**
+	 * Returns the signature of the given executable as written in the index.
+	 */
+	static String getSignature(Executable executable) {
+		StringBuilder signature = new StringBuilder();
+		signature.append( executable instanceof Constructor ? CONSTRUCTOR_NAME : executable.getName() );
+		signature.append( '(' );
+		Class<?>[] parameterTypes = executable.getParameterTypes();
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			if ( i > 0 ) {
+				signature.append( ',' );
+			}
+			signature.append( parameterTypes[i].getTypeName() );
+		}
+		signature.append( ')' );
+		return signature.toString();
+	}
+
+	/**
+	 * Computes the fingerprint of the declared members of a class: a 64-bit FNV-1a hash of the sorted member lines
+	 * ({@code T} for the class, {@code F name} for the fields, {@code E signature} for the executables), static and
+	 * synthetic members excluded.
+	 * <p>
+	 * Each line is followed by the sorted binary names of the runtime annotations of the element, each prefixed by
+	 * {@code @}. The line of an executable is then followed, for each annotated parameter, by {@code #} and the index
+	 * of the parameter, and by the names of its annotations. Thus adding or removing a constraint invalidates the
+	 * entry.
+	 */
+	static String getFingerprint(Class<?> beanClass, Field[] declaredFields, Executable[] declaredMethods, Executable[] declaredConstructors) {
+		List<String> members = new ArrayList<>( 1 + declaredFields.length + declaredMethods.length + declaredConstructors.length );
+		members.add( "T" + getAnnotationNames( beanClass.getDeclaredAnnotations() ) );
+		for ( Field field : declaredFields ) {
+			if ( !Modifier.isStatic( field.getModifiers() ) && !field.isSynthetic() ) {
+				members.add( "F " + field.getName() + getAnnotationNames( field.getDeclaredAnnotations() ) );
+			}
+		}
+		addExecutables( members, declaredMethods );
+		addExecutables( members, declaredConstructors );
+		Collections.sort( members );
+
+		long hash = FNV_OFFSET_BASIS;
+		for ( String member : members ) {
+			for ( int i = 0; i < member.length(); i++ ) {
+				hash = ( hash ^ member.charAt( i ) ) * FNV_PRIME;
+			}
+			hash = ( hash ^ '\n' ) * FNV_PRIME;
+		}
+		return Long.toHexString( hash );
+	}
+
+	private static void addExecutables(List<String> members, Executable[] executables) {
+		for ( Executable executable : executables ) {
+			if ( !Modifier.isStatic( executable.getModifiers() ) && !executable.isSynthetic() ) {
+				StringBuilder member = new StringBuilder( "E " );
+				member.append( getSignature( executable ) );
+				member.append( getAnnotationNames( executable.getDeclaredAnnotations() ) );
+				Annotation[][] parameterAnnotations = executable.getParameterAnnotations();
+				for ( int i = 0; i < parameterAnnotations.length; i++ ) {
+					if ( parameterAnnotations[i].length > 0 ) {
+						member.append( " #" ).append( i ).append( getAnnotationNames( parameterAnnotations[i] ) );
+					}
+				}
+				members.add( member.toString() );
+			}
+		}
+	}
+
+	private static String getAnnotationNames(Annotation[] annotations) {
+		if ( annotations.length == 0 ) {
+			return "";
+		}
+
+		List<String> annotationNames = new ArrayList<>( annotations.length );
+		for ( Annotation annotation : annotations ) {
+			annotationNames.add( annotation.annotationType().getName() );
+		}
+		Collections.sort( annotationNames );
+
+		StringBuilder sb = new StringBuilder();
+		for ( String annotationName : annotationNames ) {
+			sb.append( " @" ).append( annotationName );
+		}
+		return sb.toString();
+	}
+
+	private static Class<?> getTopLevelClass(Class<?> clazz) {
+		Class<?> topLevelClass = clazz;
+		Class<?> declaringClass;
+		while ( ( declaringClass = topLevelClass.getDeclaringClass() ) != null ) {
+			topLevelClass = declaringClass;
+		}
+		return topLevelClass;
+	}
+
+	private static Map<String, IndexedType> readIndex(Class<?> topLevelClass) {
+		ClassLoader classLoader = run( GetClassLoader.fromClass( topLevelClass ) );
+		if ( classLoader == null ) {
+			return Collections.emptyMap();
+		}
+
+		URL indexUrl = run( GetResource.action( classLoader, INDEX_LOCATION + topLevelClass.getName().replace( '.', '/' ) + INDEX_SUFFIX ) );
+		if ( indexUrl == null ) {
+			return Collections.emptyMap();
+		}
+
+		try ( InputStream in = run( new OpenStream( indexUrl ) ) ) {
+			return parseIndex( new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) ) );
+		}
+		catch (IOException | RuntimeException e) {
+			LOG.unableToReadMetaDataIndex( indexUrl, e );
+			return Collections.emptyMap();
+		}
+	}
+
+	private static Map<String, IndexedType> parseIndex(BufferedReader reader) throws IOException {
+		String header = reader.readLine();
+		if ( !( HEADER + " " + VERSION ).equals( header ) ) {
+			throw new IOException( "Unsupported metadata index header: " + header );
+		}
+
+		Map<String, IndexedType> indexedTypes = newHashMap();
+		IndexedType currentType = null;
+		String line;
+		while ( ( line = reader.readLine() ) != null ) {
+			if ( line.isEmpty() ) {
+				continue;
+			}
+			if ( line.length() < 3 || line.charAt( 1 ) != ' ' ) {
+				throw new IOException( "Malformed metadata index line: " + line );
+			}
+
+			char kind = line.charAt( 0 );
+			String value = line.substring( 2 );
+			if ( kind == 'T' ) {
+				String[] parts = value.split( " " );
+				if ( parts.length != 3 ) {
+					throw new IOException( "Malformed metadata index line: " + line );
+				}
+				currentType = new IndexedType( parts[1], "1".equals( parts[2] ) );
+				indexedTypes.put( parts[0], currentType );
+			}
+			else if ( currentType == null ) {
+				throw new IOException( "Malformed metadata index line: " + line );
+			}
+			else if ( kind == 'F' ) {
+				currentType.constrainedFields.add( value );
+			}
+			else if ( kind == 'E' ) {
+				currentType.constrainedExecutables.add( value );
+			}
+			else {
+				throw new IOException( "Malformed metadata index line: " + line );
+			}
+		}
+
+		return indexedTypes;
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	/**
+	 * The index entry of a type.
+	 */
+	static final class IndexedType {
+
+		private final String fingerprint;
+
+		private final boolean typeAnnotated;
+
+		private final Set<String> constrainedFields = newHashSet();
+
+		private final Set<String> constrainedExecutables = newHashSet();
+
+		private IndexedType(String fingerprint, boolean typeAnnotated) {
+			this.fingerprint = fingerprint;
+			this.typeAnnotated = typeAnnotated;
+		}
+
+		/**
+		 * @return whether the type itself hosts constraints, a default group sequence or a default group sequence
+		 * provider
+		 */
+		boolean isTypeAnnotated() {
+			return typeAnnotated;
+		}
+
+		boolean isPotentiallyConstrained(Field field) {
+			return constrainedFields.contains( field.getName() );
+		}
+
+		boolean isPotentiallyConstrained(Executable executable) {
+			return constrainedExecutables.contains( getSignature( executable ) );
+		}
+	}
+
+	private static final class OpenStream implements PrivilegedAction<InputStream> {
+
+		private final URL url;
+
+		private OpenStream(URL url) {
+			this.url = url;
+		}
+
+		@Override
+		public InputStream run() {
+			try {
+				return url.openStream();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+	}
+}
@@ -50,6 +50,7 @@
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataIndex.IndexedType;
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
 import org.hibernate.validator.internal.metadata.raw.ConfigurationSource;
 import org.hibernate.validator.internal.metadata.raw.ConstrainedElement;
@@ -95,6 +96,8 @@ public class AnnotationMetaDataProvider implements MetaDataProvider {
 
 	private final BeanConfiguration<Object> objectBeanConfiguration;
 
+	private final AnnotationMetaDataIndex metaDataIndex = new AnnotationMetaDataIndex();
+
 	public AnnotationMetaDataProvider(ConstraintCreationContext constraintCreationContext,
 			JavaBeanHelper javaBeanHelper,
 			AnnotationProcessingOptions annotationProcessingOptions) {
@@ -126,9 +129,27 @@ public <T> BeanConfiguration<T> getBeanConfiguration(Class<T> beanClass) {
 	 * @return Retrieves constraint related meta data from the annotations of the given type.
 	 */
 	private <T> BeanConfiguration<T> retrieveBeanConfiguration(Class<T> beanClass) {
-		Set<ConstrainedElement> constrainedElements = getFieldMetaData( beanClass );
-		constrainedElements.addAll( getMethodMetaData( beanClass ) );
-		constrainedElements.addAll( getConstructorMetaData( beanClass ) );
+		Field[] declaredFields = run( GetDeclaredFields.action( beanClass ) );
+		Executable[] declaredMethods = run( GetDeclaredMethods.action( beanClass ) );
+		Executable[] declaredConstructors = run( GetDeclaredConstructors.action( beanClass ) );
+
+		// if the class is described by the metadata index generated by the annotation processor, we only inspect the
+		// annotations of the elements which might be constrained
+		IndexedType indexedType = metaDataIndex.getIndexedType( beanClass, declaredFields, declaredMethods, declaredConstructors );
+
+		Set<ConstrainedElement> constrainedElements = getFieldMetaData( declaredFields, indexedType );
+		constrainedElements.addAll( getMetaData( declaredMethods, indexedType ) );
+		constrainedElements.addAll( getMetaData( declaredConstructors, indexedType ) );
+
+		if ( indexedType != null && !indexedType.isTypeAnnotated() ) {
+			return new BeanConfiguration<>(
+					ConfigurationSource.ANNOTATION,
+					beanClass,
+					constrainedElements,
+					null,
+					null
+			);
+		}
 
 		Set<MetaConstraint<?>> classLevelConstraints = getClassLevelConstraints( beanClass );
 		if ( !classLevelConstraints.isEmpty() ) {
@@ -211,10 +232,10 @@ private Set<MetaConstraint<?>> getClassLevelConstraints(Class<?> clazz) {
 		return classLevelConstraints;
 	}
 
-	private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
+	private Set<ConstrainedElement> getFieldMetaData(Field[] declaredFields, IndexedType indexedType) {
 		Set<ConstrainedElement> propertyMetaData = newHashSet();
 
-		for ( Field field : run( GetDeclaredFields.action( beanClass ) ) ) {
+		for ( Field field : declaredFields ) {
 			// HV-172
 			if ( Modifier.isStatic( field.getModifiers() ) || field.isSynthetic() ) {
 				continue;
@@ -226,7 +247,18 @@ private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
 				continue;
 			}
 
-			propertyMetaData.add( findPropertyMetaData( javaBeanField ) );
+			if ( indexedType == null || indexedType.isPotentiallyConstrained( field ) ) {
+				propertyMetaData.add( findPropertyMetaData( javaBeanField ) );
+			}
+			else {
+				propertyMetaData.add( new ConstrainedField(
+						ConfigurationSource.ANNOTATION,
+						javaBeanField,
+						Collections.emptySet(),
+						Collections.emptySet(),
+						unconstrainedCascadingMetaData( javaBeanField )
+				) );
+			}
 		}
 		return propertyMetaData;
 	}
@@ -267,19 +299,7 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 		return constraints;
 	}
 
-	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz) {
-		Executable[] declaredConstructors = run( GetDeclaredConstructors.action( clazz ) );
-
-		return getMetaData( declaredConstructors );
-	}
-
-	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz) {
-		Executable[] declaredMethods = run( GetDeclaredMethods.action( clazz ) );
-
-		return getMetaData( declaredMethods );
-	}
-
-	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements) {
+	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements, IndexedType indexedType) {
 		Set<ConstrainedExecutable> executableMetaData = newHashSet();
 
 		for ( Executable executable : executableElements ) {
@@ -289,12 +309,58 @@ private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements)
 				continue;
 			}
 
-			executableMetaData.add( findExecutableMetaData( executable ) );
+			if ( indexedType == null || indexedType.isPotentiallyConstrained( executable ) ) {
+				executableMetaData.add( findExecutableMetaData( executable ) );
+			}
+			else {
+				executableMetaData.add( unconstrainedExecutableMetaData( executable ) );
+			}
 		}
 
 		return executableMetaData;
 	}
 
+	/**
+	 * Builds the metadata of an executable known to host no annotation of interest, without inspecting its
+	 * annotations. The result is the same as the one of {@link #findExecutableMetaData(Executable)} for such an
+	 * executable.
+	 */
+	private ConstrainedExecutable unconstrainedExecutableMetaData(Executable executable) {
+		JavaBeanExecutable<?> javaBeanExecutable = javaBeanHelper.executable( executable );
+
+		List<ConstrainedParameter> parameterMetaData;
+		if ( javaBeanExecutable.hasParameters() ) {
+			List<JavaBeanParameter> parameters = javaBeanExecutable.getParameters();
+			parameterMetaData = new ArrayList<>( parameters.size() );
+			for ( JavaBeanParameter parameter : parameters ) {
+				parameterMetaData.add(
+						new ConstrainedParameter(
+								ConfigurationSource.ANNOTATION,
+								javaBeanExecutable,
+								parameter.getGenericType(),
+								parameter.getIndex(),
+								Collections.emptySet(),
+								Collections.emptySet(),
+								unconstrainedCascadingMetaData( parameter )
+						)
+				);
+			}
+		}
+		else {
+			parameterMetaData = Collections.emptyList();
+		}
+
+		return new ConstrainedExecutable(
+				ConfigurationSource.ANNOTATION,
+				javaBeanExecutable,
+				parameterMetaData,
+				Collections.emptySet(),
+				Collections.emptySet(),
+				Collections.emptySet(),
+				unconstrainedCascadingMetaData( javaBeanExecutable )
+		);
+	}
+
 	/**
 	 * Finds all constraint annotations defined for the given method or constructor.
 	 *
@@ -807,6 +873,14 @@ private Set<MetaConstraint<?>> findTypeUseConstraints(Constrainable constrainabl
 		return constraints;
 	}
 
+	/**
+	 * The cascading metadata of an element neither marked for cascading nor parameterized, as built by
+	 * {@link #getCascadingMetaData(JavaBeanAnnotatedElement, Map)}.
+	 */
+	private CascadingMetaDataBuilder unconstrainedCascadingMetaData(JavaBeanAnnotatedElement annotatedElement) {
+		return CascadingMetaDataBuilder.annotatedObject( annotatedElement.getType(), false, Collections.emptyMap(), Collections.emptyMap() );
+	}
+
 	private CascadingMetaDataBuilder getCascadingMetaData(JavaBeanAnnotatedElement annotatedElement,
 			Map<TypeVariable<?>, CascadingMetaDataBuilder> containerElementTypesCascadingMetaData) {
 		return CascadingMetaDataBuilder.annotatedObject( annotatedElement.getType(), annotatedElement.isAnnotationPresent( Valid.class ),
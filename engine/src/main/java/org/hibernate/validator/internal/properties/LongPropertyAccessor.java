@@ -0,0 +1,15 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.properties;
+
+/**
+ * A {@link PropertyAccessor} for a property of type {@code long}, able to read its value without boxing it.
+ */
+public interface LongPropertyAccessor extends PropertyAccessor {
+
+	long getLongValueFrom(Object bean);
+}
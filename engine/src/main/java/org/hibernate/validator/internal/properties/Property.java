@@ -14,4 +14,14 @@ public interface Property extends Constrainable {
 	String getPropertyName();
 
 	PropertyAccessor createAccessor();
+
+	/**
+	 * Creates an accessor tailored for a large number of invocations.
+	 * <p>
+	 * Building such an accessor might be significantly more expensive than building the one returned by
+	 * {@link #createAccessor()}, thus it should only be used for hot paths. By default, it is the same accessor.
+	 */
+	default PropertyAccessor createOptimizedAccessor() {
+		return createAccessor();
+	}
 }
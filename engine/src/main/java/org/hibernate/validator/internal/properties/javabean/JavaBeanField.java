@@ -86,7 +86,10 @@ public TypeVariable<?>[] getTypeParameters() {
 
 	@Override
 	public PropertyAccessor createAccessor() {
-		return new FieldAccessor( field );
+		Field accessibleField = getAccessible( field );
+
+		PropertyAccessor methodHandleAccessor = MethodHandleAccessor.forField( accessibleField );
+		return methodHandleAccessor != null ? methodHandleAccessor : new FieldAccessor( accessibleField );
 	}
 
 	@Override
@@ -124,10 +127,10 @@ public String toString() {
 
 	private static class FieldAccessor implements PropertyAccessor {
 
-		private Field accessibleField;
+		private final Field accessibleField;
 
-		private FieldAccessor(Field field) {
-			this.accessibleField = getAccessible( field );
+		private FieldAccessor(Field accessibleField) {
+			this.accessibleField = accessibleField;
 		}
 
 		@Override
@@ -76,7 +76,16 @@ public ConstrainedElementKind getConstrainedElementKind() {
 
 	@Override
 	public PropertyAccessor createAccessor() {
-		return new GetterAccessor( executable );
+		Method accessibleGetter = getAccessible( executable );
+
+		PropertyAccessor methodHandleAccessor = MethodHandleAccessor.forGetter( accessibleGetter );
+		return methodHandleAccessor != null ? methodHandleAccessor : new GetterAccessor( accessibleGetter );
+	}
+
+	@Override
+	public PropertyAccessor createOptimizedAccessor() {
+		PropertyAccessor lambdaAccessor = LambdaGetterAccessor.of( executable );
+		return lambdaAccessor != null ? lambdaAccessor : createAccessor();
 	}
 
 	@Override
@@ -105,10 +114,10 @@ public int hashCode() {
 
 	private static class GetterAccessor implements PropertyAccessor {
 
-		private Method accessibleGetter;
+		private final Method accessibleGetter;
 
-		private GetterAccessor(Method getter) {
-			this.accessibleGetter = getAccessible( getter );
+		private GetterAccessor(Method accessibleGetter) {
+			this.accessibleGetter = accessibleGetter;
 		}
 
 		@Override
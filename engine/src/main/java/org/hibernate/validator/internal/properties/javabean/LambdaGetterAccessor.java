@@ -0,0 +1,225 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.properties.javabean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.validator.internal.properties.DoublePropertyAccessor;
+import org.hibernate.validator.internal.properties.IntPropertyAccessor;
+import org.hibernate.validator.internal.properties.LongPropertyAccessor;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A {@link PropertyAccessor} invoking a getter through an implementation spun by the {@link LambdaMetafactory}.
+ * <p>
+ * Contrary to a reflective call, the getter is invoked with a plain virtual call the JIT is able to inline. This is
+ * only possible if the getter is public, if its declaring class is public and if this class is visible from the class
+ * loader of Hibernate Validator as the spun class is defined there.
+ * <p>
+ * The exceptions thrown by the getter are wrapped the same way as for a reflective call.
+ * <p>
+ * The getters returning an {@code int}, a {@code long} or a {@code double} are spun as the corresponding primitive
+ * functional interface and their accessors implement the corresponding primitive accessor contract.
+ */
+final class LambdaGetterAccessor implements PropertyAccessor {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodType GET_VALUE_FROM_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private static final MethodType APPLY_AS_INT_TYPE = MethodType.methodType( int.class, Object.class );
+
+	private static final MethodType APPLY_AS_LONG_TYPE = MethodType.methodType( long.class, Object.class );
+
+	private static final MethodType APPLY_AS_DOUBLE_TYPE = MethodType.methodType( double.class, Object.class );
+
+	private final String getterName;
+
+	private final PropertyAccessor lambda;
+
+	private LambdaGetterAccessor(String getterName, PropertyAccessor lambda) {
+		this.getterName = getterName;
+		this.lambda = lambda;
+	}
+
+	/**
+	 * Creates an accessor for the given getter.
+	 *
+	 * @return the accessor or {@code null} if the getter cannot be invoked through a spun class.
+	 */
+	@SuppressWarnings("unchecked")
+	static PropertyAccessor of(Method getter) {
+		if ( !Modifier.isPublic( getter.getModifiers() ) || !isPublic( getter.getDeclaringClass() )
+				|| !isVisibleFromHibernateValidator( getter.getDeclaringClass() ) ) {
+			return null;
+		}
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle getterHandle = lookup.unreflect( getter );
+			Class<?> valueType = getterHandle.type().returnType();
+
+			if ( valueType == int.class ) {
+				return new IntLambdaGetterAccessor( getter.getName(),
+						(ToIntFunction<Object>) spin( lookup, getterHandle, ToIntFunction.class, "applyAsInt", APPLY_AS_INT_TYPE, getterHandle.type() ) );
+			}
+			if ( valueType == long.class ) {
+				return new LongLambdaGetterAccessor( getter.getName(),
+						(ToLongFunction<Object>) spin( lookup, getterHandle, ToLongFunction.class, "applyAsLong", APPLY_AS_LONG_TYPE, getterHandle.type() ) );
+			}
+			if ( valueType == double.class ) {
+				return new DoubleLambdaGetterAccessor( getter.getName(),
+						(ToDoubleFunction<Object>) spin( lookup, getterHandle, ToDoubleFunction.class, "applyAsDouble", APPLY_AS_DOUBLE_TYPE, getterHandle.type() ) );
+			}
+
+			return new LambdaGetterAccessor( getter.getName(),
+					(PropertyAccessor) spin( lookup, getterHandle, PropertyAccessor.class, "getValueFrom", GET_VALUE_FROM_TYPE, getterHandle.type().wrap() ) );
+		}
+		catch (Throwable e) {
+			LOG.debugf( e, "Unable to spin an accessor for getter %s, falling back to reflection.", getter );
+			return null;
+		}
+	}
+
+	private static Object spin(MethodHandles.Lookup lookup, MethodHandle getterHandle, Class<?> functionalInterface, String methodName,
+			MethodType methodType, MethodType instantiatedMethodType) throws Throwable {
+		CallSite callSite = LambdaMetafactory.metafactory(
+				lookup,
+				methodName,
+				MethodType.methodType( functionalInterface ),
+				methodType,
+				getterHandle,
+				instantiatedMethodType
+		);
+		return callSite.getTarget().invoke();
+	}
+
+	@Override
+	public Object getValueFrom(Object bean) {
+		try {
+			return lambda.getValueFrom( bean );
+		}
+		catch (Throwable e) {
+			throw getUnableToAccessMemberException( getterName, e );
+		}
+	}
+
+	private static RuntimeException getUnableToAccessMemberException(String getterName, Throwable e) {
+		return LOG.getUnableToAccessMemberException( getterName, new InvocationTargetException( e ) );
+	}
+
+	private static boolean isPublic(Class<?> clazz) {
+		for ( Class<?> current = clazz; current != null; current = current.getEnclosingClass() ) {
+			if ( !Modifier.isPublic( current.getModifiers() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isVisibleFromHibernateValidator(Class<?> clazz) {
+		try {
+			return Class.forName( clazz.getName(), false, LambdaGetterAccessor.class.getClassLoader() ) == clazz;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static final class IntLambdaGetterAccessor implements IntPropertyAccessor {
+
+		private final String getterName;
+
+		private final ToIntFunction<Object> lambda;
+
+		private IntLambdaGetterAccessor(String getterName, ToIntFunction<Object> lambda) {
+			this.getterName = getterName;
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			return getIntValueFrom( bean );
+		}
+
+		@Override
+		public int getIntValueFrom(Object bean) {
+			try {
+				return lambda.applyAsInt( bean );
+			}
+			catch (Throwable e) {
+				throw getUnableToAccessMemberException( getterName, e );
+			}
+		}
+	}
+
+	private static final class LongLambdaGetterAccessor implements LongPropertyAccessor {
+
+		private final String getterName;
+
+		private final ToLongFunction<Object> lambda;
+
+		private LongLambdaGetterAccessor(String getterName, ToLongFunction<Object> lambda) {
+			this.getterName = getterName;
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			return getLongValueFrom( bean );
+		}
+
+		@Override
+		public long getLongValueFrom(Object bean) {
+			try {
+				return lambda.applyAsLong( bean );
+			}
+			catch (Throwable e) {
+				throw getUnableToAccessMemberException( getterName, e );
+			}
+		}
+	}
+
+	private static final class DoubleLambdaGetterAccessor implements DoublePropertyAccessor {
+
+		private final String getterName;
+
+		private final ToDoubleFunction<Object> lambda;
+
+		private DoubleLambdaGetterAccessor(String getterName, ToDoubleFunction<Object> lambda) {
+			this.getterName = getterName;
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			return getDoubleValueFrom( bean );
+		}
+
+		@Override
+		public double getDoubleValueFrom(Object bean) {
+			try {
+				return lambda.applyAsDouble( bean );
+			}
+			catch (Throwable e) {
+				throw getUnableToAccessMemberException( getterName, e );
+			}
+		}
+	}
+}
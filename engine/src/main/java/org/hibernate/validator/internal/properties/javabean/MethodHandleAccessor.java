@@ -0,0 +1,172 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.properties.javabean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.hibernate.validator.internal.properties.DoublePropertyAccessor;
+import org.hibernate.validator.internal.properties.IntPropertyAccessor;
+import org.hibernate.validator.internal.properties.LongPropertyAccessor;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A {@link PropertyAccessor} reading the value of a field or invoking a getter through a {@link MethodHandle}.
+ * <p>
+ * The handles are obtained by unreflecting members which have already been made accessible so no additional access
+ * check is performed. If the handle cannot be obtained, the callers are expected to fall back to reflection.
+ * <p>
+ * The exceptions thrown by the getters are wrapped the same way as for a reflective call.
+ * <p>
+ * The accessors of the {@code int}, {@code long} and {@code double} properties also implement the corresponding
+ * primitive accessor contract, reading the value without boxing it.
+ */
+class MethodHandleAccessor implements PropertyAccessor {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodType GET_VALUE_FROM_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final String memberName;
+
+	private final MethodHandle handle;
+
+	private MethodHandleAccessor(String memberName, MethodHandle handle) {
+		this.memberName = memberName;
+		this.handle = handle.asType( GET_VALUE_FROM_TYPE );
+	}
+
+	private static PropertyAccessor of(String memberName, MethodHandle handle) {
+		Class<?> valueType = handle.type().returnType();
+		if ( valueType == int.class ) {
+			return new IntMethodHandleAccessor( memberName, handle );
+		}
+		if ( valueType == long.class ) {
+			return new LongMethodHandleAccessor( memberName, handle );
+		}
+		if ( valueType == double.class ) {
+			return new DoubleMethodHandleAccessor( memberName, handle );
+		}
+		return new MethodHandleAccessor( memberName, handle );
+	}
+
+	/**
+	 * @param accessibleField a field on which {@code setAccessible(true)} has been called
+	 *
+	 * @return the accessor or {@code null} if the field cannot be unreflected.
+	 */
+	static PropertyAccessor forField(Field accessibleField) {
+		try {
+			return of( accessibleField.getName(), MethodHandles.lookup().unreflectGetter( accessibleField ) );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.debugf( e, "Unable to get a method handle for field %s, falling back to reflection.", accessibleField );
+			return null;
+		}
+	}
+
+	/**
+	 * @param accessibleGetter a getter on which {@code setAccessible(true)} has been called
+	 *
+	 * @return the accessor or {@code null} if the getter cannot be unreflected.
+	 */
+	static PropertyAccessor forGetter(Method accessibleGetter) {
+		try {
+			return of( accessibleGetter.getName(), MethodHandles.lookup().unreflect( accessibleGetter ) );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.debugf( e, "Unable to get a method handle for getter %s, falling back to reflection.", accessibleGetter );
+			return null;
+		}
+	}
+
+	@Override
+	public Object getValueFrom(Object bean) {
+		try {
+			return handle.invokeExact( bean );
+		}
+		catch (Throwable e) {
+			throw getUnableToAccessMemberException( e );
+		}
+	}
+
+	RuntimeException getUnableToAccessMemberException(Throwable e) {
+		return LOG.getUnableToAccessMemberException( memberName, new InvocationTargetException( e ) );
+	}
+
+	private static final class IntMethodHandleAccessor extends MethodHandleAccessor implements IntPropertyAccessor {
+
+		private static final MethodType GET_INT_VALUE_FROM_TYPE = MethodType.methodType( int.class, Object.class );
+
+		private final MethodHandle intHandle;
+
+		private IntMethodHandleAccessor(String memberName, MethodHandle handle) {
+			super( memberName, handle );
+			this.intHandle = handle.asType( GET_INT_VALUE_FROM_TYPE );
+		}
+
+		@Override
+		public int getIntValueFrom(Object bean) {
+			try {
+				return (int) intHandle.invokeExact( bean );
+			}
+			catch (Throwable e) {
+				throw getUnableToAccessMemberException( e );
+			}
+		}
+	}
+
+	private static final class LongMethodHandleAccessor extends MethodHandleAccessor implements LongPropertyAccessor {
+
+		private static final MethodType GET_LONG_VALUE_FROM_TYPE = MethodType.methodType( long.class, Object.class );
+
+		private final MethodHandle longHandle;
+
+		private LongMethodHandleAccessor(String memberName, MethodHandle handle) {
+			super( memberName, handle );
+			this.longHandle = handle.asType( GET_LONG_VALUE_FROM_TYPE );
+		}
+
+		@Override
+		public long getLongValueFrom(Object bean) {
+			try {
+				return (long) longHandle.invokeExact( bean );
+			}
+			catch (Throwable e) {
+				throw getUnableToAccessMemberException( e );
+			}
+		}
+	}
+
+	private static final class DoubleMethodHandleAccessor extends MethodHandleAccessor implements DoublePropertyAccessor {
+
+		private static final MethodType GET_DOUBLE_VALUE_FROM_TYPE = MethodType.methodType( double.class, Object.class );
+
+		private final MethodHandle doubleHandle;
+
+		private DoubleMethodHandleAccessor(String memberName, MethodHandle handle) {
+			super( memberName, handle );
+			this.doubleHandle = handle.asType( GET_DOUBLE_VALUE_FROM_TYPE );
+		}
+
+		@Override
+		public double getDoubleValueFrom(Object bean) {
+			try {
+				return (double) doubleHandle.invokeExact( bean );
+			}
+			catch (Throwable e) {
+				throw getUnableToAccessMemberException( e );
+			}
+		}
+	}
+}
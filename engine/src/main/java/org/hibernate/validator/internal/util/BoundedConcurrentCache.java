@@ -0,0 +1,408 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache holding at most a given number of entries.
+ * <p>
+ * When the cache is full, the entries are evicted following the CLOCK approximation of the LRU policy: an entry
+ * accessed since the last time it was considered for eviction gets a second chance. The lookups are lock-free, only
+ * the evictions are serialized.
+ * <p>
+ * Optionally, a W-TinyLFU admission policy protects the frequently accessed entries from the one-off ones. The new
+ * entries are cached in a window, holding about 1% of the entries, in which they are not subject to the admission
+ * filter. When the cache is full, the oldest entry of the window either moves to the main space, if it is more
+ * frequently accessed than the entry elected by the clock in the main space, which is then evicted, or is evicted.
+ * The access frequencies are estimated by a {@link FrequencySketch}, only updated while evicting: an entry is
+ * counted once when it leaves the window and once each time the clock finds it accessed. Thus the lookups never write
+ * to the sketch.
+ * <p>
+ * The {@code null} keys and values are not supported.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class BoundedConcurrentCache<K, V> {
+
+	private final int maxSize;
+
+	private final ConcurrentHashMap<K, CacheEntry<K, V>> entries;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/**
+	 * The hand of the clock, iterating over the entries to find the next one to evict. Guarded by
+	 * {@link #evictionLock}.
+	 */
+	private Iterator<CacheEntry<K, V>> evictionCandidates;
+
+	/**
+	 * The access frequencies of the keys, {@code null} if the admission policy is disabled. Guarded by
+	 * {@link #evictionLock}.
+	 */
+	private final FrequencySketch sketch;
+
+	/**
+	 * The entries of the window, oldest first, {@code null} if the admission policy is disabled. An entry is added to
+	 * the window right after having been cached, it might thus be missing from the window for a short while.
+	 */
+	private final Queue<CacheEntry<K, V>> window;
+
+	/**
+	 * The maximum number of entries of the main space, {@code maxSize} if the admission policy is disabled.
+	 */
+	private final int mainMaxSize;
+
+	/**
+	 * The number of entries of the main space, the other entries being in the window. Guarded by
+	 * {@link #evictionLock}.
+	 */
+	private int mainSize;
+
+	/**
+	 * Notified of the evicted entries, {@code null} if not needed.
+	 */
+	private final BiConsumer<? super K, ? super V> evictionListener;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	public BoundedConcurrentCache(int maxSize) {
+		this( maxSize, false );
+	}
+
+	/**
+	 * @param maxSize the maximum number of entries
+	 * @param frequencyBasedAdmission whether the entries leaving the window are admitted depending on their access
+	 * frequency
+	 */
+	public BoundedConcurrentCache(int maxSize, boolean frequencyBasedAdmission) {
+		this( maxSize, frequencyBasedAdmission, null );
+	}
+
+	/**
+	 * @param maxSize the maximum number of entries
+	 * @param frequencyBasedAdmission whether the entries leaving the window are admitted depending on their access
+	 * frequency
+	 * @param evictionListener notified of each evicted entry, from the thread triggering the eviction, while holding
+	 * the eviction lock; it is not notified of the entries removed by {@link #clear()}
+	 */
+	public BoundedConcurrentCache(int maxSize, boolean frequencyBasedAdmission, BiConsumer<? super K, ? super V> evictionListener) {
+		Contracts.assertTrue( maxSize > 0, "maxSize must be greater than 0" );
+
+		this.maxSize = maxSize;
+		this.entries = new ConcurrentHashMap<>( Math.min( maxSize, 16 ) );
+		if ( frequencyBasedAdmission ) {
+			this.sketch = new FrequencySketch( maxSize );
+			this.window = new ConcurrentLinkedQueue<>();
+			this.mainMaxSize = maxSize - Math.max( 1, maxSize / 100 );
+		}
+		else {
+			this.sketch = null;
+			this.window = null;
+			this.mainMaxSize = maxSize;
+		}
+		this.evictionListener = evictionListener;
+	}
+
+	/**
+	 * @return the value associated with the given key or {@code null} if the key is not in the cache
+	 */
+	public V get(K key) {
+		CacheEntry<K, V> entry = entries.get( key );
+		if ( entry == null ) {
+			misses.increment();
+			return null;
+		}
+
+		hits.increment();
+		entry.markAccessed();
+		return entry.value;
+	}
+
+	/**
+	 * Returns the value associated with the given key, computing and caching it if the key is not in the cache.
+	 * <p>
+	 * The value may be computed several times if the key is requested concurrently, a single value being cached.
+	 *
+	 * @return the value associated with the given key, {@code null} if the mapping function returned {@code null}, in
+	 * which case nothing is cached
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get( key );
+		if ( value != null ) {
+			return value;
+		}
+
+		value = mappingFunction.apply( key );
+		if ( value == null ) {
+			return null;
+		}
+
+		V existingValue = putIfAbsent( key, value );
+		return existingValue != null ? existingValue : value;
+	}
+
+	/**
+	 * Caches the given value if the key is not in the cache, without recording an access to the key.
+	 *
+	 * @return the value already associated with the given key or {@code null} if the given value has been cached
+	 */
+	public V putIfAbsent(K key, V value) {
+		CacheEntry<K, V> newEntry = new CacheEntry<>( key, value, window != null );
+		CacheEntry<K, V> existingEntry = entries.putIfAbsent( key, newEntry );
+		if ( existingEntry != null ) {
+			return existingEntry.value;
+		}
+
+		if ( window != null ) {
+			window.add( newEntry );
+		}
+		if ( entries.size() > maxSize ) {
+			evict( key );
+		}
+		return null;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Performs the given action for each entry of the cache, without recording any access.
+	 */
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for ( Map.Entry<K, CacheEntry<K, V>> entry : entries.entrySet() ) {
+			action.accept( entry.getKey(), entry.getValue().value );
+		}
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			entries.clear();
+			evictionCandidates = null;
+			mainSize = 0;
+			if ( sketch != null ) {
+				window.clear();
+				sketch.clear();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	public boolean isFrequencyBasedAdmission() {
+		return sketch != null;
+	}
+
+	private void evict(K newKey) {
+		evictionLock.lock();
+		try {
+			if ( sketch != null ) {
+				evictWithAdmission();
+			}
+			else {
+				while ( entries.size() > maxSize ) {
+					CacheEntry<K, V> victim = nextVictim( newKey );
+					if ( victim == null ) {
+						return;
+					}
+					evict( victim );
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Moves the oldest entries out of the window until it is back to its size, each of them either going to the main
+	 * space or being evicted depending on the admission policy.
+	 */
+	private void evictWithAdmission() {
+		while ( entries.size() - mainSize > maxSize - mainMaxSize ) {
+			CacheEntry<K, V> candidate = window.poll();
+			if ( candidate == null ) {
+				// the remaining entries of the window are being added to it
+				break;
+			}
+			if ( entries.get( candidate.key ) != candidate ) {
+				// removed by clear()
+				continue;
+			}
+
+			// one access when the entry was cached and one if it has been accessed since
+			sketch.increment( candidate.key );
+			if ( candidate.clearAccessed() ) {
+				sketch.increment( candidate.key );
+			}
+
+			if ( mainSize < mainMaxSize ) {
+				candidate.inWindow = false;
+				mainSize++;
+				continue;
+			}
+
+			CacheEntry<K, V> victim = nextVictim( null );
+			if ( victim != null && sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				candidate.inWindow = false;
+				evict( victim );
+			}
+			else {
+				evict( candidate );
+			}
+		}
+
+		// the main space might be over its size if entries have been added concurrently
+		while ( entries.size() > maxSize ) {
+			CacheEntry<K, V> victim = nextVictim( null );
+			if ( victim == null ) {
+				return;
+			}
+			evict( victim );
+			mainSize--;
+		}
+	}
+
+	/**
+	 * Moves the hand of the clock to the next entry of the main space to evict.
+	 *
+	 * @param excludedKey the key of an entry never elected, the new entry of a cache without admission policy
+	 * @return the entry to evict or {@code null} if there is no candidate
+	 */
+	private CacheEntry<K, V> nextVictim(K excludedKey) {
+		if ( sketch != null && mainSize == 0 ) {
+			return null;
+		}
+
+		// two full turns of the clock are enough to find an entry which has not been accessed in the meantime, except
+		// if all the entries are constantly accessed, in which case the current candidate is evicted anyway
+		int remainingCandidates = 2 * entries.size() + 1;
+		while ( true ) {
+			if ( evictionCandidates == null || !evictionCandidates.hasNext() ) {
+				evictionCandidates = entries.values().iterator();
+				if ( !evictionCandidates.hasNext() ) {
+					return null;
+				}
+			}
+
+			CacheEntry<K, V> candidate = evictionCandidates.next();
+			if ( candidate.inWindow || candidate.key.equals( excludedKey ) ) {
+				if ( --remainingCandidates < 0 ) {
+					return null;
+				}
+				continue;
+			}
+			if ( candidate.clearAccessed() ) {
+				if ( sketch != null ) {
+					sketch.increment( candidate.key );
+				}
+				if ( --remainingCandidates > 0 ) {
+					continue;
+				}
+			}
+			return candidate;
+		}
+	}
+
+	private void evict(CacheEntry<K, V> entry) {
+		if ( entries.remove( entry.key, entry ) ) {
+			onEviction( entry.key, entry );
+		}
+	}
+
+	private void onEviction(K key, CacheEntry<K, V> entry) {
+		evictions.increment();
+		if ( evictionListener != null ) {
+			evictionListener.accept( key, entry.value );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+		sb.append( '{' );
+		sb.append( "size=" ).append( entries.size() );
+		sb.append( ", maxSize=" ).append( maxSize );
+		sb.append( ", hits=" ).append( hits.sum() );
+		sb.append( ", misses=" ).append( misses.sum() );
+		sb.append( ", evictions=" ).append( evictions.sum() );
+		sb.append( '}' );
+		return sb.toString();
+	}
+
+	private static final class CacheEntry<K, V> {
+
+		private final K key;
+
+		private final V value;
+
+		private volatile boolean accessed;
+
+		/**
+		 * Whether the entry is in the window of the admission policy. Guarded by the eviction lock once the entry has
+		 * been cached.
+		 */
+		private boolean inWindow;
+
+		private CacheEntry(K key, V value, boolean inWindow) {
+			this.key = key;
+			this.value = value;
+			this.inWindow = inWindow;
+		}
+
+		private void markAccessed() {
+			// avoid writing to the shared field on each access
+			if ( !accessed ) {
+				accessed = true;
+			}
+		}
+
+		/**
+		 * @return whether the entry had been accessed
+		 */
+		private boolean clearAccessed() {
+			if ( accessed ) {
+				accessed = false;
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+/**
+ * A count-min sketch estimating the access frequency of the keys of a cache, as used by the TinyLFU admission policy.
+ * <p>
+ * The counters, one byte each, are capped at {@link #MAX_FREQUENCY} and are all halved once the number of recorded
+ * accesses reaches ten times the number of counters per row so that the estimates reflect the recent history.
+ * <p>
+ * The sketch is not thread-safe: {@link BoundedConcurrentCache} only accesses it while holding its eviction lock.
+ */
+final class FrequencySketch {
+
+	static final int MAX_FREQUENCY = 15;
+
+	private static final int DEPTH = 4;
+
+	private static final int[] SEEDS = { 0x97cb3127, 0xb1a1b6b5, 0x9e3779b9, 0x7f4a7c15 };
+
+	private final byte[] counters;
+
+	private final int mask;
+
+	private final int sampleSize;
+
+	private int additions;
+
+	FrequencySketch(int maximumSize) {
+		// a few counters per entry keep the collisions between the keys rare
+		int width = Integer.highestOneBit( Math.max( 16, Math.min( maximumSize, 1 << 22 ) ) - 1 ) << 3;
+
+		this.counters = new byte[DEPTH * width];
+		this.mask = width - 1;
+		this.sampleSize = 10 * width;
+	}
+
+	/**
+	 * Records an access to the given key.
+	 */
+	void increment(Object key) {
+		int hash = spread( key.hashCode() );
+
+		boolean added = false;
+		for ( int i = 0; i < DEPTH; i++ ) {
+			int index = indexOf( hash, i );
+			if ( counters[index] < MAX_FREQUENCY ) {
+				counters[index]++;
+				added = true;
+			}
+		}
+
+		if ( added && ++additions >= sampleSize ) {
+			reset();
+		}
+	}
+
+	/**
+	 * @return the estimated number of recent accesses to the given key, capped at {@link #MAX_FREQUENCY}
+	 */
+	int frequency(Object key) {
+		int hash = spread( key.hashCode() );
+
+		int frequency = MAX_FREQUENCY;
+		for ( int i = 0; i < DEPTH; i++ ) {
+			frequency = Math.min( frequency, counters[indexOf( hash, i )] );
+		}
+		return frequency;
+	}
+
+	void clear() {
+		for ( int i = 0; i < counters.length; i++ ) {
+			counters[i] = 0;
+		}
+		additions = 0;
+	}
+
+	private void reset() {
+		for ( int i = 0; i < counters.length; i++ ) {
+			counters[i] >>>= 1;
+		}
+		additions = 0;
+	}
+
+	private int indexOf(int hash, int row) {
+		int rowHash = ( hash ^ SEEDS[row] ) * SEEDS[row];
+		rowHash ^= rowHash >>> 16;
+		return row * ( mask + 1 ) + ( rowHash & mask );
+	}
+
+	private static int spread(int hash) {
+		hash ^= hash >>> 17;
+		hash *= 0xed5ad4bb;
+		hash ^= hash >>> 11;
+		return hash;
+	}
+}
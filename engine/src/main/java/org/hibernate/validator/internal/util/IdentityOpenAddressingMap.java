@@ -0,0 +1,146 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A map comparing its keys by identity and storing the keys and the values in flat arrays, probed linearly.
+ * <p>
+ * Contrary to {@link java.util.IdentityHashMap}, the map does not allocate anything when looking up a key and its
+ * lookups only touch the keys array until a key is found. The entries cannot be removed and {@code null} keys are not
+ * supported.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IdentityOpenAddressingMap<K, V> {
+
+	private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private Object[] keys;
+
+	private Object[] values;
+
+	private int size;
+
+	/**
+	 * The number of entries at which the arrays are grown, keeping the load factor under 0.5 so that the probe
+	 * sequences stay short.
+	 */
+	private int resizeThreshold;
+
+	public IdentityOpenAddressingMap() {
+		this( DEFAULT_EXPECTED_SIZE );
+	}
+
+	public IdentityOpenAddressingMap(int expectedSize) {
+		int capacity = Integer.highestOneBit( Math.max( 2, Math.min( expectedSize, MAXIMUM_CAPACITY / 2 ) ) - 1 ) << 2;
+		this.keys = new Object[capacity];
+		this.values = new Object[capacity];
+		this.resizeThreshold = capacity >>> 1;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+
+		for ( int i = indexFor( key, mask ); ; i = ( i + 1 ) & mask ) {
+			Object candidate = keys[i];
+			if ( candidate == key ) {
+				return (V) values[i];
+			}
+			if ( candidate == null ) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * @return the value previously associated with the given key, {@code null} if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		Contracts.assertNotNull( key, "key" );
+
+		int mask = keys.length - 1;
+		int i = indexFor( key, mask );
+		for ( ; keys[i] != null; i = ( i + 1 ) & mask ) {
+			if ( keys[i] == key ) {
+				V previous = (V) values[i];
+				values[i] = value;
+				return previous;
+			}
+		}
+
+		keys[i] = key;
+		values[i] = value;
+		if ( ++size > resizeThreshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				action.accept( (K) keys[i], (V) values[i] );
+			}
+		}
+	}
+
+	private void resize() {
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		if ( oldKeys.length == MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Capacity exhausted." );
+		}
+
+		int capacity = oldKeys.length << 1;
+		int mask = capacity - 1;
+		Object[] newKeys = new Object[capacity];
+		Object[] newValues = new Object[capacity];
+
+		for ( int j = 0; j < oldKeys.length; j++ ) {
+			Object key = oldKeys[j];
+			if ( key != null ) {
+				int i = indexFor( key, mask );
+				while ( newKeys[i] != null ) {
+					i = ( i + 1 ) & mask;
+				}
+				newKeys[i] = key;
+				newValues[i] = oldValues[j];
+			}
+		}
+
+		this.keys = newKeys;
+		this.values = newValues;
+		this.resizeThreshold = capacity >>> 1;
+	}
+
+	private static int indexFor(Object key, int mask) {
+		// the identity hash codes are not evenly distributed in their low bits, spread them with a Fibonacci hash
+		int hash = System.identityHashCode( key ) * 0x9e3779b9;
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{size=" + size + ", capacity=" + keys.length + '}';
+	}
+}
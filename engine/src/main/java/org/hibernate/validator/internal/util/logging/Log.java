@@ -17,6 +17,7 @@
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.net.URL;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
@@ -881,4 +882,28 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 
 	@Message(id = 250, value = "Uninitialized locale: %s. Please register your locale as a locale to initialize when initializing your ValidatorFactory.")
 	ValidationException uninitializedLocale(Locale locale);
+
+	@Message(id = 251, value = "Unable to parse %s as the threshold of the parallel cascaded validation.")
+	ValidationException getUnableToParseParallelCascadedValidationThresholdException(String threshold, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 252, value = "Unable to read the metadata index %1$s, the metadata of the types it describes will be retrieved by reflection.")
+	void unableToReadMetaDataIndex(URL indexUrl, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 253, value = "The metadata index entry of %1$s does not match the declared members of the class, its metadata will be retrieved by reflection.")
+	void logOutOfDateMetaDataIndexEntry(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass);
+
+	@Message(id = 254, value = "Unable to parse %s as a bean metadata cache strategy, the supported strategies are %s.")
+	ValidationException getUnableToParseBeanMetaDataCacheStrategyException(String strategy, String supportedStrategies);
+
+	@Message(id = 255, value = "Invalid maximum size of the bean metadata cache: %s. It must be a positive integer.")
+	ValidationException getInvalidBeanMetaDataCacheMaxSizeException(String maxSize, @Cause Exception e);
+
+	@Message(id = 256, value = "Invalid maximum number of cached constraint validator contexts: %s. It must be a positive integer.")
+	ValidationException getInvalidConstraintValidatorCacheMaxContextsException(String maxContexts, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 257, value = "Unable to resolve the messages of the resource bundles for locale %1$s, they will be resolved when they are used.")
+	void unableToResolveBundleMessages(Locale locale, @Cause Throwable e);
 }
@@ -6,31 +6,35 @@
  */
 package org.hibernate.validator.messageinterpolation;
 
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
-
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
-import java.util.EnumSet;
-import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.validation.MessageInterpolator;
 import javax.validation.ValidationException;
 
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
 import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedMessage;
+import org.hibernate.validator.internal.engine.messageinterpolation.MessageInterpolatorCacheStatisticsImpl;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
-import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
-import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 
@@ -51,19 +55,12 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	/**
-	 * The default initial capacity for this cache.
-	 */
-	private static final int DEFAULT_INITIAL_CAPACITY = 100;
-
-	/**
-	 * The default load factor for this cache.
-	 */
-	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
-
-	/**
-	 * The default concurrency level for this cache.
+	 * The default maximum number of compiled messages kept in the cache, enough for a few hundred constraint messages
+	 * in several locales.
+	 *
+	 * @since 6.1.0
 	 */
-	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+	public static final int DEFAULT_MESSAGE_CACHE_MAX_SIZE = 2_000;
 
 	/**
 	 * The name of the default message bundle.
@@ -103,29 +100,32 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private final ResourceBundleLocator contributorResourceBundleLocator;
 
 	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
-	 */
-	private final ConcurrentReferenceHashMap<LocalizedMessage, String> resolvedMessages;
-
-	/**
-	 * Step 4 of message interpolation replaces message parameters. The token list for message parameters is cached in this map.
-	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedParameterMessages;
-
-	/**
-	 * Step 5 of message interpolation replaces EL expressions. The token list for EL expressions is cached in this map.
+	 * Step 1-3 of message interpolation can be cached. We do this in this cache, together with the compiled form of the
+	 * resolved message used to perform the remaining steps.
+	 * <p>
+	 * The cache is keyed by the message as specified in the constraint, before any substitution. It is bounded: the
+	 * new messages go through a small admission window and the messages built dynamically, e.g. from validated values,
+	 * are then rejected instead of evicting the more frequently used messages of the constraints. {@code null} if
+	 * caching is disabled.
 	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedELMessages;
+	private final BoundedConcurrentCache<LocalizedMessage, CompiledMessage> compiledMessages;
 
 	/**
 	 * Flag indicating whether this interpolator should cache some of the interpolation steps.
 	 */
 	private final boolean cachingEnabled;
 
-	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
-	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
-	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
-	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
+	/**
+	 * For each locale to initialize, the bundle messages (i.e. {@code {key}}) of the user, contributor and default
+	 * bundles together with their resolved form (step 1), flattened into an immutable map. The maps are built when the
+	 * interpolator is created, on the bootstrap thread or in the background if an executor is provided, so that
+	 * resolving the messages the first time they are used does not require any resource bundle lookup.
+	 * <p>
+	 * Only used when caching is enabled as, otherwise, the resource bundles are expected to be read for each
+	 * interpolation.
+	 */
+	@Immutable
+	private final Map<Locale, CompletableFuture<Map<String, String>>> resolvedBundleMessagesByLocale;
 
 	/**
 	 * {@code MessageInterpolator} using the default resource bundle locators.
@@ -220,6 +220,49 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 			ResourceBundleLocator contributorResourceBundleLocator,
 			Set<Locale> localesToInitialize,
 			boolean cacheMessages) {
+		this( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize, cacheMessages, DEFAULT_MESSAGE_CACHE_MAX_SIZE );
+	}
+
+	/**
+	 * {@code MessageInterpolator} taking two resource bundle locators.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint contributor
+	 * @param localesToInitialize The set of locales to initialize at bootstrap.
+	 * @param cacheMessages Whether resolved messages should be cached or not.
+	 * @param messageCacheMaxSize The maximum number of messages kept in the cache, ignored if caching is disabled.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> localesToInitialize,
+			boolean cacheMessages,
+			int messageCacheMaxSize) {
+		this( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize, cacheMessages, messageCacheMaxSize, null );
+	}
+
+	/**
+	 * {@code MessageInterpolator} taking two resource bundle locators.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint contributor
+	 * @param localesToInitialize The set of locales to initialize at bootstrap.
+	 * @param cacheMessages Whether resolved messages should be cached or not.
+	 * @param messageCacheMaxSize The maximum number of messages kept in the cache, ignored if caching is disabled.
+	 * @param bundleMessagesResolutionExecutor The executor used to resolve the messages of the resource bundles of the
+	 * locales to initialize in the background. If {@code null}, they are resolved when the interpolator is created.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> localesToInitialize,
+			boolean cacheMessages,
+			int messageCacheMaxSize,
+			Executor bundleMessagesResolutionExecutor) {
 		defaultLocale = Locale.getDefault();
 
 		if ( userResourceBundleLocator == null ) {
@@ -245,36 +288,68 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 
 		this.cachingEnabled = cacheMessages;
 		if ( cachingEnabled ) {
-			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, String>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedParameterMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedELMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
+			this.compiledMessages = new BoundedConcurrentCache<>( messageCacheMaxSize, true );
 		}
 		else {
-			resolvedMessages = null;
-			tokenizedParameterMessages = null;
-			tokenizedELMessages = null;
+			compiledMessages = null;
+		}
+
+		if ( cachingEnabled && !localesToInitialize.isEmpty() ) {
+			Map<Locale, CompletableFuture<Map<String, String>>> tmpResolvedBundleMessagesByLocale = CollectionHelper.newHashMap( localesToInitialize.size() );
+			for ( Locale localeToInitialize : localesToInitialize ) {
+				// the bundles are retrieved in the current thread as the locators might depend on its context class loader
+				ResourceBundle userResourceBundle = this.userResourceBundleLocator.getResourceBundle( localeToInitialize );
+				ResourceBundle constraintContributorResourceBundle = this.contributorResourceBundleLocator.getResourceBundle( localeToInitialize );
+				ResourceBundle defaultResourceBundle = this.defaultResourceBundleLocator.getResourceBundle( localeToInitialize );
+
+				CompletableFuture<Map<String, String>> resolvedBundleMessages = null;
+				if ( bundleMessagesResolutionExecutor != null ) {
+					try {
+						resolvedBundleMessages = CompletableFuture.supplyAsync( () -> resolveBundleMessages(
+										localeToInitialize, userResourceBundle, constraintContributorResourceBundle, defaultResourceBundle ),
+								bundleMessagesResolutionExecutor )
+								.exceptionally( e -> {
+									LOG.unableToResolveBundleMessages( localeToInitialize, e instanceof CompletionException ? e.getCause() : e );
+									return Collections.emptyMap();
+								} );
+					}
+					catch (RejectedExecutionException e) {
+						// the executor is saturated or shut down, we resolve the messages in the current thread
+					}
+				}
+				if ( resolvedBundleMessages == null ) {
+					resolvedBundleMessages = CompletableFuture.completedFuture( resolveBundleMessagesInCurrentThread(
+							localeToInitialize, userResourceBundle, constraintContributorResourceBundle, defaultResourceBundle ) );
+				}
+				tmpResolvedBundleMessagesByLocale.put( localeToInitialize, resolvedBundleMessages );
+			}
+			this.resolvedBundleMessagesByLocale = CollectionHelper.toImmutableMap( tmpResolvedBundleMessagesByLocale );
 		}
+		else {
+			this.resolvedBundleMessagesByLocale = Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * @return whether this interpolator caches some of the interpolation steps
+	 *
+	 * @since 6.1.0
+	 */
+	protected final boolean isCachingEnabled() {
+		return cachingEnabled;
+	}
+
+	/**
+	 * Returns the statistics of the cache of the messages, i.e. the number of messages which did not need to be
+	 * resolved and compiled again.
+	 *
+	 * @return a snapshot of the statistics of the message cache
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public MessageInterpolatorCacheStatistics getMessageCacheStatistics() {
+		return MessageInterpolatorCacheStatisticsImpl.of( compiledMessages );
 	}
 
 	@Override
@@ -320,66 +395,109 @@ private String interpolateMessage(String message, Context context, Locale locale
 		// if the message does not contain any message parameter, we can ignore the next steps and just return
 		// the unescaped message. It avoids storing the message in the cache and a cache lookup.
 		if ( message.indexOf( '{' ) < 0 ) {
-			return replaceEscapedLiterals( message );
+			return InterpolationHelper.replaceEscapedLiterals( message );
 		}
 
-		String resolvedMessage = null;
+		CompiledMessage compiledMessage;
 
-		// either retrieve message from cache, or if message is not yet there or caching is disabled,
-		// perform message resolution algorithm (step 1)
+		// either retrieve the compiled message from cache, or if message is not yet there or caching is disabled,
+		// perform message resolution algorithm (step 1) and compile the resolved message
 		if ( cachingEnabled ) {
-			resolvedMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ), lm -> resolveMessage( message, locale ) );
+			compiledMessage = compiledMessages.computeIfAbsent( new LocalizedMessage( message, locale ),
+					lm -> CompiledMessage.compile( resolveMessage( message, locale ) ) );
 		}
 		else {
-			resolvedMessage = resolveMessage( message, locale );
+			compiledMessage = CompiledMessage.compile( resolveMessage( message, locale ) );
 		}
 
-		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
-		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
-			// resolve parameter expressions (step 2)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
-					context,
-					locale
-			);
+		// resolve parameter expressions (step 2) and EL expressions (step 3), then take care of escaped literals
+		return compiledMessage.interpolate( context, ( termContext, term ) -> interpolate( termContext, locale, term ) );
+	}
 
-			// resolve EL expressions (step 3)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
-					context,
-					locale
-			);
+	private String resolveMessage(String message, Locale locale) {
+		CompletableFuture<Map<String, String>> resolvedBundleMessages = resolvedBundleMessagesByLocale.get( locale );
+		if ( resolvedBundleMessages != null ) {
+			// if the resolution of the bundle messages is still in progress, we don't wait for it as the executor might
+			// be busy with other tasks: the message is resolved from the resource bundles instead
+			String resolvedMessage = resolvedBundleMessages.getNow( Collections.emptyMap() ).get( message );
+			if ( resolvedMessage != null ) {
+				return resolvedMessage;
+			}
 		}
 
-		// last but not least we have to take care of escaped literals
-		resolvedMessage = replaceEscapedLiterals( resolvedMessage );
+		ResourceBundle userResourceBundle = userResourceBundleLocator
+				.getResourceBundle( locale );
 
-		return resolvedMessage;
+		ResourceBundle constraintContributorResourceBundle = contributorResourceBundleLocator
+				.getResourceBundle( locale );
+
+		ResourceBundle defaultResourceBundle = defaultResourceBundleLocator
+				.getResourceBundle( locale );
+
+		return resolveMessage( message, locale, userResourceBundle, constraintContributorResourceBundle, defaultResourceBundle );
 	}
 
-	private List<Token> getParameterTokens(String resolvedMessage, ConcurrentReferenceHashMap<String, List<Token>> cache, InterpolationTermType termType) {
-		if ( cachingEnabled ) {
-			return cache.computeIfAbsent(
-					resolvedMessage,
-					rm -> new TokenCollector( resolvedMessage, termType ).getTokenList()
-			);
+	private Map<String, String> resolveBundleMessagesInCurrentThread(Locale locale, ResourceBundle userResourceBundle,
+			ResourceBundle constraintContributorResourceBundle, ResourceBundle defaultResourceBundle) {
+		try {
+			return resolveBundleMessages( locale, userResourceBundle, constraintContributorResourceBundle, defaultResourceBundle );
 		}
-		else {
-			return new TokenCollector( resolvedMessage, termType ).getTokenList();
+		catch (RuntimeException e) {
+			LOG.unableToResolveBundleMessages( locale, e );
+			return Collections.emptyMap();
 		}
 	}
 
-	private String resolveMessage(String message, Locale locale) {
-		String resolvedMessage = message;
+	/**
+	 * Resolves all the bundle messages (i.e. {@code {key}}) of the given bundles.
+	 *
+	 * @return a map of the bundle messages to their resolved form
+	 */
+	private Map<String, String> resolveBundleMessages(Locale locale, ResourceBundle userResourceBundle,
+			ResourceBundle constraintContributorResourceBundle, ResourceBundle defaultResourceBundle) {
+		Set<String> keys = CollectionHelper.newHashSet();
+		for ( ResourceBundle resourceBundle : new ResourceBundle[] { userResourceBundle, constraintContributorResourceBundle, defaultResourceBundle } ) {
+			if ( resourceBundle != null ) {
+				keys.addAll( resourceBundle.keySet() );
+			}
+		}
 
-		ResourceBundle userResourceBundle = userResourceBundleLocator
-				.getResourceBundle( locale );
+		Map<String, String> resolvedBundleMessages = CollectionHelper.newHashMap( keys.size() );
+		for ( String key : keys ) {
+			// the keys containing meta characters are not parsed as a single message parameter, we leave them alone
+			if ( !isBundleMessageKey( key ) ) {
+				continue;
+			}
 
-		ResourceBundle constraintContributorResourceBundle = contributorResourceBundleLocator
-				.getResourceBundle( locale );
+			String bundleMessage = InterpolationHelper.BEGIN_TERM + key + InterpolationHelper.END_TERM;
+			try {
+				resolvedBundleMessages.put( bundleMessage,
+						resolveMessage( bundleMessage, locale, userResourceBundle, constraintContributorResourceBundle, defaultResourceBundle ) );
+			}
+			catch (MessageDescriptorFormatException e) {
+				// the error will be reported when the message is actually used
+			}
+		}
+		return CollectionHelper.toImmutableMap( resolvedBundleMessages );
+	}
 
-		ResourceBundle defaultResourceBundle = defaultResourceBundleLocator
-				.getResourceBundle( locale );
+	private static boolean isBundleMessageKey(String key) {
+		if ( key.isEmpty() ) {
+			return false;
+		}
+		for ( int i = 0; i < key.length(); i++ ) {
+			char c = key.charAt( i );
+			if ( c == InterpolationHelper.BEGIN_TERM || c == InterpolationHelper.END_TERM || c == InterpolationHelper.EL_DESIGNATOR
+					|| c == InterpolationHelper.ESCAPE_CHARACTER ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String resolveMessage(String message, Locale locale, ResourceBundle userResourceBundle,
+			ResourceBundle constraintContributorResourceBundle, ResourceBundle defaultResourceBundle) {
+		String resolvedMessage = message;
 
 		String userBundleResolvedMessage;
 		boolean evaluatedDefaultBundleOnce = false;
@@ -415,16 +533,6 @@ private String resolveMessage(String message, Locale locale) {
 		return resolvedMessage;
 	}
 
-	private String replaceEscapedLiterals(String resolvedMessage) {
-		if ( resolvedMessage.indexOf( '\\' ) > -1 ) {
-			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
-			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
-			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
-			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
-		}
-		return resolvedMessage;
-	}
-
 	private boolean hasReplacementTakenPlace(String origMessage, String newMessage) {
 		return !origMessage.equals( newMessage );
 	}
@@ -443,17 +551,6 @@ private String interpolateBundleMessage(String message, ResourceBundle bundle, L
 		return tokenIterator.getInterpolatedMessage();
 	}
 
-	private String interpolateExpression(TokenIterator tokenIterator, Context context, Locale locale)
-			throws MessageDescriptorFormatException {
-		while ( tokenIterator.hasMoreInterpolationTerms() ) {
-			String term = tokenIterator.nextInterpolationTerm();
-
-			String resolvedExpression = interpolate( context, locale, term );
-			tokenIterator.replaceCurrentInterpolationTerm( resolvedExpression );
-		}
-		return tokenIterator.getInterpolatedMessage();
-	}
-
 	public abstract String interpolate(Context context, Locale locale, String term);
 
 	private String resolveParameter(String parameterName, ResourceBundle bundle, Locale locale, boolean recursive)
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.messageinterpolation;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Statistics about one of the caches of a message interpolator.
+ * <p>
+ * The statistics are a snapshot taken when they are requested. They help sizing the cache: a low hit ratio together
+ * with a high number of evictions means the cache is too small for the messages in use.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface MessageInterpolatorCacheStatistics {
+
+	/**
+	 * @return the number of entries currently cached
+	 */
+	int getSize();
+
+	/**
+	 * @return the maximum number of cached entries, {@code 0} if caching is disabled
+	 */
+	int getMaxSize();
+
+	/**
+	 * @return the number of requests served from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of requests requiring the entry to be computed
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of entries evicted from the cache
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the ratio of the requests served from the cache, {@code 0} if the cache has not been requested yet
+	 */
+	default double getHitRatio() {
+		long requestCount = getHitCount() + getMissCount();
+		return requestCount == 0 ? 0 : (double) getHitCount() / requestCount;
+	}
+}
@@ -12,11 +12,16 @@
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.el.ELManager;
 import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
 
+import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTerm;
+import org.hibernate.validator.internal.engine.messageinterpolation.MessageInterpolatorCacheStatisticsImpl;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
@@ -37,8 +42,20 @@ public class ResourceBundleMessageInterpolator extends AbstractMessageInterpolat
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	/**
+	 * The maximum number of parsed EL expressions kept in the cache.
+	 */
+	private static final int EXPRESSION_CACHE_SIZE = 1_000;
+
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The parsed EL expressions, keyed by expression text. {@code null} if caching is disabled.
+	 */
+	private final BoundedConcurrentCache<String, ValueExpression> valueExpressions = isCachingEnabled()
+			? new BoundedConcurrentCache<>( EXPRESSION_CACHE_SIZE )
+			: null;
+
 	public ResourceBundleMessageInterpolator() {
 		this( Collections.emptySet() );
 	}
@@ -93,6 +110,53 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 		this.expressionFactory = buildExpressionFactory();
 	}
 
+	/**
+	 * {@code MessageInterpolator} taking two resource bundle locators and the maximum size of the message cache.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint contributor
+	 * @param localesToInitialize The set of locales to initialize at bootstrap.
+	 * @param cachingEnabled Whether resolved messages should be cached or not.
+	 * @param messageCacheMaxSize The maximum number of messages kept in the cache, ignored if caching is disabled.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> localesToInitialize,
+			boolean cachingEnabled,
+			int messageCacheMaxSize) {
+		super( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize, cachingEnabled, messageCacheMaxSize );
+		this.expressionFactory = buildExpressionFactory();
+	}
+
+	/**
+	 * {@code MessageInterpolator} taking two resource bundle locators, the maximum size of the message cache and the
+	 * executor used to resolve the messages of the locales to initialize.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint contributor
+	 * @param localesToInitialize The set of locales to initialize at bootstrap.
+	 * @param cachingEnabled Whether resolved messages should be cached or not.
+	 * @param messageCacheMaxSize The maximum number of messages kept in the cache, ignored if caching is disabled.
+	 * @param bundleMessagesResolutionExecutor The executor used to resolve the messages of the resource bundles of the
+	 * locales to initialize in the background. If {@code null}, they are resolved when the interpolator is created.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> localesToInitialize,
+			boolean cachingEnabled,
+			int messageCacheMaxSize,
+			Executor bundleMessagesResolutionExecutor) {
+		super( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize, cachingEnabled, messageCacheMaxSize,
+				bundleMessagesResolutionExecutor );
+		this.expressionFactory = buildExpressionFactory();
+	}
+
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator, Set<Locale> localesToInitialize, boolean cachingEnabled) {
 		super( userResourceBundleLocator, null, localesToInitialize, cachingEnabled );
 		this.expressionFactory = buildExpressionFactory();
@@ -106,9 +170,21 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 		this.expressionFactory = expressionFactory;
 	}
 
+	/**
+	 * Returns the statistics of the cache of the parsed EL expressions.
+	 *
+	 * @return a snapshot of the statistics of the EL expression cache
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public MessageInterpolatorCacheStatistics getExpressionCacheStatistics() {
+		return MessageInterpolatorCacheStatisticsImpl.of( valueExpressions );
+	}
+
 	@Override
 	public String interpolate(Context context, Locale locale, String term) {
-		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory );
+		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory, valueExpressions );
 		return expression.interpolate( context );
 	}
 
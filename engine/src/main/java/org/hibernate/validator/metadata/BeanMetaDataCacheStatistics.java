@@ -0,0 +1,72 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import java.time.Duration;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Statistics about the cache of the bean metadata built on demand by the validator factory.
+ * <p>
+ * The statistics are a snapshot taken when they are requested. They help sizing the cache: a high number of rebuilt
+ * metadata means the cache evicts metadata which are still in use.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface BeanMetaDataCacheStatistics {
+
+	/**
+	 * @return the strategy of the cache
+	 */
+	BeanMetaDataCacheStrategy getStrategy();
+
+	/**
+	 * @return the number of metadata currently cached
+	 */
+	int getSize();
+
+	/**
+	 * @return the maximum number of cached metadata, {@code -1} if the cache is not bounded
+	 */
+	int getMaxSize();
+
+	/**
+	 * @return the number of requests served from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of requests requiring the metadata to be built
+	 */
+	long getMissCount();
+
+	/**
+	 * Returns the number of metadata evicted from the cache. The metadata reclaimed by the garbage collector with the
+	 * {@link BeanMetaDataCacheStrategy#SOFT} strategy are only noticed when they are requested again, they are thus
+	 * counted when rebuilt.
+	 *
+	 * @return the number of evicted metadata
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of times the metadata of a class have been built again after having been evicted
+	 */
+	long getRebuildCount();
+
+	/**
+	 * @return the total time spent building the metadata of the classes requested for the first time
+	 */
+	Duration getBuildTime();
+
+	/**
+	 * @return the total time spent building again the metadata evicted from the cache
+	 */
+	Duration getRebuildTime();
+}
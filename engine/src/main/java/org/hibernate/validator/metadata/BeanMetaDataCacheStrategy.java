@@ -0,0 +1,37 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * The strategies available to cache the bean metadata built on demand by the validator factory.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public enum BeanMetaDataCacheStrategy {
+
+	/**
+	 * The metadata are kept until the validator factory is closed. Use it when the validated classes are known to be
+	 * in limited number.
+	 */
+	STRONG,
+
+	/**
+	 * At most a given number of metadata are kept. New metadata first enter a small admission window; when they
+	 * leave it, they only replace older metadata if they have been requested more frequently, so that a burst of
+	 * classes validated only once does not evict the metadata of the commonly validated classes.
+	 */
+	BOUNDED,
+
+	/**
+	 * The metadata are softly referenced and are evicted by the garbage collector under memory pressure. This is the
+	 * default strategy.
+	 */
+	SOFT
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Statistics about the initialization of the bean metadata by the predefined scope validator factory.
+ * <p>
+ * The metadata of the classes to initialize and of their superclasses are built when the factory is created, either
+ * sequentially or in parallel. These statistics help identifying the classes whose metadata are the most expensive
+ * to build.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface BeanMetaDataInitializationStatistics {
+
+	/**
+	 * @return the time elapsed while initializing the metadata of all the classes
+	 */
+	Duration getInitializationTime();
+
+	/**
+	 * Returns the time spent building the metadata of each class, the superclasses of the classes to initialize
+	 * included. When the metadata are built in parallel, the sum of these times is greater than the elapsed time.
+	 *
+	 * @return the build time per class, in the order in which the builds were started
+	 */
+	Map<Class<?>, Duration> getBeanMetaDataBuildTimes();
+
+	/**
+	 * @return whether the metadata were built in parallel
+	 */
+	boolean isParallel();
+}
@@ -8,16 +8,36 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
  * A wrapper around JSR 223 {@link ScriptEngine}s. This class is thread-safe.
+ * <p>
+ * If the engine implements {@link Compilable}, each script is compiled once per engine and the compiled script is
+ * evaluated from then on. The number of compiled scripts kept per engine is bounded: the scripts are expected to form
+ * a limited set, e.g. the ones of the {@code @ScriptAssert} constraints. If scripts are built dynamically, the
+ * frequently evaluated ones are kept and the others are compiled again when they are evaluated.
+ * <p>
+ * If the engine is not thread-safe, the scripts are evaluated by a pool of engines, created on demand from the
+ * factory of the given engine, a given engine being used by one thread at a time. The created engines are configured
+ * as the given engine: same global bindings, same engine bindings and same reader and writers.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -28,20 +48,93 @@ public class ScriptEngineScriptEvaluator implements ScriptEvaluator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	/**
+	 * The default maximum number of compiled scripts kept per engine.
+	 *
+	 * @since 6.1.0
+	 */
+	public static final int DEFAULT_MAX_COMPILED_SCRIPTS = 1_000;
+
 	private final ScriptEngine engine;
 
 	/**
-	 * Creates a new script executor.
+	 * The engine evaluating all the scripts if the engine is thread-safe, {@code null} otherwise.
+	 */
+	private final CompilingScriptEngine sharedEngine;
+
+	/**
+	 * The engines not currently evaluating a script if the engine is not thread-safe, {@code null} otherwise.
+	 */
+	private final BlockingQueue<CompilingScriptEngine> idleEngines;
+
+	private final AtomicInteger numberOfEngines;
+
+	private final int maxNumberOfEngines;
+
+	private final int maxCompiledScripts;
+
+	private final LongAdder compiledScriptCacheHits = new LongAdder();
+
+	private final LongAdder compiledScriptCacheMisses = new LongAdder();
+
+	/**
+	 * Creates a new script executor. If the engine is not thread-safe, at most one engine per available processor is
+	 * used.
 	 *
 	 * @param engine the engine to be wrapped
 	 */
 	public ScriptEngineScriptEvaluator(ScriptEngine engine) {
+		this( engine, Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * Creates a new script executor.
+	 *
+	 * @param engine the engine to be wrapped
+	 * @param maxNumberOfEngines the maximum number of engines evaluating scripts concurrently if the engine is not
+	 * thread-safe, the given engine included
+	 *
+	 * @since 6.1.0
+	 */
+	public ScriptEngineScriptEvaluator(ScriptEngine engine, int maxNumberOfEngines) {
+		this( engine, maxNumberOfEngines, DEFAULT_MAX_COMPILED_SCRIPTS );
+	}
+
+	/**
+	 * Creates a new script executor.
+	 *
+	 * @param engine the engine to be wrapped
+	 * @param maxNumberOfEngines the maximum number of engines evaluating scripts concurrently if the engine is not
+	 * thread-safe, the given engine included
+	 * @param maxCompiledScripts the maximum number of compiled scripts kept per engine, ignored if the engine does not
+	 * implement {@link Compilable}
+	 *
+	 * @since 6.1.0
+	 */
+	public ScriptEngineScriptEvaluator(ScriptEngine engine, int maxNumberOfEngines, int maxCompiledScripts) {
+		Contracts.assertTrue( maxNumberOfEngines > 0, "maxNumberOfEngines must be greater than 0" );
+		Contracts.assertTrue( maxCompiledScripts > 0, "maxCompiledScripts must be greater than 0" );
+
 		this.engine = engine;
+		this.maxNumberOfEngines = maxNumberOfEngines;
+		this.maxCompiledScripts = maxCompiledScripts;
+
+		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
+			this.sharedEngine = new CompilingScriptEngine( engine );
+			this.idleEngines = null;
+			this.numberOfEngines = null;
+		}
+		else {
+			this.sharedEngine = null;
+			this.idleEngines = new LinkedBlockingQueue<>();
+			this.idleEngines.add( new CompilingScriptEngine( engine ) );
+			this.numberOfEngines = new AtomicInteger( 1 );
+		}
 	}
 
 	/**
-	 * Executes the given script, using the given variable bindings. The execution of the script happens either synchronized or
-	 * unsynchronized, depending on the engine's threading abilities.
+	 * Executes the given script, using the given variable bindings. The execution of the script happens either
+	 * concurrently or with an engine of the pool, depending on the engine's threading abilities.
 	 *
 	 * @param script the script to be executed
 	 * @param bindings the bindings to be used
@@ -52,25 +145,89 @@ public ScriptEngineScriptEvaluator(ScriptEngine engine) {
 	 */
 	@Override
 	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
-		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
-			return doEvaluate( script, bindings );
+		if ( sharedEngine != null ) {
+			return sharedEngine.evaluate( script, bindings );
 		}
-		else {
-			synchronized ( engine ) {
-				return doEvaluate( script, bindings );
-			}
+
+		CompilingScriptEngine pooledEngine = acquireEngine( script );
+		try {
+			return pooledEngine.evaluate( script, bindings );
+		}
+		finally {
+			idleEngines.add( pooledEngine );
 		}
 	}
 
-	private Object doEvaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+	/**
+	 * @return the number of evaluations of a script which had already been compiled
+	 *
+	 * @since 6.1.0
+	 */
+	public long getCompiledScriptCacheHitCount() {
+		return compiledScriptCacheHits.sum();
+	}
+
+	/**
+	 * @return the number of evaluations which required the compilation of the script, always {@code 0} if the engine
+	 * does not implement {@link Compilable}
+	 *
+	 * @since 6.1.0
+	 */
+	public long getCompiledScriptCacheMissCount() {
+		return compiledScriptCacheMisses.sum();
+	}
+
+	private CompilingScriptEngine acquireEngine(String script) {
+		CompilingScriptEngine pooledEngine = idleEngines.poll();
+		if ( pooledEngine != null ) {
+			return pooledEngine;
+		}
+
+		int currentNumberOfEngines;
+		while ( ( currentNumberOfEngines = numberOfEngines.get() ) < maxNumberOfEngines ) {
+			if ( numberOfEngines.compareAndSet( currentNumberOfEngines, currentNumberOfEngines + 1 ) ) {
+				try {
+					return new CompilingScriptEngine( createEngine() );
+				}
+				catch (RuntimeException e) {
+					numberOfEngines.decrementAndGet();
+					throw LOG.getErrorExecutingScriptException( script, e );
+				}
+			}
+		}
+
 		try {
-			return engine.eval( script, new SimpleBindings( bindings ) );
+			return idleEngines.take();
 		}
-		catch (Exception e) {
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw LOG.getErrorExecutingScriptException( script, e );
 		}
 	}
 
+	/**
+	 * Creates a new engine from the factory of the wrapped engine, configured as the wrapped engine: it shares its
+	 * global bindings, gets a copy of its engine bindings and uses the same reader and writers.
+	 * <p>
+	 * The engine bindings are copied when the engine is created: the ones added later to the wrapped engine are not
+	 * visible from the created engines.
+	 */
+	private ScriptEngine createEngine() {
+		ScriptContext context = engine.getContext();
+
+		ScriptEngine newEngine = engine.getFactory().getScriptEngine();
+		ScriptContext newContext = newEngine.getContext();
+		newContext.setBindings( context.getBindings( ScriptContext.GLOBAL_SCOPE ), ScriptContext.GLOBAL_SCOPE );
+		Bindings engineBindings = context.getBindings( ScriptContext.ENGINE_SCOPE );
+		if ( engineBindings != null ) {
+			newContext.getBindings( ScriptContext.ENGINE_SCOPE ).putAll( engineBindings );
+		}
+		newContext.setReader( context.getReader() );
+		newContext.setWriter( context.getWriter() );
+		newContext.setErrorWriter( context.getErrorWriter() );
+		return newEngine;
+	}
+
 	/**
 	 * Checks whether the given engine is thread-safe or not.
 	 *
@@ -81,4 +238,45 @@ private boolean engineAllowsParallelAccessFromMultipleThreads() {
 
 		return "THREAD-ISOLATED".equals( threadingType ) || "STATELESS".equals( threadingType );
 	}
+
+	/**
+	 * An engine with the scripts it compiled, the frequently evaluated scripts being kept when the cache is full.
+	 */
+	private final class CompilingScriptEngine {
+
+		private final ScriptEngine engine;
+
+		private final BoundedConcurrentCache<String, CompiledScript> compiledScripts;
+
+		private CompilingScriptEngine(ScriptEngine engine) {
+			this.engine = engine;
+			this.compiledScripts = new BoundedConcurrentCache<>( maxCompiledScripts, true );
+		}
+
+		private Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+			try {
+				if ( engine instanceof Compilable ) {
+					return getCompiledScript( script ).eval( new SimpleBindings( bindings ) );
+				}
+				return engine.eval( script, new SimpleBindings( bindings ) );
+			}
+			catch (Exception e) {
+				throw LOG.getErrorExecutingScriptException( script, e );
+			}
+		}
+
+		private CompiledScript getCompiledScript(String script) throws ScriptException {
+			CompiledScript compiledScript = compiledScripts.get( script );
+			if ( compiledScript != null ) {
+				compiledScriptCacheHits.increment();
+				return compiledScript;
+			}
+
+			compiledScriptCacheMisses.increment();
+			// a script compiled concurrently by a thread-safe engine is simply compiled twice
+			compiledScript = ( (Compilable) engine ).compile( script );
+			CompiledScript existingCompiledScript = compiledScripts.putIfAbsent( script, compiledScript );
+			return existingCompiledScript != null ? existingCompiledScript : compiledScript;
+		}
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.violation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A constraint violation passed to a {@link ViolationSink}.
+ * <p>
+ * The interpolated message, the property path and the {@link ConstraintViolation} are only built when requested.
+ * This object is only usable during the call to {@link ViolationSink#accept(ReportedViolation)}, the objects it
+ * returns may be kept afterwards.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface ReportedViolation {
+
+	/**
+	 * @return the position of this violation among the violations reported by the current validation call, starting
+	 * from {@code 0}
+	 */
+	int getIndex();
+
+	/**
+	 * @return the root bean of the validation, {@code null} for a call to
+	 * {@link javax.validation.Validator#validateValue(Class, String, Object, Class[])} or when validating the
+	 * parameters of a constructor
+	 */
+	Object getRootBean();
+
+	/**
+	 * @return the class of the root bean of the validation
+	 */
+	Class<?> getRootBeanClass();
+
+	/**
+	 * @return the bean hosting the failing constraint
+	 *
+	 * @see ConstraintViolation#getLeafBean()
+	 */
+	Object getLeafBean();
+
+	/**
+	 * @return the value failing to pass the constraint
+	 */
+	Object getInvalidValue();
+
+	/**
+	 * @return the metadata of the failing constraint
+	 */
+	ConstraintDescriptor<?> getConstraintDescriptor();
+
+	/**
+	 * @return the non-interpolated message template
+	 */
+	String getMessageTemplate();
+
+	/**
+	 * Interpolates the message of the violation on the first call.
+	 *
+	 * @return the interpolated message
+	 */
+	String getMessage();
+
+	/**
+	 * Builds the property path of the violation on the first call.
+	 *
+	 * @return the property path, which may be kept after the call to {@link ViolationSink#accept(ReportedViolation)}
+	 */
+	Path getPropertyPath();
+
+	/**
+	 * Builds the {@link ConstraintViolation} on the first call.
+	 *
+	 * @return the constraint violation as it would have been returned by the validation methods if no sink was
+	 * defined, it may be kept after the call to {@link ViolationSink#accept(ReportedViolation)}
+	 */
+	ConstraintViolation<?> toConstraintViolation();
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.violation;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Receives the constraint violations as they are produced by a {@link javax.validation.Validator}.
+ * <p>
+ * When a sink is defined, the constraint violations are not collected anymore and the validation methods return an
+ * empty set. As the interpolated message and the property path of a violation are only built when requested, a sink
+ * which only counts the violations or only keeps some of them avoids most of the cost of the reporting.
+ * <p>
+ * The sink decides whether the validation goes on after each violation, which makes it possible to stop the
+ * validation after a given number of violations. Note that the violations are passed as produced: unlike the
+ * returned set, the same violation may be passed several times in some rare cases.
+ * <p>
+ * A validator being usable by several threads concurrently, implementations must be thread-safe.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+@FunctionalInterface
+public interface ViolationSink {
+
+	/**
+	 * Receives a constraint violation.
+	 *
+	 * @param violation the constraint violation, only usable during this call
+	 *
+	 * @return {@code true} to continue the validation, {@code false} to stop the validation as if fail fast mode was
+	 * enabled
+	 */
+	boolean accept(ReportedViolation violation);
+}
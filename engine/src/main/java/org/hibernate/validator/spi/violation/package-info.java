@@ -0,0 +1,13 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+/**
+ * <p>This package provides support for consuming the constraint violations as they are produced instead of
+ * collecting them in the set returned by the validation methods.</p>
+ * <p>This package is part of the public Hibernate Validator SPI.</p>
+ */
+package org.hibernate.validator.spi.violation;
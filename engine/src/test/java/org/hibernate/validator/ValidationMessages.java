@@ -9,11 +9,14 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -61,6 +64,8 @@ protected Object handleGetObject(String key) {
 
 	@Override
 	public Enumeration<String> getKeys() {
-		throw new RuntimeException( "Not needed for testing purposes." );
+		Set<String> keys = new HashSet<String>( messages.keySet() );
+		keys.addAll( Collections.list( parent.getKeys() ) );
+		return Collections.enumeration( keys );
 	}
 }
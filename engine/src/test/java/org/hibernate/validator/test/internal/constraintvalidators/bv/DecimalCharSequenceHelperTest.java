@@ -0,0 +1,96 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalCharSequenceHelper.DecimalBound;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that {@link DecimalCharSequenceHelper} gives the same results as the {@link BigDecimal} created from the
+ * character sequence.
+ */
+public class DecimalCharSequenceHelperTest {
+
+	private static final List<String> BOUNDS = Arrays.asList( "0", "-0.00", "1", "-1", "10", "100.5", "-100.5", "0.001", "-0.00999",
+			"123456789012345678901234567890", "9223372036854775807", "-9223372036854775808", "1E+10", "1.5E-10" );
+
+	private static final List<String> VALUES = Arrays.asList( "", "-", "+", ".", "-.", "e1", "1e", "1e+", "1e-", "1.2.3", "1e1.5", "1ee1",
+			" 1", "1 ", "0x10", "NaN", "Infinity", "0", "-0", "+0", "0.000", "000", ".5", "5.", "-.5", "+5.", "1", "-1", "+1", "01", "1.0",
+			"1.00000000000000000000000001", "0.99999999999999999999999999", "10", "9.999", "100.5", "100.50", "100.49", "-100.5", "-100.51",
+			"0.001", "0.0010", "1E-3", "1e-3", "10E-4", "-0.00999", "-0.009990", "-9.99e-3", "123456789012345678901234567890",
+			"123456789012345678901234567891", "1.2345678901234567890123456789E+29", "9223372036854775807", "9223372036854775808",
+			"-9223372036854775808", "-9223372036854775809", "1E+10", "1E10", "10000000000", "0.1E11", "1.5E-10", "15E-11", "1.5e-10",
+			"1e2147483647", "1e2147483648", "1e-2147483648", "1e-2147483649", "0.1e-2147483647", "0.1e-2147483648", "1e00000000000000000000001",
+			"1e+0000000000012", "1e12345678901", "\u0663", "-\u0661\u0660.\u0665", "1e\u0663", "\uff11\uff10" );
+
+	private static final int[][] DIGITS = { { 0, 0 }, { 1, 0 }, { 3, 2 }, { 10, 5 }, { 30, 30 }, { 0, 3 }, { Integer.MAX_VALUE, Integer.MAX_VALUE } };
+
+	@Test
+	public void testSameResultsAsBigDecimal() {
+		for ( String value : VALUES ) {
+			assertSameResultsAsBigDecimal( value );
+		}
+	}
+
+	@Test
+	public void testSameResultsAsBigDecimalForRandomValues() {
+		Random random = new Random( 42L );
+		char[] alphabet = "0000123456789..--++eE\u0663".toCharArray();
+
+		List<String> values = new ArrayList<>();
+		for ( int i = 0; i < 20_000; i++ ) {
+			char[] chars = new char[random.nextInt( 25 )];
+			for ( int j = 0; j < chars.length; j++ ) {
+				chars[j] = alphabet[random.nextInt( alphabet.length )];
+			}
+			values.add( new String( chars ) );
+		}
+
+		for ( String value : values ) {
+			assertSameResultsAsBigDecimal( value );
+		}
+	}
+
+	@Test
+	public void testCharSequenceOtherThanString() {
+		assertEquals( DecimalCharSequenceHelper.compare( new StringBuilder( "-100.50" ), new DecimalBound( new BigDecimal( "-100.5" ) ) ), 0 );
+		assertEquals( DecimalCharSequenceHelper.hasAtMostDigits( new StringBuilder( "-100.50" ), 3, 2 ), true );
+	}
+
+	private static void assertSameResultsAsBigDecimal(String value) {
+		BigDecimal bigDecimal;
+		try {
+			bigDecimal = new BigDecimal( value );
+		}
+		catch (NumberFormatException e) {
+			bigDecimal = null;
+		}
+
+		for ( String bound : BOUNDS ) {
+			int expected = bigDecimal == null ? DecimalCharSequenceHelper.NOT_A_NUMBER : bigDecimal.compareTo( new BigDecimal( bound ) );
+			assertEquals( DecimalCharSequenceHelper.compare( value, new DecimalBound( new BigDecimal( bound ) ) ), expected,
+					"Comparing " + value + " to " + bound );
+		}
+
+		for ( int[] digits : DIGITS ) {
+			boolean expected = bigDecimal != null
+					&& digits[0] >= bigDecimal.precision() - bigDecimal.scale()
+					&& digits[1] >= ( bigDecimal.scale() < 0 ? 0 : bigDecimal.scale() );
+			assertEquals( DecimalCharSequenceHelper.hasAtMostDigits( value, digits[0], digits[1] ), expected,
+					"Checking the digits of " + value + " against " + Arrays.toString( digits ) );
+		}
+	}
+}
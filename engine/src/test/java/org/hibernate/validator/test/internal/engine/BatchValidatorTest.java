@@ -0,0 +1,219 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.BatchValidator;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+public class BatchValidatorTest {
+
+	private static final IllegalStateException FAILURE = new IllegalStateException( "Failing getter" );
+
+	@Test
+	public void testValidateAll() {
+		Item invalidItem = new Item( null, 0 );
+		List<Item> items = Arrays.asList( new Item( "a", 1 ), invalidItem, new SpecialItem( "c", 3, null ), new Item( "d", 4 ) );
+
+		List<Set<ConstraintViolation<Item>>> constraintViolations = getBatchValidator().validateAll( items );
+
+		assertThat( constraintViolations ).hasSize( 4 );
+		assertNoViolations( constraintViolations.get( 0 ) );
+		ConstraintViolationAssert.assertThat( constraintViolations.get( 1 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Min.class ).withProperty( "quantity" )
+		);
+		ConstraintViolationAssert.assertThat( constraintViolations.get( 2 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "code" )
+		);
+		assertNoViolations( constraintViolations.get( 3 ) );
+
+		for ( ConstraintViolation<Item> constraintViolation : constraintViolations.get( 1 ) ) {
+			assertSame( constraintViolation.getRootBean(), invalidItem );
+			assertSame( constraintViolation.getRootBeanClass(), Item.class );
+		}
+		assertSame( constraintViolations.get( 2 ).iterator().next().getRootBeanClass(), SpecialItem.class );
+	}
+
+	@Test
+	public void testSameViolationsAsValidate() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		List<Item> items = new ArrayList<>();
+		for ( int i = 0; i < 200; i++ ) {
+			Item item = i % 3 == 0 ? new SpecialItem( i % 2 == 0 ? null : "item" + i, i % 4, i % 5 == 0 ? null : "code" )
+					: new Item( i % 2 == 0 ? null : "item" + i, i % 4 );
+			item.parts.add( new Item( i % 7 == 0 ? null : "part", 1 ) );
+			items.add( item );
+		}
+
+		List<Set<ConstraintViolation<Item>>> sequentialConstraintViolations = getBatchValidator().validateAll( items );
+		List<Set<ConstraintViolation<Item>>> parallelConstraintViolations = getBatchValidator().validateAllInParallel( items );
+
+		for ( int i = 0; i < items.size(); i++ ) {
+			Set<ConstraintViolation<Item>> expectedConstraintViolations = validator.validate( items.get( i ) );
+
+			assertThat( describe( sequentialConstraintViolations.get( i ) ) ).isEqualTo( describe( expectedConstraintViolations ) );
+			assertThat( describe( parallelConstraintViolations.get( i ) ) ).isEqualTo( describe( expectedConstraintViolations ) );
+		}
+	}
+
+	@Test
+	public void testValidateAllWithGroups() {
+		List<Item> items = Arrays.asList( new Item( null, 0 ), new Item( "b", 2 ) );
+
+		List<Set<ConstraintViolation<Item>>> constraintViolations = getBatchValidator().validateAll( items, Strict.class );
+
+		ConstraintViolationAssert.assertThat( constraintViolations.get( 0 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "quantity" ).withMessage( "must be greater than or equal to 1" ),
+				violationOf( Min.class ).withProperty( "quantity" ).withMessage( "must be greater than or equal to 3" )
+		);
+		ConstraintViolationAssert.assertThat( constraintViolations.get( 1 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "quantity" ).withMessage( "must be greater than or equal to 3" )
+		);
+	}
+
+	@Test
+	public void testValidateAllWithConsumer() {
+		Item first = new Item( null, 1 );
+		Item second = new Item( "b", 0 );
+		Set<Item> items = new LinkedHashSet<>( Arrays.asList( first, new Item( "a", 1 ), second ) );
+
+		List<Integer> indexes = new ArrayList<>();
+		List<Item> invalidItems = new ArrayList<>();
+		getBatchValidator().validateAll( items, (index, item, constraintViolations) -> {
+			indexes.add( index );
+			invalidItems.add( item );
+
+			assertThat( constraintViolations ).hasSize( 1 );
+			assertSame( constraintViolations.iterator().next().getRootBean(), item );
+		} );
+
+		assertThat( indexes ).containsExactly( 0, 2 );
+		assertThat( invalidItems ).containsExactly( first, second );
+	}
+
+	@Test
+	public void testCascadedViolations() {
+		Item item = new Item( "a", 1 );
+		item.parts.add( new Item( "b", 1 ) );
+		item.parts.add( new Item( "c", -1 ) );
+
+		List<Set<ConstraintViolation<Item>>> constraintViolations = getBatchValidator().validateAllInParallel( Collections.singleton( item ) );
+
+		ConstraintViolationAssert.assertThat( constraintViolations.get( 0 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "parts" )
+						.property( "quantity", true, null, 1, List.class, 0 )
+				)
+		);
+	}
+
+	@Test
+	public void testExceptionRethrownAsIs() {
+		List<Item> items = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			items.add( new Item( "item" + i, 1 ) );
+		}
+		items.get( 42 ).failing = true;
+
+		try {
+			getBatchValidator().validateAllInParallel( items );
+			fail( "Expected exception wasn't thrown." );
+		}
+		catch (ValidationException e) {
+			assertSame( e.getCause().getCause(), FAILURE );
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000116: The object to be validated must not be null.")
+	public void testNullElement() {
+		getBatchValidator().validateAll( Arrays.asList( new Item( "a", 1 ), null ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000116: The parameter \"objects\" must not be null.")
+	public void testNullCollection() {
+		getBatchValidator().validateAll( null );
+	}
+
+	private static BatchValidator getBatchValidator() {
+		return ValidatorUtil.getValidator().unwrap( BatchValidator.class );
+	}
+
+	private static Set<String> describe(Set<ConstraintViolation<Item>> constraintViolations) {
+		Set<String> descriptions = new TreeSet<>();
+		for ( ConstraintViolation<Item> constraintViolation : constraintViolations ) {
+			descriptions.add( constraintViolation.getPropertyPath() + "|" + constraintViolation.getMessage() + "|"
+					+ constraintViolation.getInvalidValue() + "|" + System.identityHashCode( constraintViolation.getRootBean() ) );
+		}
+		return descriptions;
+	}
+
+	private interface Strict {
+	}
+
+	private static class Item {
+
+		private final String name;
+
+		@Min(value = 1, groups = { Default.class, Strict.class })
+		@Min(value = 3, groups = Strict.class)
+		private final int quantity;
+
+		private final List<@Valid Item> parts = new ArrayList<>();
+
+		private boolean failing;
+
+		private Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+
+		@NotNull
+		public String getName() {
+			if ( failing ) {
+				throw FAILURE;
+			}
+			return name;
+		}
+	}
+
+	private static class SpecialItem extends Item {
+
+		@NotNull
+		private final String code;
+
+		private SpecialItem(String name, int quantity, String code) {
+			super( name, quantity );
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertSame;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintViolation;
+import javax.validation.GroupSequence;
+import javax.validation.MessageInterpolator;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.spi.violation.ViolationSink;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+public class ViolationSinkTest {
+
+	@Test
+	public void testViolationsPassedToSink() {
+		List<ConstraintViolation<?>> reportedConstraintViolations = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		Validator validator = getValidator( ValidatorUtil.getConfiguration().buildValidatorFactory(), violation -> {
+			indexes.add( violation.getIndex() );
+			reportedConstraintViolations.add( violation.toConstraintViolation() );
+			return true;
+		} );
+
+		Order order = new Order( null, new OrderLine( "apple", 0 ), new OrderLine( "x", 2 ) );
+
+		assertNoViolations( validator.validate( order ) );
+
+		Set<ConstraintViolation<Order>> expectedConstraintViolations = ValidatorUtil.getValidator().validate( order );
+		assertThat( describe( reportedConstraintViolations ) ).isEqualTo( describe( expectedConstraintViolations ) );
+		assertThat( indexes ).containsExactly( 0, 1, 2 );
+
+		@SuppressWarnings("unchecked")
+		Set<ConstraintViolation<Order>> constraintViolations = new HashSet<>( (List<ConstraintViolation<Order>>) (List<?>) reportedConstraintViolations );
+		ConstraintViolationAssert.assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "reference" ),
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "quantity", true, null, 0, List.class, 0 )
+				),
+				violationOf( Size.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "product", true, null, 1, List.class, 0 )
+				)
+		);
+		for ( ConstraintViolation<?> constraintViolation : reportedConstraintViolations ) {
+			assertSame( constraintViolation.getRootBean(), order );
+		}
+	}
+
+	@Test
+	public void testReportedViolationGetters() {
+		List<String> descriptions = new ArrayList<>();
+		Validator validator = getValidator( ValidatorUtil.getConfiguration().buildValidatorFactory(), violation -> {
+			descriptions.add( violation.getRootBeanClass().getSimpleName() + "|" + violation.getPropertyPath() + "|"
+					+ violation.getMessageTemplate() + "|" + violation.getMessage() + "|" + violation.getInvalidValue() + "|"
+					+ violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + "|"
+					+ ( (OrderLine) violation.getLeafBean() ).product );
+			return true;
+		} );
+
+		validator.validate( new Order( "order", new OrderLine( "apple", 0 ) ) );
+
+		assertThat( descriptions ).containsExactly(
+				"Order|lines[0].quantity|{javax.validation.constraints.Min.message}|must be greater than or equal to 1|0|Min|apple" );
+	}
+
+	@Test
+	public void testValidationStoppedBySink() {
+		List<String> paths = new ArrayList<>();
+		Validator validator = getValidator( ValidatorUtil.getConfiguration().buildValidatorFactory(), violation -> {
+			paths.add( violation.getPropertyPath().toString() );
+			return violation.getIndex() + 1 < 2;
+		} );
+
+		List<OrderLine> lines = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			lines.add( new OrderLine( "product" + i, 0 ) );
+		}
+
+		assertNoViolations( validator.validate( new Order( "order", lines.toArray( new OrderLine[0] ) ) ) );
+		assertThat( paths ).hasSize( 2 );
+
+		// the sink is called again for the next validation
+		paths.clear();
+		validator.validate( new Order( null, lines.toArray( new OrderLine[0] ) ) );
+		assertThat( paths ).hasSize( 2 );
+	}
+
+	@Test
+	public void testValidationStoppedBySinkWithComposedConstraint() {
+		List<String> descriptions = new ArrayList<>();
+		Validator validator = getValidator( ValidatorUtil.getConfiguration().buildValidatorFactory(), violation -> {
+			descriptions.add( violation.getPropertyPath() + "|" + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() );
+			return false;
+		} );
+
+		// both composing constraints of @ProductCode are violated
+		validator.validate( new Product( "a", "widget" ) );
+
+		assertThat( descriptions ).hasSize( 1 );
+		assertThat( descriptions.get( 0 ) ).startsWith( "code|" );
+	}
+
+	@Test
+	public void testMessageOnlyInterpolatedOnDemand() {
+		AtomicInteger interpolations = new AtomicInteger();
+		MessageInterpolator delegate = ValidatorUtil.getConfiguration().getDefaultMessageInterpolator();
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration()
+				.messageInterpolator( new MessageInterpolator() {
+
+					@Override
+					public String interpolate(String messageTemplate, Context context) {
+						interpolations.incrementAndGet();
+						return delegate.interpolate( messageTemplate, context );
+					}
+
+					@Override
+					public String interpolate(String messageTemplate, Context context, Locale locale) {
+						interpolations.incrementAndGet();
+						return delegate.interpolate( messageTemplate, context, locale );
+					}
+				} )
+				.buildValidatorFactory();
+
+		AtomicInteger count = new AtomicInteger();
+		Validator validator = getValidator( validatorFactory, violation -> {
+			count.incrementAndGet();
+			return true;
+		} );
+
+		validator.validate( new Order( null, new OrderLine( "apple", 0 ), new OrderLine( "x", 2 ) ) );
+
+		assertThat( count.get() ).isEqualTo( 3 );
+		assertThat( interpolations.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testGroupSequenceWithSink() {
+		AtomicInteger count = new AtomicInteger();
+		Validator validator = getValidator( ValidatorUtil.getConfiguration().buildValidatorFactory(), violation -> {
+			count.incrementAndGet();
+			return true;
+		} );
+
+		// the violation of the first group of the sequence prevents the validation of the second one
+		validator.validate( new Order( null, new OrderLine( "apple", 0 ) ), OrderChecks.class );
+
+		assertThat( count.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testParameterViolationsPassedToSink() throws Exception {
+		List<ConstraintViolation<?>> reportedConstraintViolations = new ArrayList<>();
+		Validator validator = getValidator( ValidatorUtil.getConfiguration().buildValidatorFactory(), violation -> {
+			reportedConstraintViolations.add( violation.toConstraintViolation() );
+			return true;
+		} );
+
+		OrderService service = new OrderService();
+		Method method = OrderService.class.getMethod( "placeOrder", String.class, int.class );
+		Object[] parameterValues = new Object[] { null, 0 };
+
+		assertNoViolations( validator.forExecutables().validateParameters( service, method, parameterValues ) );
+
+		assertThat( reportedConstraintViolations ).hasSize( 2 );
+		for ( ConstraintViolation<?> constraintViolation : reportedConstraintViolations ) {
+			assertSame( constraintViolation.getRootBean(), service );
+			assertSame( constraintViolation.getExecutableParameters(), parameterValues );
+		}
+	}
+
+	private static Validator getValidator(ValidatorFactory validatorFactory, ViolationSink violationSink) {
+		return validatorFactory.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.violationSink( violationSink )
+				.getValidator();
+	}
+
+	private static Set<String> describe(Iterable<? extends ConstraintViolation<?>> constraintViolations) {
+		Set<String> descriptions = new HashSet<>();
+		for ( ConstraintViolation<?> constraintViolation : constraintViolations ) {
+			descriptions.add( constraintViolation.getPropertyPath() + "|" + constraintViolation.getMessage() + "|"
+					+ constraintViolation.getInvalidValue() + "|" + System.identityHashCode( constraintViolation.getLeafBean() ) );
+		}
+		return descriptions;
+	}
+
+	private interface First {
+	}
+
+	private interface Second {
+	}
+
+	@GroupSequence({ First.class, Second.class })
+	private interface OrderChecks {
+	}
+
+	private static class Order {
+
+		@NotNull(groups = { Default.class, First.class })
+		private final String reference;
+
+		private final List<@Valid OrderLine> lines = new ArrayList<>();
+
+		private Order(String reference, OrderLine... lines) {
+			this.reference = reference;
+			for ( OrderLine line : lines ) {
+				this.lines.add( line );
+			}
+		}
+	}
+
+	private static class OrderLine {
+
+		@Size(min = 2)
+		private final String product;
+
+		@Min(value = 1, groups = { Default.class, Second.class })
+		private final int quantity;
+
+		private OrderLine(String product, int quantity) {
+			this.product = product;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Product {
+
+		@ProductCode
+		private final String code;
+
+		@NotNull
+		private final String name;
+
+		private Product(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Size(min = 3)
+	@Pattern(regexp = "[A-Z]+")
+	@Constraint(validatedBy = { })
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Documented
+	public @interface ProductCode {
+
+		String message() default "invalid product code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class OrderService {
+
+		public void placeOrder(@NotNull String reference, @Min(1) int quantity) {
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * The value contexts of the cascaded beans are reused once the validation of a bean is done. Make sure the sibling
+ * beans and the nested beans are reported with the right path, value and leaf bean.
+ */
+public class CascadedValueContextReuseTest {
+
+	@Test
+	public void testValidGraph() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		Library library = new Library(
+				new Shelf( "A", new Book( "Dune", "sf" ), new Book( "Emma", "classic" ) ),
+				new Shelf( "B", new Book( "Ulysses" ) )
+		);
+
+		Set<ConstraintViolation<Library>> constraintViolations = validator.validate( library );
+
+		assertNoViolations( constraintViolations );
+	}
+
+	@Test
+	public void testSiblingAndNestedBeans() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		Book invalidTitleBook = new Book( "X" );
+		Shelf invalidLabelShelf = new Shelf( null, new Book( "Emma", " " ) );
+		Library library = new Library(
+				new Shelf( "A", new Book( "Dune", "sf" ), invalidTitleBook ),
+				invalidLabelShelf
+		);
+
+		Set<ConstraintViolation<Library>> constraintViolations = validator.validate( library );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( Size.class )
+						.withInvalidValue( "X" )
+						.withPropertyPath( pathWith()
+								.property( "shelves" )
+								.property( "books", true, null, 0, List.class, 0 )
+								.property( "title", true, null, 1, List.class, 0 )
+						),
+				violationOf( NotNull.class )
+						.withInvalidValue( null )
+						.withPropertyPath( pathWith()
+								.property( "shelves" )
+								.property( "label", true, null, 1, List.class, 0 )
+						),
+				violationOf( NotBlank.class )
+						.withInvalidValue( " " )
+						.withPropertyPath( pathWith()
+								.property( "shelves" )
+								.property( "books", true, null, 1, List.class, 0 )
+								.property( "tags", true, null, 0, List.class, 0 )
+								.containerElement( NodeImpl.LIST_ELEMENT_NODE_NAME, true, null, 0, List.class, 0 )
+						)
+		);
+
+		for ( ConstraintViolation<Library> constraintViolation : constraintViolations ) {
+			assertSame( constraintViolation.getRootBean(), library );
+
+			if ( constraintViolation.getConstraintDescriptor().getAnnotation() instanceof Size ) {
+				assertSame( constraintViolation.getLeafBean(), invalidTitleBook );
+			}
+			else if ( constraintViolation.getConstraintDescriptor().getAnnotation() instanceof NotNull ) {
+				assertSame( constraintViolation.getLeafBean(), invalidLabelShelf );
+			}
+			else {
+				assertSame( constraintViolation.getLeafBean(), invalidLabelShelf.books.get( 0 ) );
+			}
+		}
+	}
+
+	@Test
+	public void testValidatorReusedAfterViolations() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		Set<ConstraintViolation<Library>> constraintViolations = validator.validate( new Library( new Shelf( null ) ) );
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class )
+		);
+
+		constraintViolations = validator.validate( new Library( new Shelf( "A" ) ) );
+		assertNoViolations( constraintViolations );
+	}
+
+	private static class Library {
+
+		private final List<@Valid Shelf> shelves;
+
+		private Library(Shelf... shelves) {
+			this.shelves = Arrays.asList( shelves );
+		}
+	}
+
+	private static class Shelf {
+
+		@NotNull
+		private final String label;
+
+		private final List<@Valid Book> books;
+
+		private Shelf(String label, Book... books) {
+			this.label = label;
+			this.books = Arrays.asList( books );
+		}
+	}
+
+	private static class Book {
+
+		@Size(min = 2)
+		private final String title;
+
+		private final List<@NotBlank String> tags;
+
+		private Book(String title, String... tags) {
+			this.title = title;
+			this.tags = Arrays.asList( tags );
+		}
+	}
+}
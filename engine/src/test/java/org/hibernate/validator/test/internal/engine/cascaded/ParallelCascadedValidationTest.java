@@ -0,0 +1,242 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * The elements of large containers may be validated in parallel. Make sure the reported violations are the same as
+ * with a sequential validation.
+ */
+public class ParallelCascadedValidationTest {
+
+	private static final IllegalStateException FAILURE = new IllegalStateException( "Failing getter" );
+
+	@Test
+	public void testViolationsOfListElements() {
+		Order order = new Order( "order" );
+		order.lines.add( new OrderLine( "apple", 1 ) );
+		order.lines.add( new OrderLine( null, 2 ) );
+		order.lines.add( new OrderLine( "pear", 0 ) );
+		order.lines.add( new OrderLine( "plum", 3, " " ) );
+
+		Set<ConstraintViolation<Order>> constraintViolations = getParallelValidator( 2 ).validate( order );
+
+		ConstraintViolationAssert.assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class )
+						.withInvalidValue( null )
+						.withPropertyPath( pathWith()
+								.property( "lines" )
+								.property( "product", true, null, 1, List.class, 0 )
+						),
+				violationOf( Min.class )
+						.withInvalidValue( 0 )
+						.withPropertyPath( pathWith()
+								.property( "lines" )
+								.property( "quantity", true, null, 2, List.class, 0 )
+						),
+				violationOf( NotBlank.class )
+						.withInvalidValue( " " )
+						.withPropertyPath( pathWith()
+								.property( "lines" )
+								.property( "comments", true, null, 3, List.class, 0 )
+								.containerElement( "<list element>", true, null, 0, List.class, 0 )
+						)
+		);
+
+		for ( ConstraintViolation<Order> constraintViolation : constraintViolations ) {
+			assertSame( constraintViolation.getRootBean(), order );
+		}
+	}
+
+	@Test
+	public void testSameViolationsAsSequentialValidation() {
+		Order order = new Order( "order" );
+		for ( int i = 0; i < 500; i++ ) {
+			OrderLine line = new OrderLine( i % 7 == 0 ? null : "product" + i, i % 5 );
+			if ( i % 3 == 0 ) {
+				line.comments.add( " " );
+				line.comments.add( "comment" );
+			}
+			order.lines.add( line );
+			order.linesPerProduct.put( "product" + i, line );
+		}
+		// the same bean in several elements and a cycle back to the root bean
+		order.lines.add( order.lines.get( 0 ) );
+		order.orders = new Order[] { order, new Order( null ), order };
+
+		assertSameViolations( getParallelValidator( 2 ), ValidatorUtil.getValidator(), order );
+		assertSameViolations( getParallelValidator( 100 ), ValidatorUtil.getValidator(), order );
+	}
+
+	@Test
+	public void testSetElementsValidatedSequentially() {
+		Order order = new Order( "order" );
+		for ( int i = 0; i < 20; i++ ) {
+			order.uniqueLines.add( new OrderLine( i % 2 == 0 ? null : "product" + i, i ) );
+		}
+
+		Set<ConstraintViolation<Order>> constraintViolations = getParallelValidator( 2 ).validate( order );
+
+		assertThat( constraintViolations ).hasSize( 11 );
+		assertSameViolations( getParallelValidator( 2 ), ValidatorUtil.getValidator(), order );
+	}
+
+	@Test
+	public void testExceptionRethrownAsIs() {
+		Order order = new Order( "order" );
+		for ( int i = 0; i < 50; i++ ) {
+			order.lines.add( new OrderLine( "product" + i, 1 ) );
+		}
+		order.lines.get( 42 ).failing = true;
+
+		try {
+			getParallelValidator( 2 ).validate( order );
+			fail( "Expected exception wasn't thrown." );
+		}
+		catch (ValidationException e) {
+			assertSame( e.getCause().getCause(), FAILURE );
+		}
+	}
+
+	@Test
+	public void testThresholdSetOnValidatorContext() {
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration().buildValidatorFactory();
+		Validator validator = validatorFactory.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.parallelCascadedValidationThreshold( 2 )
+				.getValidator();
+
+		Order order = new Order( "order" );
+		for ( int i = 0; i < 30; i++ ) {
+			order.lines.add( new OrderLine( i % 2 == 0 ? null : "product" + i, i ) );
+		}
+
+		assertSameViolations( validator, validatorFactory.getValidator(), order );
+	}
+
+	@Test
+	public void testThresholdSetAsProperty() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD, "2" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Order order = new Order( "order" );
+		for ( int i = 0; i < 30; i++ ) {
+			order.lines.add( new OrderLine( i % 2 == 0 ? null : "product" + i, i ) );
+		}
+
+		assertSameViolations( validator, ValidatorUtil.getValidator(), order );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000251.*")
+	public void testInvalidThresholdProperty() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD, "many" )
+				.buildValidatorFactory();
+	}
+
+	private static Validator getParallelValidator(int threshold) {
+		return ValidatorUtil.getConfiguration()
+				.parallelCascadedValidationThreshold( threshold )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static <T> void assertSameViolations(Validator parallelValidator, Validator sequentialValidator, T object) {
+		Set<String> parallelViolations = describe( parallelValidator.validate( object ) );
+		Set<String> sequentialViolations = describe( sequentialValidator.validate( object ) );
+
+		assertThat( parallelViolations ).isNotEmpty();
+		assertThat( parallelViolations ).isEqualTo( sequentialViolations );
+	}
+
+	private static <T> Set<String> describe(Set<ConstraintViolation<T>> constraintViolations) {
+		Set<String> descriptions = new HashSet<>();
+		for ( ConstraintViolation<T> constraintViolation : constraintViolations ) {
+			descriptions.add( constraintViolation.getPropertyPath() + "|" + constraintViolation.getMessage() + "|"
+					+ constraintViolation.getInvalidValue() + "|" + System.identityHashCode( constraintViolation.getLeafBean() ) );
+		}
+		assertThat( descriptions ).hasSameSizeAs( constraintViolations );
+		return descriptions;
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		private final List<@Valid OrderLine> lines = new ArrayList<>();
+
+		private final Map<String, @Valid OrderLine> linesPerProduct = new LinkedHashMap<>();
+
+		private final Set<@Valid OrderLine> uniqueLines = new HashSet<>();
+
+		@Valid
+		private Order[] orders;
+
+		private Order(String reference) {
+			this.reference = reference;
+		}
+	}
+
+	private static class OrderLine {
+
+		private final String product;
+
+		@Min(1)
+		private final int quantity;
+
+		private final List<@NotBlank String> comments = new ArrayList<>();
+
+		private boolean failing;
+
+		private OrderLine(String product, int quantity, String... comments) {
+			this.product = product;
+			this.quantity = quantity;
+			for ( String comment : comments ) {
+				this.comments.add( comment );
+			}
+		}
+
+		@NotNull
+		public String getProduct() {
+			if ( failing ) {
+				throw FAILURE;
+			}
+			return product;
+		}
+	}
+}
@@ -165,8 +165,9 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 	}
 
 	@Test
-	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached() {
+	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoriesAreCached() {
 		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 4 );
 
 		for ( int i = 0; i < 10; i++ ) {
 			constraintValidatorManager.getInitializedValidator(
@@ -177,8 +178,8 @@ public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached()
 			);
 
 			assertEquals(
-					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 1,
-					"There should be only one instance cached"
+					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), Math.min( i + 1, 4 ),
+					"Only the instances of the 4 most recently used factories should be cached"
 			);
 		}
 
@@ -190,6 +191,57 @@ public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached()
 		);
 	}
 
+	@Test
+	public void testInstancesOfAlternatingCustomFactoriesAreKept() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		MyCustomValidatorFactory tenant1ConstraintValidatorFactory = new MyCustomValidatorFactory();
+		MyCustomValidatorFactory tenant2ConstraintValidatorFactory = new MyCustomValidatorFactory();
+
+		for ( int i = 0; i < 10; i++ ) {
+			for ( MyCustomValidatorFactory tenantConstraintValidatorFactory : new MyCustomValidatorFactory[] {
+					tenant1ConstraintValidatorFactory, tenant2ConstraintValidatorFactory } ) {
+				constraintValidatorManager.getInitializedValidator(
+						String.class,
+						constraintDescriptor,
+						tenantConstraintValidatorFactory,
+						getDummyConstraintValidatorInitializationContext()
+				);
+			}
+		}
+
+		assertEquals( constraintValidatorManager.numberOfCachedNonDefaultContexts(), 2 );
+		assertEquals( constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 2 );
+		assertEquals( tenant1ConstraintValidatorFactory.instances, 1, "The instance should have been created only once" );
+		assertEquals( tenant2ConstraintValidatorFactory.instances, 1, "The instance should have been created only once" );
+
+		constraintValidatorManager.clear();
+		assertEquals( tenant1ConstraintValidatorFactory.releasedInstances, 1 );
+		assertEquals( tenant2ConstraintValidatorFactory.releasedInstances, 1 );
+	}
+
+	@Test
+	public void testInstancesOfEvictedCustomFactoryAreReleased() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 1 );
+		MyCustomValidatorFactory tenant1ConstraintValidatorFactory = new MyCustomValidatorFactory();
+
+		constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				tenant1ConstraintValidatorFactory,
+				getDummyConstraintValidatorInitializationContext()
+		);
+		constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				new MyCustomValidatorFactory(),
+				getDummyConstraintValidatorInitializationContext()
+		);
+
+		assertEquals( constraintValidatorManager.numberOfCachedNonDefaultContexts(), 1 );
+		assertEquals( tenant1ConstraintValidatorFactory.releasedInstances, 1, "The instance of the evicted factory should have been released" );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-662")
 	public void testValidatorsAreCachedPerConstraint() {
@@ -486,6 +538,8 @@ public class Foo {
 
 	public class MyCustomValidatorFactory implements ConstraintValidatorFactory {
 		private final ConstraintValidatorFactory delegate;
+		private int instances;
+		private int releasedInstances;
 
 		public MyCustomValidatorFactory() {
 			delegate = new ConstraintValidatorFactoryImpl();
@@ -493,11 +547,13 @@ public MyCustomValidatorFactory() {
 
 		@Override
 		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			instances++;
 			return delegate.getInstance( key );
 		}
 
 		@Override
 		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releasedInstances++;
 			delegate.releaseInstance( instance );
 		}
 	}
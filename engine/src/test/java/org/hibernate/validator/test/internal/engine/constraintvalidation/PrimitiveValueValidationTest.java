@@ -0,0 +1,145 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NegativeOrZero;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.constraints.Range;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the constraints validated without boxing the values of the {@code int}, {@code long} and {@code double}
+ * properties report the same violations as the regular evaluation.
+ */
+public class PrimitiveValueValidationTest {
+
+	@DataProvider(name = "validators")
+	public Object[][] validators() {
+		return new Object[][] {
+				{ getValidator( false ) },
+				{ getValidator( true ) }
+		};
+	}
+
+	@Test(dataProvider = "validators")
+	public void testValidValuesDoNotReportViolations(Validator validator) {
+		assertThat( validator.validate( new Measure( 5, 5L, 5D ) ) ).isEmpty();
+	}
+
+	@Test(dataProvider = "validators")
+	public void testInvalidValuesAreReportedBoxed(Validator validator) {
+		Set<ConstraintViolation<Measure>> violations = validator.validate( new Measure( -1, 20L, -2.5D ) );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "count" ).withInvalidValue( -1 ),
+				violationOf( Positive.class ).withProperty( "count" ).withInvalidValue( -1 ),
+				violationOf( Range.class ).withProperty( "count" ).withInvalidValue( -1 ),
+				violationOf( Max.class ).withProperty( "total" ).withInvalidValue( 20L ),
+				violationOf( Max.class ).withProperty( "totalFromGetter" ).withInvalidValue( 20L ),
+				violationOf( PositiveOrZero.class ).withProperty( "ratio" ).withInvalidValue( -2.5D ),
+				violationOf( Min.class ).withProperty( "ratioFromGetter" ).withInvalidValue( -2.5D ),
+				violationOf( NegativeOrZero.class ).withProperty( "oppositeRatio" ).withInvalidValue( 2.5D )
+		);
+	}
+
+	@Test(dataProvider = "validators")
+	public void testNonFiniteDoubles(Validator validator) {
+		assertThat( validator.validate( new Measure( 5, 5L, Double.NaN ) ) ).containsOnlyViolations(
+				violationOf( PositiveOrZero.class ).withProperty( "ratio" ).withInvalidValue( Double.NaN ),
+				violationOf( Max.class ).withProperty( "ratio" ).withInvalidValue( Double.NaN ),
+				violationOf( Min.class ).withProperty( "ratioFromGetter" ).withInvalidValue( Double.NaN ),
+				violationOf( NegativeOrZero.class ).withProperty( "oppositeRatio" ).withInvalidValue( Double.NaN )
+		);
+		assertThat( validator.validate( new Measure( 5, 5L, Double.POSITIVE_INFINITY ) ) ).containsOnlyViolations(
+				violationOf( Max.class ).withProperty( "ratio" ).withInvalidValue( Double.POSITIVE_INFINITY )
+		);
+		assertThat( validator.validate( new Measure( 5, 5L, -0D ) ) ).containsOnlyViolations(
+				violationOf( PositiveOrZero.class ).withProperty( "ratio" ).withInvalidValue( -0D )
+		);
+	}
+
+	@Test(dataProvider = "validators")
+	public void testExceptionThrownByPrimitiveGetterIsWrapped(Validator validator) {
+		try {
+			validator.validate( new ThrowingBean() );
+			fail( "Expected exception wasn't thrown." );
+		}
+		catch (ValidationException e) {
+			assertEquals( e.getCause().getClass(), InvocationTargetException.class );
+			assertEquals( e.getCause().getCause().getClass(), IllegalStateException.class );
+		}
+	}
+
+	private static Validator getValidator(boolean validationPlansEnabled) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.enableValidationPlans( validationPlansEnabled )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	public static class Measure {
+
+		@Min(0)
+		@Positive
+		@Range(min = 0, max = 10)
+		private final int count;
+
+		@Max(10)
+		private final long total;
+
+		@PositiveOrZero
+		@Max(10)
+		private final double ratio;
+
+		public Measure(int count, long total, double ratio) {
+			this.count = count;
+			this.total = total;
+			this.ratio = ratio;
+		}
+
+		@Max(10)
+		public long getTotalFromGetter() {
+			return total;
+		}
+
+		@Min(0)
+		public double getRatioFromGetter() {
+			return ratio;
+		}
+
+		@NegativeOrZero
+		public double getOppositeRatio() {
+			return -ratio;
+		}
+	}
+
+	public static class ThrowingBean {
+
+		@Min(0)
+		public int getValue() {
+			throw new IllegalStateException( "Unable to get the value" );
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessage;
+import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
+import org.hibernate.validator.internal.engine.messageinterpolation.TermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that {@link CompiledMessage} interpolates the messages exactly as the step by step interpolation does: the
+ * message parameters are replaced, then the EL expressions of the resulting message and finally the escaped literals
+ * are unescaped.
+ */
+public class CompiledMessageTest {
+
+	private static final List<String> MESSAGES = Arrays.asList( "", "must not be null", "must be between {min} and {max}",
+			"{min}{max}", "${validatedValue}", "must be less than ${inclusive == true ? 'or equal to ' : ''}{value}",
+			"${formatter.format('%1$.2f', validatedValue)}", "\\{min\\} is escaped", "\\\\{min}", "\\${min}", "$\\{min}",
+			"${min}", "$${max}", "{min}${validatedValue}{max}", "\\\\${validatedValue}", "\\\\\\$", "\\", "a}b", "{unknown}",
+			"${'\\{'}", "$\\{", "must match \"{regexp}\"", "{min", "${min", "{min}}", "${a}{b}", "$$", "{min}$", "\\{{min}" );
+
+	/**
+	 * The values the terms are resolved to, {@link #UNRESOLVED} meaning the term resolves to itself.
+	 */
+	private static final List<String> VALUES = Arrays.asList( "5", "", "a{b", "$", "\\", "{x}", "${y}", "abc\\$", "}", null, "[1, 2]",
+			"UNRESOLVED", "UNRESOLVED" );
+
+	private static final String UNRESOLVED = "UNRESOLVED";
+
+	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
+	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
+	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
+	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
+
+	@Test
+	public void testSameResultsAsStepByStepInterpolation() {
+		for ( String message : MESSAGES ) {
+			for ( int seed = 0; seed < VALUES.size() * 2; seed++ ) {
+				assertSameResults( message, seed );
+			}
+		}
+	}
+
+	@Test
+	public void testSameResultsAsStepByStepInterpolationForRandomMessages() {
+		Random random = new Random( 42L );
+		String[] fragments = { "a", "b c", "{", "}", "$", "\\", "{min}", "${x}", "{max}" };
+
+		for ( int i = 0; i < 20_000; i++ ) {
+			StringBuilder message = new StringBuilder();
+			int length = random.nextInt( 8 );
+			for ( int j = 0; j < length; j++ ) {
+				message.append( fragments[random.nextInt( fragments.length )] );
+			}
+			assertSameResults( message.toString(), random.nextInt( 100 ) );
+		}
+	}
+
+	@Test
+	public void testReplaceEscapedLiterals() {
+		Random random = new Random( 42L );
+		char[] alphabet = { 'a', '{', '}', '$', '\\', '\\', '\\' };
+
+		for ( int i = 0; i < 20_000; i++ ) {
+			char[] chars = new char[random.nextInt( 10 )];
+			for ( int j = 0; j < chars.length; j++ ) {
+				chars[j] = alphabet[random.nextInt( alphabet.length )];
+			}
+			String message = new String( chars );
+			assertEquals( InterpolationHelper.replaceEscapedLiterals( message ), replaceEscapedLiteralsWithRegexps( message ), message );
+		}
+	}
+
+	private static void assertSameResults(String message, int seed) {
+		List<String> expectedTerms = new ArrayList<>();
+		String expected;
+		try {
+			expected = interpolateStepByStep( message, new RecordingTermResolver( seed, expectedTerms ) );
+		}
+		catch (MessageDescriptorFormatException e) {
+			expected = "exception";
+		}
+
+		List<String> actualTerms = new ArrayList<>();
+		String actual;
+		try {
+			actual = CompiledMessage.compile( message ).interpolate( null, new RecordingTermResolver( seed, actualTerms ) );
+		}
+		catch (MessageDescriptorFormatException e) {
+			actual = "exception";
+		}
+
+		assertEquals( actual, expected, "Interpolating " + message + " with seed " + seed );
+		assertEquals( actualTerms, expectedTerms, "Resolved terms of " + message + " with seed " + seed );
+	}
+
+	/**
+	 * The interpolation as it was performed before the messages were compiled.
+	 */
+	private static String interpolateStepByStep(String message, TermResolver termResolver) {
+		String resolvedMessage = message;
+		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
+			resolvedMessage = interpolateExpression( resolvedMessage, InterpolationTermType.PARAMETER, termResolver );
+			resolvedMessage = interpolateExpression( resolvedMessage, InterpolationTermType.EL, termResolver );
+		}
+		return replaceEscapedLiteralsWithRegexps( resolvedMessage );
+	}
+
+	private static String interpolateExpression(String message, InterpolationTermType termType, TermResolver termResolver) {
+		TokenIterator tokenIterator = new TokenIterator( new TokenCollector( message, termType ).getTokenList() );
+		while ( tokenIterator.hasMoreInterpolationTerms() ) {
+			String term = tokenIterator.nextInterpolationTerm();
+			tokenIterator.replaceCurrentInterpolationTerm( termResolver.interpolate( null, term ) );
+		}
+		return tokenIterator.getInterpolatedMessage();
+	}
+
+	private static String replaceEscapedLiteralsWithRegexps(String resolvedMessage) {
+		if ( resolvedMessage.indexOf( '\\' ) > -1 ) {
+			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
+			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
+			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
+			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
+		}
+		return resolvedMessage;
+	}
+
+	/**
+	 * Resolves the terms to values depending on the term and on the seed, keeping track of the resolved terms.
+	 */
+	private static class RecordingTermResolver implements TermResolver {
+
+		private final int seed;
+
+		private final List<String> terms;
+
+		private RecordingTermResolver(int seed, List<String> terms) {
+			this.seed = seed;
+			this.terms = terms;
+		}
+
+		@Override
+		public String interpolate(MessageInterpolator.Context context, String term) {
+			terms.add( term );
+			String value = VALUES.get( Math.floorMod( term.hashCode() + seed, VALUES.size() ) );
+			return UNRESOLVED.equals( value ) ? term : value;
+		}
+	}
+}
@@ -303,6 +303,54 @@ public void testSingleEscapedQuoteInELExpression() {
 		);
 	}
 
+	@Test
+	public void testCachedExpressionEvaluatedWithCurrentVariables() {
+		for ( int i = 0; i < 3; i++ ) {
+			MessageInterpolator.Context context = new MessageInterpolatorContext(
+					sizeDescriptor,
+					i,
+					null,
+					Collections.<String, Object>emptyMap(),
+					Collections.<String, Object>emptyMap()
+			);
+
+			String expected = i + " must be less than 2147483647";
+			String actual = interpolatorUnderTest.interpolate( "${validatedValue} must be less than {max}", context );
+			assertEquals( actual, expected, "Wrong substitution" );
+
+			expected = "" + i + ".00";
+			actual = interpolatorUnderTest.interpolate( "${formatter.format('%1$.2f', validatedValue * 1.0)}", context );
+			assertEquals( actual, expected, "Wrong substitution" );
+		}
+	}
+
+	@Test
+	public void testExpressionVariablesHideOtherVariables() {
+		MessageInterpolator.Context context = new MessageInterpolatorContext(
+				sizeDescriptor,
+				1,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>singletonMap( "validatedValue", "foo" )
+		);
+
+		String expected = "foo";
+		String actual = interpolatorUnderTest.interpolate( "${validatedValue}", context );
+		assertEquals( actual, expected, "Wrong substitution" );
+
+		context = new MessageInterpolatorContext(
+				sizeDescriptor,
+				1,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>emptyMap()
+		);
+
+		expected = "1";
+		actual = interpolatorUnderTest.interpolate( "${validatedValue}", context );
+		assertEquals( actual, expected, "Wrong substitution" );
+	}
+
 	private MessageInterpolatorContext createMessageInterpolatorContext(ConstraintDescriptorImpl<?> descriptor) {
 		return new MessageInterpolatorContext(
 				descriptor,
@@ -0,0 +1,298 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+public class LazyMessageInterpolationTest {
+
+	@Test
+	public void testMessageInterpolatedOnFirstAccessOnly() {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( messageInterpolator )
+				.enableLazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Item>> constraintViolations = validator.validate( new Item( null, "x", 0 ) );
+
+		assertThat( constraintViolations ).hasSize( 3 );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+
+		ConstraintViolationAssert.assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ).withMessage( "must not be null" ),
+				violationOf( Size.class ).withProperty( "code" ).withMessage( "size must be between 2 and 10" ),
+				violationOf( Min.class ).withProperty( "quantity" ).withMessage( "must be greater than or equal to 1" )
+		);
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 3 );
+
+		for ( ConstraintViolation<Item> constraintViolation : constraintViolations ) {
+			constraintViolation.getMessage();
+		}
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testSameMessagesAsEagerInterpolation() {
+		Item item = new Item( null, "a very long code", -1 );
+
+		Set<ConstraintViolation<Item>> lazyConstraintViolations = ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.ENABLE_LAZY_MESSAGE_INTERPOLATION, "true" )
+				.buildValidatorFactory()
+				.getValidator()
+				.validate( item );
+		Set<ConstraintViolation<Item>> eagerConstraintViolations = ValidatorUtil.getValidator().validate( item );
+
+		assertThat( lazyConstraintViolations ).isEqualTo( eagerConstraintViolations );
+		assertThat( describe( lazyConstraintViolations ) ).isEqualTo( describe( eagerConstraintViolations ) );
+	}
+
+	@Test
+	public void testEnabledAtValidatorLevel() {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.enableLazyMessageInterpolation( true )
+				.getValidator();
+
+		Set<ConstraintViolation<Item>> constraintViolations = validator.validate( new Item( "name", "code", 0 ) );
+
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+		assertThat( constraintViolations.iterator().next().getMessage() ).isEqualTo( "must be greater than or equal to 1" );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testConcurrentAccessInterpolatesOnce() throws Exception {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( messageInterpolator )
+				.enableLazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		ConstraintViolation<Item> constraintViolation = validator.validate( new Item( "name", "code", 0 ) ).iterator().next();
+
+		int threads = 4;
+		CountDownLatch latch = new CountDownLatch( 1 );
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			List<Future<String>> messages = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				messages.add( executor.submit( () -> {
+					latch.await();
+					return constraintViolation.getMessage();
+				} ) );
+			}
+			latch.countDown();
+
+			for ( Future<String> message : messages ) {
+				assertThat( message.get() ).isEqualTo( "must be greater than or equal to 1" );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLocaleCapturedWhenViolationIsCreated() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.enableLazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Locale defaultLocale = Locale.getDefault();
+		ConstraintViolation<Item> constraintViolation;
+		try {
+			Locale.setDefault( Locale.GERMAN );
+			constraintViolation = validator.validate( new Item( "name", "code", 0 ) ).iterator().next();
+
+			Locale.setDefault( Locale.FRENCH );
+			assertThat( constraintViolation.getMessage() ).isEqualTo( "muss gr\u00f6\u00dfer-gleich 1 sein" );
+		}
+		finally {
+			Locale.setDefault( defaultLocale );
+		}
+	}
+
+	@Test
+	public void testFailingExpressionEvaluatedWhenMessageIsRequested() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.enableLazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		FailingDescription failingDescription = new FailingDescription();
+		Set<ConstraintViolation<ItemWithFailingMessage>> constraintViolations = validator.validate( new ItemWithFailingMessage( failingDescription ) );
+
+		assertThat( constraintViolations ).hasSize( 1 );
+		assertThat( failingDescription.evaluations.get() ).isEqualTo( 0 );
+
+		// the failing expression is left as is, the error being logged
+		assertThat( constraintViolations.iterator().next().getMessage() ).isEqualTo( "${validatedValue.description}" );
+		assertThat( failingDescription.evaluations.get() ).isEqualTo( 1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "Unable to interpolate")
+	public void testInterpolatorExceptionThrownWhenMessageIsRequested() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( new FailingMessageInterpolator() )
+				.enableLazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Item>> constraintViolations = validator.validate( new Item( "name", "code", 0 ) );
+		assertThat( constraintViolations ).hasSize( 1 );
+
+		constraintViolations.iterator().next().getMessage();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerializationInterpolatesMessage() throws Exception {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( messageInterpolator )
+				.enableLazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		ConstraintViolation<Item> constraintViolation = validator.validate( new Item( "name", "code", 0 ) ).iterator().next();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( constraintViolation );
+		}
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 1 );
+
+		ConstraintViolation<Item> deserializedConstraintViolation;
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+			deserializedConstraintViolation = (ConstraintViolation<Item>) in.readObject();
+		}
+
+		assertThat( deserializedConstraintViolation.getMessage() ).isEqualTo( "must be greater than or equal to 1" );
+		assertThat( deserializedConstraintViolation.getMessageTemplate() ).isEqualTo( "{javax.validation.constraints.Min.message}" );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 1 );
+	}
+
+	private static List<String> describe(Set<ConstraintViolation<Item>> constraintViolations) {
+		List<String> descriptions = new ArrayList<>();
+		for ( ConstraintViolation<Item> constraintViolation : constraintViolations ) {
+			descriptions.add( constraintViolation.getPropertyPath() + "|" + constraintViolation.getMessage() );
+		}
+		descriptions.sort( null );
+		return descriptions;
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate = ValidatorUtil.getConfiguration().getDefaultMessageInterpolator();
+
+		private final AtomicInteger interpolations = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	private static class Item implements Serializable {
+
+		@NotNull
+		private final String name;
+
+		@Size(min = 2, max = 10)
+		private final String code;
+
+		@Min(1)
+		private final int quantity;
+
+		private Item(String name, String code, int quantity) {
+			this.name = name;
+			this.code = code;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class FailingMessageInterpolator implements MessageInterpolator {
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			throw new ValidationException( "Unable to interpolate" );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			throw new ValidationException( "Unable to interpolate" );
+		}
+	}
+
+	private static class ItemWithFailingMessage {
+
+		@Null(message = "${validatedValue.description}")
+		private final FailingDescription description;
+
+		private ItemWithFailingMessage(FailingDescription description) {
+			this.description = description;
+		}
+	}
+
+	public static class FailingDescription {
+
+		private final AtomicInteger evaluations = new AtomicInteger();
+
+		public String getDescription() {
+			evaluations.incrementAndGet();
+			throw new IllegalStateException( "No description" );
+		}
+	}
+}
@@ -7,11 +7,14 @@
 package org.hibernate.validator.test.internal.engine.messageinterpolation;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -29,6 +32,7 @@
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.MessageInterpolatorCacheStatistics;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 import org.hibernate.validator.testutil.TestForIssue;
@@ -274,6 +278,89 @@ public void testResourceBundleGetsAccessedOnlyOnceWhenCachingIsEnabled() {
 		runInterpolation( true );
 	}
 
+	@Test
+	public void testBundleMessagesAreResolvedUpfrontForLocalesToInitialize() {
+		CountingResourceBundle testBundle = new CountingResourceBundle();
+		interpolator = new ResourceBundleMessageInterpolator(
+				new TestResourceBundleLocator( testBundle ), Collections.singleton( Locale.FRENCH )
+		);
+		ResourceBundleMessageInterpolator referenceInterpolator = new ResourceBundleMessageInterpolator(
+				new TestResourceBundleLocator( new CountingResourceBundle() )
+		);
+		MessageInterpolatorContext messageInterpolatorContext = createMessageInterpolatorContext( notNullDescriptor );
+
+		assertEquals( interpolator.interpolate( "{simple.key}", messageInterpolatorContext, Locale.FRENCH ), "message interpolation successful" );
+
+		// the bundle messages have all been resolved when the interpolator was created
+		int accessCount = testBundle.accessCount.get();
+		for ( String message : new String[] { "{key-with-dashes}", "{replace.in.user.bundle1}", "{javax.validation.constraints.NotNull.message}" } ) {
+			assertEquals( interpolator.interpolate( message, messageInterpolatorContext, Locale.FRENCH ),
+					referenceInterpolator.interpolate( message, messageInterpolatorContext, Locale.FRENCH ), "Wrong substitution" );
+		}
+		assertEquals( testBundle.accessCount.get(), accessCount, "The bundle should not have been accessed" );
+	}
+
+	@Test
+	public void testMessageCacheIsBounded() {
+		interpolator = new ResourceBundleMessageInterpolator(
+				new TestResourceBundleLocator(), null, Collections.emptySet(), true, 10
+		);
+		MessageInterpolatorContext messageInterpolatorContext = createMessageInterpolatorContext( notNullDescriptor );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( interpolator.interpolate( "{simple.key}", messageInterpolatorContext ), "message interpolation successful" );
+		}
+		// messages built dynamically are all cached separately
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( interpolator.interpolate( "{simple.key} " + i, messageInterpolatorContext ), "message interpolation successful " + i );
+		}
+
+		MessageInterpolatorCacheStatistics statistics = interpolator.getMessageCacheStatistics();
+		assertEquals( statistics.getMaxSize(), 10 );
+		assertTrue( statistics.getSize() <= 10, "The cache should be bounded: " + statistics );
+		assertEquals( statistics.getHitCount(), 2 );
+		assertEquals( statistics.getMissCount(), 101 );
+		assertEquals( statistics.getEvictionCount(), 101 - statistics.getSize() );
+		assertEquals( statistics.getHitRatio(), 2d / 103 );
+	}
+
+	@Test
+	public void testMessageCacheStatisticsWhenCachingIsDisabled() {
+		interpolator = new ResourceBundleMessageInterpolator(
+				new TestResourceBundleLocator(), false
+		);
+		interpolator.interpolate( "{simple.key}", createMessageInterpolatorContext( notNullDescriptor ) );
+
+		MessageInterpolatorCacheStatistics statistics = interpolator.getMessageCacheStatistics();
+		assertEquals( statistics.getMaxSize(), 0 );
+		assertEquals( statistics.getSize(), 0 );
+		assertEquals( statistics.getHitCount(), 0 );
+		assertEquals( statistics.getMissCount(), 0 );
+		assertEquals( statistics.getHitRatio(), 0d );
+		assertEquals( interpolator.getExpressionCacheStatistics().getMaxSize(), 0 );
+	}
+
+	@Test
+	public void testInterpolationDoesNotWaitForBundleMessagesResolvedInBackground() {
+		CountingResourceBundle testBundle = new CountingResourceBundle();
+		List<Runnable> pendingTasks = new ArrayList<>();
+		interpolator = new ResourceBundleMessageInterpolator( new TestResourceBundleLocator( testBundle ), null,
+				Collections.singleton( Locale.FRENCH ), true, ResourceBundleMessageInterpolator.DEFAULT_MESSAGE_CACHE_MAX_SIZE,
+				pendingTasks::add );
+		MessageInterpolatorContext messageInterpolatorContext = createMessageInterpolatorContext( notNullDescriptor );
+
+		// the executor has not run the resolution yet, the message is resolved from the bundles
+		assertEquals( pendingTasks.size(), 1 );
+		assertEquals( interpolator.interpolate( "{simple.key}", messageInterpolatorContext, Locale.FRENCH ), "message interpolation successful" );
+		assertTrue( testBundle.accessCount.get() > 0 );
+
+		pendingTasks.forEach( Runnable::run );
+
+		int accessCount = testBundle.accessCount.get();
+		assertEquals( interpolator.interpolate( "{key-with-dashes}", messageInterpolatorContext, Locale.FRENCH ), "message interpolation successful" );
+		assertEquals( testBundle.accessCount.get(), accessCount, "The bundle should not have been accessed" );
+	}
+
 	private MessageInterpolatorContext createMessageInterpolatorContext(ConstraintDescriptorImpl<?> descriptor) {
 		return new MessageInterpolatorContext(
 				descriptor,
@@ -366,6 +453,33 @@ public String nextElement() {
 		}
 	}
 
+	/**
+	 * A dummy resource bundle keeping track of the number of times it has been accessed.
+	 */
+	private static class CountingResourceBundle extends ResourceBundle {
+		private final Map<String, String> testResources;
+		private final AtomicInteger accessCount = new AtomicInteger();
+
+		public CountingResourceBundle() {
+			testResources = new HashMap<String, String>();
+			testResources.put( "simple.key", "message interpolation successful" );
+			testResources.put( "key-with-dashes", "message interpolation successful" );
+			testResources.put( "replace.in.user.bundle1", "{replace.in.user.bundle2}" );
+			testResources.put( "replace.in.user.bundle2", "{javax.validation.constraints.NotNull.message}" );
+		}
+
+		@Override
+		public Object handleGetObject(String key) {
+			accessCount.incrementAndGet();
+			return testResources.get( key );
+		}
+
+		@Override
+		public Enumeration<String> getKeys() {
+			return Collections.enumeration( testResources.keySet() );
+		}
+	}
+
 	/**
 	 * A dummy resource bundle which can be passed to the constructor of ResourceBundleMessageInterpolator to replace
 	 * the user specified resource bundle.
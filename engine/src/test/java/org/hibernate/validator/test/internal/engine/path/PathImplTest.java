@@ -15,7 +15,15 @@
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -215,6 +223,98 @@ public void testCreationOfExecutablePathFailsDueToMissingExecutable() throws Exc
 		PathImpl.createPathForExecutable( null );
 	}
 
+	@Test
+	public void testCopyIsIndependentFromOriginal() {
+		PathImpl path = PathImpl.createPathFromString( "order.items" );
+		PathImpl copy = PathImpl.createCopy( path );
+
+		copy.makeLeafNodeIterableAndSetIndex( 2 );
+		copy.addPropertyNode( "name" );
+		path.addPropertyNode( "size" );
+
+		assertEquals( path.asString(), "order.items.size" );
+		assertEquals( copy.asString(), "order.items[2].name" );
+
+		Iterator<Path.Node> nodes = copy.iterator();
+		assertEquals( nodes.next().getName(), "order" );
+		assertEquals( nodes.next().getName(), "items" );
+		Path.Node leafNode = nodes.next();
+		assertEquals( leafNode.getName(), "name" );
+		assertTrue( leafNode.isInIterable() );
+		assertEquals( leafNode.getIndex(), Integer.valueOf( 2 ) );
+		assertFalse( nodes.hasNext() );
+	}
+
+	@Test
+	public void testEqualsAndHashCode() {
+		PathImpl parsedPath = PathImpl.createPathFromString( "order.items[2].name" );
+
+		PathImpl builtPath = PathImpl.createRootPath();
+		builtPath.addPropertyNode( "order" );
+		builtPath.addPropertyNode( "items" );
+		builtPath.makeLeafNodeIterableAndSetIndex( 2 );
+		builtPath.addPropertyNode( "name" );
+
+		assertEquals( builtPath, parsedPath );
+		assertEquals( builtPath.hashCode(), parsedPath.hashCode() );
+
+		builtPath.removeLeafNode();
+		assertFalse( builtPath.equals( parsedPath ) );
+		assertEquals( builtPath, parsedPath.getPathWithoutLeafNode() );
+		assertEquals( builtPath.hashCode(), parsedPath.getPathWithoutLeafNode().hashCode() );
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		PathImpl path = PathImpl.createPathFromString( "order.items[2].name" );
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( path );
+		}
+
+		PathImpl deserializedPath;
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+			deserializedPath = (PathImpl) in.readObject();
+		}
+
+		assertEquals( deserializedPath, path );
+		assertEquals( deserializedPath.hashCode(), path.hashCode() );
+		assertEquals( deserializedPath.asString(), "order.items[2].name" );
+	}
+
+	@Test(expectedExceptions = InvalidClassException.class)
+	public void testDeserializationOfPreviousSerializedFormFails() throws Exception {
+		PathImpl path = PathImpl.createPathFromString( "order.items[2].name" );
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( path );
+		}
+
+		// the serialized form of PathImpl used to hold the list of nodes, it is identified by the previous serialVersionUID
+		byte[] serializedPath = bytes.toByteArray();
+		replace( serializedPath, toBytes( ObjectStreamClass.lookup( PathImpl.class ).getSerialVersionUID() ), toBytes( 7564511574909882392L ) );
+
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( serializedPath ) ) ) {
+			in.readObject();
+		}
+	}
+
+	private static byte[] toBytes(long value) {
+		return ByteBuffer.allocate( Long.BYTES ).putLong( value ).array();
+	}
+
+	private static void replace(byte[] bytes, byte[] target, byte[] replacement) {
+		for ( int i = 0; i <= bytes.length - target.length; i++ ) {
+			if ( Arrays.equals( Arrays.copyOfRange( bytes, i, i + target.length ), target ) ) {
+				System.arraycopy( replacement, 0, bytes, i, replacement.length );
+				return;
+			}
+		}
+		throw new IllegalStateException( "Unable to find the serialVersionUID in the serialized form" );
+	}
+
 	class Container {
 		@Valid
 		Map<Key, Item> store = new HashMap<>();
@@ -0,0 +1,174 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.validation.Validator;
+
+import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
+import org.hibernate.validator.spi.scripting.ScriptEngineScriptEvaluator;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+public class ScriptEngineScriptEvaluatorTest {
+
+	@Test
+	public void testScriptCompiledOnce() {
+		ScriptEngineScriptEvaluator scriptEvaluator = new ScriptEngineScriptEvaluator( getGroovyEngine() );
+
+		assertThat( scriptEvaluator.evaluate( "value * 2", Collections.singletonMap( "value", 1 ) ) ).isEqualTo( 2 );
+		assertThat( scriptEvaluator.evaluate( "value * 2", Collections.singletonMap( "value", 2 ) ) ).isEqualTo( 4 );
+		assertThat( scriptEvaluator.evaluate( "value * 2", Collections.singletonMap( "value", 3 ) ) ).isEqualTo( 6 );
+		assertThat( scriptEvaluator.evaluate( "value * 3", Collections.singletonMap( "value", 3 ) ) ).isEqualTo( 9 );
+
+		assertThat( scriptEvaluator.getCompiledScriptCacheMissCount() ).isEqualTo( 2 );
+		assertThat( scriptEvaluator.getCompiledScriptCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testNumberOfCompiledScriptsBounded() {
+		ScriptEngineScriptEvaluator scriptEvaluator = new ScriptEngineScriptEvaluator( getGroovyEngine(), 1, 10 );
+
+		for ( int i = 0; i < 5; i++ ) {
+			assertThat( scriptEvaluator.evaluate( "value * 2", Collections.singletonMap( "value", i ) ) ).isEqualTo( i * 2 );
+		}
+		// scripts built dynamically, evaluated once
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( scriptEvaluator.evaluate( "value + " + i, Collections.singletonMap( "value", 1 ) ) ).isEqualTo( i + 1 );
+		}
+		assertThat( scriptEvaluator.getCompiledScriptCacheMissCount() ).isEqualTo( 101 );
+
+		// the frequently evaluated script is still compiled, most of the dynamic scripts have been evicted
+		assertThat( scriptEvaluator.evaluate( "value * 2", Collections.singletonMap( "value", 5 ) ) ).isEqualTo( 10 );
+		assertThat( scriptEvaluator.evaluate( "value + 50", Collections.singletonMap( "value", 1 ) ) ).isEqualTo( 51 );
+		assertThat( scriptEvaluator.getCompiledScriptCacheMissCount() ).isEqualTo( 102 );
+		assertThat( scriptEvaluator.getCompiledScriptCacheHitCount() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testConcurrentEvaluationWithPoolOfEngines() throws Exception {
+		int threads = 4;
+		int evaluationsPerThread = 50;
+		ScriptEngineScriptEvaluator scriptEvaluator = new ScriptEngineScriptEvaluator( getGroovyEngine(), 2 );
+
+		CountDownLatch latch = new CountDownLatch( 1 );
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				results.add( executor.submit( () -> {
+					latch.await();
+					boolean valid = true;
+					for ( int j = 0; j < evaluationsPerThread; j++ ) {
+						valid &= Integer.valueOf( j + 1 ).equals( scriptEvaluator.evaluate( "value + 1", Collections.singletonMap( "value", j ) ) );
+					}
+					return valid;
+				} ) );
+			}
+			latch.countDown();
+
+			for ( Future<Boolean> result : results ) {
+				assertThat( result.get() ).isTrue();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// the script is compiled once per engine of the pool
+		assertThat( scriptEvaluator.getCompiledScriptCacheMissCount() ).isBetween( 1L, 2L );
+		assertThat( scriptEvaluator.getCompiledScriptCacheHitCount() + scriptEvaluator.getCompiledScriptCacheMissCount() )
+				.isEqualTo( threads * evaluationsPerThread );
+	}
+
+	@Test
+	public void testPooledEnginesConfiguredAsWrappedEngine() throws Exception {
+		ScriptEngine engine = getGroovyEngine();
+		StringWriter writer = new StringWriter();
+		engine.getContext().setWriter( writer );
+
+		ScriptEngineScriptEvaluator scriptEvaluator = new ScriptEngineScriptEvaluator( engine, 2 );
+
+		// both evaluations have to run concurrently so the second one is done by a pooled engine
+		CountDownLatch latch = new CountDownLatch( 2 );
+		ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			for ( int i = 0; i < 2; i++ ) {
+				results.add( executor.submit( () -> scriptEvaluator.evaluate(
+						"latch.countDown(); latch.await(); println 'evaluated'; return true",
+						Collections.singletonMap( "latch", latch ) ) ) );
+			}
+
+			for ( Future<Object> result : results ) {
+				assertThat( result.get( 30, TimeUnit.SECONDS ) ).isEqualTo( true );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( writer.toString().split( "\\R" ) ).containsExactly( "evaluated", "evaluated" );
+		assertThat( scriptEvaluator.getCompiledScriptCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000233.*")
+	public void testInvalidScript() {
+		new ScriptEngineScriptEvaluator( getGroovyEngine() ).evaluate( "value +", Collections.emptyMap() );
+	}
+
+	@Test
+	public void testScriptAssertUsesCompiledScripts() {
+		DefaultScriptEvaluatorFactory scriptEvaluatorFactory = new DefaultScriptEvaluatorFactory( null );
+		Validator validator = ValidatorUtil.getConfiguration()
+				.scriptEvaluatorFactory( scriptEvaluatorFactory )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new Range( 1, 2 ) ) ).isEmpty();
+		assertThat( validator.validate( new Range( 3, 2 ) ) ).containsOnlyViolations( violationOf( ScriptAssert.class ) );
+		assertThat( validator.validate( new Range( 2, 3 ) ) ).isEmpty();
+
+		ScriptEngineScriptEvaluator scriptEvaluator = (ScriptEngineScriptEvaluator) scriptEvaluatorFactory.getScriptEvaluatorByLanguageName( "groovy" );
+		assertThat( scriptEvaluator.getCompiledScriptCacheMissCount() ).isEqualTo( 1 );
+		assertThat( scriptEvaluator.getCompiledScriptCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	private static ScriptEngine getGroovyEngine() {
+		return new ScriptEngineManager().getEngineByName( "groovy" );
+	}
+
+	@ScriptAssert(lang = "groovy", script = "_this.start <= _this.end")
+	private static class Range {
+
+		private final int start;
+
+		private final int end;
+
+		private Range(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+}
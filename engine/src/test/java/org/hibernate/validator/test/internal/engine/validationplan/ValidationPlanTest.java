@@ -0,0 +1,275 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.validationplan;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.GroupSequence;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the validation plans report the same violations as the regular evaluation of the constraints.
+ */
+public class ValidationPlanTest {
+
+	@Test
+	public void testDefaultGroupWithHierarchyAndInterfaces() {
+		Set<ConstraintViolation<Sub>> violations = assertSameViolations( validator -> validator.validate( new Sub() ), false );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Size.class ).withProperty( "code" ),
+				violationOf( Min.class ).withProperty( "count" ),
+				violationOf( NotBlank.class ).withProperty( "label" ),
+				violationOf( AssertTrue.class ).withProperty( "active" ),
+				violationOf( NotBlank.class ).withPropertyPath( pathWith()
+						.property( "tags" )
+						.containerElement( "<list element>", true, null, 1, List.class, 0 )
+				)
+		);
+	}
+
+	@Test
+	public void testNonDefaultGroup() {
+		Set<ConstraintViolation<Sub>> violations = assertSameViolations( validator -> validator.validate( new Sub(), Strict.class ), false );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "description" ),
+				violationOf( Min.class ).withProperty( "count" )
+		);
+	}
+
+	@Test
+	public void testConstraintDefinedForSeveralGroupsIsOnlyEvaluatedOnce() {
+		Set<ConstraintViolation<Sub>> violations = assertSameViolations( validator -> validator.validate( new Sub(), Default.class, Strict.class ), false );
+
+		assertEquals( violations.stream().filter( violation -> violation.getPropertyPath().toString().equals( "count" ) ).count(), 1 );
+	}
+
+	@Test
+	public void testFailFast() {
+		Set<ConstraintViolation<FailFastSub>> violations = assertSameViolations( validator -> validator.validate( new FailFastSub() ), true );
+
+		// the first constraint of each class of the hierarchy is evaluated, consistently with the regular evaluation
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "a" ),
+				violationOf( NotNull.class ).withProperty( "b" )
+		);
+	}
+
+	@Test
+	public void testRedefinedDefaultGroupSequence() {
+		Set<ConstraintViolation<RedefinedDefaultGroupSequenceBean>> violations = assertSameViolations(
+				validator -> validator.validate( new RedefinedDefaultGroupSequenceBean() ), false );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "value" )
+		);
+	}
+
+	@Test
+	public void testNonPublicBean() {
+		Set<ConstraintViolation<PrivateBean>> violations = assertSameViolations( validator -> validator.validate( new PrivateBean() ), false );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "value" ),
+				violationOf( NotNull.class ).withProperty( "field" )
+		);
+	}
+
+	@Test
+	public void testValidateProperty() {
+		Set<ConstraintViolation<Sub>> violations = assertSameViolations( validator -> validator.validateProperty( new Sub(), "count" ), false );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "count" )
+		);
+	}
+
+	@Test
+	public void testValidateValue() {
+		Set<ConstraintViolation<Sub>> violations = assertSameViolations( validator -> validator.validateValue( Sub.class, "label", " " ), false );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotBlank.class ).withProperty( "label" )
+		);
+	}
+
+	@Test
+	public void testValidationPlansEnabledThroughProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.ENABLE_VALIDATION_PLANS, "true" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new FailFastSub() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "a" ),
+				violationOf( NotNull.class ).withProperty( "b" )
+		);
+	}
+
+	@Test
+	public void testExceptionThrownByGetterIsWrapped() {
+		for ( boolean validationPlansEnabled : new boolean[] { false, true } ) {
+			try {
+				getValidator( validationPlansEnabled, false ).validate( new ThrowingBean() );
+				fail( "Expected exception wasn't thrown." );
+			}
+			catch (ValidationException e) {
+				assertEquals( e.getCause().getClass(), InvocationTargetException.class );
+				assertEquals( e.getCause().getCause().getClass(), IllegalStateException.class );
+			}
+		}
+	}
+
+	private static <T> Set<ConstraintViolation<T>> assertSameViolations(Function<Validator, Set<ConstraintViolation<T>>> validation, boolean failFast) {
+		Set<ConstraintViolation<T>> expectedViolations = validation.apply( getValidator( false, failFast ) );
+		Set<ConstraintViolation<T>> violations = validation.apply( getValidator( true, failFast ) );
+
+		assertEquals( describe( violations ), describe( expectedViolations ) );
+
+		return violations;
+	}
+
+	private static Validator getValidator(boolean validationPlansEnabled, boolean failFast) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.enableValidationPlans( validationPlansEnabled )
+				.failFast( failFast )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map( violation -> violation.getPropertyPath() + " " + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName()
+						+ " " + violation.getInvalidValue() + " " + violation.getMessage() )
+				.collect( Collectors.toCollection( TreeSet::new ) );
+	}
+
+	public interface Strict {
+	}
+
+	public interface Named {
+
+		@NotNull
+		String getName();
+	}
+
+	public static class Base implements Named {
+
+		@Size(min = 3)
+		protected String code = "a";
+
+		@Override
+		public String getName() {
+			return null;
+		}
+
+		@Min(value = 0, groups = { Default.class, Strict.class })
+		public Integer getCount() {
+			return -1;
+		}
+	}
+
+	public static class Sub extends Base implements Named {
+
+		@NotNull(groups = Strict.class)
+		private String description;
+
+		@NotBlank
+		public String getLabel() {
+			return "";
+		}
+
+		@AssertTrue
+		public boolean isActive() {
+			return false;
+		}
+
+		public List<@NotBlank String> getTags() {
+			return Arrays.asList( "tag", "" );
+		}
+
+		public String getDescription() {
+			return description;
+		}
+	}
+
+	public static class FailFastBase {
+
+		@NotNull
+		public String getA() {
+			return null;
+		}
+	}
+
+	public static class FailFastSub extends FailFastBase {
+
+		@NotNull
+		public String getB() {
+			return null;
+		}
+	}
+
+	@GroupSequence({ RedefinedDefaultGroupSequenceBean.class, Strict.class })
+	public static class RedefinedDefaultGroupSequenceBean {
+
+		@NotNull
+		public String getValue() {
+			return null;
+		}
+
+		@NotNull(groups = Strict.class)
+		public String getOther() {
+			return null;
+		}
+	}
+
+	private static class PrivateBean {
+
+		@NotNull
+		private String field;
+
+		@NotNull
+		public String getValue() {
+			return null;
+		}
+	}
+
+	public static class ThrowingBean {
+
+		@NotNull
+		public String getValue() {
+			throw new IllegalStateException( "Unable to get the value" );
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.time.Duration;
+
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStrategy;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.testng.annotations.Test;
+
+public class BeanMetaDataCacheStrategyTest {
+
+	@Test
+	public void testSoftStrategyByDefault() {
+		HibernateValidatorFactory validatorFactory = getConfiguration().buildValidatorFactory().unwrap( HibernateValidatorFactory.class );
+
+		assertValidation( validatorFactory.getValidator() );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getStrategy() ).isEqualTo( BeanMetaDataCacheStrategy.SOFT );
+		assertThat( statistics.getMaxSize() ).isEqualTo( -1 );
+	}
+
+	@Test
+	public void testStrongStrategy() {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.beanMetaDataCacheStrategy( BeanMetaDataCacheStrategy.STRONG )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		assertValidation( validator );
+		assertValidation( validator );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getStrategy() ).isEqualTo( BeanMetaDataCacheStrategy.STRONG );
+		// the metadata of Object are requested as well
+		assertThat( statistics.getSize() ).isEqualTo( 4 );
+		assertThat( statistics.getMissCount() ).isEqualTo( 4 );
+		assertThat( statistics.getHitCount() ).isGreaterThan( 0 );
+		assertThat( statistics.getEvictionCount() ).isEqualTo( 0 );
+		assertThat( statistics.getRebuildCount() ).isEqualTo( 0 );
+		assertThat( statistics.getBuildTime() ).isGreaterThan( Duration.ZERO );
+	}
+
+	@Test
+	public void testBoundedStrategy() {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.beanMetaDataCacheStrategy( BeanMetaDataCacheStrategy.BOUNDED )
+				.beanMetaDataCacheMaxSize( 2 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		for ( int i = 0; i < 10; i++ ) {
+			assertValidation( validator );
+		}
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getStrategy() ).isEqualTo( BeanMetaDataCacheStrategy.BOUNDED );
+		assertThat( statistics.getMaxSize() ).isEqualTo( 2 );
+		assertThat( statistics.getSize() ).isEqualTo( 2 );
+		assertThat( statistics.getEvictionCount() ).isGreaterThan( 0 );
+		assertThat( statistics.getRebuildCount() ).isEqualTo( statistics.getMissCount() - 4 );
+		assertThat( statistics.getHitCount() + statistics.getMissCount() ).isGreaterThanOrEqualTo( 30 );
+	}
+
+	@Test
+	public void testStrategyDefinedByProperty() {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_STRATEGY, "bounded" )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE, "5" )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		assertValidation( validatorFactory.getValidator() );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getStrategy() ).isEqualTo( BeanMetaDataCacheStrategy.BOUNDED );
+		assertThat( statistics.getMaxSize() ).isEqualTo( 5 );
+		assertThat( statistics.getSize() ).isEqualTo( 4 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000254:.*")
+	public void testInvalidStrategyProperty() {
+		getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_STRATEGY, "lru" )
+				.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000255:.*")
+	public void testInvalidMaxSize() {
+		getConfiguration()
+				.beanMetaDataCacheStrategy( BeanMetaDataCacheStrategy.BOUNDED )
+				.beanMetaDataCacheMaxSize( 0 )
+				.buildValidatorFactory();
+	}
+
+	private static HibernateValidatorConfiguration getConfiguration() {
+		return Validation.byProvider( HibernateValidator.class ).configure();
+	}
+
+	private static void assertValidation(Validator validator) {
+		ConstraintViolationAssert.assertThat( validator.validate( new Customer( null ) ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+		ConstraintViolationAssert.assertThat( validator.validate( new Product( "" ) ) ).containsOnlyViolations(
+				violationOf( Size.class ).withProperty( "name" )
+		);
+		ConstraintViolationAssert.assertThat( validator.validate( new Stock( -1 ) ) ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "quantity" )
+		);
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private final String name;
+
+		private Customer(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Product {
+
+		@Size(min = 1)
+		private final String name;
+
+		private Product(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Stock {
+
+		@Min(0)
+		private final int quantity;
+
+		private Stock(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer;
+import org.hibernate.validator.internal.metadata.CascadedTypeGraphAnalyzer.AcyclicCascadedGraph;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CascadedTypeGraphAnalyzerTest {
+
+	private BeanMetaDataManager beanMetaDataManager;
+
+	private CascadedTypeGraphAnalyzer analyzer;
+
+	@BeforeMethod
+	public void setupAnalyzer() {
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy() ),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build()
+		);
+		analyzer = new CascadedTypeGraphAnalyzer();
+	}
+
+	@Test
+	public void testTreeIsAcyclic() {
+		AcyclicCascadedGraph graph = analyzer.getAcyclicCascadedGraph( beanMetaDataManager, beanMetaDataManager.getBeanMetaData( Order.class ) );
+
+		assertThat( graph.getClasses() ).containsOnly( Order.class, Customer.class, Address.class, OrderLine.class, Product[].class, Product.class );
+		assertThat( graph.covers( Object.class ) ).isTrue();
+		assertThat( graph.covers( Category.class ) ).isFalse();
+	}
+
+	@Test
+	public void testSelfReferenceIsCyclic() {
+		assertThat( analyzer.getAcyclicCascadedGraph( beanMetaDataManager, beanMetaDataManager.getBeanMetaData( Category.class ) ) ).isNull();
+	}
+
+	@Test
+	public void testValueDeclaredAsSuperTypeOfAnAncestorIsCyclic() {
+		assertThat( analyzer.getAcyclicCascadedGraph( beanMetaDataManager, beanMetaDataManager.getBeanMetaData( Envelope.class ) ) ).isNull();
+	}
+
+	@Test
+	public void testGroupConversionPreventsTheProof() {
+		assertThat( analyzer.getAcyclicCascadedGraph( beanMetaDataManager, beanMetaDataManager.getBeanMetaData( Shipment.class ) ) ).isNull();
+	}
+
+	@Test
+	public void testSharedBeanIsValidatedForEachPath() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		Address address = new Address();
+		Order order = new Order( new Customer( address ), address );
+
+		assertThat( validator.validate( order ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "customer" ).property( "address" ).property( "city" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "deliveryAddress" ).property( "city" ) )
+		);
+	}
+
+	@Test
+	public void testCycleThroughSubclassIsDetected() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		Folder folder = new Folder();
+		folder.item = new Shortcut( folder );
+
+		assertThat( validator.validate( new Drive( folder ) ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "root" ).property( "name" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "root" ).property( "item" ).property( "name" ) )
+		);
+	}
+
+	private static class Order {
+
+		@Valid
+		private final Customer customer;
+
+		@Valid
+		private final Address deliveryAddress;
+
+		private final Map<String, List<@Valid OrderLine>> lines = Collections.singletonMap( "main",
+				Arrays.asList( new OrderLine(), new OrderLine() ) );
+
+		private Order(Customer customer, Address deliveryAddress) {
+			this.customer = customer;
+			this.deliveryAddress = deliveryAddress;
+		}
+	}
+
+	private static class Customer {
+
+		@Valid
+		private final Address address;
+
+		private Customer(Address address) {
+			this.address = address;
+		}
+	}
+
+	private static class Address {
+
+		@NotNull
+		private String city;
+	}
+
+	private static class OrderLine {
+
+		@Valid
+		private final Product[] products = new Product[0];
+	}
+
+	private static class Product {
+
+		@NotNull
+		private String name = "product";
+	}
+
+	private static class Category {
+
+		@Valid
+		private Category parent;
+	}
+
+	private static class Envelope {
+
+		@Valid
+		private Letter letter;
+	}
+
+	private static class Letter {
+
+		@Valid
+		private Object attachment;
+	}
+
+	private interface Light {
+	}
+
+	private static class Shipment {
+
+		@Valid
+		@ConvertGroup(from = Default.class, to = Light.class)
+		private Address address;
+	}
+
+	private static class Drive {
+
+		@Valid
+		private final Folder root;
+
+		private Drive(Folder root) {
+			this.root = root;
+		}
+	}
+
+	private static class Folder {
+
+		@NotNull
+		private String name;
+
+		@Valid
+		private Item item;
+	}
+
+	private static class Item {
+
+		@NotNull
+		private String name;
+	}
+
+	private static class Shortcut extends Item {
+
+		@Valid
+		private final Folder target;
+
+		private Shortcut(Folder target) {
+			this.target = target;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.aggregated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ConstraintDispatchTable;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class BeanMetaDataImplTest {
+
+	private BeanMetaDataManager beanMetaDataManager;
+
+	@BeforeMethod
+	public void setupBeanMetaDataManager() {
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy() ),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build()
+		);
+	}
+
+	@Test
+	public void testDispatchTablePerGroup() {
+		BeanMetaData<Truck> beanMetaData = beanMetaDataManager.getBeanMetaData( Truck.class );
+
+		ConstraintDispatchTable defaultGroupTable = beanMetaData.getDispatchTable( Default.class );
+		assertThat( getConstrainedProperties( defaultGroupTable ) ).containsOnly( "name", "wheels", "axles" );
+		assertThat( defaultGroupTable.isProcessedConstraintTrackingRequired() ).isFalse();
+		assertThat( defaultGroupTable.getCascadables() ).hasSize( 1 );
+
+		ConstraintDispatchTable heavyTable = beanMetaData.getDispatchTable( Heavy.class );
+		assertThat( getConstrainedProperties( heavyTable ) ).containsOnly( "load", "weight" );
+		assertThat( heavyTable.isProcessedConstraintTrackingRequired() ).isTrue();
+
+		ConstraintDispatchTable roadTable = beanMetaData.getDispatchTable( Road.class );
+		assertThat( getConstrainedProperties( roadTable ) ).containsOnly( "weight" );
+		assertThat( roadTable.isProcessedConstraintTrackingRequired() ).isTrue();
+	}
+
+	@Test
+	public void testDispatchTableOfGroupWithoutConstraints() {
+		ConstraintDispatchTable table = beanMetaDataManager.getBeanMetaData( Truck.class ).getDispatchTable( Unused.class );
+
+		assertThat( table.getMetaConstraints() ).isEmpty();
+		assertThat( table.isProcessedConstraintTrackingRequired() ).isFalse();
+		assertThat( table.getCascadables() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testDirectDefaultGroupDispatchTable() {
+		BeanMetaData<Truck> beanMetaData = beanMetaDataManager.getBeanMetaData( Truck.class );
+
+		assertThat( getConstrainedProperties( beanMetaData.getDirectDefaultGroupDispatchTable() ) ).containsOnly( "name", "axles" );
+		assertThat( beanMetaData.getDirectDefaultGroupDispatchTable().getConstrainedInterfaces() ).isEmpty();
+	}
+
+	@Test
+	public void testConstraintInSeveralGroupsIsValidatedOnce() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		ConstraintViolationAssert.assertThat( validator.validate( new Truck(), Heavy.class, Road.class ) ).containsOnlyViolations(
+				violationOf( Max.class ).withProperty( "load" ),
+				violationOf( Max.class ).withProperty( "weight" )
+		);
+		ConstraintViolationAssert.assertThat( validator.validate( new Truck(), Default.class, Heavy.class ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Min.class ).withProperty( "wheels" ),
+				violationOf( Min.class ).withProperty( "axles" ),
+				violationOf( Max.class ).withProperty( "load" ),
+				violationOf( Max.class ).withProperty( "weight" ),
+				violationOf( NotNull.class ).withPropertyPath( ConstraintViolationAssert.pathWith().property( "trailer" ).property( "plate" ) )
+		);
+	}
+
+	private static Set<String> getConstrainedProperties(ConstraintDispatchTable table) {
+		return Arrays.stream( table.getMetaConstraints() )
+				.map( MetaConstraint::getLocation )
+				.map( location -> location.getConstrainable().getName() )
+				.collect( Collectors.toSet() );
+	}
+
+	private interface Heavy {
+	}
+
+	private interface Road {
+	}
+
+	private interface Unused {
+	}
+
+	private static class Vehicle {
+
+		@Min(4)
+		private int wheels = 2;
+
+		@Max(value = 10, groups = Heavy.class)
+		private int load = 20;
+	}
+
+	private static class Truck extends Vehicle {
+
+		@NotNull
+		private String name;
+
+		@Min(2)
+		private int axles = 1;
+
+		@Max(value = 40, groups = { Heavy.class, Road.class })
+		private int weight = 50;
+
+		@Valid
+		private Trailer trailer = new Trailer();
+	}
+
+	private static class Trailer {
+
+		@NotNull
+		@Size(min = 1)
+		private String plate;
+	}
+}
@@ -11,6 +11,7 @@
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
@@ -350,4 +351,33 @@ public void unconstrainedMethod() throws Exception {
 
 		assertFalse( beanMetaData.getMetaDataFor( method ).isPresent() );
 	}
+
+	@Test
+	public void metaDataIsReturnedForEachCopyOfTheMethod() throws Exception {
+		Method method = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		Method copy = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		Method unconstrainedMethod = CustomerRepositoryExt.class.getMethod( "updateCustomer", Customer.class );
+
+		ExecutableMetaData methodMetaData = beanMetaData.getMetaDataFor( method ).get();
+
+		assertThat( beanMetaData.getMetaDataFor( method ).get() ).isSameAs( methodMetaData );
+		assertThat( beanMetaData.getMetaDataFor( copy ).get() ).isSameAs( methodMetaData );
+		assertFalse( beanMetaData.getMetaDataFor( unconstrainedMethod ).isPresent() );
+		assertFalse( beanMetaData.getMetaDataFor( unconstrainedMethod ).isPresent() );
+	}
+
+	@Test
+	public void methodNotDefinedByTheTypeIsRejectedEachTime() throws Exception {
+		Method method = String.class.getMethod( "isEmpty" );
+
+		for ( int i = 0; i < 2; i++ ) {
+			try {
+				beanMetaData.getMetaDataFor( method );
+				fail( "Expected exception wasn't thrown." );
+			}
+			catch (IllegalArgumentException e) {
+				assertThat( e.getMessage() ).contains( "isEmpty" );
+			}
+		}
+	}
 }
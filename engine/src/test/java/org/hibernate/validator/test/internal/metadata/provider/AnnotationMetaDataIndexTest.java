@@ -0,0 +1,83 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.provider;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the use of the metadata index generated by the annotation processor, see
+ * {@code META-INF/hibernate-validator/metadata-index/org/hibernate/validator/test/internal/metadata/provider/AnnotationMetaDataIndexTest.idx}.
+ */
+public class AnnotationMetaDataIndexTest {
+
+	@Test
+	public void testOnlyIndexedElementsAreInspected() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertThat( validator.validate( new IndexedBean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+	}
+
+	@Test
+	public void testOutOfDateEntryIsIgnored() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertThat( validator.validate( new OutOfDateBean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( NotNull.class ).withProperty( "notIndexed" )
+		);
+	}
+
+	@Test
+	public void testEntryIgnoredWhenConstraintAddedWithoutRegeneratingIndex() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertThat( validator.validate( new ConstraintAddedBean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( NotNull.class ).withProperty( "added" )
+		);
+	}
+
+	public static class IndexedBean {
+
+		@NotNull
+		private String name;
+
+		// not listed in the index
+		@NotNull
+		private String notIndexed;
+	}
+
+	public static class OutOfDateBean {
+
+		@NotNull
+		private String name;
+
+		@NotNull
+		private String notIndexed;
+	}
+
+	/**
+	 * The fingerprint of the index entry was computed when {@code added} was not constrained.
+	 */
+	public static class ConstraintAddedBean {
+
+		@NotNull
+		private String name;
+
+		@NotNull
+		private String added;
+	}
+}
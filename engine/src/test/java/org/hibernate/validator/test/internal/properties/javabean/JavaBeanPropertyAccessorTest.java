@@ -0,0 +1,117 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.properties.javabean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import javax.validation.ValidationException;
+
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanField;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanGetter;
+import org.testng.annotations.Test;
+
+public class JavaBeanPropertyAccessorTest {
+
+	@Test
+	public void testPrivateFieldAccess() throws Exception {
+		PropertyAccessor accessor = new JavaBeanField( Bean.class.getDeclaredField( "name" ) ).createAccessor();
+
+		assertThat( accessor.getValueFrom( new Bean() ) ).isEqualTo( "name" );
+	}
+
+	@Test
+	public void testPrimitiveFieldAccess() throws Exception {
+		PropertyAccessor accessor = new JavaBeanField( Bean.class.getDeclaredField( "count" ) ).createAccessor();
+
+		assertThat( accessor.getValueFrom( new Bean() ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void testPrivateGetterAccess() throws Exception {
+		PropertyAccessor accessor = new JavaBeanGetter( Bean.class, Bean.class.getDeclaredMethod( "getName" ), "name" ).createAccessor();
+
+		assertThat( accessor.getValueFrom( new Bean() ) ).isEqualTo( "name" );
+	}
+
+	@Test
+	public void testPrimitiveGetterAccess() throws Exception {
+		PropertyAccessor accessor = new JavaBeanGetter( Bean.class, Bean.class.getDeclaredMethod( "isValid" ), "valid" ).createAccessor();
+
+		assertThat( accessor.getValueFrom( new Bean() ) ).isEqualTo( true );
+	}
+
+	@Test
+	public void testOverriddenGetterAccess() throws Exception {
+		PropertyAccessor accessor = new JavaBeanGetter( Bean.class, Bean.class.getDeclaredMethod( "getLabel" ), "label" ).createAccessor();
+
+		assertThat( accessor.getValueFrom( new SubBean() ) ).isEqualTo( "sub" );
+	}
+
+	@Test
+	public void testOptimizedGetterAccess() throws Exception {
+		PropertyAccessor accessor = new JavaBeanGetter( PublicBean.class, PublicBean.class.getDeclaredMethod( "getValue" ), "value" )
+				.createOptimizedAccessor();
+
+		assertThat( accessor.getValueFrom( new PublicBean() ) ).isEqualTo( 3L );
+	}
+
+	@Test
+	public void testExceptionThrownByGetterIsWrapped() throws Exception {
+		PropertyAccessor accessor = new JavaBeanGetter( Bean.class, Bean.class.getDeclaredMethod( "getFailing" ), "failing" ).createAccessor();
+
+		try {
+			accessor.getValueFrom( new Bean() );
+			fail( "Expected exception wasn't thrown." );
+		}
+		catch (ValidationException e) {
+			assertThat( e.getCause() ).isInstanceOf( InvocationTargetException.class );
+			assertThat( e.getCause().getCause() ).isInstanceOf( IllegalStateException.class );
+		}
+	}
+
+	private static class Bean {
+
+		private final String name = "name";
+
+		private final int count = 42;
+
+		private String getName() {
+			return name;
+		}
+
+		protected String getLabel() {
+			return "label";
+		}
+
+		private boolean isValid() {
+			return true;
+		}
+
+		private String getFailing() {
+			throw new IllegalStateException( "Failing getter" );
+		}
+	}
+
+	private static class SubBean extends Bean {
+
+		@Override
+		protected String getLabel() {
+			return "sub";
+		}
+	}
+
+	public static class PublicBean {
+
+		public long getValue() {
+			return 3L;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.testng.annotations.Test;
+
+public class BoundedConcurrentCacheTest {
+
+	@Test
+	public void testComputeIfAbsent() {
+		BoundedConcurrentCache<String, Integer> cache = new BoundedConcurrentCache<>( 10 );
+		AtomicInteger computations = new AtomicInteger();
+
+		assertThat( cache.computeIfAbsent( "a", key -> computations.incrementAndGet() ) ).isEqualTo( 1 );
+		assertThat( cache.computeIfAbsent( "a", key -> computations.incrementAndGet() ) ).isEqualTo( 1 );
+		assertThat( cache.get( "a" ) ).isEqualTo( 1 );
+		assertThat( cache.get( "b" ) ).isNull();
+
+		assertThat( computations.get() ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() ).isEqualTo( 2 );
+		assertThat( cache.getMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testNullValueNotCached() {
+		BoundedConcurrentCache<String, Integer> cache = new BoundedConcurrentCache<>( 10 );
+
+		assertThat( cache.computeIfAbsent( "a", key -> null ) ).isNull();
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testSizeBounded() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 10 );
+
+		for ( int i = 0; i < 100; i++ ) {
+			cache.computeIfAbsent( i, key -> key );
+		}
+
+		assertThat( cache.size() ).isEqualTo( 10 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 90 );
+	}
+
+	@Test
+	public void testRecentlyAccessedEntriesKept() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 10 );
+
+		for ( int i = 0; i < 10; i++ ) {
+			cache.computeIfAbsent( i, key -> key );
+		}
+		for ( int i = 10; i < 15; i++ ) {
+			// keep accessing the first entry
+			assertThat( cache.get( 0 ) ).isEqualTo( 0 );
+			cache.computeIfAbsent( i, key -> key );
+		}
+
+		assertThat( cache.get( 0 ) ).isEqualTo( 0 );
+		assertThat( cache.size() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testFrequentlyAccessedEntriesProtectedFromScan() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 100, true );
+
+		for ( int i = 0; i < 50; i++ ) {
+			for ( int j = 0; j < 5; j++ ) {
+				cache.computeIfAbsent( i, key -> key );
+			}
+		}
+		// a scan of entries requested only once
+		for ( int i = 1000; i < 1200; i++ ) {
+			cache.computeIfAbsent( i, key -> key );
+		}
+
+		assertThat( cache.size() ).isEqualTo( 100 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 150 );
+		for ( int i = 0; i < 50; i++ ) {
+			assertThat( cache.get( i ) ).isEqualTo( i );
+		}
+	}
+
+	@Test
+	public void testNewEntryCachedInWindow() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 10, true );
+
+		for ( int i = 0; i < 10; i++ ) {
+			for ( int j = 0; j < 5; j++ ) {
+				cache.computeIfAbsent( i, key -> key );
+			}
+		}
+		AtomicInteger computations = new AtomicInteger();
+		for ( int j = 0; j < 5; j++ ) {
+			cache.computeIfAbsent( 100, key -> computations.incrementAndGet() );
+		}
+
+		// the new entry is less frequently accessed than the others but is not subject to the admission policy while
+		// in the window
+		assertThat( computations.get() ).isEqualTo( 1 );
+		assertThat( cache.size() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testFrequentlyRequestedNewEntryAdmitted() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 10, true );
+
+		for ( int i = 0; i < 10; i++ ) {
+			for ( int j = 0; j < 2; j++ ) {
+				cache.computeIfAbsent( i, key -> key );
+			}
+		}
+		// each entry requested only once pushes the new entry out of the window, it is admitted in the main space once
+		// it has been requested more often than the entries of the main space
+		AtomicInteger computations = new AtomicInteger();
+		for ( int j = 0; j < 10; j++ ) {
+			cache.computeIfAbsent( 100, key -> computations.incrementAndGet() );
+			cache.computeIfAbsent( 200 + j, key -> key );
+		}
+
+		assertThat( computations.get() ).isLessThan( 10 );
+		assertThat( cache.get( 100 ) ).isNotNull();
+		assertThat( cache.size() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testClear() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 10 );
+		cache.computeIfAbsent( 1, key -> key );
+
+		cache.clear();
+
+		assertThat( cache.size() ).isEqualTo( 0 );
+		assertThat( cache.get( 1 ) ).isNull();
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.validator.internal.util.IdentityOpenAddressingMap;
+import org.testng.annotations.Test;
+
+public class IdentityOpenAddressingMapTest {
+
+	@Test
+	public void testKeysAreComparedByIdentity() {
+		IdentityOpenAddressingMap<String, Integer> map = new IdentityOpenAddressingMap<>();
+		String key = new String( "key" );
+		String equalKey = new String( "key" );
+
+		assertThat( map.put( key, 1 ) ).isNull();
+
+		assertThat( map.get( key ) ).isEqualTo( 1 );
+		assertThat( map.get( equalKey ) ).isNull();
+
+		assertThat( map.put( equalKey, 2 ) ).isNull();
+		assertThat( map.put( key, 3 ) ).isEqualTo( 1 );
+		assertThat( map.size() ).isEqualTo( 2 );
+		assertThat( map.get( key ) ).isEqualTo( 3 );
+		assertThat( map.get( equalKey ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testGrowth() {
+		IdentityOpenAddressingMap<Object, Integer> map = new IdentityOpenAddressingMap<>( 2 );
+		List<Object> keys = new ArrayList<>();
+
+		for ( int i = 0; i < 10_000; i++ ) {
+			Object key = new Object();
+			keys.add( key );
+			map.put( key, i );
+		}
+
+		assertThat( map.size() ).isEqualTo( 10_000 );
+		for ( int i = 0; i < keys.size(); i++ ) {
+			assertThat( map.get( keys.get( i ) ) ).isEqualTo( i );
+		}
+		assertThat( map.get( new Object() ) ).isNull();
+
+		Map<Object, Integer> visited = new IdentityHashMap<>();
+		map.forEach( visited::put );
+		assertThat( visited ).hasSize( 10_000 );
+		assertThat( visited.get( keys.get( 42 ) ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void testEmptyMap() {
+		IdentityOpenAddressingMap<Object, Object> map = new IdentityOpenAddressingMap<>();
+
+		assertThat( map.isEmpty() ).isTrue();
+		assertThat( map.get( new Object() ) ).isNull();
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.predefinedscope;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintDefinitionException;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.testng.annotations.Test;
+
+public class PredefinedScopeParallelInitializationTest {
+
+	private static final Set<Class<?>> BEAN_CLASSES = new HashSet<>( Arrays.asList( Order.class, Line.class, DiscountedLine.class ) );
+
+	@Test
+	public void testSequentialInitialization() {
+		BeanMetaDataInitializationStatistics statistics = getStatistics( getConfiguration().buildValidatorFactory() );
+
+		assertThat( statistics.isParallel() ).isFalse();
+		assertThat( statistics.getBeanMetaDataBuildTimes() ).containsOnlyKeys( Order.class, Line.class, DiscountedLine.class, Object.class );
+		assertThat( statistics.getInitializationTime() ).isNotNull();
+	}
+
+	@Test
+	public void testParallelInitializationInCommonPool() {
+		ValidatorFactory validatorFactory = getConfiguration()
+				.parallelBeanMetaDataInitialization( true )
+				.buildValidatorFactory();
+
+		assertValidation( validatorFactory );
+
+		BeanMetaDataInitializationStatistics statistics = getStatistics( validatorFactory );
+		assertThat( statistics.isParallel() ).isTrue();
+		assertThat( statistics.getBeanMetaDataBuildTimes() ).containsOnlyKeys( Order.class, Line.class, DiscountedLine.class, Object.class );
+	}
+
+	@Test
+	public void testParallelInitializationEnabledByProperty() {
+		ValidatorFactory validatorFactory = getConfiguration()
+				.addProperty( PredefinedScopeHibernateValidatorConfiguration.PARALLEL_BEAN_METADATA_INITIALIZATION, "true" )
+				.buildValidatorFactory();
+
+		assertValidation( validatorFactory );
+		assertThat( getStatistics( validatorFactory ).isParallel() ).isTrue();
+	}
+
+	@Test
+	public void testParallelInitializationWithExecutor() {
+		AtomicInteger threads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool( 2, runnable -> {
+			threads.incrementAndGet();
+			return new Thread( runnable );
+		} );
+
+		try {
+			ValidatorFactory validatorFactory = getConfiguration()
+					.beanMetaDataInitializationExecutor( executor )
+					.buildValidatorFactory();
+
+			assertValidation( validatorFactory );
+			assertThat( getStatistics( validatorFactory ).isParallel() ).isTrue();
+			assertThat( threads.get() ).isGreaterThan( 0 );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = ConstraintDefinitionException.class, expectedExceptionsMessageRegExp = "HV000074:.*")
+	public void testFailureOfParallelInitializationIsRethrown() {
+		Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Order.class, InvalidBean.class ) ) )
+				.parallelBeanMetaDataInitialization( true )
+				.buildValidatorFactory();
+	}
+
+	private static PredefinedScopeHibernateValidatorConfiguration getConfiguration() {
+		return Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( BEAN_CLASSES );
+	}
+
+	private static BeanMetaDataInitializationStatistics getStatistics(ValidatorFactory validatorFactory) {
+		return validatorFactory.unwrap( PredefinedScopeHibernateValidatorFactory.class ).getBeanMetaDataInitializationStatistics();
+	}
+
+	private static void assertValidation(ValidatorFactory validatorFactory) {
+		Order order = new Order( null, Collections.singleton( new DiscountedLine( "", 0, -1 ) ) );
+
+		ConstraintViolationAssert.assertThat( validatorFactory.getValidator().validate( order ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "reference" ),
+				violationOf( Size.class ).withPropertyPath( pathWith().property( "lines" ).property( "product", true, null, null, Set.class, 0 ) ),
+				violationOf( Min.class ).withPropertyPath( pathWith().property( "lines" ).property( "quantity", true, null, null, Set.class, 0 ) ),
+				violationOf( Min.class ).withPropertyPath( pathWith().property( "lines" ).property( "discount", true, null, null, Set.class, 0 ) )
+		);
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		private final Set<@Valid Line> lines;
+
+		private Order(String reference, Set<Line> lines) {
+			this.reference = reference;
+			this.lines = lines;
+		}
+	}
+
+	private static class Line {
+
+		@Size(min = 1)
+		private final String product;
+
+		@Min(1)
+		private final int quantity;
+
+		private Line(String product, int quantity) {
+			this.product = product;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class DiscountedLine extends Line {
+
+		@Min(0)
+		private final int discount;
+
+		private DiscountedLine(String product, int quantity, int discount) {
+			super( product, quantity );
+			this.discount = discount;
+		}
+	}
+
+	private static class InvalidBean {
+
+		@NoMessage
+		private String property;
+	}
+
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface NoMessage {
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.interpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates an invalid bean whose violations have messages using message parameters and EL expressions, so that most
+ * of the time is spent interpolating the messages.
+ */
+public class MessageInterpolation {
+
+	@State(Scope.Benchmark)
+	public static class MessageInterpolationState {
+
+		public volatile Validator validator;
+
+		public volatile Order order;
+
+		public MessageInterpolationState() {
+			try ( ValidatorFactory factory = Validation.buildDefaultValidatorFactory() ) {
+				validator = factory.getValidator();
+			}
+			order = new Order( "X", 0, 1500.5, null );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testInterpolateMessages(MessageInterpolationState state, Blackhole bh) {
+		Set<ConstraintViolation<Order>> violations = state.validator.validate( state.order );
+		assertThat( violations ).hasSize( 4 );
+		for ( ConstraintViolation<Order> violation : violations ) {
+			bh.consume( violation.getMessage() );
+		}
+	}
+
+	public static class Order {
+
+		@Size(min = 2, max = 20)
+		private final String customer;
+
+		@Min(value = 1, message = "the quantity must be at least {value}, ${validatedValue} is not allowed")
+		private final int quantity;
+
+		@DecimalMax("1000")
+		private final double amount;
+
+		@NotNull
+		private final String reference;
+
+		public Order(String customer, int quantity, double amount, String reference) {
+			this.customer = customer;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.reference = reference;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.methodvalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.executable.ExecutableValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates the parameters and the return values of methods the way a method interceptor does, i.e. always with the
+ * same {@link Method} instances.
+ */
+public class MethodValidation {
+
+	@State(Scope.Benchmark)
+	public static class MethodValidationState {
+
+		public volatile ExecutableValidator executableValidator;
+
+		public volatile OrderService orderService;
+
+		public volatile Method placeOrderMethod;
+
+		public volatile Method getStatusMethod;
+
+		public volatile Object[] placeOrderParameters;
+
+		public volatile Object[] getStatusParameters;
+
+		public MethodValidationState() {
+			try ( ValidatorFactory factory = Validation.buildDefaultValidatorFactory() ) {
+				executableValidator = factory.getValidator().forExecutables();
+			}
+			try {
+				placeOrderMethod = OrderService.class.getMethod( "placeOrder", String.class, int.class );
+				getStatusMethod = OrderService.class.getMethod( "getStatus", long.class );
+			}
+			catch (NoSuchMethodException e) {
+				throw new IllegalStateException( e );
+			}
+			orderService = new OrderService();
+			placeOrderParameters = new Object[] { "ACME", 3 };
+			getStatusParameters = new Object[] { 42L };
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateParameters(MethodValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<OrderService>> violations = state.executableValidator.validateParameters( state.orderService,
+				state.placeOrderMethod, state.placeOrderParameters );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateReturnValue(MethodValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<OrderService>> violations = state.executableValidator.validateReturnValue( state.orderService,
+				state.placeOrderMethod, "ORDER-1" );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateParametersOfUnconstrainedMethod(MethodValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<OrderService>> violations = state.executableValidator.validateParameters( state.orderService,
+				state.getStatusMethod, state.getStatusParameters );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+	}
+
+	public static class OrderService {
+
+		@NotNull
+		@Size(min = 1)
+		public String placeOrder(@NotNull @Size(min = 2, max = 20) String customer, @Min(1) int quantity) {
+			return "ORDER-1";
+		}
+
+		public String getStatus(long orderId) {
+			return "SHIPPED";
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.cdi;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.interceptor.InvocationContext;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.BeanDescriptor;
+
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlan;
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableValidationPlans;
+import org.hibernate.validator.cdi.internal.interceptor.ValidationInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time spent in the method validation interceptor of the CDI integration for each intercepted call,
+ * the call without interception being the baseline.
+ * <p>
+ * The interceptor is invoked directly, with the validation plans computed by the CDI extension at bean discovery
+ * or without them, i.e. performing both the parameter and the return value validations for each call.
+ */
+public class ValidationInterceptorOverhead {
+
+	@State(Scope.Benchmark)
+	public static class InterceptorState {
+
+		@Param({ "false", "true" })
+		public boolean validationPlans;
+
+		public volatile ValidationInterceptor interceptor;
+
+		public volatile OrderService orderService;
+
+		public volatile Method placeOrderMethod;
+
+		public volatile Method getStatusMethod;
+
+		@Setup
+		public void setUp() throws ReflectiveOperationException {
+			Validator validator;
+			try ( ValidatorFactory factory = Validation.buildDefaultValidatorFactory() ) {
+				validator = factory.getValidator();
+			}
+
+			orderService = new OrderService();
+			placeOrderMethod = OrderService.class.getMethod( "placeOrder", String.class, int.class );
+			getStatusMethod = OrderService.class.getMethod( "getStatus", long.class );
+
+			// this is what the CDI extension does at bean discovery
+			ExecutableValidationPlans plans = new ExecutableValidationPlans();
+			if ( validationPlans ) {
+				BeanDescriptor beanDescriptor = validator.getConstraintsForClass( OrderService.class );
+				for ( Method method : new Method[] { placeOrderMethod, getStatusMethod } ) {
+					plans.add( method, ExecutableValidationPlan.of(
+							beanDescriptor.getConstraintsForMethod( method.getName(), method.getParameterTypes() ) ) );
+				}
+			}
+
+			interceptor = new ValidationInterceptor();
+			inject( interceptor, "validator", validator );
+			inject( interceptor, "executableValidationPlans", plans );
+		}
+
+		private static void inject(Object instance, String fieldName, Object value) throws ReflectiveOperationException {
+			Field field = instance.getClass().getDeclaredField( fieldName );
+			field.setAccessible( true );
+			field.set( instance, value );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public Object callWithoutInterception(InterceptorState state) {
+		return state.orderService.getStatus( 42L );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public Object interceptMethodWithConstrainedReturnValue(InterceptorState state) throws Exception {
+		return state.interceptor.validateMethodInvocation( new DirectInvocationContext( state.orderService, state.getStatusMethod,
+				new Object[] { 42L }, () -> state.orderService.getStatus( 42L ) ) );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public Object interceptMethodWithConstrainedParametersAndReturnValue(InterceptorState state) throws Exception {
+		return state.interceptor.validateMethodInvocation( new DirectInvocationContext( state.orderService, state.placeOrderMethod,
+				new Object[] { "ACME", 3 }, () -> state.orderService.placeOrder( "ACME", 3 ) ) );
+	}
+
+	public static class OrderService {
+
+		@NotNull
+		@Size(min = 1)
+		public String placeOrder(@NotNull @Size(min = 2, max = 20) String customer, @Min(1) int quantity) {
+			return "ORDER-1";
+		}
+
+		@NotNull
+		public String getStatus(long orderId) {
+			return "SHIPPED";
+		}
+	}
+
+	private interface Invocation {
+
+		Object proceed() throws Exception;
+	}
+
+	/**
+	 * An {@link InvocationContext} invoking the target method directly, so that we only measure the work of the
+	 * interceptor.
+	 */
+	private static class DirectInvocationContext implements InvocationContext {
+
+		private final Object target;
+
+		private final Method method;
+
+		private final Object[] parameters;
+
+		private final Invocation invocation;
+
+		private DirectInvocationContext(Object target, Method method, Object[] parameters, Invocation invocation) {
+			this.target = target;
+			this.method = method;
+			this.parameters = parameters;
+			this.invocation = invocation;
+		}
+
+		@Override
+		public Object getTarget() {
+			return target;
+		}
+
+		@Override
+		public Object getTimer() {
+			return null;
+		}
+
+		@Override
+		public Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public Constructor<?> getConstructor() {
+			return null;
+		}
+
+		@Override
+		public Object[] getParameters() {
+			return parameters;
+		}
+
+		@Override
+		public void setParameters(Object[] params) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Map<String, Object> getContextData() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object proceed() throws Exception {
+			return invocation.proceed();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Accesses the bounded cache used by the bean metadata and message interpolation caches from several threads, with
+ * and without the frequency based admission policy.
+ * <p>
+ * {@code testGet} only hits the cache: with the admission policy, the lookups must not be slower than without it.
+ * {@code testComputeIfAbsent} uses a working set larger than the cache, so that the threads also contend on the
+ * evictions.
+ */
+public class BoundedConcurrentCacheContention {
+
+	private static final int CACHE_SIZE = 1_024;
+
+	private static final int KEYS = 4 * CACHE_SIZE;
+
+	@State(Scope.Benchmark)
+	public static class CacheState {
+
+		@Param({ "true", "false" })
+		public boolean frequencyBasedAdmission;
+
+		public volatile BoundedConcurrentCache<Integer, Integer> cache;
+
+		public volatile Integer[] keys;
+
+		@Setup
+		public void setUp() {
+			cache = new BoundedConcurrentCache<>( CACHE_SIZE, frequencyBasedAdmission );
+			keys = new Integer[KEYS];
+			for ( int i = 0; i < KEYS; i++ ) {
+				keys[i] = i;
+			}
+			for ( int i = 0; i < CACHE_SIZE; i++ ) {
+				cache.putIfAbsent( keys[i], keys[i] );
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		public int index = ThreadLocalRandom.current().nextInt( KEYS );
+
+		/**
+		 * Skewed access to the keys: half of the accesses to the first eighth of the keys.
+		 */
+		int nextKeyIndex() {
+			index = ( index * 1_103_515_245 + 12_345 ) & Integer.MAX_VALUE;
+			return ( index & 1 ) == 0 ? ( index >>> 1 ) % ( KEYS / 8 ) : ( index >>> 1 ) % KEYS;
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Fork(value = 1)
+	@Threads(4)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public Integer testGet(CacheState cacheState, ThreadState threadState) {
+		return cacheState.cache.get( cacheState.keys[threadState.nextKeyIndex() % CACHE_SIZE] );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Fork(value = 1)
+	@Threads(4)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public Integer testComputeIfAbsent(CacheState cacheState, ThreadState threadState) {
+		return cacheState.cache.computeIfAbsent( cacheState.keys[threadState.nextKeyIndex()], key -> key );
+	}
+}
@@ -11,7 +11,9 @@
 
 import org.hibernate.validator.performance.cascaded.CascadedValidation;
 import org.hibernate.validator.performance.cascaded.CascadedWithLotsOfItemsValidation;
+import org.hibernate.validator.performance.simple.MultiTenantValidation;
 import org.hibernate.validator.performance.simple.SimpleValidation;
+import org.hibernate.validator.performance.simple.ValidationPlanValidation;
 import org.hibernate.validator.performance.statistical.StatisticalValidation;
 
 import org.openjdk.jmh.results.format.ResultFormatType;
@@ -36,9 +38,19 @@ public final class BenchmarkRunner {
 			CascadedValidation.class.getName(),
 			CascadedWithLotsOfItemsValidation.class.getName(),
 			StatisticalValidation.class.getName(),
+			ValidationPlanValidation.class.getName(),
+			MultiTenantValidation.class.getName(),
 			// Benchmarks specific to Bean Validation 2.0
 			// Tests are located in a separate source folder only added for implementations compatible with BV 2.0
-			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation"
+			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation",
+			"org.hibernate.validator.performance.methodvalidation.MethodValidation",
+			"org.hibernate.validator.performance.interpolation.MessageInterpolation",
+			// Benchmarks of the internals of the current version of Hibernate Validator
+			// Tests are located in a separate source folder only added for the current version
+			"org.hibernate.validator.performance.cache.BoundedConcurrentCacheContention",
+			// Benchmarks of the CDI integration
+			// Tests are located in a separate source folder only added by the cdi profile
+			"org.hibernate.validator.performance.cdi.ValidationInterceptorOverhead"
 	).map( BenchmarkRunner::classForName ).filter( Objects::nonNull );
 
 	private BenchmarkRunner() {
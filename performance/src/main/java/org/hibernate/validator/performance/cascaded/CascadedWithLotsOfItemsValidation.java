@@ -26,27 +26,44 @@
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
+ * The threshold of the parallel cascaded validation is set as a string property so that the benchmark can be run
+ * against versions not supporting it. Use {@code -t} to change the number of threads validating concurrently and
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism} to change the number of threads validating the
+ * elements in parallel.
+ *
  * @author Guillaume Smet
  */
 public class CascadedWithLotsOfItemsValidation {
 
 	private static final int NUMBER_OF_ARTICLES_PER_SHOP = 2000;
 
+	private static final String PARALLEL_CASCADED_VALIDATION_THRESHOLD = "hibernate.validator.parallel_cascaded_validation_threshold";
+
 	@State(Scope.Benchmark)
 	public static class CascadedWithLotsOfItemsValidationState {
+
+		@Param({ "0", "500" })
+		public String parallelCascadedValidationThreshold;
+
 		public volatile Validator validator;
 
 		public volatile Shop shop;
 
-		public CascadedWithLotsOfItemsValidationState() {
-			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		@Setup
+		public void setUp() {
+			ValidatorFactory factory = Validation.byDefaultProvider()
+					.configure()
+					.addProperty( PARALLEL_CASCADED_VALIDATION_THRESHOLD, parallelCascadedValidationThreshold )
+					.buildValidatorFactory();
 			validator = factory.getValidator();
 
 			shop = createShop();
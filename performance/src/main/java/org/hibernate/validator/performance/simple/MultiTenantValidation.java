@@ -0,0 +1,130 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates beans with validators obtained through {@link ValidatorFactory#usingContext()}, each request using the
+ * {@link ConstraintValidatorFactory} of a tenant, the tenants alternating.
+ */
+public class MultiTenantValidation {
+
+	@State(Scope.Benchmark)
+	public static class ValidationState {
+
+		@Param({ "1", "2", "8" })
+		public int tenants;
+
+		public volatile ValidatorFactory validatorFactory;
+
+		public volatile ConstraintValidatorFactory[] tenantConstraintValidatorFactories;
+
+		@Setup
+		public void setUp() {
+			validatorFactory = Validation.buildDefaultValidatorFactory();
+			tenantConstraintValidatorFactories = new ConstraintValidatorFactory[tenants];
+			for ( int i = 0; i < tenants; i++ ) {
+				tenantConstraintValidatorFactories[i] = new TenantConstraintValidatorFactory( validatorFactory.getConstraintValidatorFactory() );
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class TenantState {
+
+		public int request;
+
+		public ConstraintValidatorFactory nextTenant(ValidationState state) {
+			return state.tenantConstraintValidatorFactories[request++ % state.tenants];
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidationWithAlternatingTenants(ValidationState state, TenantState tenantState, Blackhole bh) {
+		Set<ConstraintViolation<Driver>> violations = state.validatorFactory.usingContext()
+				.constraintValidatorFactory( tenantState.nextTenant( state ) )
+				.getValidator()
+				.validate( new Driver( "Jacob", 16, false, "" ) );
+		assertThat( violations ).hasSize( 3 );
+		bh.consume( violations );
+	}
+
+	private static class TenantConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+		private final ConstraintValidatorFactory delegate;
+
+		private TenantConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			delegate.releaseInstance( instance );
+		}
+	}
+
+	public static class Driver {
+
+		@NotNull
+		private String name;
+
+		@Min(18)
+		private int age;
+
+		@AssertTrue
+		private boolean hasDrivingLicense;
+
+		@Size(min = 1)
+		private String licensePlate;
+
+		public Driver(String name, int age, boolean hasDrivingLicense, String licensePlate) {
+			this.name = name;
+			this.age = age;
+			this.hasDrivingLicense = hasDrivingLicense;
+			this.licensePlate = licensePlate;
+		}
+	}
+}
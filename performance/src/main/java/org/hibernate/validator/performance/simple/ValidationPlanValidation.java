@@ -0,0 +1,153 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the regular evaluation of the constraints of a bean with a small hierarchy to the evaluation through
+ * validation plans.
+ * <p>
+ * The property is set as a string so that the benchmark can be run against versions not supporting validation plans.
+ */
+public class ValidationPlanValidation {
+
+	private static final String ENABLE_VALIDATION_PLANS = "hibernate.validator.enable_validation_plans";
+
+	@State(Scope.Benchmark)
+	public static class ValidationState {
+
+		@Param({ "false", "true" })
+		public String validationPlansEnabled;
+
+		public volatile Validator validator;
+
+		public volatile Employee validEmployee;
+
+		public volatile Employee invalidEmployee;
+
+		@Setup
+		public void setUp() {
+			ValidatorFactory factory = Validation.byDefaultProvider()
+					.configure()
+					.addProperty( ENABLE_VALIDATION_PLANS, validationPlansEnabled )
+					.buildValidatorFactory();
+			validator = factory.getValidator();
+
+			validEmployee = new Employee( "Jacob", 42, "ACME", 5000, true );
+			invalidEmployee = new Employee( null, 12, "A", -1, false );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidBean(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Employee>> violations = state.validator.validate( state.validEmployee );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testInvalidBean(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Employee>> violations = state.validator.validate( state.invalidEmployee );
+		assertThat( violations ).hasSize( 5 );
+		bh.consume( violations );
+	}
+
+	public static class Person {
+
+		private final String name;
+
+		private final int age;
+
+		public Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		@NotNull
+		public String getName() {
+			return name;
+		}
+
+		@Min(18)
+		@Max(150)
+		public int getAge() {
+			return age;
+		}
+	}
+
+	public static class Employee extends Person {
+
+		private final String company;
+
+		private final int salary;
+
+		private final boolean active;
+
+		public Employee(String name, int age, String company, int salary, boolean active) {
+			super( name, age );
+			this.company = company;
+			this.salary = salary;
+			this.active = active;
+		}
+
+		@NotNull
+		@Size(min = 2, max = 50)
+		public String getCompany() {
+			return company;
+		}
+
+		@Min(0)
+		public int getSalary() {
+			return salary;
+		}
+
+		@AssertTrue
+		public boolean isActive() {
+			return active;
+		}
+	}
+}